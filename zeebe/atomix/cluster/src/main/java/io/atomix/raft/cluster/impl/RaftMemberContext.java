@@ -25,6 +25,7 @@ import io.atomix.raft.storage.log.RaftLog;
 import io.atomix.raft.storage.log.RaftLogReader;
 import io.camunda.zeebe.snapshots.SnapshotChunkReader;
 import java.nio.ByteBuffer;
+import java.util.Map;
 import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
 import org.slf4j.LoggerFactory;
 
@@ -47,12 +48,15 @@ public final class RaftMemberContext {
   private int inFlightAppendCount;
   private boolean appendSucceeded;
   private long appendTime;
+  private long appendEpoch;
   private boolean configuring;
   private boolean installing;
   private int failures;
   private long failureTime;
   private volatile RaftLogReader reader;
   private SnapshotChunkReader snapshotChunkReader;
+  private ByteBuffer snapshotChunkBuffer;
+  private Map<String, Long> reusedSnapshotChunks;
   private IndexedRaftLogEntry currentEntry;
 
   RaftMemberContext(
@@ -68,6 +72,7 @@ public final class RaftMemberContext {
     snapshotIndex = 0;
     nextSnapshotIndex = 0;
     nextSnapshotChunk = null;
+    reusedSnapshotChunks = null;
     matchIndex = 0;
     heartbeatTime = 0;
     responseTime = 0;
@@ -78,6 +83,7 @@ public final class RaftMemberContext {
     appendSucceeded = false;
     failures = 0;
     failureTime = 0;
+    appendEpoch++;
 
     if (reader != null) {
       closeReader();
@@ -458,8 +464,46 @@ public final class RaftMemberContext {
     return snapshotChunkReader;
   }
 
+  /**
+   * Sets the reader of the snapshot which is sent to the member. The previous reader is closed, and
+   * the buffer used to send its chunks is released.
+   *
+   * @param snapshotChunkReader the new reader, or null if no snapshot is sent
+   */
   public void setSnapshotChunkReader(final SnapshotChunkReader snapshotChunkReader) {
+    if (this.snapshotChunkReader != null && this.snapshotChunkReader != snapshotChunkReader) {
+      this.snapshotChunkReader.close();
+    }
     this.snapshotChunkReader = snapshotChunkReader;
+    snapshotChunkBuffer = null;
+  }
+
+  /**
+   * Returns a buffer to encode the next snapshot chunk into, which is sent to the member. The
+   * buffer is reused for every chunk, as only one install request is sent to the member at a time.
+   *
+   * @param length the length of the encoded chunk
+   * @return a buffer with the given length as limit
+   */
+  public ByteBuffer getSnapshotChunkBuffer(final int length) {
+    if (snapshotChunkBuffer == null || snapshotChunkBuffer.capacity() < length) {
+      snapshotChunkBuffer = ByteBuffer.allocate(length);
+    }
+    return snapshotChunkBuffer.clear().limit(length);
+  }
+
+  /**
+   * Returns the chunks of the snapshot which is being sent, which the member should take from its
+   * own latest snapshot, until the member acknowledges them.
+   *
+   * @return the reused chunks by name, mapped to their checksum, or null if there are none
+   */
+  public Map<String, Long> getReusedSnapshotChunks() {
+    return reusedSnapshotChunks;
+  }
+
+  public void setReusedSnapshotChunks(final Map<String, Long> reusedSnapshotChunks) {
+    this.reusedSnapshotChunks = reusedSnapshotChunks;
   }
 
   public boolean hasNextEntry() {
@@ -479,7 +523,19 @@ public final class RaftMemberContext {
     return currentEntry != null ? currentEntry.index() : 0;
   }
 
+  /**
+   * Returns the current append epoch of the member. The epoch is incremented whenever the next
+   * index of the member is reset, such that responses to append requests which were sent before the
+   * reset, and which are still in flight, can be recognized as outdated.
+   *
+   * @return the current append epoch
+   */
+  public long getAppendEpoch() {
+    return appendEpoch;
+  }
+
   public void reset(final long index) {
+    appendEpoch++;
     final var nextIndex = reader.seek(index - 1);
     if (nextIndex == index - 1) {
       currentEntry = reader.next();
@@ -0,0 +1,55 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft.metrics;
+
+import io.prometheus.client.Histogram;
+
+public class RaftLogFlushMetrics extends RaftMetrics {
+  private static final Histogram GROUP_SIZE =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .help("Number of flush requests which were coalesced into a single flush of the log")
+          .name("raft_log_flush_group_size")
+          .exponentialBuckets(1, 2, 10)
+          .register();
+  private static final Histogram LATENCY =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .help(
+              "Time between the first flush request of a group and the completion of its flush, in seconds")
+          .name("raft_log_flush_latency")
+          .buckets(.0005, .001, .0025, .005, .0075, .01, .025, .05, .1, .25, .5, 1)
+          .register();
+
+  private final Histogram.Child groupSize;
+  private final Histogram.Child latency;
+
+  public RaftLogFlushMetrics(final String partitionName) {
+    super(partitionName);
+    groupSize = GROUP_SIZE.labels(partitionGroupName, partition);
+    latency = LATENCY.labels(partitionGroupName, partition);
+  }
+
+  public void observeGroupSize(final int size) {
+    groupSize.observe(size);
+  }
+
+  public void observeLatency(final long latencyNanos) {
+    latency.observe(latencyNanos / 1_000_000_000.0);
+  }
+}
@@ -30,12 +30,16 @@ public class RaftStorageConfig {
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
 
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final int DEFAULT_PREPARED_SEGMENT_COUNT = 1;
+  private static final boolean DEFAULT_RECYCLE_SEGMENT_FILES = false;
 
   private long segmentSize = DEFAULT_MAX_SEGMENT_SIZE;
   private RaftLogFlusher.Factory flusherFactory = DEFAULT_FLUSHER_FACTORY;
   private long freeDiskSpace = DEFAULT_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private int preparedSegmentCount = DEFAULT_PREPARED_SEGMENT_COUNT;
+  private boolean recycleSegmentFiles = DEFAULT_RECYCLE_SEGMENT_FILES;
 
   /**
    * Returns the Raft log segment size.
@@ -125,6 +129,40 @@ public class RaftStorageConfig {
     this.preallocateSegmentFiles = preallocateSegmentFiles;
   }
 
+  /**
+   * @return the number of segments which are created ahead of time
+   */
+  public int getPreparedSegmentCount() {
+    return preparedSegmentCount;
+  }
+
+  /**
+   * Sets how many segments are created ahead of time in the background, such that rolling over to a
+   * new segment does not have to wait for its file to be allocated.
+   *
+   * @param preparedSegmentCount the number of segments to prepare
+   */
+  public void setPreparedSegmentCount(final int preparedSegmentCount) {
+    this.preparedSegmentCount = preparedSegmentCount;
+  }
+
+  /**
+   * @return true to recycle the files of compacted segments, false otherwise
+   */
+  public boolean isRecycleSegmentFiles() {
+    return recycleSegmentFiles;
+  }
+
+  /**
+   * Sets whether the files of compacted segments are reused for new segments, instead of being
+   * deleted.
+   *
+   * @param recycleSegmentFiles true to recycle segment files, false otherwise
+   */
+  public void setRecycleSegmentFiles(final boolean recycleSegmentFiles) {
+    this.recycleSegmentFiles = recycleSegmentFiles;
+  }
+
   @Override
   public String toString() {
     return "RaftStorageConfig{"
@@ -138,6 +176,10 @@ public class RaftStorageConfig {
         + journalIndexDensity
         + ", preallocateSegmentFiles="
         + preallocateSegmentFiles
+        + ", preparedSegmentCount="
+        + preparedSegmentCount
+        + ", recycleSegmentFiles="
+        + recycleSegmentFiles
         + '}';
   }
 }
@@ -304,6 +304,8 @@ public class RaftPartitionServer implements HealthMonitorable {
         .withSnapshotStore(persistedSnapshotStore)
         .withJournalIndexDensity(storageConfig.getJournalIndexDensity())
         .withPreallocateSegmentFiles(storageConfig.isPreallocateSegmentFiles())
+        .withPreparedSegmentCount(storageConfig.getPreparedSegmentCount())
+        .withRecycleSegmentFiles(storageConfig.isRecycleSegmentFiles())
         .build();
   }
 
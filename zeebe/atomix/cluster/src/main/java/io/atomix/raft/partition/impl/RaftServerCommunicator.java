@@ -19,6 +19,7 @@ package io.atomix.raft.partition.impl;
 import com.google.common.base.Preconditions;
 import io.atomix.cluster.MemberId;
 import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.atomix.cluster.messaging.MessagingException.NoRemoteHandler;
 import io.atomix.raft.metrics.RaftRequestMetrics;
 import io.atomix.raft.protocol.AppendRequest;
 import io.atomix.raft.protocol.AppendResponse;
@@ -43,16 +44,25 @@ import io.atomix.raft.protocol.TransferResponse;
 import io.atomix.raft.protocol.VersionedAppendRequest;
 import io.atomix.raft.protocol.VoteRequest;
 import io.atomix.raft.protocol.VoteResponse;
+import io.atomix.raft.protocol.serializer.RaftAppendSBESerializer;
 import io.atomix.utils.serializer.Serializer;
 import java.time.Duration;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /** Raft server protocol that uses a {@link ClusterCommunicationService}. */
 public class RaftServerCommunicator implements RaftServerProtocol {
 
+  private static final Duration KRYO_APPEND_FALLBACK = Duration.ofMinutes(1);
+
   private final RaftMessageContext context;
   private final Serializer serializer;
+  private final RaftAppendSBESerializer appendSerializer = new RaftAppendSBESerializer();
+  // members which cannot handle SBE encoded append requests, until the given timestamp
+  private final Map<MemberId, Long> kryoAppendMembers = new ConcurrentHashMap<>();
   private final ClusterCommunicationService clusterCommunicator;
   private final RaftRequestMetrics metrics;
   private final Duration requestTimeout;
@@ -137,7 +147,33 @@ public class RaftServerCommunicator implements RaftServerProtocol {
   @Override
   public CompletableFuture<AppendResponse> append(
       final MemberId memberId, final VersionedAppendRequest request) {
-    return sendAndReceive(context.appendV2subject, request, memberId);
+    final var kryoAppendDeadline = kryoAppendMembers.get(memberId);
+    if (kryoAppendDeadline != null && kryoAppendDeadline > System.currentTimeMillis()) {
+      return sendAndReceive(context.appendV2subject, request, memberId);
+    }
+
+    metrics.sendMessage(memberId.id(), request.getClass().getSimpleName());
+    return clusterCommunicator
+        .send(
+            context.appendSbeSubject,
+            request,
+            appendSerializer::encodeAppendRequest,
+            appendSerializer::decodeAppendResponse,
+            memberId,
+            requestTimeout)
+        .exceptionallyCompose(
+            error -> {
+              final var cause = error instanceof CompletionException ? error.getCause() : error;
+              if (!(cause instanceof NoRemoteHandler)) {
+                return CompletableFuture.failedFuture(error);
+              }
+
+              // the member is either not ready yet, or runs an older version which only supports
+              // the Kryo serialized requests; fall back to those for a while before trying again
+              kryoAppendMembers.put(
+                  memberId, System.currentTimeMillis() + KRYO_APPEND_FALLBACK.toMillis());
+              return sendAndReceive(context.appendV2subject, request, memberId);
+            });
   }
 
   @Override
@@ -293,12 +329,18 @@ public class RaftServerCommunicator implements RaftServerProtocol {
         serializer::decode,
         handler.<VersionedAppendRequest>compose(this::recordReceivedMetrics),
         serializer::encode);
+    clusterCommunicator.replyTo(
+        context.appendSbeSubject,
+        appendSerializer::decodeAppendRequest,
+        handler.<VersionedAppendRequest>compose(this::recordReceivedMetrics),
+        appendSerializer::encodeAppendResponse);
   }
 
   @Override
   public void unregisterAppendHandler() {
     clusterCommunicator.unsubscribe(context.appendV1subject);
     clusterCommunicator.unsubscribe(context.appendV2subject);
+    clusterCommunicator.unsubscribe(context.appendSbeSubject);
   }
 
   private <T, U> CompletableFuture<U> sendAndReceive(
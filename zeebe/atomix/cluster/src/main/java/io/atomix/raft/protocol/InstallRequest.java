@@ -24,6 +24,8 @@ import io.atomix.cluster.MemberId;
 import io.atomix.utils.misc.StringUtils;
 import io.camunda.zeebe.snapshots.impl.SnapshotChunkId;
 import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -58,6 +60,8 @@ public class InstallRequest extends AbstractRaftRequest {
   private final boolean initial;
   // true if this is the last chunk
   private final boolean complete;
+  // the chunks which the follower should take from its latest snapshot (or null if none)
+  private final Map<String, Long> reusedChunks;
 
   public InstallRequest(
       final long currentTerm,
@@ -70,6 +74,32 @@ public class InstallRequest extends AbstractRaftRequest {
       final ByteBuffer data,
       final boolean initial,
       final boolean complete) {
+    this(
+        currentTerm,
+        leader,
+        index,
+        term,
+        version,
+        chunkId,
+        nextChunkId,
+        data,
+        initial,
+        complete,
+        null);
+  }
+
+  public InstallRequest(
+      final long currentTerm,
+      final MemberId leader,
+      final long index,
+      final long term,
+      final int version,
+      final ByteBuffer chunkId,
+      final ByteBuffer nextChunkId,
+      final ByteBuffer data,
+      final boolean initial,
+      final boolean complete,
+      final Map<String, Long> reusedChunks) {
     this.currentTerm = currentTerm;
     this.leader = leader;
     this.index = index;
@@ -80,6 +110,7 @@ public class InstallRequest extends AbstractRaftRequest {
     this.initial = initial;
     this.complete = complete;
     this.term = term;
+    this.reusedChunks = reusedChunks;
   }
 
   /**
@@ -170,10 +201,32 @@ public class InstallRequest extends AbstractRaftRequest {
     return complete;
   }
 
+  /**
+   * Returns the chunks which the follower should take from its latest snapshot, instead of
+   * receiving them, as they were excluded by the leader. See {@link
+   * InstallResponse#reusableChunks()}.
+   *
+   * @return the reused chunks by name, mapped to their expected checksum; may be empty but never
+   *     null
+   */
+  public Map<String, Long> reusedChunks() {
+    return reusedChunks == null ? Map.of() : reusedChunks;
+  }
+
   @Override
   public int hashCode() {
     return Objects.hash(
-        currentTerm, leader, index, term, version, chunkId, nextChunkId, data, initial, complete);
+        currentTerm,
+        leader,
+        index,
+        term,
+        version,
+        chunkId,
+        nextChunkId,
+        data,
+        initial,
+        complete,
+        reusedChunks());
   }
 
   @Override
@@ -194,7 +247,8 @@ public class InstallRequest extends AbstractRaftRequest {
         && Objects.equals(leader, that.leader)
         && Objects.equals(chunkId, that.chunkId)
         && Objects.equals(nextChunkId, that.nextChunkId)
-        && Objects.equals(data, that.data);
+        && Objects.equals(data, that.data)
+        && Objects.equals(reusedChunks(), that.reusedChunks());
   }
 
   @Override
@@ -212,6 +266,7 @@ public class InstallRequest extends AbstractRaftRequest {
         .add("data", StringUtils.printShortBuffer(data))
         .add("initial", initial)
         .add("complete", complete)
+        .add("reusedChunks", reusedChunks().size())
         .toString();
   }
 
@@ -233,6 +288,7 @@ public class InstallRequest extends AbstractRaftRequest {
     private boolean complete;
     private boolean initial;
     private long term;
+    private Map<String, Long> reusedChunks;
 
     /**
      * Sets the request current term.
@@ -346,6 +402,18 @@ public class InstallRequest extends AbstractRaftRequest {
       return this;
     }
 
+    /**
+     * Sets the chunks which the follower should take from its latest snapshot.
+     *
+     * @param reusedChunks the reused chunks by name, mapped to their checksum; may be null
+     * @return the request builder
+     */
+    public Builder withReusedChunks(final Map<String, Long> reusedChunks) {
+      // copied, as only the HashMap is registered with the protocol serializer
+      this.reusedChunks = reusedChunks == null ? null : new HashMap<>(reusedChunks);
+      return this;
+    }
+
     /**
      * @throws IllegalStateException if member is null
      */
@@ -353,7 +421,17 @@ public class InstallRequest extends AbstractRaftRequest {
     public InstallRequest build() {
       validate();
       return new InstallRequest(
-          currentTerm, leader, index, term, version, chunkId, nextChunkId, data, initial, complete);
+          currentTerm,
+          leader,
+          index,
+          term,
+          version,
+          chunkId,
+          nextChunkId,
+          data,
+          initial,
+          complete,
+          reusedChunks);
     }
 
     @Override
@@ -20,6 +20,8 @@ import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import io.atomix.raft.RaftError;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Snapshot installation response.
@@ -31,22 +33,46 @@ import io.atomix.raft.RaftError;
 public class InstallResponse extends AbstractRaftResponse {
 
   protected int preferredChunkSize;
+  // the checksums of the chunks of the follower's latest snapshot, which it can reuse
+  protected Map<String, Long> reusableChunks;
 
   public InstallResponse(final Status status, final RaftError error, final int preferredChunkSize) {
+    this(status, error, preferredChunkSize, null);
+  }
+
+  public InstallResponse(
+      final Status status,
+      final RaftError error,
+      final int preferredChunkSize,
+      final Map<String, Long> reusableChunks) {
     super(status, error);
     this.preferredChunkSize = preferredChunkSize;
+    this.reusableChunks = reusableChunks;
   }
 
   public int preferredChunkSize() {
     return preferredChunkSize;
   }
 
+  /**
+   * Returns the chunks of the follower's latest snapshot, with their checksums. The leader does not
+   * have to send the chunks of the new snapshot which match any of them, but can ask the follower
+   * to reuse them instead; see {@link InstallRequest#reusedChunks()}. Only set in response to the
+   * first chunk of a snapshot.
+   *
+   * @return the reusable chunks by name, mapped to their checksum; may be empty but never null
+   */
+  public Map<String, Long> reusableChunks() {
+    return reusableChunks == null ? Map.of() : reusableChunks;
+  }
+
   @Override
   public String toString() {
     return toStringHelper(this)
         .add("status", status)
         .add("error", error)
         .add("preferredChunkSize", preferredChunkSize)
+        .add("reusableChunks", reusableChunks().size())
         .toString();
   }
 
@@ -62,12 +88,19 @@ public class InstallResponse extends AbstractRaftResponse {
   /** Install response builder. */
   public static class Builder extends AbstractRaftResponse.Builder<Builder, InstallResponse> {
     protected int preferredChunkSize;
+    protected Map<String, Long> reusableChunks;
 
     @Override
     public InstallResponse build() {
       validate();
       checkArgument(preferredChunkSize >= 0, "preferred chunk size must be positive");
-      return new InstallResponse(status, error, preferredChunkSize);
+      return new InstallResponse(status, error, preferredChunkSize, reusableChunks);
+    }
+
+    public Builder withReusableChunks(final Map<String, Long> reusableChunks) {
+      // copied, as only the HashMap is registered with the protocol serializer
+      this.reusableChunks = reusableChunks == null ? null : new HashMap<>(reusableChunks);
+      return this;
     }
 
     public Builder withPreferredChunkSize(final int preferredChunkSize) {
@@ -0,0 +1,193 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.protocol.serializer;
+
+import io.atomix.raft.RaftError;
+import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.protocol.VersionedAppendRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Serializes append requests and responses with SBE, as an alternative to the Kryo based protocol
+ * serializer. Requests are encoded into a single array of the exact size, with the serialized
+ * journal records written directly into it, and decoded without any intermediate objects.
+ *
+ * <p>This class is stateless, and can be shared between the threads sending and receiving messages.
+ */
+public final class RaftAppendSBESerializer {
+
+  /** The maximum number of entries which can be encoded in a single append request. */
+  public static final int MAX_ENTRIES_PER_REQUEST =
+      AppendRequestEncoder.EntriesEncoder.countMaxValue();
+
+  public byte[] encodeAppendRequest(final VersionedAppendRequest request) {
+    final var headerEncoder = new MessageHeaderEncoder();
+    final var requestEncoder = new AppendRequestEncoder();
+    final var leader = request.leader().id().getBytes(StandardCharsets.UTF_8);
+    final List<ReplicatableJournalRecord> entries = request.entries();
+
+    final var bytes = new byte[getAppendRequestLength(leader, entries)];
+    final var buffer = new UnsafeBuffer(bytes);
+    requestEncoder
+        .wrapAndApplyHeader(buffer, 0, headerEncoder)
+        .version(request.version())
+        .term(request.term())
+        .prevLogIndex(request.prevLogIndex())
+        .prevLogTerm(request.prevLogTerm())
+        .commitIndex(request.commitIndex());
+
+    final var entriesEncoder = requestEncoder.entriesCount(entries.size());
+    for (final var entry : entries) {
+      final var serializedRecord = entry.serializedJournalRecord();
+      entriesEncoder
+          .next()
+          .term(entry.term())
+          .index(entry.index())
+          .checksum(entry.checksum())
+          .putSerializedJournalRecord(serializedRecord, 0, serializedRecord.length);
+    }
+
+    requestEncoder.putLeader(leader, 0, leader.length);
+    return bytes;
+  }
+
+  public VersionedAppendRequest decodeAppendRequest(final byte[] bytes) {
+    final var buffer = new UnsafeBuffer(bytes);
+    final var headerDecoder = new MessageHeaderDecoder().wrap(buffer, 0);
+    checkHeader(headerDecoder, AppendRequestDecoder.TEMPLATE_ID);
+
+    final var requestDecoder =
+        new AppendRequestDecoder()
+            .wrap(
+                buffer,
+                headerDecoder.encodedLength(),
+                headerDecoder.blockLength(),
+                headerDecoder.version());
+
+    final var version = requestDecoder.version();
+    final var term = requestDecoder.term();
+    final var prevLogIndex = requestDecoder.prevLogIndex();
+    final var prevLogTerm = requestDecoder.prevLogTerm();
+    final var commitIndex = requestDecoder.commitIndex();
+
+    final var entriesDecoder = requestDecoder.entries();
+    final List<ReplicatableJournalRecord> entries = new ArrayList<>(entriesDecoder.count());
+    for (final var entry : entriesDecoder) {
+      final var entryTerm = entry.term();
+      final var index = entry.index();
+      final var checksum = entry.checksum();
+      final var serializedRecord = new byte[entry.serializedJournalRecordLength()];
+      entry.getSerializedJournalRecord(serializedRecord, 0, serializedRecord.length);
+      entries.add(new ReplicatableJournalRecord(entryTerm, index, checksum, serializedRecord));
+    }
+
+    final var leader = requestDecoder.leader();
+    return new VersionedAppendRequest(
+        version, term, leader, prevLogIndex, prevLogTerm, entries, commitIndex);
+  }
+
+  public byte[] encodeAppendResponse(final AppendResponse response) {
+    final var headerEncoder = new MessageHeaderEncoder();
+    final var responseEncoder = new AppendResponseEncoder();
+    final var error = response.error();
+    final var errorType =
+        error == null ? new byte[0] : error.type().name().getBytes(StandardCharsets.UTF_8);
+    final var errorMessage =
+        error == null || error.message() == null
+            ? new byte[0]
+            : error.message().getBytes(StandardCharsets.UTF_8);
+
+    final var bytes =
+        new byte
+            [headerEncoder.encodedLength()
+                + responseEncoder.sbeBlockLength()
+                + AppendResponseEncoder.errorTypeHeaderLength()
+                + errorType.length
+                + AppendResponseEncoder.errorMessageHeaderLength()
+                + errorMessage.length];
+    responseEncoder
+        .wrapAndApplyHeader(new UnsafeBuffer(bytes), 0, headerEncoder)
+        .status(response.status() == Status.OK ? ResponseStatus.OK : ResponseStatus.ERROR)
+        .term(response.term())
+        .succeeded(response.succeeded() ? BooleanType.TRUE : BooleanType.FALSE)
+        .lastLogIndex(response.lastLogIndex())
+        .lastSnapshotIndex(response.lastSnapshotIndex())
+        .configurationIndex(response.configurationIndex())
+        .putErrorType(errorType, 0, errorType.length)
+        .putErrorMessage(errorMessage, 0, errorMessage.length);
+    return bytes;
+  }
+
+  public AppendResponse decodeAppendResponse(final byte[] bytes) {
+    final var buffer = new UnsafeBuffer(bytes);
+    final var headerDecoder = new MessageHeaderDecoder().wrap(buffer, 0);
+    checkHeader(headerDecoder, AppendResponseDecoder.TEMPLATE_ID);
+
+    final var responseDecoder =
+        new AppendResponseDecoder()
+            .wrap(
+                buffer,
+                headerDecoder.encodedLength(),
+                headerDecoder.blockLength(),
+                headerDecoder.version());
+
+    final var status = responseDecoder.status() == ResponseStatus.OK ? Status.OK : Status.ERROR;
+    final var term = responseDecoder.term();
+    final var succeeded = responseDecoder.succeeded() == BooleanType.TRUE;
+    final var lastLogIndex = responseDecoder.lastLogIndex();
+    final var lastSnapshotIndex = responseDecoder.lastSnapshotIndex();
+    final var configurationIndex = responseDecoder.configurationIndex();
+    final var errorType = responseDecoder.errorType();
+    final var errorMessage = responseDecoder.errorMessage();
+    final var error =
+        errorType.isEmpty()
+            ? null
+            : new RaftError(
+                RaftError.Type.valueOf(errorType), errorMessage.isEmpty() ? null : errorMessage);
+
+    return new AppendResponse(
+        status, error, term, succeeded, lastLogIndex, lastSnapshotIndex, configurationIndex);
+  }
+
+  private int getAppendRequestLength(
+      final byte[] leader, final List<ReplicatableJournalRecord> entries) {
+    int length =
+        MessageHeaderEncoder.ENCODED_LENGTH
+            + AppendRequestEncoder.BLOCK_LENGTH
+            + AppendRequestEncoder.EntriesEncoder.sbeHeaderSize()
+            + AppendRequestEncoder.leaderHeaderLength()
+            + leader.length;
+
+    for (final var entry : entries) {
+      length +=
+          AppendRequestEncoder.EntriesEncoder.sbeBlockLength()
+              + AppendRequestEncoder.EntriesEncoder.serializedJournalRecordHeaderLength()
+              + entry.serializedJournalRecord().length;
+    }
+
+    return length;
+  }
+
+  private void checkHeader(final MessageHeaderDecoder headerDecoder, final int templateId) {
+    if (headerDecoder.schemaId() != MessageHeaderDecoder.SCHEMA_ID
+        || headerDecoder.templateId() != templateId) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected to decode message with schema %d and template %d, but got schema %d and template %d",
+              MessageHeaderDecoder.SCHEMA_ID,
+              templateId,
+              headerDecoder.schemaId(),
+              headerDecoder.templateId()));
+    }
+  }
+}
@@ -36,6 +36,7 @@ import io.atomix.raft.protocol.RaftRequest;
 import io.atomix.raft.protocol.RaftResponse;
 import io.atomix.raft.protocol.ReplicatableJournalRecord;
 import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.raft.protocol.serializer.RaftAppendSBESerializer;
 import io.atomix.raft.snapshot.impl.SnapshotChunkImpl;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.atomix.utils.logging.ContextualLoggerFactory;
@@ -47,13 +48,16 @@ import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Optional;
 import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeoutException;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
 
 /**
@@ -178,6 +182,7 @@ final class LeaderAppender {
     // counted towards the size of the batch.
     // If there exists an entry in the log with size >= MAX_BATCH_SIZE the logic ensures that
     // entry will be sent in a batch of size one
+    // The number of entries is additionally limited by what can be encoded in a single request
     int size = 0;
 
     // Iterate through the log until the last index or the end of the log is reached.
@@ -187,7 +192,9 @@ final class LeaderAppender {
       final var replicatableRecord = entry.getReplicatableJournalRecord();
       entries.add(replicatableRecord);
       size += replicatableRecord.approximateSize();
-      if (entry.index() == lastIndex || size >= maxBatchSizePerAppend) {
+      if (entry.index() == lastIndex
+          || size >= maxBatchSizePerAppend
+          || entries.size() == RaftAppendSBESerializer.MAX_ENTRIES_PER_REQUEST) {
         break;
       }
     }
@@ -208,6 +215,9 @@ final class LeaderAppender {
     member.startAppend();
 
     final long timestamp = System.currentTimeMillis();
+    // Several append requests may be in flight at the same time; remember the epoch the request
+    // was built in, so we can detect responses which refer to a next index that was reset since.
+    final long appendEpoch = member.getAppendEpoch();
 
     log.trace("Sending {} to {}", request, member.getMember().memberId());
     raft.getProtocol()
@@ -226,7 +236,7 @@ final class LeaderAppender {
 
                 if (error == null) {
                   log.trace("Received {} from {}", response, member.getMember().memberId());
-                  handleAppendResponse(member, request, response, timestamp);
+                  handleAppendResponse(member, request, response, timestamp, appendEpoch);
                 } else {
                   handleAppendResponseFailure(member, request, error);
                 }
@@ -265,9 +275,13 @@ final class LeaderAppender {
 
   /** Updates the match index when a response is received. */
   private void updateMatchIndex(final RaftMemberContext member, final AppendResponse response) {
-    // If the replica returned a valid match index then update the existing match index.
-    member.setMatchIndex(response.lastLogIndex());
-    observeRemainingMemberEntries(member);
+    // If the replica returned a valid match index then update the existing match index. With
+    // multiple requests in flight, responses may be handled out of order, so a response to an
+    // older request must never move the match index backwards.
+    if (response.lastLogIndex() > member.getMatchIndex()) {
+      member.setMatchIndex(response.lastLogIndex());
+      observeRemainingMemberEntries(member);
+    }
   }
 
   /** Resets the match index when a response fails. */
@@ -395,6 +409,7 @@ final class LeaderAppender {
       }
       member.setNextSnapshotIndex(persistedSnapshot.getIndex());
       member.setNextSnapshotChunkId(null);
+      member.setReusedSnapshotChunks(null);
     }
 
     final SnapshotChunkReader reader = member.getSnapshotChunkReader();
@@ -427,11 +442,12 @@ final class LeaderAppender {
               .withIndex(persistedSnapshot.getIndex())
               .withTerm(persistedSnapshot.getTerm())
               .withVersion(persistedSnapshot.version())
-              .withData(new SnapshotChunkImpl(chunk).toByteBuffer())
+              .withData(encodeSnapshotChunk(member, chunk))
               .withChunkId(currentChunkId)
               .withInitial(member.getNextSnapshotChunk() == null)
               .withComplete(!reader.hasNext())
               .withNextChunkId(reader.nextId())
+              .withReusedChunks(member.getReusedSnapshotChunks())
               .build();
       return Optional.of(request);
     } catch (final UncheckedIOException e) {
@@ -447,6 +463,18 @@ final class LeaderAppender {
     }
   }
 
+  /**
+   * Encodes the chunk into the member's reused snapshot chunk buffer, instead of allocating a new
+   * buffer for every chunk.
+   */
+  private ByteBuffer encodeSnapshotChunk(
+      final RaftMemberContext member, final SnapshotChunk chunk) {
+    final var encodedChunk = new SnapshotChunkImpl(chunk);
+    final var buffer = member.getSnapshotChunkBuffer(encodedChunk.getLength());
+    encodedChunk.write(new UnsafeBuffer(buffer), 0);
+    return buffer;
+  }
+
   /** Connects to the member and sends a snapshot request. */
   private void sendInstallRequest(final RaftMemberContext member, final InstallRequest request) {
     // Start the install to the member.
@@ -505,23 +533,70 @@ final class LeaderAppender {
     if (response.preferredChunkSize() > 0) {
       member.getSnapshotChunkReader().setMaximumChunkSize(response.preferredChunkSize());
     }
+    // once acknowledged, the member holds the reused chunks
+    if (!request.reusedChunks().isEmpty()) {
+      member.setReusedSnapshotChunks(null);
+    }
+
     // If the install request was completed successfully, set the member's snapshotIndex and reset
     // the next snapshot index/offset.
     if (request.complete()) {
       member.setNextSnapshotIndex(0);
       member.setNextSnapshotChunkId(null);
+      member.setSnapshotChunkReader(null);
       member.setSnapshotIndex(request.index());
       resetNextIndex(member, request.index() + 1);
     }
     // If more install requests remain, increment the member's snapshot offset.
     else {
       member.setNextSnapshotChunkId(request.nextChunkId());
+      if (request.isInitial()) {
+        excludeReusableChunks(member, request, response);
+      }
     }
 
     // Recursively append entries to the member.
     appendEntries(member);
   }
 
+  /**
+   * Excludes the chunks which the member already holds from the snapshot which is sent to it, and
+   * asks it to reuse them instead. Chunks are only reusable if they have the same name and checksum
+   * in both snapshots.
+   */
+  private void excludeReusableChunks(
+      final RaftMemberContext member,
+      final InstallRequest request,
+      final InstallResponse response) {
+    final var reusableChunks = response.reusableChunks();
+    final var persistedSnapshot = raft.getCurrentSnapshot();
+    if (reusableChunks.isEmpty()
+        || persistedSnapshot == null
+        || persistedSnapshot.getIndex() != request.index()) {
+      return;
+    }
+
+    final Map<String, Long> checksums = persistedSnapshot.getChecksums().getChecksums();
+    final var candidates =
+        checksums.keySet().stream()
+            .filter(chunk -> checksums.get(chunk).equals(reusableChunks.get(chunk)))
+            .toList();
+    final var excluded = member.getSnapshotChunkReader().exclude(candidates);
+    if (excluded.isEmpty()) {
+      return;
+    }
+
+    final Map<String, Long> reusedChunks = new HashMap<>();
+    excluded.forEach(chunk -> reusedChunks.put(chunk, checksums.get(chunk)));
+    member.setReusedSnapshotChunks(reusedChunks);
+    log.debug(
+        "Excluded {} of {} chunks of snapshot {}, which {} can reuse",
+        excluded.size(),
+        checksums.size(),
+        persistedSnapshot.getId(),
+        member.getMember().memberId());
+  }
+
   /** Handles an ERROR install response. */
   @SuppressWarnings("unused")
   private void handleInstallResponseError(
@@ -673,9 +748,10 @@ final class LeaderAppender {
       final RaftMemberContext member,
       final VersionedAppendRequest request,
       final AppendResponse response,
-      final long timestamp) {
+      final long timestamp,
+      final long appendEpoch) {
     if (response.status() == RaftResponse.Status.OK) {
-      handleAppendResponseOk(member, request, response);
+      handleAppendResponseOk(member, request, response, appendEpoch);
     } else {
       handleAppendResponseError(member, request, response);
     }
@@ -685,7 +761,8 @@ final class LeaderAppender {
   private void handleAppendResponseOk(
       final RaftMemberContext member,
       final VersionedAppendRequest request,
-      final AppendResponse response) {
+      final AppendResponse response,
+      final long appendEpoch) {
     // Reset the member failure count and update the member's availability status if necessary.
     succeedAttempt(member);
 
@@ -718,6 +795,20 @@ final class LeaderAppender {
       raft.setLeader(null);
       raft.transition(RaftServer.Role.FOLLOWER);
     }
+    // If the next index was already reset after this request was sent, then the rejection is the
+    // result of an earlier, pipelined request which was also rejected. Resetting again would only
+    // rewind the reader and resend entries which are already in flight, so the response is ignored;
+    // requests sent after the reset will get their own responses.
+    else if (appendEpoch != member.getAppendEpoch()) {
+      log.trace(
+          "Ignoring rejected append response {} from {}, as its next index was already reset",
+          response,
+          member.getMember().memberId());
+
+      if (hasMoreEntries(member)) {
+        appendEntries(member);
+      }
+    }
     // If the response failed, the follower should have provided the correct last index in their
     // log. This helps
     // us converge on the matchIndex faster than by simply decrementing nextIndex one index at a
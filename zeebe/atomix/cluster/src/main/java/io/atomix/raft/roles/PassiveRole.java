@@ -58,6 +58,7 @@ import io.camunda.zeebe.util.logging.ThrottledLogger;
 import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -205,6 +206,13 @@ public class PassiveRole extends InactiveRole {
       raft.notifySnapshotReplicationStarted();
     }
 
+    if (!request.reusedChunks().isEmpty()) {
+      final var reuseFailure = reuseChunks(request);
+      if (reuseFailure != null) {
+        return CompletableFuture.completedFuture(reuseFailure);
+      }
+    }
+
     try {
       pendingSnapshot.apply(snapshotChunk).join();
     } catch (final Exception e) {
@@ -267,9 +275,51 @@ public class PassiveRole extends InactiveRole {
             InstallResponse.builder()
                 .withStatus(RaftResponse.Status.OK)
                 .withPreferredChunkSize(snapshotChunkSize)
+                .withReusableChunks(
+                    request.isInitial() && !request.complete() ? getReusableChunks() : null)
                 .build()));
   }
 
+  /**
+   * Returns the chunks of the latest snapshot with their checksums, such that the leader can skip
+   * sending the chunks of the new snapshot which didn't change.
+   */
+  private Map<String, Long> getReusableChunks() {
+    final var currentSnapshot = raft.getCurrentSnapshot();
+    if (currentSnapshot == null) {
+      return null;
+    }
+
+    return currentSnapshot.getChecksums().getChecksums();
+  }
+
+  /** Returns an error response if the reused chunks could not be taken from the latest snapshot. */
+  private InstallResponse reuseChunks(final InstallRequest request) {
+    final var currentSnapshot = raft.getCurrentSnapshot();
+    try {
+      if (currentSnapshot == null) {
+        throw new IllegalStateException("Expected to reuse snapshot chunks, but has no snapshot");
+      }
+
+      pendingSnapshot.reuse(currentSnapshot, request.reusedChunks()).join();
+      return null;
+    } catch (final Exception e) {
+      log.warn(
+          "Failed to reuse chunks of snapshot {}, rolling back snapshot {}",
+          currentSnapshot,
+          pendingSnapshot,
+          e);
+
+      abortPendingSnapshots();
+      return logResponse(
+          InstallResponse.builder()
+              .withStatus(RaftResponse.Status.ERROR)
+              .withError(
+                  RaftError.Type.APPLICATION_ERROR, "Failed to reuse pending snapshot chunks")
+              .build());
+    }
+  }
+
   @Override
   public CompletableFuture<ReconfigureResponse> onReconfigure(final ReconfigureRequest request) {
     raft.checkThread();
@@ -436,7 +486,8 @@ public class PassiveRole extends InactiveRole {
 
     // if null assume it is first chunk of file
     if (nextPendingSnapshotChunkId != null
-        && !nextPendingSnapshotChunkId.equals(request.chunkId())) {
+        && !nextPendingSnapshotChunkId.equals(request.chunkId())
+        && !isReusedChunk(nextPendingSnapshotChunkId, request)) {
       final var errMsg =
           "Expected chunkId of ["
               + new SnapshotChunkId(nextPendingSnapshotChunkId)
@@ -504,6 +555,12 @@ public class PassiveRole extends InactiveRole {
     return Either.right(null);
   }
 
+  /** The leader skips the chunks which are reused, so the expected chunk may not be sent. */
+  private boolean isReusedChunk(final ByteBuffer chunkId, final InstallRequest request) {
+    return !request.reusedChunks().isEmpty()
+        && request.reusedChunks().containsKey(new SnapshotChunkId(chunkId).fileName());
+  }
+
   private CompletableFuture<InstallResponse> failIfSnapshotAlreadyExists(
       final ExecutionException errorCreatingPendingSnapshot,
       final SnapshotChunkImpl snapshotChunk) {
@@ -751,16 +808,49 @@ public class PassiveRole extends InactiveRole {
     raft.setFirstCommitIndex(request.commitIndex());
 
     // Update the context commit and global indices.
-    final long previousCommitIndex = raft.setCommitIndex(commitIndex);
-    if (previousCommitIndex < commitIndex) {
-      log.trace("Committed entries up to index {}", commitIndex);
-    }
+    commitFlushedEntries(commitIndex);
 
     // Make sure all entries are flushed before ack to ensure we have persisted what we acknowledge
-    flush(lastLogIndex, request.prevLogIndex());
+    if (lastLogIndex > request.prevLogIndex()) {
+      final long term = raft.getTerm();
+      final long appendedIndex = lastLogIndex;
+      raft.getLog()
+          .flush(
+              raft.getThreadContext(),
+              () -> onAppendedEntriesFlushed(term, appendedIndex, commitIndex, future));
+    } else {
+      // Return a successful append response.
+      succeedAppend(lastLogIndex, future);
+    }
+  }
 
-    // Return a successful append response.
-    succeedAppend(lastLogIndex, future);
+  private void onAppendedEntriesFlushed(
+      final long term,
+      final long lastLogIndex,
+      final long commitIndex,
+      final CompletableFuture<AppendResponse> future) {
+    // a deferred flush may complete after a new leader truncated the log, in which case the
+    // appended entries may be gone; as truncation implies a new term, only acknowledge them if the
+    // term is still the same
+    if (raft.getTerm() == term) {
+      commitFlushedEntries(commitIndex);
+      succeedAppend(lastLogIndex, future);
+    } else {
+      failAppend(raft.getLog().getLastIndex(), future);
+    }
+  }
+
+  /**
+   * Commits entries up to the given index, but only as far as they are flushed. With a deferred
+   * flush, the remaining entries are committed once their flush completes, such that nothing which
+   * may still be lost on a crash is processed or included in a snapshot.
+   */
+  private void commitFlushedEntries(final long commitIndex) {
+    final long flushedCommitIndex = Math.min(commitIndex, raft.getLog().getFlushedIndex());
+    final long previousCommitIndex = raft.setCommitIndex(flushedCommitIndex);
+    if (previousCommitIndex < flushedCommitIndex) {
+      log.trace("Committed entries up to index {}", flushedCommitIndex);
+    }
   }
 
   private void flush(final long lastFlushedIndex, final long previousEntryIndex) {
@@ -19,6 +19,7 @@ package io.atomix.raft.snapshot.impl;
 import io.atomix.raft.snapshot.SbeBufferWriterReader;
 import io.camunda.zeebe.snapshots.SnapshotChunk;
 import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.nio.ByteBuffer;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -44,7 +45,8 @@ public final class SnapshotChunkImpl
     totalCount = chunk.getTotalCount();
     chunkName = chunk.getChunkName();
     checksum = chunk.getChecksum();
-    content.wrap(chunk.getContent());
+    final var contentBuffer = chunk.getContentBuffer();
+    content.wrap(contentBuffer, contentBuffer.position(), contentBuffer.remaining());
     fileBlockPosition = chunk.getFileBlockPosition();
     totalFileSize = chunk.getTotalFileSize();
   }
@@ -142,6 +144,23 @@ public final class SnapshotChunkImpl
     return BufferUtil.bufferAsArray(content);
   }
 
+  @Override
+  public ByteBuffer getContentBuffer() {
+    // view the memory the content was decoded from, e.g. the request's data, instead of copying it
+    final var byteArray = content.byteArray();
+    if (byteArray != null) {
+      return ByteBuffer.wrap(byteArray, content.wrapAdjustment(), content.capacity()).slice();
+    }
+
+    final var byteBuffer = content.byteBuffer();
+    if (byteBuffer != null) {
+      final var start = content.wrapAdjustment();
+      return byteBuffer.duplicate().limit(start + content.capacity()).position(start).slice();
+    }
+
+    return ByteBuffer.wrap(getContent());
+  }
+
   @Override
   public long getFileBlockPosition() {
     // backwards compatability
@@ -156,7 +175,7 @@ public final class SnapshotChunkImpl
   public long getTotalFileSize() {
     // backwards comptability
     if (totalFileSize == SnapshotChunkDecoder.totalFileSizeNullValue()) {
-      return getContent().length;
+      return content.capacity();
     }
 
     return totalFileSize;
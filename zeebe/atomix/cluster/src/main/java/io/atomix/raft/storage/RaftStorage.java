@@ -63,6 +63,8 @@ public final class RaftStorage {
   private final ReceivableSnapshotStore persistedSnapshotStore;
   private final int journalIndexDensity;
   private final boolean preallocateSegmentFiles;
+  private final int preparedSegmentCount;
+  private final boolean recycleSegmentFiles;
   private final RaftLogFlusher.Factory flusherFactory;
 
   private RaftStorage(
@@ -74,7 +76,9 @@ public final class RaftStorage {
       final RaftLogFlusher.Factory flusherFactory,
       final ReceivableSnapshotStore persistedSnapshotStore,
       final int journalIndexDensity,
-      final boolean preallocateSegmentFiles) {
+      final boolean preallocateSegmentFiles,
+      final int preparedSegmentCount,
+      final boolean recycleSegmentFiles) {
     this.prefix = prefix;
     this.partitionId = partitionId;
     this.directory = directory;
@@ -84,6 +88,8 @@ public final class RaftStorage {
     this.persistedSnapshotStore = persistedSnapshotStore;
     this.journalIndexDensity = journalIndexDensity;
     this.preallocateSegmentFiles = preallocateSegmentFiles;
+    this.preparedSegmentCount = preparedSegmentCount;
+    this.recycleSegmentFiles = recycleSegmentFiles;
 
     try {
       FileUtil.ensureDirectoryExists(directory.toPath());
@@ -192,6 +198,8 @@ public final class RaftStorage {
         .withFreeDiskSpace(freeDiskSpace)
         .withJournalIndexDensity(journalIndexDensity)
         .withPreallocateSegmentFiles(preallocateSegmentFiles)
+        .withPreparedSegmentCount(preparedSegmentCount)
+        .withRecycleSegmentFiles(recycleSegmentFiles)
         .withMetaStore(metaStore)
         .withFlusher(flusherFactory.createFlusher(threadFactory))
         .build();
@@ -248,6 +256,8 @@ public final class RaftStorage {
         RaftLogFlusher.Factory::direct;
     private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
     private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+    private static final int DEFAULT_PREPARED_SEGMENT_COUNT = 1;
+    private static final boolean DEFAULT_RECYCLE_SEGMENT_FILES = false;
 
     // impossible value to make it clear it's unset and there's an error
     private static final int DEFAULT_PARTITION_ID = -1;
@@ -260,6 +270,8 @@ public final class RaftStorage {
     private ReceivableSnapshotStore persistedSnapshotStore;
     private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
     private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+    private int preparedSegmentCount = DEFAULT_PREPARED_SEGMENT_COUNT;
+    private boolean recycleSegmentFiles = DEFAULT_RECYCLE_SEGMENT_FILES;
     private int partitionId = DEFAULT_PARTITION_ID;
 
     private Builder() {}
@@ -364,6 +376,31 @@ public final class RaftStorage {
       return this;
     }
 
+    /**
+     * Sets how many segments are created ahead of time in the background, such that rolling over to
+     * a new segment does not have to wait for its file to be allocated.
+     *
+     * @param preparedSegmentCount the number of segments to prepare
+     * @return this builder for chaining
+     */
+    public Builder withPreparedSegmentCount(final int preparedSegmentCount) {
+      checkArgument(preparedSegmentCount > 0, "preparedSegmentCount must be positive");
+      this.preparedSegmentCount = preparedSegmentCount;
+      return this;
+    }
+
+    /**
+     * Sets whether the files of compacted segments are reused for new segments, instead of being
+     * deleted.
+     *
+     * @param recycleSegmentFiles true to recycle segment files, false otherwise
+     * @return this builder for chaining
+     */
+    public Builder withRecycleSegmentFiles(final boolean recycleSegmentFiles) {
+      this.recycleSegmentFiles = recycleSegmentFiles;
+      return this;
+    }
+
     /**
      * The ID of the partition on which this storage resides.
      *
@@ -391,7 +428,9 @@ public final class RaftStorage {
           flusherFactory,
           persistedSnapshotStore,
           journalIndexDensity,
-          preallocateSegmentFiles);
+          preallocateSegmentFiles,
+          preparedSegmentCount,
+          recycleSegmentFiles);
     }
   }
 }
@@ -0,0 +1,205 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.storage.log;
+
+import io.atomix.raft.metrics.RaftLogFlushMetrics;
+import io.atomix.utils.concurrent.Scheduled;
+import io.atomix.utils.concurrent.Scheduler;
+import io.camunda.zeebe.journal.Journal;
+import io.camunda.zeebe.journal.JournalException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An implementation of {@link RaftLogFlusher} which coalesces flush requests into a single flush of
+ * the journal, i.e. a group commit. Requests which come with a callback (see {@link #flush(Journal,
+ * long, Executor, Runnable)}) are collected, and flushed together once either the oldest of them
+ * waited for the given max delay, or once the amount of data written since the last flush reaches
+ * the given threshold. Only then are their callbacks run.
+ *
+ * <p>This means it offers the same guarantees as the {@link DirectFlusher}, as long as the callers
+ * wait for their callback before acknowledging anything: plain calls to {@link #flush(Journal)} are
+ * synchronous and immediate, and also complete any pending requests. It is still not direct, as
+ * data appended with a pending request is not yet on disk; anything which relies on all appended
+ * data being flushed, e.g. taking a snapshot, has to force a flush first.
+ *
+ * <p>NOTE: flushing happens on the given scheduler, while requests are expected to come from the
+ * journal write path, e.g. the Raft thread.
+ */
+public final class GroupCommitFlusher implements RaftLogFlusher {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(GroupCommitFlusher.class);
+  private final Scheduler scheduler;
+  private final Duration maxDelay;
+  private final long maxPendingBytes;
+  private final RaftLogFlushMetrics metrics;
+
+  private final Object pendingMonitor = new Object();
+  // serializes flushes, such that the callbacks of each group are run in order
+  private final Object flushMonitor = new Object();
+  private List<PendingFlush> pendingFlushes = new ArrayList<>();
+  private long pendingBytes;
+  private Scheduled scheduledFlush;
+  private boolean flushDue;
+
+  private boolean closed;
+
+  public GroupCommitFlusher(
+      final Scheduler scheduler,
+      final Duration maxDelay,
+      final long maxPendingBytes,
+      final String partitionName) {
+    this.scheduler = Objects.requireNonNull(scheduler, "must specify a scheduler");
+    this.maxDelay = Objects.requireNonNull(maxDelay, "must specify a valid max flush delay");
+    this.maxPendingBytes = maxPendingBytes;
+    metrics = new RaftLogFlushMetrics(partitionName);
+  }
+
+  @Override
+  public void flush(final Journal journal) {
+    synchronized (pendingMonitor) {
+      cancelScheduledFlush();
+    }
+
+    try {
+      flushPending(journal);
+    } catch (final JournalException | UncheckedIOException e) {
+      retryLater(journal);
+      throw e;
+    }
+  }
+
+  @Override
+  public void flush(
+      final Journal journal, final long bytes, final Executor executor, final Runnable onFlushed) {
+    synchronized (pendingMonitor) {
+      if (closed) {
+        LOGGER.debug("Skipped flush request due to flusher being closed");
+        return;
+      }
+
+      pendingFlushes.add(new PendingFlush(executor, onFlushed, System.nanoTime()));
+      pendingBytes += bytes;
+
+      if (pendingBytes >= maxPendingBytes) {
+        scheduleFlush(journal, true);
+      } else if (scheduledFlush == null) {
+        scheduleFlush(journal, false);
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    synchronized (pendingMonitor) {
+      closed = true;
+      cancelScheduledFlush();
+    }
+
+    scheduler.close();
+  }
+
+  private void scheduleFlush(final Journal journal, final boolean immediately) {
+    if (flushDue) {
+      LOGGER.trace("Skipped scheduling flush as there is already a pending, immediate flush");
+      return;
+    }
+
+    cancelScheduledFlush();
+    flushDue = immediately;
+
+    final var delay = immediately ? Duration.ZERO : maxDelay;
+    LOGGER.trace("Scheduling group flush in {} up to index {}", delay, journal.getLastIndex());
+    scheduledFlush = scheduler.schedule(delay, () -> asyncFlush(journal));
+  }
+
+  private void cancelScheduledFlush() {
+    if (scheduledFlush != null) {
+      scheduledFlush.cancel();
+      scheduledFlush = null;
+    }
+
+    flushDue = false;
+  }
+
+  private void asyncFlush(final Journal journal) {
+    synchronized (pendingMonitor) {
+      scheduledFlush = null;
+      flushDue = false;
+    }
+
+    try {
+      flushPending(journal);
+    } catch (final JournalException | UncheckedIOException e) {
+      LOGGER.warn("Failed to flush journal, operation will be retried after {}", maxDelay, e);
+      retryLater(journal);
+    }
+  }
+
+  private void retryLater(final Journal journal) {
+    synchronized (pendingMonitor) {
+      if (!closed && !pendingFlushes.isEmpty() && scheduledFlush == null) {
+        scheduleFlush(journal, false);
+      }
+    }
+  }
+
+  private void flushPending(final Journal journal) {
+    synchronized (flushMonitor) {
+      final List<PendingFlush> flushes;
+      synchronized (pendingMonitor) {
+        flushes = pendingFlushes;
+        pendingFlushes = new ArrayList<>();
+        pendingBytes = 0;
+      }
+
+      try {
+        journal.flush();
+      } catch (final RuntimeException e) {
+        // keep the requests, such that they're completed by the next successful flush
+        synchronized (pendingMonitor) {
+          flushes.addAll(pendingFlushes);
+          pendingFlushes = flushes;
+        }
+        throw e;
+      }
+
+      if (!flushes.isEmpty()) {
+        metrics.observeGroupSize(flushes.size());
+        metrics.observeLatency(System.nanoTime() - flushes.getFirst().requestedAt());
+        LOGGER.trace("Flushed journal for {} coalesced request(s)", flushes.size());
+      }
+
+      for (final var flush : flushes) {
+        flush.executor().execute(flush.onFlushed());
+      }
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "GroupCommitFlusher{"
+        + "scheduler="
+        + scheduler
+        + ", maxDelay="
+        + maxDelay
+        + ", maxPendingBytes="
+        + maxPendingBytes
+        + ", scheduledFlush="
+        + scheduledFlush
+        + '}';
+  }
+
+  private record PendingFlush(Executor executor, Runnable onFlushed, long requestedAt) {}
+}
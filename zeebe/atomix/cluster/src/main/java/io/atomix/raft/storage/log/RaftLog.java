@@ -27,6 +27,7 @@ import io.atomix.raft.storage.serializer.RaftEntrySerializer;
 import io.camunda.zeebe.journal.Journal;
 import io.camunda.zeebe.journal.JournalRecord;
 import java.io.Closeable;
+import java.util.concurrent.Executor;
 import org.agrona.CloseHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,10 +41,16 @@ public final class RaftLog implements Closeable {
   private final RaftLogFlusher flusher;
   private IndexedRaftLogEntry lastAppendedEntry;
   private volatile long commitIndex;
+  private long unflushedBytes;
+  private long flushedIndex;
+  // incremented whenever entries are removed from the end of the log, such that a deferred flush
+  // which completes afterwards doesn't mark entries appended in the meantime as flushed
+  private long truncations;
 
   RaftLog(final Journal journal, final RaftLogFlusher flusher) {
     this.journal = journal;
     this.flusher = flusher;
+    flushedIndex = journal.getLastIndex();
   }
 
   /**
@@ -111,6 +118,16 @@ public final class RaftLog implements Closeable {
     return flusher.isDirect();
   }
 
+  /**
+   * Returns the index up to which entries were flushed, as far as the configured {@link
+   * RaftLogFlusher} guarantees it. Entries after this index may still wait for a deferred flush.
+   *
+   * @return the index of the last flushed entry
+   */
+  public long getFlushedIndex() {
+    return flushedIndex;
+  }
+
   public long getFirstIndex() {
     return journal.getFirstIndex();
   }
@@ -145,6 +162,7 @@ public final class RaftLog implements Closeable {
         journal.append(
             entry.getLowestAsqn().orElse(ASQN_IGNORE),
             entry.entry().toSerializable(entry.term(), serializer));
+    unflushedBytes += journalRecord.serializedRecord().capacity();
 
     lastAppendedEntry = new IndexedRaftLogEntryImpl(entry.term(), entry.entry(), journalRecord);
     return lastAppendedEntry;
@@ -152,6 +170,7 @@ public final class RaftLog implements Closeable {
 
   public IndexedRaftLogEntry append(final PersistedRaftRecord entry) {
     journal.append(entry);
+    unflushedBytes += entry.serializedRecord().capacity();
 
     final RaftLogEntry raftEntry = serializer.readRaftLogEntry(entry.data());
     lastAppendedEntry = new IndexedRaftLogEntryImpl(entry.term(), raftEntry.entry(), entry);
@@ -160,6 +179,7 @@ public final class RaftLog implements Closeable {
 
   public IndexedRaftLogEntry append(final ReplicatableJournalRecord entry) {
     final var writtenRecord = journal.append(entry.checksum(), entry.serializedJournalRecord());
+    unflushedBytes += entry.serializedJournalRecord().length;
 
     final RaftLogEntry raftEntry = serializer.readRaftLogEntry(writtenRecord.data());
     lastAppendedEntry = new IndexedRaftLogEntryImpl(entry.term(), raftEntry.entry(), writtenRecord);
@@ -169,6 +189,8 @@ public final class RaftLog implements Closeable {
   public void reset(final long index) {
     journal.reset(index);
     lastAppendedEntry = null;
+    truncations++;
+    flushedIndex = index - 1;
   }
 
   public void deleteAfter(final long index) {
@@ -180,6 +202,8 @@ public final class RaftLog implements Closeable {
     }
     journal.deleteAfter(index);
     lastAppendedEntry = null;
+    truncations++;
+    flushedIndex = Math.min(flushedIndex, index);
 
     // we have to flush here to ensure the truncated log is represented properly
     flush();
@@ -190,7 +214,36 @@ public final class RaftLog implements Closeable {
    * the configured {@link RaftLogFlusher}.
    */
   public void flush() {
+    unflushedBytes = 0;
     flusher.flush(journal);
+    flushedIndex = journal.getLastIndex();
+  }
+
+  /**
+   * Flushes the underlying journal using the configured flushing strategy, and runs the given
+   * callback once it's done. For guarantees, refer to the configured {@link RaftLogFlusher}.
+   *
+   * <p>The callback may be run directly on the calling thread, or later on the given executor if
+   * the flusher defers the flush.
+   *
+   * @param executor the executor on which to run the callback if the flush is deferred
+   * @param onFlushed the callback to run once the journal is flushed
+   */
+  public void flush(final Executor executor, final Runnable onFlushed) {
+    final long bytes = unflushedBytes;
+    final long index = journal.getLastIndex();
+    final long truncationsAtRequest = truncations;
+    unflushedBytes = 0;
+    flusher.flush(
+        journal,
+        bytes,
+        executor,
+        () -> {
+          if (truncations == truncationsAtRequest) {
+            flushedIndex = Math.max(flushedIndex, index);
+          }
+          onFlushed.run();
+        });
   }
 
   /**
@@ -202,6 +255,7 @@ public final class RaftLog implements Closeable {
    */
   public void forceFlush() {
     Factory.DIRECT.flush(journal);
+    flushedIndex = journal.getLastIndex();
   }
 
   @Override
@@ -126,6 +126,30 @@ public class RaftLogBuilder implements io.atomix.utils.Builder<RaftLog> {
     return this;
   }
 
+  /**
+   * Sets how many segments are created ahead of time in the background, such that rolling over to a
+   * new segment does not have to wait for its file to be allocated.
+   *
+   * @param preparedSegmentCount the number of segments to prepare
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withPreparedSegmentCount(final int preparedSegmentCount) {
+    journalBuilder.withPreparedSegmentCount(preparedSegmentCount);
+    return this;
+  }
+
+  /**
+   * Sets whether the files of compacted segments are reused for new segments, instead of being
+   * deleted.
+   *
+   * @param recycleSegmentFiles true to recycle segment files, false otherwise
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withRecycleSegmentFiles(final boolean recycleSegmentFiles) {
+    journalBuilder.withRecycleSegmentFiles(recycleSegmentFiles);
+    return this;
+  }
+
   /**
    * The ID of the partition on which this log resides.
    *
@@ -10,6 +10,7 @@ package io.atomix.raft.storage.log;
 import io.atomix.utils.concurrent.ThreadContextFactory;
 import io.camunda.zeebe.journal.Journal;
 import io.camunda.zeebe.util.CloseableSilently;
+import java.util.concurrent.Executor;
 
 /**
  * Configurable flush strategy for the {@link io.atomix.raft.storage.log.RaftLog}. You can use its
@@ -27,6 +28,10 @@ import io.camunda.zeebe.util.CloseableSilently;
  * you still wish a lower likelihood of corruption issues than with {@link NoopFlusher}. The
  * recommended configuration would be to find the smallest possible delay with which you achieve
  * your performance goals.
+ *
+ * <p>{@link GroupCommitFlusher} offers the same guarantees as {@link DirectFlusher}, but coalesces
+ * the flushes of multiple appends, at the cost of delaying their acknowledgement. You should pick
+ * this if the latency of flushing limits the throughput, e.g. on disks where flushing is slow.
  */
 @FunctionalInterface
 public interface RaftLogFlusher extends CloseableSilently {
@@ -39,6 +44,25 @@ public interface RaftLogFlusher extends CloseableSilently {
    */
   void flush(final Journal journal);
 
+  /**
+   * Signals that there is data to be flushed in the journal, and that the given callback should
+   * only be run once that data was flushed. Implementations may use this to coalesce multiple
+   * requests into a single flush.
+   *
+   * <p>By default, this calls {@link #flush(Journal)}, and then runs the callback directly on the
+   * calling thread. The callback thus gets the same guarantees as {@link #flush(Journal)}.
+   *
+   * @param journal the journal to flush
+   * @param bytes the amount of data written to the journal since the previous request
+   * @param executor the executor on which to run the callback, if it is not run directly
+   * @param onFlushed the callback to run once the data is flushed
+   */
+  default void flush(
+      final Journal journal, final long bytes, final Executor executor, final Runnable onFlushed) {
+    flush(journal);
+    onFlushed.run();
+  }
+
   /**
    * If this returns true, then any calls to {@link #flush(Journal)} are synchronous and immediate,
    * and any guarantees offered by the implementation will hold after a call to {@link
@@ -86,6 +86,7 @@ public final class ControllableRaftContexts {
   private Random random;
 
   private final int nodeCount;
+  private final RaftPartitionConfig partitionConfig;
   private final Map<MemberId, RaftContext> raftServers = new HashMap<>();
   private final Map<MemberId, TestFileBasedSnapshotStore> snapshotStores = new HashMap<>();
   private Duration electionTimeout;
@@ -98,7 +99,12 @@ public final class ControllableRaftContexts {
   private final DataLossChecker dataLossChecker = new DataLossChecker(appendListener);
 
   public ControllableRaftContexts(final int nodeCount) {
+    this(nodeCount, new RaftPartitionConfig());
+  }
+
+  public ControllableRaftContexts(final int nodeCount, final RaftPartitionConfig partitionConfig) {
     this.nodeCount = nodeCount;
+    this.partitionConfig = partitionConfig;
   }
 
   public Map<MemberId, RaftContext> getRaftServers() {
@@ -198,7 +204,7 @@ public final class ControllableRaftContexts {
             getRaftThreadContextFactory(memberId),
             () -> random,
             RaftElectionConfig.ofPriorityElection(nodeCount, Integer.parseInt(memberId.id()) + 1),
-            new RaftPartitionConfig());
+            partitionConfig);
     raft.setEntryValidator(new NoopEntryValidator());
     return raft;
   }
@@ -228,6 +234,10 @@ public final class ControllableRaftContexts {
     return new File(directory.toFile(), s);
   }
 
+  public TestFileBasedSnapshotStore getSnapshotStore(final MemberId memberId) {
+    return snapshotStores.get(memberId);
+  }
+
   public ControllableRaftServerProtocol getServerProtocol(final MemberId memberId) {
     return serverProtocols.get(memberId);
   }
@@ -284,6 +294,17 @@ public final class ControllableRaftContexts {
     getServerProtocol(memberId).receiveNextMessage();
   }
 
+  // Submit the most recent message from the incoming queue to the scheduler of memberId, i.e.
+  // deliver it before the messages which were sent earlier.
+  public void processLastMessage(final MemberId memberId) {
+    getServerProtocol(memberId).receiveLastMessage();
+  }
+
+  // Drop all messages from the incoming queue of memberId, as if it was disconnected.
+  public void dropAllMessage(final MemberId memberId) {
+    getServerProtocol(memberId).dropAll();
+  }
+
   public void tickElectionTimeout(final int memberId) {
     tick(memberId, electionTimeout);
   }
@@ -0,0 +1,252 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftServer.Role;
+import io.camunda.zeebe.snapshots.PersistedSnapshot;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Replicates two consecutive snapshots from the leader to a follower, where the second snapshot
+ * shares some of its files with the first one. The follower is disconnected while the leader takes
+ * a snapshot, such that it has to receive the snapshot when it's reconnected.
+ */
+final class RaftSnapshotChunkReuseTest {
+
+  private static final MemberId LEADER = MemberId.from("0");
+  private static final MemberId FOLLOWER = MemberId.from("1");
+  private static final String METADATA = "zeebe.metadata";
+  private static final long POSITION = 1;
+
+  private static final Map<String, String> FIRST_SNAPSHOT =
+      Map.of("chunk-0", "a0", "chunk-1", "a1", "chunk-2", "a2", "chunk-3", "a3");
+  // chunk-1, chunk-3 and the metadata (same position) are unchanged
+  private static final Map<String, String> SECOND_SNAPSHOT =
+      Map.of("chunk-0", "b0", "chunk-1", "a1", "chunk-2", "b2", "chunk-3", "a3", "chunk-4", "b4");
+
+  @TempDir private Path raftDataDirectory;
+  private ControllableRaftContexts raftContexts;
+  private boolean followerDisconnected;
+  // the chunks the leader asked the follower to reuse, each time it excluded chunks
+  private final List<Map<String, Long>> reusedChunks = new ArrayList<>();
+
+  @BeforeEach
+  void setup() throws Exception {
+    raftContexts = new ControllableRaftContexts(3);
+    raftContexts.setup(raftDataDirectory, new Random(1));
+    deliverUntil(
+        () ->
+            raftContexts.getRaftContext(LEADER).getRole() == Role.LEADER
+                && raftContexts.hasLeaderAtTheLatestTerm());
+    raftContexts.getRaftContext(LEADER).setPreferSnapshotReplicationThreshold(1);
+  }
+
+  @AfterEach
+  void shutdown() throws IOException {
+    raftContexts.shutdown();
+  }
+
+  @Test
+  void shouldReuseUnchangedChunksOfPreviousSnapshot() {
+    // given
+    final var firstSnapshot = replicateSnapshot(FIRST_SNAPSHOT, POSITION);
+    assertThat(reusedChunks).as("there is nothing to reuse without a previous snapshot").isEmpty();
+    final var firstFileKeys = fileKeys(followerSnapshot());
+
+    // when
+    final var secondSnapshot = replicateSnapshot(SECOND_SNAPSHOT, POSITION);
+
+    // then - the leader excluded the chunks for which the follower advertised the same checksums
+    final var checksums = secondSnapshot.getChecksums().getChecksums();
+    assertThat(reusedChunks)
+        .as("the snapshot was sent once, skipping the reused chunks without being restarted")
+        .containsExactly(
+            Map.of(
+                "chunk-1",
+                checksums.get("chunk-1"),
+                "chunk-3",
+                checksums.get("chunk-3"),
+                METADATA,
+                checksums.get(METADATA)));
+
+    // and - the persisted snapshot passed the count and checksum validation
+    final var receivedSnapshot = followerSnapshot();
+    assertThat(receivedSnapshot.getId()).isEqualTo(secondSnapshot.getId());
+    assertThat(receivedSnapshot.getChecksums().sameChecksums(secondSnapshot.getChecksums()))
+        .isTrue();
+    assertThat(receivedSnapshot.getMetadata()).isEqualTo(secondSnapshot.getMetadata());
+    assertSnapshotContents(receivedSnapshot, SECOND_SNAPSHOT);
+
+    // and - the reused files are linked to the files of the first snapshot, which was deleted
+    assertThat(firstSnapshot.getPath()).doesNotExist();
+    final var secondFileKeys = fileKeys(receivedSnapshot);
+    assertThat(secondFileKeys)
+        .contains(
+            entry("chunk-1", firstFileKeys.get("chunk-1")),
+            entry("chunk-3", firstFileKeys.get("chunk-3")),
+            entry(METADATA, firstFileKeys.get(METADATA)));
+    assertThat(secondFileKeys.get("chunk-2")).isNotEqualTo(firstFileKeys.get("chunk-2"));
+  }
+
+  @Test
+  void shouldRestartReplicationIfReusedChunkChecksumDoesNotMatch() {
+    // given
+    replicateSnapshot(FIRST_SNAPSHOT, POSITION);
+    appendEntries(2);
+    final var followerCommitIndex = raftContexts.getRaftContext(FOLLOWER).getCommitIndex();
+    assertThat(followerCommitIndex).isGreaterThan(followerSnapshot().getIndex());
+
+    followerDisconnected = true;
+    appendEntries(3);
+    final var secondSnapshot = takeSnapshotOnLeader(SECOND_SNAPSHOT, POSITION);
+    followerDisconnected = false;
+    deliverUntil(() -> !reusedChunks.isEmpty());
+
+    // when - the follower takes a snapshot with a different chunk-1 after it advertised the
+    // checksums of the first snapshot
+    raftContexts
+        .getSnapshotStore(FOLLOWER)
+        .newSnapshot(
+            followerCommitIndex,
+            raftContexts.getRaftContext(FOLLOWER).getTerm(),
+            POSITION + 1,
+            Map.of("chunk-1", "c1", "chunk-3", "a3"));
+    deliverUntil(() -> followerSnapshot().getIndex() == secondSnapshot.getIndex());
+
+    // then - the follower rejected the mismatching chunk, and the leader restarted the replication
+    // with the chunks which are still the same
+    final var checksums = secondSnapshot.getChecksums().getChecksums();
+    assertThat(reusedChunks)
+        .containsExactly(
+            Map.of(
+                "chunk-1",
+                checksums.get("chunk-1"),
+                "chunk-3",
+                checksums.get("chunk-3"),
+                METADATA,
+                checksums.get(METADATA)),
+            Map.of("chunk-3", checksums.get("chunk-3")));
+
+    final var receivedSnapshot = followerSnapshot();
+    assertThat(receivedSnapshot.getId()).isEqualTo(secondSnapshot.getId());
+    assertThat(receivedSnapshot.getChecksums().sameChecksums(secondSnapshot.getChecksums()))
+        .isTrue();
+    assertSnapshotContents(receivedSnapshot, SECOND_SNAPSHOT);
+  }
+
+  /**
+   * Takes a snapshot on the leader while the follower is disconnected, and waits until the follower
+   * received it after reconnecting.
+   */
+  private PersistedSnapshot replicateSnapshot(
+      final Map<String, String> chunks, final long position) {
+    followerDisconnected = true;
+    appendEntries(3);
+    final var snapshot = takeSnapshotOnLeader(chunks, position);
+
+    followerDisconnected = false;
+    deliverUntil(
+        () ->
+            raftContexts.getSnapshotStore(FOLLOWER).getLatestSnapshot().isPresent()
+                && followerSnapshot().getIndex() == snapshot.getIndex());
+    return snapshot;
+  }
+
+  private PersistedSnapshot takeSnapshotOnLeader(
+      final Map<String, String> chunks, final long position) {
+    final var leader = raftContexts.getRaftContext(LEADER);
+    final var snapshot =
+        raftContexts
+            .getSnapshotStore(LEADER)
+            .newSnapshot(leader.getCommitIndex(), leader.getTerm(), position, chunks);
+    raftContexts.runUntilDone();
+    return snapshot;
+  }
+
+  private void appendEntries(final int count) {
+    for (int i = 0; i < count; i++) {
+      raftContexts.clientAppendOnLeader();
+      deliverMessages();
+    }
+    final var leader = raftContexts.getRaftContext(LEADER);
+    deliverUntil(() -> leader.getCommitIndex() == leader.getLog().getLastIndex());
+  }
+
+  private void deliverUntil(final BooleanSupplier condition) {
+    for (int steps = 100; steps > 0 && !condition.getAsBoolean(); steps--) {
+      raftContexts.tickHeartbeatTimeout(LEADER);
+      deliverMessages();
+    }
+    assertThat(condition.getAsBoolean()).isTrue();
+  }
+
+  private void deliverMessages() {
+    if (followerDisconnected) {
+      raftContexts.dropAllMessage(FOLLOWER);
+    }
+    raftContexts.processAllMessage();
+    raftContexts.runUntilDone();
+
+    final var reused =
+        raftContexts
+            .getRaftContext(LEADER)
+            .getCluster()
+            .getMemberContext(FOLLOWER)
+            .getReusedSnapshotChunks();
+    if (reused != null && (reusedChunks.isEmpty() || reusedChunks.getLast() != reused)) {
+      reusedChunks.add(reused);
+    }
+  }
+
+  private PersistedSnapshot followerSnapshot() {
+    return raftContexts.getSnapshotStore(FOLLOWER).getLatestSnapshot().orElseThrow();
+  }
+
+  private void assertSnapshotContents(
+      final PersistedSnapshot snapshot, final Map<String, String> chunks) {
+    chunks.forEach(
+        (chunk, content) -> assertThat(snapshot.getPath().resolve(chunk)).hasContent(content));
+  }
+
+  // identifies the files of the snapshot, such that hard links to the same file can be detected
+  private Map<String, Object> fileKeys(final PersistedSnapshot snapshot) {
+    try (final var files = Files.list(snapshot.getPath())) {
+      return files.collect(
+          Collectors.toMap(
+              file -> file.getFileName().toString(), RaftSnapshotChunkReuseTest::fileKey));
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static Object fileKey(final Path file) {
+    try {
+      return Files.readAttributes(file, BasicFileAttributes.class).fileKey();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.cluster.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.cluster.RaftMember.Type;
+import io.atomix.raft.storage.log.RaftLog;
+import io.atomix.raft.storage.log.RaftLogReader;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class RaftMemberContextTest {
+
+  private RaftMemberContext memberContext;
+  private RaftLog log;
+
+  @BeforeEach
+  void setup() {
+    log = mock(RaftLog.class);
+    when(log.openUncommittedReader()).thenReturn(mock(RaftLogReader.class));
+
+    final var member = new DefaultRaftMember(new MemberId("2"), Type.ACTIVE, Instant.now());
+    memberContext = new RaftMemberContext(member, mock(RaftClusterContext.class), 3);
+    memberContext.openReplicationContext(log);
+  }
+
+  @Test
+  void shouldAllowMultipleAppendsInFlightAfterSuccess() {
+    // given
+    memberContext.startAppend();
+    memberContext.completeAppend(0);
+    memberContext.appendSucceeded();
+
+    // when
+    memberContext.startAppend();
+    memberContext.startAppend();
+
+    // then
+    assertThat(memberContext.canAppend()).isTrue();
+    assertThat(memberContext.canHeartbeat()).isFalse();
+  }
+
+  @Test
+  void shouldNotAllowMoreAppendsThanWindowInFlight() {
+    // given
+    memberContext.startAppend();
+    memberContext.completeAppend(0);
+    memberContext.appendSucceeded();
+
+    // when
+    memberContext.startAppend();
+    memberContext.startAppend();
+    memberContext.startAppend();
+
+    // then
+    assertThat(memberContext.canAppend()).isFalse();
+  }
+
+  @Test
+  void shouldOnlyAllowSingleAppendInFlightAfterFailure() {
+    // given
+    memberContext.appendFailed();
+
+    // when
+    memberContext.startAppend();
+
+    // then
+    assertThat(memberContext.canAppend()).isFalse();
+  }
+
+  @Test
+  void shouldIncrementAppendEpochOnReset() {
+    // given
+    final var epoch = memberContext.getAppendEpoch();
+
+    // when
+    memberContext.reset(5);
+
+    // then
+    assertThat(memberContext.getAppendEpoch()).isGreaterThan(epoch);
+  }
+
+  @Test
+  void shouldIncrementAppendEpochOnResetState() {
+    // given
+    final var epoch = memberContext.getAppendEpoch();
+
+    // when
+    memberContext.resetState(log);
+
+    // then
+    assertThat(memberContext.getAppendEpoch()).isGreaterThan(epoch);
+  }
+}
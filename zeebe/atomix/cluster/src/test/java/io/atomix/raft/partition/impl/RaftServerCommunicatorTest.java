@@ -0,0 +1,110 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.partition.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.cluster.messaging.ClusterCommunicationService;
+import io.atomix.cluster.messaging.MessagingException.NoRemoteHandler;
+import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.utils.serializer.Serializer;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class RaftServerCommunicatorTest {
+
+  private static final String SBE_SUBJECT = "raft-append-sbe";
+  private static final String KRYO_SUBJECT = "raft-append-versioned";
+  private static final MemberId MEMBER = MemberId.from("1");
+
+  private final ClusterCommunicationService clusterCommunicator =
+      mock(ClusterCommunicationService.class);
+  private final AppendResponse response =
+      AppendResponse.builder().withStatus(Status.OK).withTerm(1).build();
+  private final VersionedAppendRequest request =
+      VersionedAppendRequest.builder()
+          .withTerm(1)
+          .withLeader(MemberId.from("0"))
+          .withPrevLogIndex(0)
+          .withPrevLogTerm(0)
+          .withCommitIndex(0)
+          .withEntries(List.of())
+          .build();
+  private RaftServerCommunicator communicator;
+
+  @BeforeEach
+  void setup() {
+    communicator =
+        new RaftServerCommunicator(
+            "raft",
+            Serializer.using(RaftNamespaces.RAFT_PROTOCOL),
+            clusterCommunicator,
+            Duration.ofSeconds(5),
+            Duration.ofSeconds(5),
+            Duration.ofSeconds(5));
+  }
+
+  @Test
+  void shouldSendSbeEncodedAppendRequest() {
+    // given
+    when(clusterCommunicator.send(eq(SBE_SUBJECT), any(), any(), any(), eq(MEMBER), any()))
+        .thenReturn(CompletableFuture.completedFuture(response));
+
+    // when
+    final var result = communicator.append(MEMBER, request).join();
+
+    // then
+    assertThat(result).isEqualTo(response);
+    verify(clusterCommunicator, times(0)).send(eq(KRYO_SUBJECT), any(), any(), any(), any(), any());
+  }
+
+  @Test
+  void shouldFallBackToKryoEncodedAppendRequest() {
+    // given
+    when(clusterCommunicator.send(eq(SBE_SUBJECT), any(), any(), any(), eq(MEMBER), any()))
+        .thenReturn(CompletableFuture.failedFuture(new NoRemoteHandler(SBE_SUBJECT)));
+    when(clusterCommunicator.send(eq(KRYO_SUBJECT), any(), any(), any(), eq(MEMBER), any()))
+        .thenReturn(CompletableFuture.completedFuture(response));
+
+    // when
+    final var first = communicator.append(MEMBER, request).join();
+    final var second = communicator.append(MEMBER, request).join();
+
+    // then - the member is remembered to not handle SBE encoded requests
+    assertThat(first).isEqualTo(response);
+    assertThat(second).isEqualTo(response);
+    verify(clusterCommunicator, times(1)).send(eq(SBE_SUBJECT), any(), any(), any(), any(), any());
+    verify(clusterCommunicator, times(2)).send(eq(KRYO_SUBJECT), any(), any(), any(), any(), any());
+  }
+
+  @Test
+  void shouldNotFallBackOnOtherErrors() {
+    // given
+    when(clusterCommunicator.send(eq(SBE_SUBJECT), any(), any(), any(), eq(MEMBER), any()))
+        .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("expected")));
+
+    // when
+    final var result = communicator.append(MEMBER, request);
+
+    // then
+    assertThat(result).failsWithin(Duration.ofSeconds(1));
+    verify(clusterCommunicator, times(0)).send(eq(KRYO_SUBJECT), any(), any(), any(), any(), any());
+  }
+}
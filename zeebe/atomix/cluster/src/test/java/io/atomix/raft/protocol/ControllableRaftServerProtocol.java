@@ -78,6 +78,17 @@ public class ControllableRaftServerProtocol implements RaftServerProtocol {
     }
   }
 
+  // receive the most recent message from the incoming queue, i.e. out of order
+  public void receiveLastMessage() {
+    final var rcvQueue =
+        (LinkedList<Tuple<Runnable, CompletableFuture<?>>>) messageQueue.get(localMemberId);
+    if (!rcvQueue.isEmpty()) {
+      final Tuple<Runnable, CompletableFuture<?>> message = rcvQueue.pollLast();
+      message.getLeft().run();
+      timeoutQueue.remove(message.getRight());
+    }
+  }
+
   public void receiveAll() {
     final var rcvQueue = messageQueue.get(localMemberId);
     while (!rcvQueue.isEmpty()) {
@@ -105,6 +116,13 @@ public class ControllableRaftServerProtocol implements RaftServerProtocol {
     }
   }
 
+  // drop all messages from the incoming queue
+  public void dropAll() {
+    while (!messageQueue.computeIfAbsent(localMemberId, t -> new LinkedList<>()).isEmpty()) {
+      dropNextMessage();
+    }
+  }
+
   ControllableRaftServerProtocol server(final MemberId memberId) {
     return servers.get(memberId);
   }
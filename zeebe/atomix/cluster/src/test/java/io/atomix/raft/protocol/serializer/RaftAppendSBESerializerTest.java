@@ -0,0 +1,166 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.protocol.serializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftError;
+import io.atomix.raft.protocol.AppendResponse;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import io.atomix.raft.protocol.ReplicatableJournalRecord;
+import io.atomix.raft.protocol.VersionedAppendRequest;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.Test;
+
+public class RaftAppendSBESerializerTest {
+
+  private final RaftAppendSBESerializer serializer = new RaftAppendSBESerializer();
+
+  @Test
+  public void shouldSerializeAppendRequest() {
+    // given
+    final var request =
+        VersionedAppendRequest.builder()
+            .withTerm(3)
+            .withLeader(MemberId.from("leader"))
+            .withPrevLogIndex(10)
+            .withPrevLogTerm(2)
+            .withCommitIndex(9)
+            .withEntries(
+                List.of(
+                    new ReplicatableJournalRecord(3, 11, 123, "first".getBytes()),
+                    new ReplicatableJournalRecord(3, 12, 456, "second".getBytes())))
+            .build();
+
+    // when
+    final var decoded = serializer.decodeAppendRequest(serializer.encodeAppendRequest(request));
+
+    // then
+    assertThat(decoded).isEqualTo(request);
+    assertThat(decoded.leader()).isEqualTo(MemberId.from("leader"));
+  }
+
+  @Test
+  public void shouldSerializeAppendRequestWithoutEntries() {
+    // given
+    final var request =
+        VersionedAppendRequest.builder()
+            .withTerm(3)
+            .withLeader(MemberId.from("leader"))
+            .withPrevLogIndex(10)
+            .withPrevLogTerm(2)
+            .withCommitIndex(10)
+            .withEntries(List.of())
+            .build();
+
+    // when
+    final var decoded = serializer.decodeAppendRequest(serializer.encodeAppendRequest(request));
+
+    // then
+    assertThat(decoded).isEqualTo(request);
+    assertThat(decoded.entries()).isEmpty();
+  }
+
+  @Test
+  public void shouldSerializeAppendRequestWithManyEntries() {
+    // given - more entries than the common group size encoding supports
+    final var entries =
+        LongStream.rangeClosed(1, 1_000)
+            .mapToObj(index -> new ReplicatableJournalRecord(1, index, index, new byte[] {1}))
+            .toList();
+    final var request =
+        VersionedAppendRequest.builder()
+            .withTerm(1)
+            .withLeader(MemberId.from("leader"))
+            .withPrevLogIndex(0)
+            .withPrevLogTerm(0)
+            .withCommitIndex(0)
+            .withEntries(entries)
+            .build();
+
+    // when
+    final var decoded = serializer.decodeAppendRequest(serializer.encodeAppendRequest(request));
+
+    // then
+    assertThat(decoded.entries()).isEqualTo(entries);
+  }
+
+  @Test
+  public void shouldSerializeAppendRequestWithMaxEntries() {
+    // given
+    final var entries =
+        LongStream.rangeClosed(1, RaftAppendSBESerializer.MAX_ENTRIES_PER_REQUEST)
+            .mapToObj(index -> new ReplicatableJournalRecord(1, index, index, new byte[] {1}))
+            .toList();
+    final var request =
+        VersionedAppendRequest.builder()
+            .withTerm(1)
+            .withLeader(MemberId.from("leader"))
+            .withPrevLogIndex(0)
+            .withPrevLogTerm(0)
+            .withCommitIndex(0)
+            .withEntries(entries)
+            .build();
+
+    // when
+    final var decoded = serializer.decodeAppendRequest(serializer.encodeAppendRequest(request));
+
+    // then
+    assertThat(decoded.entries()).hasSize(RaftAppendSBESerializer.MAX_ENTRIES_PER_REQUEST);
+  }
+
+  @Test
+  public void shouldSerializeAppendResponse() {
+    // given
+    final var response =
+        AppendResponse.builder()
+            .withStatus(Status.OK)
+            .withTerm(3)
+            .withSucceeded(true)
+            .withLastLogIndex(12)
+            .withLastSnapshotIndex(5)
+            .withConfigurationIndex(1)
+            .build();
+
+    // when
+    final var decoded = serializer.decodeAppendResponse(serializer.encodeAppendResponse(response));
+
+    // then
+    assertThat(decoded).usingRecursiveComparison().isEqualTo(response);
+  }
+
+  @Test
+  public void shouldSerializeErrorAppendResponse() {
+    // given
+    final var response =
+        AppendResponse.builder()
+            .withStatus(Status.ERROR)
+            .withError(RaftError.Type.PROTOCOL_ERROR, "failure")
+            .build();
+
+    // when
+    final var decoded = serializer.decodeAppendResponse(serializer.encodeAppendResponse(response));
+
+    // then
+    assertThat(decoded).usingRecursiveComparison().isEqualTo(response);
+  }
+
+  @Test
+  public void shouldRejectOtherMessage() {
+    // given
+    final var response = AppendResponse.builder().withStatus(Status.OK).withTerm(1).build();
+    final var bytes = serializer.encodeAppendResponse(response);
+
+    // when - then
+    assertThatThrownBy(() -> serializer.decodeAppendRequest(bytes))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.roles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.ControllableRaftContexts;
+import io.atomix.raft.RaftServer.Role;
+import io.atomix.raft.cluster.impl.RaftMemberContext;
+import io.atomix.raft.impl.RaftContext;
+import io.atomix.raft.partition.RaftPartitionConfig;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Verifies how the leader handles append responses from a follower when several append requests are
+ * in flight, and their responses are delivered out of order. Only the messages of the leader and
+ * follower 1 are delivered, such that the leader's queue only contains follower 1's responses.
+ */
+final class LeaderAppenderTest {
+
+  private static final int LEADER = 0;
+  private static final MemberId LEADER_ID = MemberId.from("0");
+  private static final MemberId FOLLOWER_ID = MemberId.from("1");
+
+  @TempDir private Path raftDataDirectory;
+  private ControllableRaftContexts raftContexts;
+
+  @AfterEach
+  void shutdown() throws IOException {
+    raftContexts.shutdown();
+  }
+
+  @Test
+  void shouldKeepMatchIndexMonotonicOnOutOfOrderSuccessResponses() throws Exception {
+    // given
+    setup(new RaftPartitionConfig());
+    final var follower = followerContext();
+    appendOnLeader(2);
+    final long lastIndex = raftContexts.getRaftContext(LEADER).getLog().getLastIndex();
+
+    raftContexts.processAllMessage(FOLLOWER_ID);
+    raftContexts.runUntilDone(FOLLOWER_ID);
+
+    // when - the response to the second request arrives before the response to the first one
+    raftContexts.processLastMessage(LEADER_ID);
+    raftContexts.runUntilDone(LEADER_ID);
+    final long matchIndexAfterSecondResponse = follower.getMatchIndex();
+
+    raftContexts.processNextMessage(LEADER_ID);
+    raftContexts.runUntilDone(LEADER_ID);
+
+    // then
+    assertThat(matchIndexAfterSecondResponse).isEqualTo(lastIndex);
+    assertThat(follower.getMatchIndex()).isEqualTo(lastIndex);
+  }
+
+  @Test
+  void shouldIgnoreRejectionFromStaleAppendEpoch() throws Exception {
+    // given
+    final var partitionConfig = new RaftPartitionConfig();
+    partitionConfig.setMaxAppendsPerFollower(3);
+    setup(partitionConfig);
+    final var follower = followerContext();
+    final long appendEpoch = follower.getAppendEpoch();
+    appendOnLeader(3);
+    final long lastIndex = raftContexts.getRaftContext(LEADER).getLog().getLastIndex();
+
+    // the follower receives the second and third request before the first one, and rejects both
+    // as it misses the first entry
+    raftContexts.processLastMessage(FOLLOWER_ID);
+    raftContexts.runUntilDone(FOLLOWER_ID);
+    raftContexts.processLastMessage(FOLLOWER_ID);
+    raftContexts.runUntilDone(FOLLOWER_ID);
+
+    // when
+    raftContexts.processAllMessage(LEADER_ID);
+    raftContexts.runUntilDone(LEADER_ID);
+
+    // then - only the first rejection resets the next index, the second one is outdated
+    assertThat(follower.getAppendEpoch()).isEqualTo(appendEpoch + 1);
+    assertThat(follower.getCurrentIndex()).isEqualTo(lastIndex - 3);
+
+    // and - the follower catches up once the first request is delivered
+    replicate();
+    assertThat(follower.getMatchIndex()).isEqualTo(lastIndex);
+    assertThat(raftContexts.getRaftContext(FOLLOWER_ID).getLog().getLastIndex())
+        .isEqualTo(lastIndex);
+  }
+
+  private void setup(final RaftPartitionConfig partitionConfig) throws Exception {
+    raftContexts = new ControllableRaftContexts(3, partitionConfig);
+    raftContexts.setup(raftDataDirectory, new Random(1));
+
+    // wait until member 0 is the leader, and all members are up to date with nothing in flight
+    final var leader = raftContexts.getRaftContext(LEADER);
+    final var follower = followerContext();
+    for (int steps = 100; steps > 0 && !isReplicated(leader, follower); steps--) {
+      if (leader.getRole() != Role.LEADER) {
+        raftContexts.tickHeartbeatTimeout(LEADER);
+      }
+      raftContexts.processAllMessage();
+      raftContexts.runUntilDone();
+    }
+    assertThat(isReplicated(leader, follower)).isTrue();
+  }
+
+  private boolean isReplicated(final RaftContext leader, final RaftMemberContext follower) {
+    return leader.getRole() == Role.LEADER
+        && raftContexts.hasLeaderAtTheLatestTerm()
+        && follower.getMatchIndex() == leader.getLog().getLastIndex()
+        && follower.canHeartbeat();
+  }
+
+  private RaftMemberContext followerContext() {
+    return raftContexts.getRaftContext(LEADER).getCluster().getMemberContext(FOLLOWER_ID);
+  }
+
+  // Appends the given number of entries on the leader, each in its own append request to follower 1
+  private void appendOnLeader(final int entries) {
+    final var follower = followerContext();
+    for (int i = 0; i < entries; i++) {
+      // the leader only pipelines a request once enough time passed since the previous one
+      await().until(follower::canAppend);
+      raftContexts.clientAppendOnLeader();
+      raftContexts.runUntilDone(LEADER_ID);
+    }
+  }
+
+  private void replicate() {
+    for (int i = 0; i < 10; i++) {
+      raftContexts.processAllMessage(LEADER_ID);
+      raftContexts.processAllMessage(FOLLOWER_ID);
+      raftContexts.runUntilDone(LEADER_ID);
+      raftContexts.runUntilDone(FOLLOWER_ID);
+    }
+  }
+}
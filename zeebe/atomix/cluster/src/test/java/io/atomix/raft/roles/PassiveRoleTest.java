@@ -17,6 +17,7 @@ package io.atomix.raft.roles;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -43,6 +44,7 @@ import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -61,6 +63,13 @@ public class PassiveRoleTest {
 
     log = mock(RaftLog.class);
     when(log.flushesDirectly()).thenReturn(true);
+    doAnswer(
+            invocation -> {
+              invocation.<Runnable>getArgument(1).run();
+              return null;
+            })
+        .when(log)
+        .flush(any(), any());
     when(ctx.getLog()).thenReturn(log);
 
     final PersistedSnapshot snapshot = mock(PersistedSnapshot.class);
@@ -131,10 +140,86 @@ public class PassiveRoleTest {
         role.handleAppend(ProtocolVersionHandler.transform(request)).join();
 
     // then
-    verify(log, times(1)).flush();
+    verify(log, times(1)).flush(any(), any());
     assertThat(response.lastLogIndex()).isEqualTo(2);
   }
 
+  @Test
+  public void shouldNotAcknowledgeEntriesFlushedAfterTermChange() {
+    // given
+    final var entries = List.of(new ReplicatableJournalRecord(1, 1, 1, new byte[1]));
+    final VersionedAppendRequest request =
+        VersionedAppendRequest.builder()
+            .withTerm(1)
+            .withLeader(MemberId.anonymous())
+            .withPrevLogTerm(0)
+            .withPrevLogIndex(0)
+            .withEntries(entries)
+            .withCommitIndex(1)
+            .build();
+
+    final AtomicReference<Runnable> onFlushed = new AtomicReference<>();
+    doAnswer(
+            invocation -> {
+              onFlushed.set(invocation.getArgument(1));
+              return null;
+            })
+        .when(log)
+        .flush(any(), any());
+    when(log.append(any(ReplicatableJournalRecord.class)))
+        .thenReturn(mock(IndexedRaftLogEntry.class));
+
+    // when
+    final var response = role.handleAppend(ProtocolVersionHandler.transform(request));
+    when(ctx.getTerm()).thenReturn(2L);
+    onFlushed.get().run();
+
+    // then
+    assertThat(response.join().succeeded()).isFalse();
+  }
+
+  @Test
+  public void shouldOnlyCommitEntriesOnceFlushed() {
+    // given
+    final var entries = List.of(new ReplicatableJournalRecord(1, 1, 1, new byte[1]));
+    final VersionedAppendRequest request =
+        VersionedAppendRequest.builder()
+            .withTerm(1)
+            .withLeader(MemberId.anonymous())
+            .withPrevLogTerm(0)
+            .withPrevLogIndex(0)
+            .withEntries(entries)
+            .withCommitIndex(1)
+            .build();
+
+    final AtomicReference<Runnable> onFlushed = new AtomicReference<>();
+    doAnswer(
+            invocation -> {
+              onFlushed.set(invocation.getArgument(1));
+              return null;
+            })
+        .when(log)
+        .flush(any(), any());
+    when(log.append(any(ReplicatableJournalRecord.class)))
+        .thenReturn(mock(IndexedRaftLogEntry.class));
+    when(log.getFlushedIndex()).thenReturn(0L);
+
+    // when
+    final var response = role.handleAppend(ProtocolVersionHandler.transform(request));
+
+    // then
+    verify(ctx, never()).setCommitIndex(1);
+    assertThat(response).isNotDone();
+
+    // when
+    when(log.getFlushedIndex()).thenReturn(1L);
+    onFlushed.get().run();
+
+    // then
+    verify(ctx).setCommitIndex(1);
+    assertThat(response.join().succeeded()).isTrue();
+  }
+
   @Test
   public void shouldFlushAfterPartiallyAppendedRequest() {
     // given
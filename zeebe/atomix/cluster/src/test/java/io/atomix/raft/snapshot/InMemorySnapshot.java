@@ -30,6 +30,8 @@ import io.camunda.zeebe.util.StringUtil;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.nio.ByteBuffer;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Objects;
 import java.util.Set;
@@ -131,6 +133,11 @@ public final class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapsh
       @Override
       public void setMaximumChunkSize(final int maximumChunkSize) {}
 
+      @Override
+      public Set<String> exclude(final Collection<String> chunkNames) {
+        return Set.of();
+      }
+
       @Override
       public void close() {
         iterator = null;
@@ -211,6 +218,14 @@ public final class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapsh
     return CompletableActorFuture.completed(null);
   }
 
+  @Override
+  public ActorFuture<Void> reuse(
+      final PersistedSnapshot snapshot, final Map<String, Long> chunkChecksums) {
+    final var source = (InMemorySnapshot) snapshot;
+    chunkChecksums.keySet().forEach(chunk -> chunks.put(chunk, source.chunks.get(chunk)));
+    return CompletableActorFuture.completed(null);
+  }
+
   @Override
   public ActorFuture<Void> abort() {
     return CompletableActorFuture.completed(null);
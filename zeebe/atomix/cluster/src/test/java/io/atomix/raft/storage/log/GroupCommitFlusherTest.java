@@ -0,0 +1,202 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.storage.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import io.atomix.utils.concurrent.Scheduled;
+import io.atomix.utils.concurrent.Scheduler;
+import io.camunda.zeebe.journal.Journal;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.agrona.CloseHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+final class GroupCommitFlusherTest {
+  private final TestScheduler scheduler = new TestScheduler();
+  private final GroupCommitFlusher flusher =
+      new GroupCommitFlusher(scheduler, Duration.ofMillis(5), 1024, "raft-partition-partition-1");
+  private final Journal journal = Mockito.mock(Journal.class);
+  private final AtomicInteger flushed = new AtomicInteger();
+
+  @AfterEach
+  void afterEach() {
+    CloseHelper.quietClose(flusher);
+  }
+
+  @Test
+  void shouldDelayFlushByMaxDelay() {
+    // when
+    flusher.flush(journal, 10, Runnable::run, flushed::incrementAndGet);
+
+    // then
+    assertThat(scheduler.operations).hasSize(1);
+    assertThat(scheduler.operations.get(0).interval).isEqualTo(Duration.ofMillis(5));
+    assertThat(flushed).hasValue(0);
+    Mockito.verify(journal, Mockito.never()).flush();
+  }
+
+  @Test
+  void shouldCoalesceRequestsIntoSingleFlush() {
+    // given
+    flusher.flush(journal, 10, Runnable::run, flushed::incrementAndGet);
+    flusher.flush(journal, 10, Runnable::run, flushed::incrementAndGet);
+    flusher.flush(journal, 10, Runnable::run, flushed::incrementAndGet);
+
+    // when
+    scheduler.runNext();
+
+    // then
+    assertThat(scheduler.operations).isEmpty();
+    assertThat(flushed).hasValue(3);
+    Mockito.verify(journal, Mockito.times(1)).flush();
+  }
+
+  @Test
+  void shouldFlushImmediatelyWhenReachingMaxPendingBytes() {
+    // given
+    flusher.flush(journal, 512, Runnable::run, flushed::incrementAndGet);
+
+    // when
+    flusher.flush(journal, 512, Runnable::run, flushed::incrementAndGet);
+
+    // then
+    assertThat(scheduler.operations.get(0).cancelled).isTrue();
+    assertThat(scheduler.operations.get(1).interval).isEqualTo(Duration.ZERO);
+
+    scheduler.runNext();
+    scheduler.runNext();
+    assertThat(flushed).hasValue(2);
+    Mockito.verify(journal, Mockito.times(1)).flush();
+  }
+
+  @Test
+  void shouldRunCallbacksOnGivenExecutor() {
+    // given
+    final List<Runnable> executed = new ArrayList<>();
+    flusher.flush(journal, 10, executed::add, flushed::incrementAndGet);
+
+    // when
+    scheduler.runNext();
+
+    // then
+    assertThat(flushed).hasValue(0);
+    assertThat(executed).hasSize(1);
+    executed.get(0).run();
+    assertThat(flushed).hasValue(1);
+  }
+
+  @Test
+  void shouldCompletePendingRequestsOnDirectFlush() {
+    // given
+    flusher.flush(journal, 10, Runnable::run, flushed::incrementAndGet);
+
+    // when
+    flusher.flush(journal);
+
+    // then
+    assertThat(flushed).hasValue(1);
+    assertThat(scheduler.operations.get(0).cancelled).isTrue();
+    Mockito.verify(journal, Mockito.times(1)).flush();
+  }
+
+  @Test
+  void shouldNotCompleteRequestsOnFlushError() {
+    // given
+    Mockito.doThrow(new UncheckedIOException(new IOException("Cannot allocate memory")))
+        .when(journal)
+        .flush();
+    flusher.flush(journal, 10, Runnable::run, flushed::incrementAndGet);
+
+    // when
+    scheduler.runNext();
+
+    // then
+    assertThat(flushed).hasValue(0);
+    assertThat(scheduler.operations).hasSize(1);
+
+    Mockito.doNothing().when(journal).flush();
+    scheduler.runNext();
+    assertThat(flushed).hasValue(1);
+  }
+
+  @Test
+  void shouldRethrowErrorOnDirectFlush() {
+    // given
+    Mockito.doThrow(new UncheckedIOException(new IOException("Cannot allocate memory")))
+        .when(journal)
+        .flush();
+    flusher.flush(journal, 10, Runnable::run, flushed::incrementAndGet);
+
+    // when
+    assertThatCode(() -> flusher.flush(journal)).isInstanceOf(UncheckedIOException.class);
+
+    // then
+    assertThat(flushed).hasValue(0);
+    assertThat(scheduler.operations).last().extracting(t -> t.cancelled).isEqualTo(false);
+  }
+
+  @Test
+  void shouldNotAcceptRequestsWhenClosed() {
+    // when
+    flusher.close();
+    flusher.flush(journal, 10, Runnable::run, flushed::incrementAndGet);
+
+    // then
+    assertThat(scheduler.operations).isEmpty();
+    assertThat(flushed).hasValue(0);
+  }
+
+  private static final class TestScheduled implements Scheduled {
+    private final Duration interval;
+    private final Runnable operation;
+
+    private boolean cancelled;
+
+    private TestScheduled(final Duration interval, final Runnable operation) {
+      this.interval = interval;
+      this.operation = operation;
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+    }
+
+    @Override
+    public boolean isDone() {
+      return cancelled;
+    }
+  }
+
+  private static final class TestScheduler implements Scheduler {
+    private final List<TestScheduled> operations = new ArrayList<>();
+
+    @Override
+    public Scheduled schedule(
+        final Duration initialDelay, final Duration interval, final Runnable callback) {
+      final var scheduled = new TestScheduled(interval, callback);
+      operations.add(scheduled);
+      return scheduled;
+    }
+
+    private void runNext() {
+      final var scheduled = operations.remove(0);
+      if (!scheduled.cancelled) {
+        scheduled.operation.run();
+      }
+    }
+  }
+}
@@ -17,6 +17,7 @@ package io.atomix.raft.storage.log;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -34,14 +35,18 @@ import io.atomix.raft.storage.log.entry.ConfigurationEntry;
 import io.atomix.raft.storage.log.entry.InitialEntry;
 import io.atomix.raft.storage.log.entry.RaftLogEntry;
 import io.atomix.raft.storage.log.entry.SerializedApplicationEntry;
+import io.atomix.utils.concurrent.Scheduled;
+import io.atomix.utils.concurrent.Scheduler;
 import io.camunda.zeebe.journal.Journal;
 import io.camunda.zeebe.journal.JournalMetaStore;
 import io.camunda.zeebe.journal.JournalMetaStore.InMemory;
 import java.io.File;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -171,6 +176,38 @@ class RaftLogTest {
     raftlogFollower.close();
   }
 
+  @Test
+  void shouldForceFlushWhileGroupFlushIsPending(@TempDir final File directory) {
+    // given - a snapshot is taken while the flush of an append is still deferred
+    final var scheduler = mock(Scheduler.class);
+    when(scheduler.schedule(any(Duration.class), any(Runnable.class)))
+        .thenReturn(mock(Scheduled.class));
+    final var groupMetaStore = new InMemory();
+    final var groupCommitLog =
+        RaftLog.builder()
+            .withDirectory(directory)
+            .withName("test-group-commit")
+            .withMetaStore(groupMetaStore)
+            .withFlusher(
+                new GroupCommitFlusher(scheduler, Duration.ofSeconds(10), Long.MAX_VALUE, "test"))
+            .build();
+    final var flushed = new AtomicBoolean();
+    groupCommitLog.append(new RaftLogEntry(1, firstApplicationEntry));
+    groupCommitLog.flush(Runnable::run, () -> flushed.set(true));
+
+    // when
+    assertThat(groupCommitLog.flushesDirectly()).isFalse();
+    assertThat(groupCommitLog.getFlushedIndex()).isZero();
+    groupCommitLog.forceFlush();
+
+    // then
+    assertThat(groupMetaStore.loadLastFlushedIndex()).isOne();
+    assertThat(groupCommitLog.getFlushedIndex()).isOne();
+    assertThat(flushed).isFalse();
+
+    groupCommitLog.close();
+  }
+
   @Test
   void shouldDeleteAfter() {
     // given
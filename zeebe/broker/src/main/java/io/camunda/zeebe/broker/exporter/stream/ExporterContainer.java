@@ -12,13 +12,13 @@ import io.camunda.zeebe.broker.exporter.context.ExporterContext;
 import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
 import io.camunda.zeebe.broker.exporter.stream.ExporterDirector.ExporterInitializationInfo;
 import io.camunda.zeebe.exporter.api.Exporter;
+import io.camunda.zeebe.exporter.api.RecordBatch;
 import io.camunda.zeebe.exporter.api.context.Context;
 import io.camunda.zeebe.exporter.api.context.Controller;
 import io.camunda.zeebe.exporter.api.context.ScheduledTask;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.scheduler.ActorControl;
-import io.camunda.zeebe.stream.api.records.TypedRecord;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.jar.ThreadContextUtil;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -38,15 +38,23 @@ final class ExporterContainer implements Controller {
 
   private final ExporterContext context;
   private final Exporter exporter;
+  // whether the exporter implements exportBatch itself, or relies on the default implementation
+  private final boolean exportsBatches;
   private long position;
   private boolean exporterIsSoftPaused = false;
   private long lastUnacknowledgedPosition;
   private long lastAcknowledgedPosition;
   private byte[] lastExportedMetadata;
+  // the position of the records which were skipped after the last exported record of a batch, to
+  // update the position to once the exporter acknowledged that record
+  private long skippedPositionAfterLastExported = -1;
   private ExportersState exportersState;
   private ExporterMetrics metrics;
   private ActorControl actor;
   private final ExporterInitializationInfo initializationInfo;
+  private final FilteredRecordBatch recordBatch = new FilteredRecordBatch();
+  // whether the exporter signaled backpressure while exporting the current batch
+  private boolean backpressured;
 
   ExporterContainer(
       final ExporterDescriptor descriptor,
@@ -64,6 +72,16 @@ final class ExporterContainer implements Controller {
             clock);
 
     exporter = descriptor.newInstance();
+    exportsBatches = overridesExportBatch(exporter);
+  }
+
+  private static boolean overridesExportBatch(final Exporter exporter) {
+    try {
+      return exporter.getClass().getMethod("exportBatch", RecordBatch.class).getDeclaringClass()
+          != Exporter.class;
+    } catch (final NoSuchMethodException e) {
+      return false;
+    }
   }
 
   void initContainer(
@@ -169,6 +187,10 @@ final class ExporterContainer implements Controller {
         position = eventPosition;
       }
     }
+
+    if (skippedPositionAfterLastExported > position) {
+      updatePositionOnSkipIfUpToDate(skippedPositionAfterLastExported);
+    }
   }
 
   @Override
@@ -199,6 +221,12 @@ final class ExporterContainer implements Controller {
         .map(BufferUtil::bufferAsArray);
   }
 
+  @Override
+  public void signalBackpressure() {
+    // only called by the exporter while it exports a record, i.e. on the actor thread
+    backpressured = true;
+  }
+
   public String getId() {
     return context.getConfiguration().getId();
   }
@@ -215,22 +243,84 @@ final class ExporterContainer implements Controller {
         () -> exporter.configure(context), exporter.getClass().getClassLoader());
   }
 
-  boolean exportRecord(final RecordMetadata rawMetadata, final TypedRecord typedEvent) {
+  /**
+   * Exports the records of the batch which are accepted by the exporter, and which have a greater
+   * position than the given resume position.
+   *
+   * @param batch the batch to export
+   * @param resumePosition the position of the last record which was already exported, when retrying
+   *     a batch
+   * @return true if the batch was exported, false if it should be retried
+   */
+  boolean exportBatch(final ExporterRecordBatch batch, final long resumePosition) {
+    recordBatch.wrap(batch, Math.max(position, resumePosition), this::acceptRecord);
+    backpressured = false;
+
     try {
-      if (position < typedEvent.getPosition()) {
-        if (acceptRecord(rawMetadata)) {
-          export(typedEvent);
-        } else {
-          updatePositionOnSkipIfUpToDate(typedEvent.getPosition());
+      if (recordBatch.getSkippedPosition() >= 0) {
+        updatePositionOnSkipIfUpToDate(recordBatch.getSkippedPosition());
+      }
+
+      if (!recordBatch.isEmpty()) {
+        ThreadContextUtil.runWithClassLoader(
+            exportsBatches ? () -> exporter.exportBatch(recordBatch) : this::exportEachRecord,
+            exporter.getClass().getClassLoader());
+        if (backpressured) {
+          // the record which was exported when the exporter signaled backpressure isn't consumed,
+          // so the batch is resumed from it
+          lastUnacknowledgedPosition =
+              Math.max(lastUnacknowledgedPosition, recordBatch.getConsumedPosition());
+          return false;
         }
+        recordBatch.consumeAll();
+        lastUnacknowledgedPosition = recordBatch.getLastPosition();
+      }
+
+      if (recordBatch.getTrailingSkippedPosition() >= 0) {
+        // the exporter acknowledges the records asynchronously, so the skipped records can only be
+        // acknowledged after it did so
+        skippedPositionAfterLastExported = recordBatch.getTrailingSkippedPosition();
+        updatePositionOnSkipIfUpToDate(skippedPositionAfterLastExported);
       }
       return true;
     } catch (final Exception ex) {
-      context.getLogger().warn("Error on exporting record with key {}", typedEvent.getKey(), ex);
+      lastUnacknowledgedPosition =
+          Math.max(lastUnacknowledgedPosition, recordBatch.getConsumedPosition());
+      context
+          .getLogger()
+          .warn("Error on exporting record with position {}", recordBatch.getCurrentPosition(), ex);
       return false;
     }
   }
 
+  /**
+   * Exports the records of the batch one by one, the same way the default {@link
+   * Exporter#exportBatch(RecordBatch)} does, but measures how long each record takes to export.
+   */
+  private void exportEachRecord() {
+    for (final Record<?> record : recordBatch) {
+      try (final var timer = metrics.startExporterExportingTimer(record.getValueType(), getId())) {
+        exporter.export(record);
+      }
+    }
+  }
+
+  /**
+   * @return the position of the last record of the current batch which the exporter is done with,
+   *     or -1 if there is none
+   */
+  long getBatchConsumedPosition() {
+    return recordBatch.getConsumedPosition();
+  }
+
+  /**
+   * @return true if the last batch wasn't exported because the exporter signaled backpressure, as
+   *     opposed to failing to export it
+   */
+  boolean isBackpressured() {
+    return backpressured;
+  }
+
   void softPauseExporter() {
     exporterIsSoftPaused = true;
   }
@@ -240,12 +330,6 @@ final class ExporterContainer implements Controller {
     updateExporterState(lastAcknowledgedPosition, lastExportedMetadata);
   }
 
-  private void export(final Record<?> record) {
-    ThreadContextUtil.runWithClassLoader(
-        () -> exporter.export(record), exporter.getClass().getClassLoader());
-    lastUnacknowledgedPosition = record.getPosition();
-  }
-
   public void close() {
     try {
       ThreadContextUtil.runCheckedWithClassLoader(
@@ -53,11 +53,15 @@ import org.slf4j.Logger;
 public final class ExporterDirector extends Actor implements HealthMonitorable, LogRecordAwaiter {
 
   private static final String ERROR_MESSAGE_EXPORTING_ABORTED =
-      "Expected to export record '{}' successfully, but exception was thrown.";
+      "Expected to export records starting at position '{}' successfully, but exception was thrown.";
   private static final String ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED =
       "Expected to find event with the snapshot position %s in log stream, but nothing was found. Failed to recover '%s'.";
   private static final String EXPORTER_STATE_TOPIC_FORMAT = "exporterState-%d";
 
+  // the delay after which a batch is exported again when an exporter signaled backpressure, which
+  // is short as this is expected under load and not a failure
+  private static final Duration BACKPRESSURE_RETRY_DELAY = Duration.ofMillis(10);
+
   private static final Logger LOG = Loggers.EXPORTER_LOGGER;
   private final AtomicBoolean isOpened = new AtomicBoolean(false);
 
@@ -636,10 +640,13 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   }
 
   private void exportEvent(final LoggedEvent event) {
+    final long position = event.getPosition();
+    readBatch(event);
+
     final ActorFuture<Boolean> wrapRetryFuture =
         recordWrapStrategy.runWithRetry(
             () -> {
-              recordExporter.wrap(event);
+              recordExporter.wrap();
               return true;
             },
             this::isClosed);
@@ -648,28 +655,57 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
         wrapRetryFuture,
         (b, t) -> {
           assert t == null : "Throwable must be null";
+          exportBatch(position);
+        });
+  }
 
-          final ActorFuture<Boolean> retryFuture =
-              exportingRetryStrategy.runWithRetry(recordExporter::export, this::isClosed);
-
-          actor.runOnCompletion(
-              retryFuture,
-              (bool, throwable) -> {
-                if (throwable != null) {
-                  LOG.error(ERROR_MESSAGE_EXPORTING_ABORTED, event, throwable);
-                  onFailure();
-                } else {
-                  logStream
-                      .getFlowControl()
-                      .onExported(recordExporter.getTypedEvent().getPosition());
-                  metrics.eventExported(recordExporter.getTypedEvent().getValueType());
-                  inExportingPhase = false;
-                  actor.submit(this::readNextEvent);
-                }
-              });
+  private void exportBatch(final long position) {
+    // backpressure isn't retried with the backoff of failures, but after a short fixed delay
+    final ActorFuture<Boolean> retryFuture =
+        exportingRetryStrategy.runWithRetry(
+            recordExporter::export, () -> isClosed() || recordExporter.isBackpressured());
+
+    actor.runOnCompletion(
+        retryFuture,
+        (exported, throwable) -> {
+          if (throwable != null) {
+            LOG.error(ERROR_MESSAGE_EXPORTING_ABORTED, position, throwable);
+            onFailure();
+          } else if (!exported && recordExporter.isBackpressured()) {
+            actor.schedule(
+                BACKPRESSURE_RETRY_DELAY,
+                () -> {
+                  if (!isClosed()) {
+                    exportBatch(position);
+                  }
+                });
+          } else {
+            logStream.getFlowControl().onExported(recordExporter.getLastPosition());
+            for (int i = 0; i < recordExporter.getBatchSize(); i++) {
+              metrics.eventExported(recordExporter.getValueType(i));
+            }
+            inExportingPhase = false;
+            actor.submit(this::readNextEvent);
+          }
         });
   }
 
+  /**
+   * Collects the given event and the directly following events which are accepted by the event
+   * filter into a batch, such that they're passed at once to the exporters. The batch ends at the
+   * first event which is skipped, so that skipping records isn't affected by batching.
+   */
+  private void readBatch(final LoggedEvent firstEvent) {
+    recordExporter.resetBatch();
+    recordExporter.addToBatch(firstEvent);
+
+    while (!recordExporter.isBatchFull()
+        && logStreamReader.hasNext()
+        && (eventFilter == null || eventFilter.applies(logStreamReader.peekNext()))) {
+      recordExporter.addToBatch(logStreamReader.next());
+    }
+  }
+
   private void clearExporterState() {
     final List<String> exporterIds =
         containers.stream().map(ExporterContainer::getId).collect(Collectors.toList());
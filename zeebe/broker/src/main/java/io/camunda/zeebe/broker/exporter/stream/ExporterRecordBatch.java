@@ -0,0 +1,160 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import io.camunda.zeebe.logstreams.impl.log.LoggedEventImpl;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.stream.impl.TypedEventRegistry;
+import io.camunda.zeebe.stream.impl.records.TypedRecordImpl;
+import io.camunda.zeebe.util.ReflectUtil;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+
+/**
+ * A contiguous run of events read from the log, which is exported at once. The events are copied
+ * into an internal buffer, such that the log stream reader can move on. They are decoded lazily:
+ * the metadata when the batch is wrapped, and the value when the record is accessed for the first
+ * time. A decoded record is then shared by all exporters.
+ *
+ * <p>The entries, and their record values, are reused for the following batches.
+ */
+final class ExporterRecordBatch {
+
+  private final MutableDirectBuffer buffer = new ExpandableArrayBuffer();
+  private final List<Entry> entries = new ArrayList<>();
+  private final int partitionId;
+  private final int maxSize;
+
+  private int size;
+  private int length;
+
+  ExporterRecordBatch(final int partitionId, final int maxSize) {
+    this.partitionId = partitionId;
+    this.maxSize = maxSize;
+  }
+
+  void reset() {
+    size = 0;
+    length = 0;
+  }
+
+  boolean isFull() {
+    return size >= maxSize;
+  }
+
+  /** Copies the given event into the batch. The event can be reused afterwards. */
+  void add(final LoggedEvent event) {
+    if (size == entries.size()) {
+      entries.add(new Entry(partitionId));
+    }
+
+    event.write(buffer, length);
+    entries.get(size).wrap(buffer, length);
+    length += event.getLength();
+    size++;
+  }
+
+  /** Reads the metadata of all events in the batch. */
+  void wrap() {
+    for (int i = 0; i < size; i++) {
+      entries.get(i).readMetadata();
+    }
+  }
+
+  int size() {
+    return size;
+  }
+
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  long getPosition(final int index) {
+    return entries.get(index).event.getPosition();
+  }
+
+  long getLastPosition() {
+    return isEmpty() ? -1 : getPosition(size - 1);
+  }
+
+  long getTimestamp(final int index) {
+    return entries.get(index).event.getTimestamp();
+  }
+
+  RecordMetadata getMetadata(final int index) {
+    return entries.get(index).metadata;
+  }
+
+  ValueType getValueType(final int index) {
+    return entries.get(index).metadata.getValueType();
+  }
+
+  /**
+   * @return true if the record at the given index has a known value type, and can be exported
+   */
+  boolean isExportable(final int index) {
+    return entries.get(index).exportable;
+  }
+
+  /**
+   * Returns the record at the given index, decoding its value if it wasn't accessed before. Must
+   * only be called for exportable records.
+   */
+  TypedRecordImpl getRecord(final int index) {
+    return entries.get(index).decode();
+  }
+
+  private static final class Entry {
+    private final LoggedEventImpl event = new LoggedEventImpl();
+    private final RecordMetadata metadata = new RecordMetadata();
+    private final Map<ValueType, UnifiedRecordValue> values = new EnumMap<>(ValueType.class);
+    private final TypedRecordImpl record;
+
+    private boolean exportable;
+    private boolean decoded;
+
+    private Entry(final int partitionId) {
+      record = new TypedRecordImpl(partitionId);
+    }
+
+    private void wrap(final MutableDirectBuffer buffer, final int offset) {
+      event.wrap(buffer, offset);
+      exportable = false;
+      decoded = false;
+    }
+
+    private void readMetadata() {
+      event.readMetadata(metadata);
+      exportable = TypedEventRegistry.EVENT_REGISTRY.containsKey(metadata.getValueType());
+      decoded = false;
+    }
+
+    private TypedRecordImpl decode() {
+      if (!decoded) {
+        final var value =
+            values.computeIfAbsent(
+                metadata.getValueType(),
+                valueType ->
+                    ReflectUtil.newInstance(TypedEventRegistry.EVENT_REGISTRY.get(valueType)));
+        value.reset();
+        event.readValue(value);
+        record.wrap(event, metadata, value);
+        decoded = true;
+      }
+
+      return record;
+    }
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import io.camunda.zeebe.exporter.api.RecordBatch;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.record.Record;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+import org.agrona.collections.IntArrayList;
+
+/**
+ * The view of an {@link ExporterRecordBatch} which is passed to a single exporter. It contains the
+ * exportable records which are accepted by the exporter and weren't exported yet, and keeps track
+ * of how far the exporter got, such that a failed batch can be resumed.
+ */
+final class FilteredRecordBatch implements RecordBatch {
+
+  private final IntArrayList indices = new IntArrayList();
+  private ExporterRecordBatch batch;
+  private long skippedPosition;
+  private long trailingSkippedPosition;
+  private int consumed;
+  private int current;
+
+  /**
+   * Wraps the records of the given batch which have a greater position than the exported position,
+   * and are accepted by the filter.
+   */
+  void wrap(
+      final ExporterRecordBatch batch,
+      final long exportedPosition,
+      final Predicate<RecordMetadata> filter) {
+    this.batch = batch;
+    indices.clear();
+    skippedPosition = -1;
+    trailingSkippedPosition = -1;
+    consumed = 0;
+    current = -1;
+
+    for (int i = 0; i < batch.size(); i++) {
+      final long position = batch.getPosition(i);
+      if (position <= exportedPosition) {
+        continue;
+      }
+
+      if (batch.isExportable(i) && filter.test(batch.getMetadata(i))) {
+        indices.addInt(i);
+      } else if (indices.isEmpty()) {
+        skippedPosition = position;
+      } else {
+        trailingSkippedPosition = position;
+      }
+    }
+  }
+
+  /**
+   * @return the position of the last record which was skipped before the first record of this
+   *     batch, or -1 if none was skipped
+   */
+  long getSkippedPosition() {
+    return skippedPosition;
+  }
+
+  /**
+   * @return the position of the last record which was skipped after the last record of this batch,
+   *     or -1 if none was skipped
+   */
+  long getTrailingSkippedPosition() {
+    return trailingSkippedPosition;
+  }
+
+  /**
+   * @return the position of the last record the exporter is done with, or -1 if there is none
+   */
+  long getConsumedPosition() {
+    return consumed > 0 ? getPosition(consumed - 1) : -1;
+  }
+
+  /**
+   * @return the position of the record which was returned last by the iterator, or -1 if there is
+   *     none
+   */
+  long getCurrentPosition() {
+    return current >= 0 ? getPosition(current) : -1;
+  }
+
+  /** Marks all records as consumed, after the exporter returned successfully. */
+  void consumeAll() {
+    consumed = indices.size();
+  }
+
+  @Override
+  public int size() {
+    return indices.size();
+  }
+
+  @Override
+  public long getFirstPosition() {
+    return isEmpty() ? -1 : getPosition(0);
+  }
+
+  @Override
+  public long getLastPosition() {
+    return isEmpty() ? -1 : getPosition(indices.size() - 1);
+  }
+
+  @Override
+  public Iterator<Record<?>> iterator() {
+    return new Iterator<>() {
+      private int next;
+
+      @Override
+      public boolean hasNext() {
+        return next < indices.size();
+      }
+
+      @Override
+      public Record<?> next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+
+        // moving past a record means the exporter is done with it
+        consumed = Math.max(consumed, next);
+        current = next;
+        return batch.getRecord(indices.getInt(next++));
+      }
+    };
+  }
+
+  private long getPosition(final int index) {
+    return batch.getPosition(indices.getInt(index));
+  }
+}
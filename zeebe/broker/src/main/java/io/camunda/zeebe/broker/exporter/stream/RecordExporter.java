@@ -8,24 +8,22 @@
 package io.camunda.zeebe.broker.exporter.stream;
 
 import io.camunda.zeebe.logstreams.log.LoggedEvent;
-import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
-import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.camunda.zeebe.protocol.record.ValueType;
-import io.camunda.zeebe.stream.impl.records.RecordValues;
-import io.camunda.zeebe.stream.impl.records.TypedRecordImpl;
 import java.time.InstantSource;
 import java.util.List;
 
 final class RecordExporter {
 
-  private final RecordValues recordValues = new RecordValues();
-  private final RecordMetadata rawMetadata = new RecordMetadata();
+  // the maximum number of records which are passed at once to the exporters
+  static final int MAX_BATCH_SIZE = 128;
+
+  private final ExporterRecordBatch batch;
   private final List<ExporterContainer> containers;
-  private final TypedRecordImpl typedEvent;
   private final ExporterMetrics exporterMetrics;
 
-  private boolean shouldExport;
   private int exporterIndex;
+  private long resumePosition;
+  private boolean backpressured;
   private final InstantSource clock;
 
   RecordExporter(
@@ -34,64 +32,100 @@ final class RecordExporter {
       final int partitionId,
       final InstantSource clock) {
     this.containers = containers;
-    typedEvent = new TypedRecordImpl(partitionId);
+    batch = new ExporterRecordBatch(partitionId, MAX_BATCH_SIZE);
     this.exporterMetrics = exporterMetrics;
     this.clock = clock;
   }
 
-  void wrap(final LoggedEvent rawEvent) {
-    rawEvent.readMetadata(rawMetadata);
+  void resetBatch() {
+    batch.reset();
+  }
 
-    final UnifiedRecordValue recordValue =
-        recordValues.readRecordValue(rawEvent, rawMetadata.getValueType());
+  boolean isBatchFull() {
+    return batch.isFull();
+  }
 
-    shouldExport = recordValue != null;
-    if (shouldExport) {
-      typedEvent.wrap(rawEvent, rawMetadata, recordValue);
-      exporterIndex = 0;
-    }
+  void addToBatch(final LoggedEvent rawEvent) {
+    batch.add(rawEvent);
+  }
+
+  void wrap() {
+    batch.wrap();
+    exporterIndex = 0;
+    resumePosition = -1;
   }
 
   boolean export() {
-    if (!shouldExport) {
+    backpressured = false;
+    if (batch.isEmpty()) {
       return true;
     }
 
-    final ValueType valueType = typedEvent.getValueType();
     // exporting latency tracks time
     // from record written to exporting of record started
     final long currentMillis = clock.millis();
     // we track this here already, even if it is not successful as otherwise
     // we might get no metric at all when exporting is not possible
     // this allows us to observe that exporting latency is increasing
-    exporterMetrics.exportingLatency(valueType, typedEvent.getTimestamp(), currentMillis);
+    for (int i = 0; i < batch.size(); i++) {
+      if (batch.isExportable(i)) {
+        exporterMetrics.exportingLatency(
+            batch.getValueType(i), batch.getTimestamp(i), currentMillis);
+      }
+    }
 
+    final long lastPosition = batch.getLastPosition();
     final int exportersCount = containers.size();
 
-    // current error handling strategy is simply to repeat forever until the record can be
-    // successfully exported.
+    // current error handling strategy is simply to repeat forever until the batch can be
+    // successfully exported. A failed batch is resumed after the last record the exporter was done
+    // with, to not export the previous records again.
     while (exporterIndex < exportersCount) {
       final ExporterContainer container = containers.get(exporterIndex);
 
-      try (final var timer =
-          exporterMetrics.startExporterExportingTimer(valueType, container.getId())) {
-        if (container.exportRecord(rawMetadata, typedEvent)) {
-          exporterIndex++;
-          exporterMetrics.setLastExportedPosition(container.getId(), typedEvent.getPosition());
-        } else {
-          return false;
-        }
+      // the duration of each record is only known if the exporter doesn't export the batch itself,
+      // see ExporterContainer#exportEachRecord
+      final long startNanos = System.nanoTime();
+      final boolean exported = container.exportBatch(batch, resumePosition);
+      exporterMetrics.exporterBatchExportingDuration(
+          container.getId(), (System.nanoTime() - startNanos) / 1e9);
+
+      if (exported) {
+        exporterIndex++;
+        resumePosition = -1;
+        exporterMetrics.setLastExportedPosition(container.getId(), lastPosition);
+      } else {
+        resumePosition = Math.max(resumePosition, container.getBatchConsumedPosition());
+        backpressured = container.isBackpressured();
+        return false;
       }
     }
 
     return true;
   }
 
-  TypedRecordImpl getTypedEvent() {
-    return typedEvent;
+  /**
+   * @return true if the last call to {@link #export()} didn't export the batch because an exporter
+   *     signaled backpressure, as opposed to failing to export it
+   */
+  boolean isBackpressured() {
+    return backpressured;
+  }
+
+  int getBatchSize() {
+    return batch.size();
+  }
+
+  long getLastPosition() {
+    return batch.getLastPosition();
+  }
+
+  ValueType getValueType(final int index) {
+    return batch.getValueType(index);
   }
 
   public void resetExporterIndex() {
     exporterIndex = 0;
+    resumePosition = -1;
   }
 }
@@ -12,12 +12,14 @@ import io.atomix.raft.partition.RaftPartition;
 import io.atomix.raft.partition.RaftPartitionConfig;
 import io.atomix.raft.partition.RaftStorageConfig;
 import io.atomix.raft.storage.log.DelayedFlusher;
+import io.atomix.raft.storage.log.GroupCommitFlusher;
 import io.atomix.raft.storage.log.RaftLogFlusher;
 import io.camunda.zeebe.broker.Loggers;
 import io.camunda.zeebe.broker.raft.ZeebeEntryValidator;
 import io.camunda.zeebe.broker.system.configuration.BrokerCfg;
 import io.camunda.zeebe.broker.system.configuration.ExperimentalCfg;
 import io.camunda.zeebe.broker.system.configuration.RaftCfg.FlushConfig;
+import io.camunda.zeebe.broker.system.configuration.RaftCfg.GroupCommitConfig;
 import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.io.UncheckedIOException;
@@ -73,12 +75,18 @@ public final class RaftPartitionFactory {
 
     storageConfig.setFlusherFactory(
         createFlusherFactory(
-            brokerCfg.getCluster().getRaft().getFlush(), brokerCfg.getExperimental()));
+            brokerCfg.getCluster().getRaft().getFlush(),
+            brokerCfg.getExperimental(),
+            partitionMetadata));
     storageConfig.setFreeDiskSpace(
         brokerCfg.getData().getDisk().getFreeSpace().getReplication().toBytes());
     storageConfig.setJournalIndexDensity(brokerCfg.getData().getLogIndexDensity());
     storageConfig.setPreallocateSegmentFiles(
         brokerCfg.getExperimental().getRaft().isPreallocateSegmentFiles());
+    storageConfig.setPreparedSegmentCount(
+        brokerCfg.getExperimental().getRaft().getPreparedSegmentCount());
+    storageConfig.setRecycleSegmentFiles(
+        brokerCfg.getExperimental().getRaft().isRecycleSegmentFiles());
 
     partitionConfig.setStorageConfig(storageConfig);
     partitionConfig.setEntryValidator(new ZeebeEntryValidator());
@@ -108,17 +116,32 @@ public final class RaftPartitionFactory {
   }
 
   private RaftLogFlusher.Factory createFlusherFactory(
-      final FlushConfig config, final ExperimentalCfg experimental) {
+      final FlushConfig config,
+      final ExperimentalCfg experimental,
+      final PartitionMetadata partitionMetadata) {
     // for backwards compatibility; remove this and flatten when this is removed
     if (experimental.isDisableExplicitRaftFlush()) {
-      return createFlusherFactory(new FlushConfig(false, Duration.ZERO));
+      return createFlusherFactory(new FlushConfig(false, Duration.ZERO, null), partitionMetadata);
     }
 
-    return createFlusherFactory(config);
+    return createFlusherFactory(config, partitionMetadata);
   }
 
-  private RaftLogFlusher.Factory createFlusherFactory(final FlushConfig config) {
+  private RaftLogFlusher.Factory createFlusherFactory(
+      final FlushConfig config, final PartitionMetadata partitionMetadata) {
     if (config.enabled()) {
+      final GroupCommitConfig groupCommit = config.groupCommit();
+      if (groupCommit.enabled()) {
+        final var partitionName =
+            "%s-partition-%d".formatted(GROUP_NAME, partitionMetadata.id().id());
+        return threadFactory ->
+            new GroupCommitFlusher(
+                threadFactory.createContext(),
+                groupCommit.maxDelay(),
+                groupCommit.maxPendingSize().toBytes(),
+                partitionName);
+      }
+
       final Duration delayTime = config.delayTime();
       if (delayTime.isZero()) {
         return RaftLogFlusher.Factory::direct;
@@ -50,6 +50,7 @@ import io.camunda.zeebe.dynamic.config.state.DynamicPartitionConfig;
 import io.camunda.zeebe.engine.processing.EngineProcessors;
 import io.camunda.zeebe.engine.processing.message.command.SubscriptionCommandSender;
 import io.camunda.zeebe.engine.processing.streamprocessor.JobStreamer;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.encoding.BrokerInfo;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
 import io.camunda.zeebe.scheduler.ConcurrencyControl;
@@ -65,7 +66,9 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 public final class ZeebePartitionFactory {
 
@@ -89,6 +92,15 @@ public final class ZeebePartitionFactory {
           new BackupApiRequestHandlerStep(),
           new AdminApiRequestHandlerStep());
 
+  /**
+   * Column families which are read far more often than they are written, e.g. the same element
+   * instance being read several times while processing a batch of commands. Their values are cached
+   * if a read cache size is configured.
+   */
+  private static final Set<ZbColumnFamilies> READ_CACHED_COLUMN_FAMILIES =
+      EnumSet.of(
+          ZbColumnFamilies.ELEMENT_INSTANCE_KEY, ZbColumnFamilies.VARIABLES, ZbColumnFamilies.JOBS);
+
   private final ActorSchedulingService actorSchedulingService;
   private final BrokerCfg brokerCfg;
   private final BrokerInfo localBroker;
@@ -198,8 +210,8 @@ public final class ZeebePartitionFactory {
         new ZeebeRocksDbFactory<>(
             databaseCfg.createRocksDbConfiguration(),
             consistencyChecks.getSettings(),
-            new AccessMetricsConfiguration(
-                databaseCfg.getAccessMetrics(), raftPartition.id().id())),
+            new AccessMetricsConfiguration(databaseCfg.getAccessMetrics(), raftPartition.id().id()),
+            READ_CACHED_COLUMN_FAMILIES::contains),
         snapshotStore,
         runtimeDirectory,
         new AtomixRecordEntrySupplierImpl(raftPartition.getServer()),
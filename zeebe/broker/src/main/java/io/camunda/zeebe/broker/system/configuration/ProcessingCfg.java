@@ -13,7 +13,10 @@ import java.util.Set;
 public final class ProcessingCfg implements ConfigurationEntry {
 
   private static final int DEFAULT_PROCESSING_BATCH_LIMIT = 100;
+  private static final Duration DEFAULT_ADAPTIVE_BATCHING_TARGET_LATENCY = Duration.ofMillis(25);
   private Integer maxCommandsInBatch = DEFAULT_PROCESSING_BATCH_LIMIT;
+  private boolean enableAdaptiveBatching = false;
+  private Duration adaptiveBatchingTargetLatency = DEFAULT_ADAPTIVE_BATCHING_TARGET_LATENCY;
   private boolean enableAsyncScheduledTasks = true;
   private Duration scheduledTaskCheckInterval = Duration.ofSeconds(1);
   private Set<Long> skipPositions;
@@ -24,6 +27,11 @@ public final class ProcessingCfg implements ConfigurationEntry {
       throw new IllegalArgumentException(
           "maxCommandsInBatch must be >= 1 but was %s".formatted(maxCommandsInBatch));
     }
+    if (!adaptiveBatchingTargetLatency.isPositive()) {
+      throw new IllegalArgumentException(
+          "adaptiveBatchingTargetLatency must be positive but was %s"
+              .formatted(adaptiveBatchingTargetLatency));
+    }
     if (!scheduledTaskCheckInterval.isPositive()) {
       throw new IllegalArgumentException(
           "scheduledTaskCheckInterval must be positive but was %s"
@@ -39,6 +47,22 @@ public final class ProcessingCfg implements ConfigurationEntry {
     this.maxCommandsInBatch = maxCommandsInBatch;
   }
 
+  public boolean isEnableAdaptiveBatching() {
+    return enableAdaptiveBatching;
+  }
+
+  public void setEnableAdaptiveBatching(final boolean enableAdaptiveBatching) {
+    this.enableAdaptiveBatching = enableAdaptiveBatching;
+  }
+
+  public Duration getAdaptiveBatchingTargetLatency() {
+    return adaptiveBatchingTargetLatency;
+  }
+
+  public void setAdaptiveBatchingTargetLatency(final Duration adaptiveBatchingTargetLatency) {
+    this.adaptiveBatchingTargetLatency = adaptiveBatchingTargetLatency;
+  }
+
   public boolean isEnableAsyncScheduledTasks() {
     return enableAsyncScheduledTasks;
   }
@@ -60,6 +84,10 @@ public final class ProcessingCfg implements ConfigurationEntry {
     return "ProcessingCfg{"
         + "maxCommandsInBatch="
         + maxCommandsInBatch
+        + ", enableAdaptiveBatching="
+        + enableAdaptiveBatching
+        + ", adaptiveBatchingTargetLatency="
+        + adaptiveBatchingTargetLatency
         + ", enableAsyncScheduledTasks="
         + enableAsyncScheduledTasks
         + ", scheduledTaskCheckInterval="
@@ -8,7 +8,11 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 public final class QueryApiCfg {
+  private static final long DEFAULT_MAX_FOLLOWER_LAG = 1000;
+
   private boolean enabled = false;
+  private boolean followerReadsEnabled = false;
+  private long maxFollowerLag = DEFAULT_MAX_FOLLOWER_LAG;
 
   public boolean isEnabled() {
     return enabled;
@@ -18,8 +22,39 @@ public final class QueryApiCfg {
     this.enabled = enabled;
   }
 
+  /**
+   * @return true if followers which replay the log may answer queries, as long as they do not lag
+   *     more than {@link #getMaxFollowerLag()} behind the committed log
+   */
+  public boolean isFollowerReadsEnabled() {
+    return followerReadsEnabled;
+  }
+
+  public void setFollowerReadsEnabled(final boolean followerReadsEnabled) {
+    this.followerReadsEnabled = followerReadsEnabled;
+  }
+
+  /**
+   * @return the maximum number of log positions the replayed state of a follower may lag behind the
+   *     commit position, for the follower to still answer queries
+   */
+  public long getMaxFollowerLag() {
+    return maxFollowerLag;
+  }
+
+  public void setMaxFollowerLag(final long maxFollowerLag) {
+    this.maxFollowerLag = maxFollowerLag;
+  }
+
   @Override
   public String toString() {
-    return "QueryApiCfg{" + "enabled=" + enabled + '}';
+    return "QueryApiCfg{"
+        + "enabled="
+        + enabled
+        + ", followerReadsEnabled="
+        + followerReadsEnabled
+        + ", maxFollowerLag="
+        + maxFollowerLag
+        + '}';
   }
 }
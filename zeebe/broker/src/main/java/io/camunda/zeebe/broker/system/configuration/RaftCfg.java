@@ -8,10 +8,12 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import java.time.Duration;
+import org.springframework.util.unit.DataSize;
 
 public final class RaftCfg implements ConfigurationEntry {
   public static final boolean DEFAULT_ENABLE_PRIORITY_ELECTION = true;
-  private static final FlushConfig DEFAULT_FLUSH_CONFIG = new FlushConfig(true, Duration.ZERO);
+  private static final FlushConfig DEFAULT_FLUSH_CONFIG =
+      new FlushConfig(true, Duration.ZERO, null);
 
   private boolean enablePriorityElection = DEFAULT_ENABLE_PRIORITY_ELECTION;
 
@@ -43,10 +45,25 @@ public final class RaftCfg implements ConfigurationEntry {
         + '}';
   }
 
-  public record FlushConfig(boolean enabled, Duration delayTime) {
-    public FlushConfig(final boolean enabled, final Duration delayTime) {
+  public record FlushConfig(boolean enabled, Duration delayTime, GroupCommitConfig groupCommit) {
+    public FlushConfig(
+        final boolean enabled, final Duration delayTime, final GroupCommitConfig groupCommit) {
       this.enabled = enabled;
       this.delayTime = delayTime == null ? Duration.ZERO : delayTime;
+      this.groupCommit = groupCommit == null ? GroupCommitConfig.DISABLED : groupCommit;
+    }
+  }
+
+  public record GroupCommitConfig(boolean enabled, Duration maxDelay, DataSize maxPendingSize) {
+    public static final Duration DEFAULT_MAX_DELAY = Duration.ofMillis(2);
+    public static final DataSize DEFAULT_MAX_PENDING_SIZE = DataSize.ofMegabytes(1);
+    private static final GroupCommitConfig DISABLED = new GroupCommitConfig(false, null, null);
+
+    public GroupCommitConfig(
+        final boolean enabled, final Duration maxDelay, final DataSize maxPendingSize) {
+      this.enabled = enabled;
+      this.maxDelay = maxDelay == null ? DEFAULT_MAX_DELAY : maxDelay;
+      this.maxPendingSize = maxPendingSize == null ? DEFAULT_MAX_PENDING_SIZE : maxPendingSize;
     }
   }
 }
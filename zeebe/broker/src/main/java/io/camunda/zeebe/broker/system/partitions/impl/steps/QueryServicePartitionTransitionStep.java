@@ -10,10 +10,12 @@ package io.camunda.zeebe.broker.system.partitions.impl.steps;
 import io.atomix.raft.RaftServer.Role;
 import io.camunda.zeebe.broker.system.partitions.PartitionTransitionContext;
 import io.camunda.zeebe.broker.system.partitions.PartitionTransitionStep;
+import io.camunda.zeebe.broker.transport.queryapi.FollowerQueryGuard;
 import io.camunda.zeebe.engine.state.QueryService;
 import io.camunda.zeebe.engine.state.query.StateQueryService;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import io.camunda.zeebe.stream.impl.state.DbLastProcessedPositionState;
 import java.time.InstantSource;
 import org.agrona.CloseHelper;
 
@@ -22,19 +24,23 @@ public final class QueryServicePartitionTransitionStep implements PartitionTrans
   @Override
   public ActorFuture<Void> prepareTransition(
       final PartitionTransitionContext context, final long term, final Role targetRole) {
+    // the guard of a follower depends on the log stream and the state, which may be replaced by
+    // the following steps, so follower queries are disabled on every transition and re-enabled
+    // afterwards if possible
+    final var followerQueriesDisabled = disableFollowerQueries(context);
+
     final var currentRole = context.getCurrentRole();
     final QueryService queryService = context.getQueryService();
     if (queryService != null && (currentRole == Role.LEADER || targetRole == Role.INACTIVE)) {
       try {
         CloseHelper.close(queryService);
         context.setQueryService(null);
-        return CompletableActorFuture.completed(null);
       } catch (final Exception e) {
         return CompletableActorFuture.completedExceptionally(e);
       }
     }
 
-    return CompletableActorFuture.completed(null);
+    return followerQueriesDisabled;
   }
 
   @Override
@@ -47,12 +53,15 @@ public final class QueryServicePartitionTransitionStep implements PartitionTrans
       try {
         final var service = new StateQueryService(context.getZeebeDb(), InstantSource.system());
         context.setQueryService(service);
-        return CompletableActorFuture.completed(null);
       } catch (final Exception e) {
         return CompletableActorFuture.completedExceptionally(e);
       }
     }
 
+    if (targetRole == Role.FOLLOWER && isFollowerReadsEnabled(context)) {
+      return enableFollowerQueries(context);
+    }
+
     return CompletableActorFuture.completed(null);
   }
 
@@ -60,4 +69,34 @@ public final class QueryServicePartitionTransitionStep implements PartitionTrans
   public String getName() {
     return "QueryService";
   }
+
+  private ActorFuture<Void> enableFollowerQueries(final PartitionTransitionContext context) {
+    try {
+      final var zeebeDb = context.getZeebeDb();
+      final var guard =
+          FollowerQueryGuard.open(
+              context.getRaftPartition().getServer(),
+              context.getLogStream().newLogStreamReader(),
+              new DbLastProcessedPositionState(zeebeDb, zeebeDb.createContext()),
+              context.getBrokerCfg().getExperimental().getQueryApi().getMaxFollowerLag());
+      return context
+          .getCommandApiService()
+          .enableFollowerQueries(context.getPartitionId(), context.getQueryService(), guard);
+    } catch (final Exception e) {
+      return CompletableActorFuture.completedExceptionally(e);
+    }
+  }
+
+  private ActorFuture<Void> disableFollowerQueries(final PartitionTransitionContext context) {
+    if (!isFollowerReadsEnabled(context)) {
+      return CompletableActorFuture.completed(null);
+    }
+
+    return context.getCommandApiService().disableFollowerQueries(context.getPartitionId());
+  }
+
+  private boolean isFollowerReadsEnabled(final PartitionTransitionContext context) {
+    final var queryApiCfg = context.getBrokerCfg().getExperimental().getQueryApi();
+    return queryApiCfg.isEnabled() && queryApiCfg.isFollowerReadsEnabled();
+  }
 }
@@ -159,6 +159,10 @@ public final class StreamProcessorTransitionStep implements PartitionTransitionS
         .nodeId(context.getNodeId())
         .commandResponseWriter(context.getCommandApiService().newCommandResponseWriter())
         .maxCommandsInBatch(context.getBrokerCfg().getProcessing().getMaxCommandsInBatch())
+        .setEnableAdaptiveBatching(
+            context.getBrokerCfg().getProcessing().isEnableAdaptiveBatching())
+        .setAdaptiveBatchingTargetLatency(
+            context.getBrokerCfg().getProcessing().getAdaptiveBatchingTargetLatency())
         .setEnableAsyncScheduledTasks(
             context.getBrokerCfg().getProcessing().isEnableAsyncScheduledTasks())
         .setScheduledTaskCheckInterval(
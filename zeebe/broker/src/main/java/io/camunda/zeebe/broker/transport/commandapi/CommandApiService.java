@@ -7,6 +7,9 @@
  */
 package io.camunda.zeebe.broker.transport.commandapi;
 
+import io.camunda.zeebe.broker.transport.queryapi.FollowerQueryGuard;
+import io.camunda.zeebe.engine.state.QueryService;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.stream.api.CommandResponseWriter;
 
 public interface CommandApiService {
@@ -18,4 +21,15 @@ public interface CommandApiService {
   void onPaused(final int partitionId);
 
   void onResumed(final int partitionId);
+
+  /**
+   * Allows the query API to answer queries for the given partition while this broker is a follower
+   * of it. The queries are only served once the partition has become follower, and only as long as
+   * the guard allows it. The guard is owned by the service afterwards.
+   */
+  ActorFuture<Void> enableFollowerQueries(
+      final int partitionId, final QueryService queryService, final FollowerQueryGuard guard);
+
+  /** Stops answering queries for the given partition as a follower, if it did so before. */
+  ActorFuture<Void> disableFollowerQueries(final int partitionId);
 }
@@ -11,6 +11,7 @@ import io.camunda.zeebe.broker.Loggers;
 import io.camunda.zeebe.broker.PartitionListener;
 import io.camunda.zeebe.broker.system.configuration.QueryApiCfg;
 import io.camunda.zeebe.broker.system.monitoring.DiskSpaceUsageListener;
+import io.camunda.zeebe.broker.transport.queryapi.FollowerQueryGuard;
 import io.camunda.zeebe.broker.transport.queryapi.QueryApiRequestHandler;
 import io.camunda.zeebe.engine.state.QueryService;
 import io.camunda.zeebe.logstreams.log.LogStream;
@@ -21,6 +22,7 @@ import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import io.camunda.zeebe.stream.api.CommandResponseWriter;
 import io.camunda.zeebe.transport.RequestType;
 import io.camunda.zeebe.transport.ServerTransport;
+import org.agrona.collections.Int2ObjectHashMap;
 import org.agrona.collections.IntHashSet;
 
 public final class CommandApiServiceImpl extends Actor
@@ -30,6 +32,9 @@ public final class CommandApiServiceImpl extends Actor
   private final CommandApiRequestHandler commandHandler;
   private final QueryApiRequestHandler queryHandler;
   private final IntHashSet leadPartitions = new IntHashSet();
+  private final Int2ObjectHashMap<FollowerQueries> pendingFollowerQueries =
+      new Int2ObjectHashMap<>();
+  private final IntHashSet followerQueryPartitions = new IntHashSet();
   private final ActorSchedulingService scheduler;
 
   public CommandApiServiceImpl(
@@ -59,6 +64,8 @@ public final class CommandApiServiceImpl extends Actor
       removeLeaderHandlers(leadPartition);
     }
     leadPartitions.clear();
+    pendingFollowerQueries.values().forEach(queries -> queries.guard().close());
+    pendingFollowerQueries.clear();
     actor.runOnCompletion(
         commandHandler.closeAsync(),
         (ok, error) -> {
@@ -77,7 +84,11 @@ public final class CommandApiServiceImpl extends Actor
 
   @Override
   public ActorFuture<Void> onBecomingFollower(final int partitionId, final long term) {
-    return removeLeaderHandlersAsync(partitionId);
+    return actor.call(
+        () -> {
+          removeLeaderHandlers(partitionId);
+          installFollowerQueries(partitionId);
+        });
   }
 
   @Override
@@ -113,9 +124,34 @@ public final class CommandApiServiceImpl extends Actor
   private void removeLeaderHandlers(final int partitionId) {
     commandHandler.removePartition(partitionId);
     queryHandler.removePartition(partitionId);
+    followerQueryPartitions.remove(partitionId);
     cleanLeadingPartition(partitionId);
   }
 
+  private void installFollowerQueries(final int partitionId) {
+    final var queries = pendingFollowerQueries.remove(partitionId);
+    if (queries != null) {
+      // the query handler owns the guard from now on, and closes it when the partition is removed
+      followerQueryPartitions.add(partitionId);
+      queryHandler.addFollowerPartition(partitionId, queries.queryService(), queries.guard());
+      serverTransport.subscribe(partitionId, RequestType.QUERY, queryHandler);
+    }
+  }
+
+  private void uninstallFollowerQueries(final int partitionId) {
+    final var pendingQueries = pendingFollowerQueries.remove(partitionId);
+    if (pendingQueries != null) {
+      pendingQueries.guard().close();
+    }
+
+    if (followerQueryPartitions.remove(partitionId)) {
+      queryHandler.removePartition(partitionId);
+      if (!leadPartitions.contains(partitionId)) {
+        serverTransport.unsubscribe(partitionId, RequestType.QUERY);
+      }
+    }
+  }
+
   private void cleanLeadingPartition(final int partitionId) {
     leadPartitions.remove(partitionId);
     removeForPartitionId(partitionId);
@@ -146,6 +182,21 @@ public final class CommandApiServiceImpl extends Actor
     commandHandler.onResumed(partitionId);
   }
 
+  @Override
+  public ActorFuture<Void> enableFollowerQueries(
+      final int partitionId, final QueryService queryService, final FollowerQueryGuard guard) {
+    return actor.call(
+        () -> {
+          uninstallFollowerQueries(partitionId);
+          pendingFollowerQueries.put(partitionId, new FollowerQueries(queryService, guard));
+        });
+  }
+
+  @Override
+  public ActorFuture<Void> disableFollowerQueries(final int partitionId) {
+    return actor.call(() -> uninstallFollowerQueries(partitionId));
+  }
+
   @Override
   public void onDiskSpaceNotAvailable() {
     actor.run(commandHandler::onDiskSpaceNotAvailable);
@@ -155,4 +206,6 @@ public final class CommandApiServiceImpl extends Actor
   public void onDiskSpaceAvailable() {
     actor.run(commandHandler::onDiskSpaceAvailable);
   }
+
+  private record FollowerQueries(QueryService queryService, FollowerQueryGuard guard) {}
 }
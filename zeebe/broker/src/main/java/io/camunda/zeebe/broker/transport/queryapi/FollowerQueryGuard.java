@@ -0,0 +1,101 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.transport.queryapi;
+
+import io.atomix.raft.RaftCommitListener;
+import io.atomix.raft.partition.impl.RaftPartitionServer;
+import io.camunda.zeebe.logstreams.log.LogStreamReader;
+import io.camunda.zeebe.stream.api.state.LastProcessedPositionState;
+import io.camunda.zeebe.util.CloseableSilently;
+
+/**
+ * Bounds the staleness of queries answered by a follower. The state of a follower is only as recent
+ * as the records it has replayed, so queries are only answered as long as the replayed position
+ * does not lag more than a configured number of positions behind the committed log.
+ *
+ * <p>The guard is notified of new commits on the Raft thread, but is otherwise only used by the
+ * query API actor. The committed position is resolved lazily on the next query after a commit, so
+ * that committing entries stays cheap when there are no queries.
+ */
+public final class FollowerQueryGuard implements RaftCommitListener, CloseableSilently {
+  private static final long NO_COMMIT = -1;
+  private static final long UNRESOLVED = Long.MIN_VALUE;
+
+  private final RaftPartitionServer server;
+  private final LogStreamReader committedReader;
+  private final LastProcessedPositionState processedPositionState;
+  private final long maxLag;
+
+  // differs from the resolved index, so that the first query resolves the committed position even
+  // before the guard observed a commit
+  private volatile long commitIndex = NO_COMMIT;
+  private long resolvedCommitIndex = UNRESOLVED;
+  private long committedPosition;
+
+  private FollowerQueryGuard(
+      final RaftPartitionServer server,
+      final LogStreamReader committedReader,
+      final LastProcessedPositionState processedPositionState,
+      final long maxLag) {
+    this.server = server;
+    this.committedReader = committedReader;
+    this.processedPositionState = processedPositionState;
+    this.maxLag = maxLag;
+  }
+
+  /**
+   * Creates a new guard and registers it as commit listener of the given server. The guard must be
+   * closed to unregister it again.
+   */
+  public static FollowerQueryGuard open(
+      final RaftPartitionServer server,
+      final LogStreamReader committedReader,
+      final LastProcessedPositionState processedPositionState,
+      final long maxLag) {
+    final var guard =
+        new FollowerQueryGuard(server, committedReader, processedPositionState, maxLag);
+    server.addCommitListener(guard);
+    return guard;
+  }
+
+  @Override
+  public void onCommit(final long index) {
+    commitIndex = index;
+  }
+
+  /**
+   * @return the number of positions the replayed state lags behind the committed log
+   */
+  public long lag() {
+    final long index = commitIndex;
+    if (index != resolvedCommitIndex) {
+      committedPosition = committedReader.seekToEnd();
+      resolvedCommitIndex = index;
+    }
+
+    final var processedPosition = processedPositionState.getLastSuccessfulProcessedRecordPosition();
+    return Math.max(0, committedPosition - processedPosition);
+  }
+
+  /**
+   * @return true if the replayed state is recent enough to answer queries
+   */
+  public boolean isWithinMaxLag() {
+    return lag() <= maxLag;
+  }
+
+  public long getMaxLag() {
+    return maxLag;
+  }
+
+  @Override
+  public void close() {
+    server.removeCommitListener(this);
+    committedReader.close();
+  }
+}
@@ -30,6 +30,10 @@ import org.agrona.collections.Int2ObjectHashMap;
  * Request handler for ExecuteQueryRequest SBE messages. When successful, it looks up the
  * bpmnProcessId of a process based on the request details. Make sure to set {@link
  * QueryApiCfg#setEnabled(boolean)} to true to enable this functionality.
+ *
+ * <p>Queries are answered by the leader of a partition, and additionally by its followers if {@link
+ * QueryApiCfg#setFollowerReadsEnabled(boolean)} is set, as long as their replayed state is recent
+ * enough; see {@link FollowerQueryGuard}.
  */
 @SuppressWarnings("removal")
 @Deprecated(forRemoval = true, since = "1.2.0")
@@ -39,6 +43,8 @@ public final class QueryApiRequestHandler
       EnumSet.of(ValueType.PROCESS, ValueType.PROCESS_INSTANCE, ValueType.JOB);
 
   private final Map<Integer, QueryService> queryServicePerPartition = new Int2ObjectHashMap<>();
+  private final Map<Integer, FollowerQueryGuard> followerGuardPerPartition =
+      new Int2ObjectHashMap<>();
   private final QueryApiCfg config;
   private final String actorName;
 
@@ -56,14 +62,46 @@ public final class QueryApiRequestHandler
   @Override
   protected void onActorClosing() {
     queryServicePerPartition.clear();
+    followerGuardPerPartition.values().forEach(FollowerQueryGuard::close);
+    followerGuardPerPartition.clear();
   }
 
   public void addPartition(final int partitionId, final QueryService queryService) {
-    actor.run(() -> queryServicePerPartition.put(partitionId, queryService));
+    actor.run(
+        () -> {
+          closeFollowerGuard(partitionId);
+          queryServicePerPartition.put(partitionId, queryService);
+        });
+  }
+
+  /**
+   * Adds a partition for which this broker is a follower. Queries for this partition are only
+   * answered as long as the given guard allows it; the guard is closed when the partition is
+   * removed again.
+   */
+  public void addFollowerPartition(
+      final int partitionId, final QueryService queryService, final FollowerQueryGuard guard) {
+    actor.run(
+        () -> {
+          closeFollowerGuard(partitionId);
+          queryServicePerPartition.put(partitionId, queryService);
+          followerGuardPerPartition.put(partitionId, guard);
+        });
   }
 
   public void removePartition(final int partitionId) {
-    actor.run(() -> queryServicePerPartition.remove(partitionId));
+    actor.run(
+        () -> {
+          queryServicePerPartition.remove(partitionId);
+          closeFollowerGuard(partitionId);
+        });
+  }
+
+  private void closeFollowerGuard(final int partitionId) {
+    final var guard = followerGuardPerPartition.remove(partitionId);
+    if (guard != null) {
+      guard.close();
+    }
   }
 
   @Override
@@ -97,6 +135,17 @@ public final class QueryApiRequestHandler
       return Either.left(errorWriter);
     }
 
+    final var followerGuard = followerGuardPerPartition.get(partitionId);
+    if (followerGuard != null && !followerGuard.isWithinMaxLag()) {
+      errorWriter
+          .errorCode(ErrorCode.PARTITION_LEADER_MISMATCH)
+          .errorMessage(
+              "Expected to query partition %d on a follower which lags at most %d positions behind"
+                  + " the committed log, but it lags %d positions behind; query the leader instead",
+              partitionId, followerGuard.getMaxLag(), followerGuard.lag());
+      return Either.left(errorWriter);
+    }
+
     try {
       return handleQuery(
           queryServicePerPartition.get(partitionId),
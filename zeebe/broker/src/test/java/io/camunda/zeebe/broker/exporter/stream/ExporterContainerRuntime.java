@@ -14,7 +14,15 @@ import io.camunda.zeebe.broker.exporter.stream.ExporterDirector.ExporterInitiali
 import io.camunda.zeebe.broker.system.configuration.ExporterCfg;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
+import io.camunda.zeebe.logstreams.impl.log.LogEntryDescriptor;
+import io.camunda.zeebe.logstreams.impl.log.LoggedEventImpl;
+import io.camunda.zeebe.logstreams.impl.serializer.DataFrameDescriptor;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
 import io.camunda.zeebe.scheduler.Actor;
 import io.camunda.zeebe.scheduler.ActorControl;
 import io.camunda.zeebe.scheduler.ActorScheduler;
@@ -26,6 +34,8 @@ import java.io.File;
 import java.nio.file.Path;
 import java.time.InstantSource;
 import org.agrona.CloseHelper;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 
 /**
  * A small utility class which provides all the required runtime components to unit test exporter
@@ -112,6 +122,54 @@ public final class ExporterContainerRuntime implements CloseableSilently {
     return actor;
   }
 
+  /**
+   * Creates a batch of job events with the given positions, as the exporter director would pass it
+   * to the containers.
+   */
+  static ExporterRecordBatch newBatch(final int partitionId, final long... positions) {
+    final var batch = new ExporterRecordBatch(partitionId, positions.length);
+    final var buffer = new UnsafeBuffer(new byte[1024]);
+    final var event = new LoggedEventImpl();
+    final var metadata =
+        new RecordMetadata()
+            .recordType(RecordType.EVENT)
+            .valueType(ValueType.JOB)
+            .intent(JobIntent.CREATED);
+    final var value = new JobRecord().setType("test");
+
+    for (final long position : positions) {
+      writeEvent(buffer, position, metadata, value);
+      event.wrap(buffer, 0);
+      batch.add(event);
+    }
+
+    batch.wrap();
+    return batch;
+  }
+
+  private static void writeEvent(
+      final MutableDirectBuffer buffer,
+      final long position,
+      final RecordMetadata metadata,
+      final JobRecord value) {
+    final int metadataLength = metadata.getLength();
+    DataFrameDescriptor.setFramedLength(
+        buffer,
+        0,
+        DataFrameDescriptor.framedLength(
+            LogEntryDescriptor.headerLength(metadataLength) + value.getLength()));
+
+    final int entryOffset = DataFrameDescriptor.HEADER_LENGTH;
+    LogEntryDescriptor.setVersion(buffer, entryOffset);
+    LogEntryDescriptor.setPosition(buffer, entryOffset, position);
+    LogEntryDescriptor.setSourceEventPosition(buffer, entryOffset, -1);
+    LogEntryDescriptor.setKey(buffer, entryOffset, position);
+    LogEntryDescriptor.setTimestamp(buffer, entryOffset, System.currentTimeMillis());
+    LogEntryDescriptor.setMetadataLength(buffer, entryOffset, metadataLength);
+    metadata.write(buffer, LogEntryDescriptor.metadataOffset(entryOffset));
+    value.write(buffer, LogEntryDescriptor.valueOffset(entryOffset, metadataLength));
+  }
+
   private ZeebeDb<ZbColumnFamilies> createZeebeDb(final Path path) {
     return DefaultZeebeDbFactory.defaultFactory().createDb(path.toFile());
   }
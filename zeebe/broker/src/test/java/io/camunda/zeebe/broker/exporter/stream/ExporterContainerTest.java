@@ -8,23 +8,21 @@
 package io.camunda.zeebe.broker.exporter.stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
 
 import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
 import io.camunda.zeebe.broker.exporter.repo.ExporterLoadException;
 import io.camunda.zeebe.broker.exporter.stream.ExporterDirector.ExporterInitializationInfo;
 import io.camunda.zeebe.exporter.api.Exporter;
+import io.camunda.zeebe.exporter.api.RecordBatch;
 import io.camunda.zeebe.exporter.api.context.Context;
 import io.camunda.zeebe.exporter.api.context.Controller;
-import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.ValueType;
-import io.camunda.zeebe.stream.api.records.TypedRecord;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.prometheus.client.CollectorRegistry;
 import java.nio.file.Path;
 import java.util.Map;
 import org.awaitility.Awaitility;
@@ -52,6 +50,7 @@ final class ExporterContainerTest {
     private Controller controller;
     private Record<?> record;
     private boolean closed;
+    private long backpressurePosition = -1;
 
     public Context getContext() {
       return context;
@@ -69,6 +68,10 @@ final class ExporterContainerTest {
       return closed;
     }
 
+    public void signalBackpressureOn(final long position) {
+      backpressurePosition = position;
+    }
+
     @Override
     public void configure(final Context context) throws Exception {
       this.context = context;
@@ -86,6 +89,10 @@ final class ExporterContainerTest {
 
     @Override
     public void export(final Record<?> record) {
+      if (record.getPosition() == backpressurePosition) {
+        controller.signalBackpressure();
+        return;
+      }
       this.record = record;
     }
   }
@@ -99,6 +106,16 @@ final class ExporterContainerTest {
     }
   }
 
+  public static final class FakeBatchExporter extends FakeExporter {
+    private int exportedBatches;
+
+    @Override
+    public void exportBatch(final RecordBatch batch) {
+      exportedBatches++;
+      batch.forEach(this::export);
+    }
+  }
+
   private static final class AlwaysRejectingFilter implements Context.RecordFilter {
 
     @Override
@@ -192,12 +209,8 @@ final class ExporterContainerTest {
       runtime.getState().setPosition(EXPORTER_ID, 0xCAFE);
       exporterContainer.initMetadata();
 
-      final var mockedRecord = mock(TypedRecord.class);
-      when(mockedRecord.getPosition()).thenReturn(1L);
-      final var recordMetadata = new RecordMetadata();
-
       // when
-      exporterContainer.exportRecord(recordMetadata, mockedRecord);
+      exporterContainer.exportBatch(newBatch(1), -1);
 
       // then
       assertThat(exporter.getRecord()).isNull();
@@ -210,16 +223,12 @@ final class ExporterContainerTest {
       runtime.getState().setPosition(EXPORTER_ID, 0);
       exporterContainer.initMetadata();
 
-      final var mockedRecord = mock(TypedRecord.class);
-      when(mockedRecord.getPosition()).thenReturn(1L);
-      final var recordMetadata = new RecordMetadata();
-
       // when
-      exporterContainer.exportRecord(recordMetadata, mockedRecord);
+      exporterContainer.exportBatch(newBatch(1), -1);
 
       // then
       assertThat(exporter.getRecord()).isNotNull();
-      assertThat(exporter.getRecord()).isEqualTo(mockedRecord);
+      assertThat(exporter.getRecord().getPosition()).isEqualTo(1);
       assertThat(exporterContainer.getLastUnacknowledgedPosition()).isEqualTo(1);
       assertThat(exporterContainer.getPosition()).isZero();
     }
@@ -231,23 +240,61 @@ final class ExporterContainerTest {
       runtime.getState().setPosition(EXPORTER_ID, 0);
       exporterContainer.initMetadata();
 
-      final var mockedRecord = mock(TypedRecord.class);
-      when(mockedRecord.getPosition()).thenReturn(1L);
-      final var recordMetadata = new RecordMetadata();
-      exporterContainer.exportRecord(recordMetadata, mockedRecord);
+      exporterContainer.exportBatch(newBatch(1), -1);
 
       // when
-      final var secondRecord = mock(TypedRecord.class);
-      when(secondRecord.getPosition()).thenReturn(2L);
-      exporterContainer.exportRecord(recordMetadata, secondRecord);
+      exporterContainer.exportBatch(newBatch(2, 3), -1);
 
       // then
       assertThat(exporter.getRecord()).isNotNull();
-      assertThat(exporter.getRecord()).isEqualTo(secondRecord);
-      assertThat(exporterContainer.getLastUnacknowledgedPosition()).isEqualTo(2);
+      assertThat(exporter.getRecord().getPosition()).isEqualTo(3);
+      assertThat(exporterContainer.getLastUnacknowledgedPosition()).isEqualTo(3);
       assertThat(exporterContainer.getPosition()).isZero();
     }
 
+    @Test
+    void shouldNotConsumeRecordOnBackpressure() throws Exception {
+      // given
+      exporterContainer.configureExporter();
+      exporterContainer.openExporter();
+      runtime.getState().setPosition(EXPORTER_ID, 0);
+      exporterContainer.initMetadata();
+      exporter.signalBackpressureOn(2);
+
+      // when
+      final var exported = exporterContainer.exportBatch(newBatch(1, 2, 3), -1);
+
+      // then
+      assertThat(exported).isFalse();
+      assertThat(exporterContainer.isBackpressured()).isTrue();
+      assertThat(exporterContainer.getBatchConsumedPosition()).isEqualTo(1);
+      assertThat(exporterContainer.getLastUnacknowledgedPosition()).isEqualTo(1);
+      assertThat(exporter.getRecord().getPosition()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldResumeBatchAfterBackpressure() throws Exception {
+      // given
+      exporterContainer.configureExporter();
+      exporterContainer.openExporter();
+      runtime.getState().setPosition(EXPORTER_ID, 0);
+      exporterContainer.initMetadata();
+      final var batch = newBatch(1, 2, 3);
+      exporter.signalBackpressureOn(2);
+      exporterContainer.exportBatch(batch, -1);
+      exporter.signalBackpressureOn(-1);
+
+      // when
+      final var exported =
+          exporterContainer.exportBatch(batch, exporterContainer.getBatchConsumedPosition());
+
+      // then
+      assertThat(exported).isTrue();
+      assertThat(exporterContainer.isBackpressured()).isFalse();
+      assertThat(exporterContainer.getLastUnacknowledgedPosition()).isEqualTo(3);
+      assertThat(exporter.getRecord().getPosition()).isEqualTo(3);
+    }
+
     @Test
     void shouldUpdateExporterPosition() throws Exception {
       // given
@@ -256,13 +303,10 @@ final class ExporterContainerTest {
       exporterContainer.initMetadata();
       exporterContainer.openExporter();
 
-      final var mockedRecord = mock(TypedRecord.class);
-      when(mockedRecord.getPosition()).thenReturn(1L);
-      final var recordMetadata = new RecordMetadata();
-      exporterContainer.exportRecord(recordMetadata, mockedRecord);
+      exporterContainer.exportBatch(newBatch(1), -1);
 
       // when
-      exporterContainer.updateLastExportedRecordPosition(mockedRecord.getPosition());
+      exporterContainer.updateLastExportedRecordPosition(1);
       awaitPreviousCall();
 
       // then
@@ -279,10 +323,7 @@ final class ExporterContainerTest {
       exporterContainer.initMetadata();
       exporterContainer.openExporter();
 
-      final var mockedRecord = mock(TypedRecord.class);
-      when(mockedRecord.getPosition()).thenReturn(1L);
-      final var recordMetadata = new RecordMetadata();
-      exporterContainer.exportRecord(recordMetadata, mockedRecord);
+      exporterContainer.exportBatch(newBatch(1), -1);
 
       // when
       exporterContainer.updateLastExportedRecordPosition(-1);
@@ -302,12 +343,7 @@ final class ExporterContainerTest {
       exporterContainer.initMetadata();
       exporterContainer.openExporter();
 
-      final var mockedRecord = mock(TypedRecord.class);
-      when(mockedRecord.getPosition()).thenReturn(1L);
-      final var recordMetadata = new RecordMetadata();
-      exporterContainer.exportRecord(recordMetadata, mockedRecord);
-      when(mockedRecord.getPosition()).thenReturn(2L);
-      exporterContainer.exportRecord(recordMetadata, mockedRecord);
+      exporterContainer.exportBatch(newBatch(1, 2), -1);
 
       // when
       exporterContainer.updateLastExportedRecordPosition(2);
@@ -329,13 +365,10 @@ final class ExporterContainerTest {
       exporterContainer.openExporter();
       exporterContainer.softPauseExporter();
 
-      final var mockedRecord = mock(TypedRecord.class);
-      when(mockedRecord.getPosition()).thenReturn(1L);
-      final var recordMetadata = new RecordMetadata();
-      exporterContainer.exportRecord(recordMetadata, mockedRecord);
+      exporterContainer.exportBatch(newBatch(1), -1);
 
       // when
-      exporterContainer.updateLastExportedRecordPosition(mockedRecord.getPosition());
+      exporterContainer.updateLastExportedRecordPosition(1);
       awaitPreviousCall();
 
       // then
@@ -352,13 +385,10 @@ final class ExporterContainerTest {
       exporterContainer.openExporter();
       exporterContainer.softPauseExporter();
 
-      final var mockedRecord = mock(TypedRecord.class);
-      when(mockedRecord.getPosition()).thenReturn(1L);
       final byte[] metadata = "metadata".getBytes();
-      final var recordMetadata = new RecordMetadata().requestId(1L);
-      exporterContainer.exportRecord(recordMetadata, mockedRecord);
+      exporterContainer.exportBatch(newBatch(1), -1);
 
-      exporterContainer.updateLastExportedRecordPosition(mockedRecord.getPosition(), metadata);
+      exporterContainer.updateLastExportedRecordPosition(1, metadata);
       awaitPreviousCall();
 
       assertThat(exporterContainer.getLastUnacknowledgedPosition()).isEqualTo(1);
@@ -383,12 +413,8 @@ final class ExporterContainerTest {
       runtime.getState().setPosition(EXPORTER_ID, 0);
       exporterContainer.initMetadata();
 
-      final var mockedRecord = mock(TypedRecord.class);
-      when(mockedRecord.getPosition()).thenReturn(1L);
-      final var recordMetadata = new RecordMetadata();
-
       // when
-      exporterContainer.exportRecord(recordMetadata, mockedRecord);
+      exporterContainer.exportBatch(newBatch(1), -1);
 
       // then
       assertThat(exporter.getRecord()).isNull();
@@ -403,17 +429,13 @@ final class ExporterContainerTest {
       runtime.getState().setPosition(EXPORTER_ID, 0);
       exporterContainer.initMetadata();
 
-      final var mockedRecord = mock(TypedRecord.class);
-      when(mockedRecord.getPosition()).thenReturn(1L);
-      final var recordMetadata = new RecordMetadata();
-      exporterContainer.exportRecord(recordMetadata, mockedRecord);
-      exporterContainer.updateLastExportedRecordPosition(mockedRecord.getPosition());
+      exporterContainer.exportBatch(newBatch(1), -1);
+      exporterContainer.updateLastExportedRecordPosition(1);
       awaitPreviousCall();
 
       // when
       exporter.getContext().setFilter(new AlwaysRejectingFilter());
-      when(mockedRecord.getPosition()).thenReturn(2L);
-      exporterContainer.exportRecord(recordMetadata, mockedRecord);
+      exporterContainer.exportBatch(newBatch(2), -1);
 
       // then
       assertThat(exporter.getRecord()).isNotNull();
@@ -429,20 +451,15 @@ final class ExporterContainerTest {
       runtime.getState().setPosition(EXPORTER_ID, 0);
       exporterContainer.initMetadata();
 
-      final var firstRecord = mock(TypedRecord.class);
-      when(firstRecord.getPosition()).thenReturn(1L);
-      final var recordMetadata = new RecordMetadata();
-      exporterContainer.exportRecord(recordMetadata, firstRecord);
+      exporterContainer.exportBatch(newBatch(1), -1);
 
       // when
-      final var secondRecord = mock(TypedRecord.class);
-      when(secondRecord.getPosition()).thenReturn(2L);
       exporter.getContext().setFilter(new AlwaysRejectingFilter());
-      exporterContainer.exportRecord(recordMetadata, secondRecord);
+      exporterContainer.exportBatch(newBatch(2), -1);
 
       // then
       assertThat(exporter.getRecord()).isNotNull();
-      assertThat(exporter.getRecord()).isEqualTo(firstRecord);
+      assertThat(exporter.getRecord().getPosition()).isEqualTo(1);
       assertThat(exporterContainer.getLastUnacknowledgedPosition()).isEqualTo(1);
       assertThat(exporterContainer.getPosition()).isZero();
     }
@@ -539,6 +556,10 @@ final class ExporterContainerTest {
       assertThat(readMetadata).isPresent().hasValue(metadata);
     }
 
+    private ExporterRecordBatch newBatch(final long... positions) {
+      return ExporterContainerRuntime.newBatch(PARTITION_ID, positions);
+    }
+
     private void awaitPreviousCall() {
       // call is enqueued in queue and will be run after the previous call
       // when we await the call we can be sure that the previous call is also done
@@ -546,6 +567,70 @@ final class ExporterContainerTest {
     }
   }
 
+  @Nested
+  class ExportingDuration {
+
+    private static final String RECORD_EXPORTER_ID = "recordExporter";
+    private static final String BATCH_EXPORTER_ID = "batchExporter";
+
+    @BeforeEach
+    void beforeEach(final @TempDir Path storagePath) {
+      runtime = new ExporterContainerRuntime(storagePath);
+    }
+
+    @Test
+    void shouldMeasureExportingDurationOfEachRecord() throws Exception {
+      // given
+      final var container = newContainer(RECORD_EXPORTER_ID, FakeExporter.class);
+      final double exportedRecords = exportingDurationCount(RECORD_EXPORTER_ID);
+
+      // when
+      container.exportBatch(ExporterContainerRuntime.newBatch(PARTITION_ID, 1, 2, 3), -1);
+
+      // then
+      assertThat(((FakeExporter) container.getExporter()).getRecord().getPosition()).isEqualTo(3);
+      assertThat(exportingDurationCount(RECORD_EXPORTER_ID)).isEqualTo(exportedRecords + 3);
+    }
+
+    @Test
+    void shouldPassBatchToExporterWhichExportsBatches() throws Exception {
+      // given
+      final var container = newContainer(BATCH_EXPORTER_ID, FakeBatchExporter.class);
+      final double exportedRecords = exportingDurationCount(BATCH_EXPORTER_ID);
+
+      // when
+      container.exportBatch(ExporterContainerRuntime.newBatch(PARTITION_ID, 1, 2, 3), -1);
+
+      // then - the duration of each record is unknown
+      final var batchExporter = (FakeBatchExporter) container.getExporter();
+      assertThat(batchExporter.exportedBatches).isOne();
+      assertThat(batchExporter.getRecord().getPosition()).isEqualTo(3);
+      assertThat(exportingDurationCount(BATCH_EXPORTER_ID)).isEqualTo(exportedRecords);
+    }
+
+    private ExporterContainer newContainer(
+        final String exporterId, final Class<? extends Exporter> exporterClass) throws Exception {
+      final var descriptor =
+          runtime
+              .getRepository()
+              .validateAndAddExporterDescriptor(exporterId, exporterClass, Map.of());
+      final var container = runtime.newContainer(descriptor, PARTITION_ID);
+      container.configureExporter();
+      runtime.getState().setPosition(exporterId, 0);
+      container.initMetadata();
+      return container;
+    }
+
+    private double exportingDurationCount(final String exporterId) {
+      final Double count =
+          CollectorRegistry.defaultRegistry.getSampleValue(
+              "zeebe_exporter_exporting_duration_count",
+              new String[] {"partition", "exporter", "valueType"},
+              new String[] {"1", exporterId, ValueType.JOB.name()});
+      return count == null ? 0 : count;
+    }
+  }
+
   @Nested
   class WithInitializationInfo {
     private static final String OTHER_EXPORTER_ID = "otherExporter";
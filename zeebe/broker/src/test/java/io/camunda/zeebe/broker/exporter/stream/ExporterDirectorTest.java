@@ -43,6 +43,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
@@ -184,6 +185,42 @@ public final class ExporterDirectorTest {
     assertThat(state.getPosition(EXPORTER_ID_2)).isEqualTo(-1L);
   }
 
+  @Test
+  public void shouldUpdatePositionWhenLastRecordsOfBatchAreSkipped() {
+    // given
+    final ControlledTestExporter filteringExporter = exporters.get(0);
+    final ControlledTestExporter tailingExporter = exporters.get(1);
+    tailingExporter
+        .onConfigure(
+            withFilter(
+                List.of(RecordType.COMMAND, RecordType.EVENT), List.of(ValueType.DEPLOYMENT)))
+        .shouldAutoUpdatePosition(false);
+    filteringExporter
+        .onConfigure(withFilter(List.of(RecordType.COMMAND), List.of(ValueType.DEPLOYMENT)))
+        .shouldAutoUpdatePosition(true);
+
+    // accepted by both
+    rule.writeCommand(DeploymentIntent.CREATE, new DeploymentRecord());
+    // skipped only by filteringExporter, at the end of the batch
+    final long skippedRecordPosition =
+        rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+
+    // when
+    startExporterDirector(exporterDescriptors);
+    final ExportersState state = rule.getExportersState();
+
+    // then
+    Awaitility.await("director has read all records until now")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(() -> assertThat(tailingExporter.getExportedRecords()).hasSize(2));
+    Awaitility.await("filteringExporter has acknowledged the skipped record")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () -> assertThat(state.getPosition(EXPORTER_ID_1)).isEqualTo(skippedRecordPosition));
+    assertThat(filteringExporter.getExportedRecords()).hasSize(1);
+    assertThat(state.getPosition(EXPORTER_ID_2)).isEqualTo(-1L);
+  }
+
   @Test
   public void shouldRetryOpenCallIfFails() throws Exception {
     // given, when
@@ -455,6 +492,66 @@ public final class ExporterDirectorTest {
                     .containsExactly(eventPosition1, eventPosition2));
   }
 
+  @Test
+  public void shouldNotExportRecordsAgainWhenRetryingBatch() {
+    // given
+    final long eventPosition1 = writeEvent();
+    final long eventPosition2 = writeEvent();
+    final long eventPosition3 = writeEvent();
+    final AtomicLong failCount = new AtomicLong(1);
+    exporters
+        .get(0)
+        .onExport(
+            record -> {
+              if (record.getPosition() == eventPosition2 && failCount.getAndDecrement() > 0) {
+                throw new RuntimeException("Export failed (expected)");
+              }
+            });
+
+    // when
+    startExporterDirector(exporterDescriptors);
+
+    // then
+    doRepeatedly(() -> rule.getClock().addTime(Duration.ofSeconds(1)))
+        .until((r) -> exporters.get(1).getExportedRecords().size() == 3);
+
+    assertThat(exporters.get(0).getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactly(eventPosition1, eventPosition2, eventPosition3);
+    assertThat(exporters.get(1).getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactly(eventPosition1, eventPosition2, eventPosition3);
+  }
+
+  @Test
+  public void shouldRetryExportingShortlyOnBackpressure() {
+    // given
+    final long eventPosition1 = writeEvent();
+    final long eventPosition2 = writeEvent();
+    final long eventPosition3 = writeEvent();
+    final AtomicLong backpressureCount = new AtomicLong(3);
+    final List<Long> exportedPositions = new CopyOnWriteArrayList<>();
+    final ControlledTestExporter exporter = exporters.get(0);
+    exporter.onExport(
+        record -> {
+          if (record.getPosition() == eventPosition2 && backpressureCount.getAndDecrement() > 0) {
+            exporter.getController().signalBackpressure();
+          } else {
+            exportedPositions.add(record.getPosition());
+          }
+        });
+
+    // when
+    startExporterDirector(exporterDescriptors);
+
+    // then - the batch is retried after a short delay, and not with the backoff of failures
+    doRepeatedly(() -> rule.getClock().addTime(Duration.ofMillis(10)))
+        .until((r) -> exporters.get(1).getExportedRecords().size() == 3);
+
+    assertThat(exportedPositions).containsExactly(eventPosition1, eventPosition2, eventPosition3);
+    assertThat(backpressureCount).hasNegativeValue();
+  }
+
   @Test
   public void shouldExecuteScheduledTask() throws Exception {
     // given
@@ -8,17 +8,13 @@
 package io.camunda.zeebe.broker.exporter.stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
 
 import io.camunda.zeebe.broker.exporter.repo.ExporterLoadException;
 import io.camunda.zeebe.broker.exporter.stream.ExporterDirector.ExporterInitializationInfo;
 import io.camunda.zeebe.exporter.api.Exporter;
 import io.camunda.zeebe.exporter.api.context.Context;
 import io.camunda.zeebe.exporter.api.context.Controller;
-import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.record.Record;
-import io.camunda.zeebe.stream.api.records.TypedRecord;
 import io.camunda.zeebe.util.jar.ExternalJarClassLoader;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.File;
@@ -112,10 +108,8 @@ final class ExternalExporterContainerTest {
     final var container = runtime.newContainer(descriptor, 0);
 
     // when
-    final var record = mock(TypedRecord.class);
     // set a high position to ensure we export it
-    when(record.getPosition()).thenReturn(Long.MAX_VALUE);
-    container.exportRecord(mock(RecordMetadata.class), record);
+    container.exportBatch(ExporterContainerRuntime.newBatch(0, Long.MAX_VALUE), -1);
 
     // then
     final var exporterInstance = (TclExporter) container.getExporter();
@@ -10,6 +10,7 @@ package io.camunda.zeebe.broker.system.configuration;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
@@ -80,6 +81,61 @@ final class ProcessingCfgTest {
         .hasMessageContaining("maxCommandsInBatch must be >= 1");
   }
 
+  @Test
+  void shouldDisableAdaptiveBatchingByDefault() {
+    // given
+    final var cfg = new ProcessingCfg();
+
+    // when
+    final var enabled = cfg.isEnableAdaptiveBatching();
+    final var targetLatency = cfg.getAdaptiveBatchingTargetLatency();
+
+    // then
+    assertThat(enabled).isFalse();
+    assertThat(targetLatency).isEqualTo(Duration.ofMillis(25));
+  }
+
+  @Test
+  void shouldSetAdaptiveBatchingFromConfig() {
+    // given
+    final var cfg =
+        TestConfigReader.readConfig("processing-cfg", Collections.emptyMap()).getProcessing();
+
+    // when
+    final var enabled = cfg.isEnableAdaptiveBatching();
+    final var targetLatency = cfg.getAdaptiveBatchingTargetLatency();
+
+    // then
+    assertThat(enabled).isTrue();
+    assertThat(targetLatency).isEqualTo(Duration.ofMillis(50));
+  }
+
+  @Test
+  void shouldSetAdaptiveBatchingTargetLatencyFromEnvironment() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.adaptiveBatchingTargetLatency", "10ms");
+    final var cfg = TestConfigReader.readConfig("processing-cfg", environment).getProcessing();
+
+    // when
+    final var targetLatency = cfg.getAdaptiveBatchingTargetLatency();
+
+    // then
+    assertThat(targetLatency).isEqualTo(Duration.ofMillis(10));
+  }
+
+  @Test
+  void shouldRejectInvalidAdaptiveBatchingTargetLatency() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.adaptiveBatchingTargetLatency", "0ms");
+
+    // then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("processing-cfg", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("adaptiveBatchingTargetLatency must be positive");
+  }
+
   @Test
   void shouldEnableAsyncScheduledTasksByDefault() {
     // given
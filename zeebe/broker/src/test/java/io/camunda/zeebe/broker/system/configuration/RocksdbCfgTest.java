@@ -77,6 +77,7 @@ public final class RocksdbCfgTest {
     assertThat(rocksDbConfiguration.getMinWriteBufferNumberToMerge()).isEqualTo(3);
     assertThat(rocksDbConfiguration.getIoRateBytesPerSecond()).isZero();
     assertThat(rocksDbConfiguration.isWalDisabled()).isTrue();
+    assertThat(rocksDbConfiguration.getReadCacheSize()).isZero();
   }
 
   @Test
@@ -285,4 +286,29 @@ public final class RocksdbCfgTest {
     // then
     assertThat(rocksdb.isDisableWal()).isTrue();
   }
+
+  @Test
+  public void shouldSetReadCacheSizeViaConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.getReadCacheSize()).isEqualTo(DataSize.ofMegabytes(4));
+    assertThat(rocksdb.createRocksDbConfiguration().getReadCacheSize())
+        .isEqualTo(DataSize.ofMegabytes(4).toBytes());
+  }
+
+  @Test
+  public void shouldSetReadCacheSizeViaEnvironmentVariables() {
+    // given
+    environment.put("zeebe.broker.experimental.rocksdb.readCacheSize", "16MB");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("rocksdb-cfg", environment);
+    final var rocksdb = cfg.getExperimental().getRocksdb();
+
+    // then
+    assertThat(rocksdb.getReadCacheSize()).isEqualTo(DataSize.ofMegabytes(16));
+  }
 }
@@ -63,6 +63,7 @@ public class TestPartitionTransitionContext implements PartitionTransitionContex
   private ExporterRepository exporterRepository;
   private AtomixLogStorage logStorage;
   private BrokerCfg brokerCfg;
+  private CommandApiService commandApiService;
   private AsyncSnapshotDirector snapshotDirector;
   private QueryService queryService;
   private ConcurrencyControl concurrencyControl;
@@ -372,7 +373,11 @@ public class TestPartitionTransitionContext implements PartitionTransitionContex
 
   @Override
   public CommandApiService getCommandApiService() {
-    return null;
+    return commandApiService;
+  }
+
+  public void setCommandApiService(final CommandApiService commandApiService) {
+    this.commandApiService = commandApiService;
   }
 
   @Override
@@ -8,12 +8,24 @@
 package io.camunda.zeebe.broker.system.partitions.impl.steps;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import io.atomix.raft.RaftServer.Role;
+import io.atomix.raft.partition.RaftPartition;
+import io.camunda.zeebe.broker.system.configuration.BrokerCfg;
 import io.camunda.zeebe.broker.system.partitions.TestPartitionTransitionContext;
+import io.camunda.zeebe.broker.transport.commandapi.CommandApiService;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.engine.state.QueryService;
+import io.camunda.zeebe.logstreams.log.LogStream;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -27,6 +39,8 @@ class QueryServicePartitionTransitionStepTest {
 
   private final ZeebeDb zeebeDb = mock(ZeebeDb.class);
   private final QueryService queryServiceFromPrevRole = mock(QueryService.class);
+  private final CommandApiService commandApiService = mock(CommandApiService.class);
+  private final BrokerCfg brokerCfg = new BrokerCfg();
 
   private QueryServicePartitionTransitionStep step;
 
@@ -34,6 +48,14 @@ class QueryServicePartitionTransitionStepTest {
   void setup() {
 
     transitionContext.setZeebeDb(zeebeDb);
+    transitionContext.setBrokerCfg(brokerCfg);
+    transitionContext.setCommandApiService(commandApiService);
+    transitionContext.setRaftPartition(mock(RaftPartition.class, RETURNS_DEEP_STUBS));
+    transitionContext.setLogStream(mock(LogStream.class));
+    when(commandApiService.enableFollowerQueries(anyInt(), any(), any()))
+        .thenReturn(CompletableActorFuture.completed(null));
+    when(commandApiService.disableFollowerQueries(anyInt()))
+        .thenReturn(CompletableActorFuture.completed(null));
     step = new QueryServicePartitionTransitionStep();
   }
 
@@ -93,6 +115,56 @@ class QueryServicePartitionTransitionStepTest {
     assertThat(transitionContext.getQueryService()).isNull();
   }
 
+  @ParameterizedTest
+  @EnumSource(
+      value = Role.class,
+      names = {"FOLLOWER", "LEADER", "CANDIDATE"})
+  void shouldEnableFollowerQueriesWhenTransitioningToFollower(final Role currentRole) {
+    // given
+    enableFollowerReads();
+    initializeContext(currentRole);
+
+    // when
+    transitionTo(Role.FOLLOWER);
+
+    // then
+    verify(commandApiService)
+        .enableFollowerQueries(
+            eq(transitionContext.getPartitionId()), eq(transitionContext.getQueryService()), any());
+  }
+
+  @ParameterizedTest
+  @EnumSource(
+      value = Role.class,
+      names = {"LEADER", "CANDIDATE", "INACTIVE"})
+  void shouldDisableFollowerQueriesWhenTransitioningFromFollower(final Role targetRole) {
+    // given
+    enableFollowerReads();
+    initializeContext(Role.FOLLOWER);
+
+    // when
+    transitionTo(targetRole);
+
+    // then
+    verify(commandApiService).disableFollowerQueries(transitionContext.getPartitionId());
+    verify(commandApiService, never()).enableFollowerQueries(anyInt(), any(), any());
+  }
+
+  @ParameterizedTest
+  @EnumSource(
+      value = Role.class,
+      names = {"FOLLOWER", "LEADER", "CANDIDATE"})
+  void shouldNotEnableFollowerQueriesIfFollowerReadsAreDisabled(final Role currentRole) {
+    // given
+    initializeContext(currentRole);
+
+    // when
+    transitionTo(Role.FOLLOWER);
+
+    // then
+    verify(commandApiService, never()).enableFollowerQueries(anyInt(), any(), any());
+  }
+
   private static Stream<Arguments> provideTransitionsThatShouldDoNothing() {
     return Stream.of(
         Arguments.of(Role.CANDIDATE, Role.FOLLOWER),
@@ -123,6 +195,11 @@ class QueryServicePartitionTransitionStepTest {
         Arguments.of(Role.CANDIDATE, Role.INACTIVE));
   }
 
+  private void enableFollowerReads() {
+    brokerCfg.getExperimental().getQueryApi().setEnabled(true);
+    brokerCfg.getExperimental().getQueryApi().setFollowerReadsEnabled(true);
+  }
+
   private void initializeContext(final Role currentRole) {
     transitionContext.setCurrentRole(currentRole);
     if (currentRole != null && currentRole != Role.INACTIVE) {
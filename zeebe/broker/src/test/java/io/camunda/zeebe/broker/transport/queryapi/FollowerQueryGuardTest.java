@@ -0,0 +1,84 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.transport.queryapi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.atomix.raft.partition.impl.RaftPartitionServer;
+import io.camunda.zeebe.logstreams.log.LogStreamReader;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+final class FollowerQueryGuardTest {
+
+  private final RaftPartitionServer server = mock(RaftPartitionServer.class);
+  private final LogStreamReader reader = mock(LogStreamReader.class);
+  private final AtomicLong processedPosition = new AtomicLong();
+
+  @Test
+  void shouldRegisterAsCommitListener() {
+    // when
+    final var guard = FollowerQueryGuard.open(server, reader, processedPosition::get, 10);
+
+    // then
+    verify(server).addCommitListener(guard);
+  }
+
+  @Test
+  void shouldComputeLagBehindCommittedPosition() {
+    // given
+    when(reader.seekToEnd()).thenReturn(100L);
+    processedPosition.set(80);
+    final var guard = FollowerQueryGuard.open(server, reader, processedPosition::get, 10);
+
+    // when - then
+    assertThat(guard.lag()).isEqualTo(20);
+    assertThat(guard.isWithinMaxLag()).isFalse();
+
+    processedPosition.set(95);
+    assertThat(guard.lag()).isEqualTo(5);
+    assertThat(guard.isWithinMaxLag()).isTrue();
+  }
+
+  @Test
+  void shouldOnlyResolveCommittedPositionAfterCommit() {
+    // given
+    when(reader.seekToEnd()).thenReturn(100L, 200L);
+    processedPosition.set(100);
+    final var guard = FollowerQueryGuard.open(server, reader, processedPosition::get, 10);
+    guard.onCommit(1);
+    guard.lag();
+
+    // when
+    final var lagWithoutCommit = guard.lag();
+    guard.onCommit(2);
+    final var lagAfterCommit = guard.lag();
+
+    // then
+    assertThat(lagWithoutCommit).isZero();
+    assertThat(lagAfterCommit).isEqualTo(100);
+    verify(reader, times(2)).seekToEnd();
+  }
+
+  @Test
+  void shouldUnregisterAndCloseReaderOnClose() {
+    // given
+    final var guard = FollowerQueryGuard.open(server, reader, processedPosition::get, 10);
+
+    // when
+    guard.close();
+
+    // then
+    verify(server).removeCommitListener(guard);
+    verify(reader).close();
+  }
+}
@@ -8,11 +8,14 @@
 package io.camunda.zeebe.broker.transport.queryapi;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import io.atomix.raft.partition.impl.RaftPartitionServer;
 import io.camunda.zeebe.broker.system.configuration.QueryApiCfg;
 import io.camunda.zeebe.engine.state.QueryService;
 import io.camunda.zeebe.engine.state.QueryService.ClosedServiceException;
+import io.camunda.zeebe.logstreams.log.LogStreamReader;
 import io.camunda.zeebe.protocol.impl.encoding.ErrorResponse;
 import io.camunda.zeebe.protocol.impl.encoding.ExecuteQueryRequest;
 import io.camunda.zeebe.protocol.impl.encoding.ExecuteQueryResponse;
@@ -268,6 +271,59 @@ final class QueryApiRequestHandlerTest {
         .isEqualTo("OneProcessToFindThem");
   }
 
+  @DisplayName("should respond with bpmnProcessId when follower is within max lag")
+  @Test
+  void followerWithinMaxLag() throws ClosedServiceException {
+    // given
+    final QueryApiRequestHandler sut = createQueryApiRequestHandler(true);
+    final var bpmnProcessId = BufferUtil.wrapString("OneProcessToFindThem");
+    final var queryService = mock(QueryService.class);
+    sut.addFollowerPartition(1, queryService, createFollowerGuard(100, 95, 10));
+    when(queryService.getBpmnProcessIdForJob(1)).thenReturn(Optional.of(bpmnProcessId));
+
+    // when
+    final Either<ErrorResponse, ExecuteQueryResponse> response =
+        new AsyncExecuteQueryRequestSender(sut)
+            .sendRequest(
+                new ExecuteQueryRequest().setPartitionId(1).setKey(1).setValueType(ValueType.JOB))
+            .join();
+
+    // then
+    EitherAssert.assertThat(response)
+        .isRight()
+        .extracting(Either::get)
+        .extracting(ExecuteQueryResponse::getBpmnProcessId)
+        .isEqualTo("OneProcessToFindThem");
+  }
+
+  @DisplayName("should respond with PARTITION_LEADER_MISMATCH when follower lags too far behind")
+  @Test
+  void laggingFollower() {
+    // given
+    final QueryApiRequestHandler sut = createQueryApiRequestHandler(true);
+    final var queryService = mock(QueryService.class);
+    sut.addFollowerPartition(1, queryService, createFollowerGuard(100, 50, 10));
+
+    // when
+    final Either<ErrorResponse, ExecuteQueryResponse> response =
+        new AsyncExecuteQueryRequestSender(sut)
+            .sendRequest(
+                new ExecuteQueryRequest().setPartitionId(1).setKey(1).setValueType(ValueType.JOB))
+            .join();
+
+    // then
+    EitherAssert.assertThat(response)
+        .isLeft()
+        .extracting(Either::getLeft)
+        .extracting(
+            ErrorResponse::getErrorCode, error -> BufferUtil.bufferAsString(error.getErrorData()))
+        .containsExactly(
+            ErrorCode.PARTITION_LEADER_MISMATCH,
+            "Expected to query partition 1 on a follower which lags at most 10 positions behind the"
+                + " committed log, but it lags 50 positions behind; query the leader instead");
+    verifyNoInteractions(queryService);
+  }
+
   @DisplayName("should respond with bpmnProcessId when process instance found")
   @Test
   void processInstanceFound() throws ClosedServiceException {
@@ -315,6 +371,14 @@ final class QueryApiRequestHandlerTest {
         .contains(ErrorCode.MALFORMED_REQUEST);
   }
 
+  private FollowerQueryGuard createFollowerGuard(
+      final long committedPosition, final long processedPosition, final long maxLag) {
+    final var reader = mock(LogStreamReader.class);
+    when(reader.seekToEnd()).thenReturn(committedPosition);
+    return FollowerQueryGuard.open(
+        mock(RaftPartitionServer.class), reader, () -> processedPosition, maxLag);
+  }
+
   private QueryApiRequestHandler createQueryApiRequestHandler(final boolean enabled) {
     final var config = new QueryApiCfg();
     config.setEnabled(enabled);
@@ -504,7 +504,7 @@ public class ProtoBufSerializer
   private Topology.MessageCorrelation encodeMessageCorrelation(
       final MessageCorrelation correlation) {
     return switch (correlation) {
-      case MessageCorrelation.HashMod(final var partitionCount) ->
+      case MessageCorrelation.HashMod(var partitionCount) ->
           Topology.MessageCorrelation.newBuilder()
               .setHashMod(
                   Topology.MessageCorrelation.HashMod.newBuilder()
@@ -0,0 +1,33 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Histogram;
+
+public final class TimerMetrics {
+
+  private static final Histogram TRIGGER_LAG =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("timer_trigger_lag")
+          .help(
+              "Time between the due date of a timer and the moment its trigger command is written (in seconds)")
+          .buckets(.01, .05, .1, .25, .5, 1, 2.5, 5, 10, 30, 60)
+          .labelNames("partition")
+          .register();
+
+  private final String partitionIdLabel;
+
+  public TimerMetrics(final int partitionId) {
+    partitionIdLabel = String.valueOf(partitionId);
+  }
+
+  public void timerTriggered(final long dueDate, final long triggeredAt) {
+    TRIGGER_LAG.labels(partitionIdLabel).observe(Math.max(0, triggeredAt - dueDate) / 1000d);
+  }
+}
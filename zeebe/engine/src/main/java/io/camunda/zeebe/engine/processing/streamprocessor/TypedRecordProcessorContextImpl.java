@@ -13,6 +13,8 @@ import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
 import io.camunda.zeebe.engine.state.ProcessingDbState;
 import io.camunda.zeebe.engine.state.ScheduledTaskDbState;
 import io.camunda.zeebe.engine.state.immutable.ScheduledTaskState;
+import io.camunda.zeebe.engine.state.instance.TimerDueDateWheel;
+import io.camunda.zeebe.engine.state.instance.TransientJobDueDates;
 import io.camunda.zeebe.engine.state.message.TransientPendingSubscriptionState;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.stream.api.InterPartitionCommandSender;
@@ -33,6 +35,8 @@ public class TypedRecordProcessorContextImpl implements TypedRecordProcessorCont
   private final EngineConfiguration config;
   private final TransientPendingSubscriptionState transientMessageSubscriptionState;
   private final TransientPendingSubscriptionState transientProcessMessageSubscriptionState;
+  private final TransientJobDueDates transientJobDueDates;
+  private final TimerDueDateWheel timerDueDateWheel;
   private final ControllableStreamClock clock;
 
   public TypedRecordProcessorContextImpl(
@@ -44,6 +48,8 @@ public class TypedRecordProcessorContextImpl implements TypedRecordProcessorCont
     zeebeDb = context.getZeebeDb();
     transientMessageSubscriptionState = new TransientPendingSubscriptionState();
     transientProcessMessageSubscriptionState = new TransientPendingSubscriptionState();
+    transientJobDueDates = new TransientJobDueDates();
+    timerDueDateWheel = new TimerDueDateWheel();
     clock = Objects.requireNonNull(context.getClock());
     processingState =
         new ProcessingDbState(
@@ -53,6 +59,8 @@ public class TypedRecordProcessorContextImpl implements TypedRecordProcessorCont
             context.getKeyGenerator(),
             transientMessageSubscriptionState,
             transientProcessMessageSubscriptionState,
+            transientJobDueDates,
+            timerDueDateWheel,
             config,
             clock);
     this.writers = writers;
@@ -94,6 +102,8 @@ public class TypedRecordProcessorContextImpl implements TypedRecordProcessorCont
             partitionId,
             transientMessageSubscriptionState,
             transientProcessMessageSubscriptionState,
+            transientJobDueDates,
+            timerDueDateWheel,
             clock);
   }
 
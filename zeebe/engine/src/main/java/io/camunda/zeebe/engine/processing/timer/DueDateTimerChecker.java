@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.engine.processing.timer;
 
+import io.camunda.zeebe.engine.metrics.TimerMetrics;
 import io.camunda.zeebe.engine.processing.scheduled.DueDateChecker;
 import io.camunda.zeebe.engine.state.immutable.TimerInstanceState;
 import io.camunda.zeebe.engine.state.immutable.TimerInstanceState.TimerVisitor;
@@ -30,13 +31,14 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
   public DueDateTimerChecker(
       final TimerInstanceState timerInstanceState,
       final FeatureFlags featureFlags,
-      final InstantSource clock) {
+      final InstantSource clock,
+      final TimerMetrics timerMetrics) {
     dueDateChecker =
         new DueDateChecker(
             TIMER_RESOLUTION,
             featureFlags.enableTimerDueDateCheckerAsync(),
             new TriggerTimersSideEffect(
-                timerInstanceState, clock, featureFlags.yieldingDueDateChecker()),
+                timerInstanceState, clock, featureFlags.yieldingDueDateChecker(), timerMetrics),
             clock);
   }
 
@@ -76,14 +78,17 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
 
     private final TimerInstanceState timerInstanceState;
     private final boolean yieldControl;
+    private final TimerMetrics timerMetrics;
 
     public TriggerTimersSideEffect(
         final TimerInstanceState timerInstanceState,
         final InstantSource clock,
-        final boolean yieldControl) {
+        final boolean yieldControl,
+        final TimerMetrics timerMetrics) {
       this.timerInstanceState = timerInstanceState;
       this.clock = clock;
       this.yieldControl = yieldControl;
+      this.timerMetrics = timerMetrics;
     }
 
     @Override
@@ -92,13 +97,13 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
 
       final var yieldAfter = now + Math.round(TIMER_RESOLUTION * GIVE_YIELD_FACTOR);
 
+      final var writeTriggerTimerCommandVisitor =
+          new WriteTriggerTimerCommandVisitor(taskResultBuilder, now, timerMetrics);
       final TimerVisitor timerVisitor;
       if (yieldControl) {
-        timerVisitor =
-            new YieldingDecorator(
-                clock, yieldAfter, new WriteTriggerTimerCommandVisitor(taskResultBuilder));
+        timerVisitor = new YieldingDecorator(clock, yieldAfter, writeTriggerTimerCommandVisitor);
       } else {
-        timerVisitor = new WriteTriggerTimerCommandVisitor(taskResultBuilder);
+        timerVisitor = writeTriggerTimerCommandVisitor;
       }
 
       return timerInstanceState.processTimersWithDueDateBefore(now, timerVisitor);
@@ -110,9 +115,16 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
     private final TimerRecord timerRecord = new TimerRecord();
 
     private final TaskResultBuilder taskResultBuilder;
+    private final long now;
+    private final TimerMetrics timerMetrics;
 
-    public WriteTriggerTimerCommandVisitor(final TaskResultBuilder taskResultBuilder) {
+    public WriteTriggerTimerCommandVisitor(
+        final TaskResultBuilder taskResultBuilder,
+        final long now,
+        final TimerMetrics timerMetrics) {
       this.taskResultBuilder = taskResultBuilder;
+      this.now = now;
+      this.timerMetrics = timerMetrics;
     }
 
     @Override
@@ -127,8 +139,12 @@ public class DueDateTimerChecker implements StreamProcessorLifecycleAware {
           .setProcessDefinitionKey(timer.getProcessDefinitionKey())
           .setTenantId(timer.getTenantId());
 
-      return taskResultBuilder.appendCommandRecord(
-          timer.getKey(), TimerIntent.TRIGGER, timerRecord);
+      final boolean appended =
+          taskResultBuilder.appendCommandRecord(timer.getKey(), TimerIntent.TRIGGER, timerRecord);
+      if (appended) {
+        timerMetrics.timerTriggered(timer.getDueDate(), now);
+      }
+      return appended;
     }
   }
 
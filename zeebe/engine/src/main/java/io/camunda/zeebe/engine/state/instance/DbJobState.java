@@ -24,9 +24,12 @@ import io.camunda.zeebe.engine.state.mutable.MutableJobState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
 import io.camunda.zeebe.util.EnsureUtil;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import org.agrona.DirectBuffer;
@@ -37,6 +40,15 @@ public final class DbJobState implements JobState, MutableJobState {
 
   private static final Logger LOG = Loggers.PROCESS_PROCESSOR_LOGGER;
 
+  /**
+   * The number of activatable jobs which are looked up at once; most job workers activate a few
+   * dozen jobs at a time, so this bounds how many jobs are read without being activated.
+   */
+  private static final int ACTIVATABLE_JOBS_LOOKUP_SIZE = 32;
+
+  /** The number of due entries which are copied at once from the in-memory due date indexes. */
+  private static final int DUE_ENTRIES_BATCH_SIZE = 64;
+
   // key => job record value
   // we need two separate wrapper to not interfere with get and put
   // see https://github.com/zeebe-io/zeebe/issues/1914
@@ -46,6 +58,14 @@ public final class DbJobState implements JobState, MutableJobState {
   private final DbLong jobKey;
   private final DbForeignKey<DbLong> fkJob;
   private final ColumnFamily<DbLong, JobRecordValue> jobsColumnFamily;
+  private final DbLong[] activatableJobKeyPool = new DbLong[ACTIVATABLE_JOBS_LOOKUP_SIZE];
+  private final List<DbLong> activatableJobKeys = new ArrayList<>(ACTIVATABLE_JOBS_LOOKUP_SIZE);
+  // state of the current lookup of activatable jobs, kept in fields to not allocate per lookup
+  private final BiConsumer<DbLong, JobRecordValue> activatableJobVisitor =
+      this::visitActivatableJob;
+  private BiFunction<Long, JobRecord, Boolean> activatableJobCallback;
+  private int nextActivatableJobIndex;
+  private boolean visitMoreActivatableJobs;
 
   // key => job state
   private final JobStateValue jobState = new JobStateValue();
@@ -73,10 +93,32 @@ public final class DbJobState implements JobState, MutableJobState {
       backoffColumnFamily;
   private long nextBackOffDueDate;
 
+  // in-memory mirrors of the deadlines and backoffs column families
+  private final JobDueDateIndex deadlineIndex;
+  private final JobDueDateIndex backoffIndex;
+  private final PendingDueDateChanges deadlineChanges;
+  private final PendingDueDateChanges backoffChanges;
+  private final long[] dueDates = new long[DUE_ENTRIES_BATCH_SIZE];
+  private final long[] dueJobKeys = new long[DUE_ENTRIES_BATCH_SIZE];
+
   public DbJobState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+    this(zeebeDb, transactionContext, new TransientJobDueDates());
+  }
+
+  public DbJobState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final TransientJobDueDates transientDueDates) {
+    deadlineIndex = transientDueDates.deadlines();
+    backoffIndex = transientDueDates.backoffs();
+    deadlineChanges = new PendingDueDateChanges(deadlineIndex::apply);
+    backoffChanges = new PendingDueDateChanges(backoffIndex::apply);
+    transactionContext.addTransactionListener(deadlineChanges);
+    transactionContext.addTransactionListener(backoffChanges);
 
     jobKey = new DbLong();
+    Arrays.setAll(activatableJobKeyPool, ignored -> new DbLong());
     fkJob = new DbForeignKey<>(jobKey, ZbColumnFamilies.JOBS);
     jobsColumnFamily =
         zeebeDb.createColumnFamily(
@@ -233,6 +275,7 @@ public final class DbJobState implements JobState, MutableJobState {
           final var deadline = key.first().getValue();
           final var job = jobsColumnFamily.get(jobKey);
           if (job == null || job.getRecord().getDeadline() != deadline) {
+            removeFromIndex(deadlineIndex, deadlineChanges, deadline, jobKey.getValue());
             deadlinesColumnFamily.deleteExisting(key);
           }
           return true;
@@ -248,6 +291,7 @@ public final class DbJobState implements JobState, MutableJobState {
           final var job = jobsColumnFamily.get(jobKey);
           if (job == null || job.getRecord().getRecurringTime() != backoff) {
             LOG.debug("Deleting orphaned job with key {}", key);
+            removeFromIndex(backoffIndex, backoffChanges, backoff, jobKey.getValue());
             backoffColumnFamily.deleteExisting(key);
           }
           return true;
@@ -263,6 +307,7 @@ public final class DbJobState implements JobState, MutableJobState {
       final long oldDeadline = job.getDeadline();
 
       deadlineKey.wrapLong(oldDeadline);
+      removeFromIndex(deadlineIndex, deadlineChanges, oldDeadline, jobKey);
       deadlinesColumnFamily.deleteExisting(deadlineJobKey);
 
       job.setDeadline(newDeadline);
@@ -286,6 +331,8 @@ public final class DbJobState implements JobState, MutableJobState {
           if (jobRecord == null
               || jobRecord.getRecord().getRetries() <= 0
               || jobRecord.getRecord().getRetryBackoff() <= 0) {
+            removeFromIndex(
+                backoffIndex, backoffChanges, key.first().getValue(), jobKey.getValue());
             backoffColumnFamily.deleteExisting(key);
           } else {
             jobsWithBackoff.add(jobKey.getValue());
@@ -305,11 +352,27 @@ public final class DbJobState implements JobState, MutableJobState {
           final var retries = jobRecord.getRecord().getRetries();
           if (backoff > 0 && retries > 0) {
             backoffKey.wrapLong(backoff);
+            addToIndex(backoffIndex, backoffChanges, backoff, jobKey.getValue());
             backoffColumnFamily.insert(backoffJobKey, DbNil.INSTANCE);
           }
         });
   }
 
+  @Override
+  public void rebuildDueDateIndexes() {
+    deadlineChanges.clear();
+    deadlineIndex.beginRebuild();
+    deadlinesColumnFamily.forEach(
+        (key, value) -> deadlineIndex.add(key.first().getValue(), key.second().inner().getValue()));
+    deadlineIndex.endRebuild();
+
+    backoffChanges.clear();
+    backoffIndex.beginRebuild();
+    backoffColumnFamily.forEach(
+        (key, value) -> backoffIndex.add(key.first().getValue(), key.second().inner().getValue()));
+    backoffIndex.endRebuild();
+  }
+
   private void createJob(final long key, final JobRecord record, final DirectBuffer type) {
     createJobRecord(key, record);
     initializeJobState();
@@ -347,6 +410,9 @@ public final class DbJobState implements JobState, MutableJobState {
       final long executionTimestamp,
       final DeadlineIndex startAt,
       final BiPredicate<Long, JobRecord> callback) {
+    if (deadlineIndex.isUsable()) {
+      return forEachTimedOutIndexEntry(executionTimestamp, startAt, callback);
+    }
 
     final DbCompositeKey<DbLong, DbForeignKey<DbLong>> startAtKey;
     if (startAt != null) {
@@ -408,6 +474,7 @@ public final class DbJobState implements JobState, MutableJobState {
       final List<String> tenantIds,
       final BiFunction<Long, JobRecord, Boolean> callback) {
     jobTypeKey.wrapBuffer(type);
+    activatableJobKeys.clear();
 
     activatableColumnFamily.whileEqualPrefix(
         jobTypeKey,
@@ -416,11 +483,19 @@ public final class DbJobState implements JobState, MutableJobState {
           final String tenantId = tenantAwareCompositeKey.tenantKey().toString();
 
           if (tenantIds.contains(tenantId)) {
-            return visitJob(jobKey.getValue(), callback::apply);
+            final DbLong activatableJobKey = activatableJobKeyPool[activatableJobKeys.size()];
+            activatableJobKey.wrapLong(jobKey.getValue());
+            activatableJobKeys.add(activatableJobKey);
+
+            if (activatableJobKeys.size() == ACTIVATABLE_JOBS_LOOKUP_SIZE) {
+              return visitActivatableJobs(callback);
+            }
           }
           // we want to continue with the iteration
           return true;
         }));
+
+    visitActivatableJobs(callback);
   }
 
   @Override
@@ -449,6 +524,10 @@ public final class DbJobState implements JobState, MutableJobState {
 
   @Override
   public long findBackedOffJobs(final long timestamp, final BiPredicate<Long, JobRecord> callback) {
+    if (backoffIndex.isUsable()) {
+      return findBackedOffIndexedJobs(timestamp, callback);
+    }
+
     nextBackOffDueDate = -1L;
     backoffColumnFamily.whileTrue(
         (key, value) -> {
@@ -466,6 +545,69 @@ public final class DbJobState implements JobState, MutableJobState {
     return nextBackOffDueDate;
   }
 
+  /**
+   * Like {@link #forEachTimedOutEntry(long, DeadlineIndex, BiPredicate)}, but only reads the due
+   * entries from the in-memory index. Each entry is still verified against the column family, as
+   * the index may already contain uncommitted changes.
+   */
+  private DeadlineIndex forEachTimedOutIndexEntry(
+      final long executionTimestamp,
+      final DeadlineIndex startAt,
+      final BiPredicate<Long, JobRecord> callback) {
+    long startDeadline = startAt != null ? startAt.deadline() : Long.MIN_VALUE;
+    long startJobKey = startAt != null ? startAt.key() : Long.MIN_VALUE;
+
+    int count;
+    do {
+      count =
+          deadlineIndex.copyEntries(
+              startDeadline, startJobKey, executionTimestamp, dueDates, dueJobKeys);
+      for (int i = 0; i < count; i++) {
+        if (jobDeadlineExists(dueJobKeys[i], dueDates[i]) && !visitJob(dueJobKeys[i], callback)) {
+          return new DeadlineIndex(dueDates[i], dueJobKeys[i]);
+        }
+      }
+
+      if (count > 0) {
+        startDeadline = dueDates[count - 1];
+        startJobKey = dueJobKeys[count - 1] + 1;
+      }
+    } while (count == DUE_ENTRIES_BATCH_SIZE);
+
+    return null;
+  }
+
+  /**
+   * Like {@link #findBackedOffJobs(long, BiPredicate)}, but only reads the due entries from the
+   * in-memory index. Each entry is still verified against the column family, as the index may
+   * already contain uncommitted changes.
+   */
+  private long findBackedOffIndexedJobs(
+      final long timestamp, final BiPredicate<Long, JobRecord> callback) {
+    long startBackoff = Long.MIN_VALUE;
+    long startJobKey = Long.MIN_VALUE;
+
+    int count;
+    do {
+      count =
+          backoffIndex.copyEntries(startBackoff, startJobKey, timestamp + 1, dueDates, dueJobKeys);
+      for (int i = 0; i < count; i++) {
+        jobKey.wrapLong(dueJobKeys[i]);
+        backoffKey.wrapLong(dueDates[i]);
+        if (backoffColumnFamily.exists(backoffJobKey) && !visitJob(dueJobKeys[i], callback)) {
+          return dueDates[i];
+        }
+      }
+
+      if (count > 0) {
+        startBackoff = dueDates[count - 1];
+        startJobKey = dueJobKeys[count - 1] + 1;
+      }
+    } while (count == DUE_ENTRIES_BATCH_SIZE);
+
+    return backoffIndex.nextDueDateAfter(timestamp);
+  }
+
   boolean visitJob(final long jobKey, final BiPredicate<Long, JobRecord> callback) {
     final JobRecord job = getJob(jobKey);
     if (job == null) {
@@ -475,6 +617,47 @@ public final class DbJobState implements JobState, MutableJobState {
     return callback.test(jobKey, job);
   }
 
+  /**
+   * Looks up the collected activatable jobs at once, and visits them in order until the callback
+   * returns false. The collected keys are cleared afterwards.
+   *
+   * @return true if the callback wants to visit more jobs
+   */
+  private boolean visitActivatableJobs(final BiFunction<Long, JobRecord, Boolean> callback) {
+    activatableJobCallback = callback;
+    nextActivatableJobIndex = 0;
+    visitMoreActivatableJobs = true;
+
+    try {
+      jobsColumnFamily.multiGet(activatableJobKeys, activatableJobVisitor);
+      warnAboutMissingJobs(null);
+    } finally {
+      activatableJobCallback = null;
+      activatableJobKeys.clear();
+    }
+
+    return visitMoreActivatableJobs;
+  }
+
+  private void visitActivatableJob(final DbLong key, final JobRecordValue job) {
+    warnAboutMissingJobs(key);
+    nextActivatableJobIndex++;
+    if (visitMoreActivatableJobs) {
+      visitMoreActivatableJobs = activatableJobCallback.apply(key.getValue(), job.getRecord());
+    }
+  }
+
+  /** Logs all collected activatable jobs before the given key which were not found. */
+  private void warnAboutMissingJobs(final DbLong foundKey) {
+    while (nextActivatableJobIndex < activatableJobKeys.size()
+        && activatableJobKeys.get(nextActivatableJobIndex) != foundKey) {
+      LOG.warn(
+          "Expected to find job with key {}, but no job found",
+          activatableJobKeys.get(nextActivatableJobIndex).getValue());
+      nextActivatableJobIndex++;
+    }
+  }
+
   private void createJobRecord(final long key, final JobRecord record) {
     jobKey.wrapLong(key);
     // do not persist variables in job state
@@ -525,6 +708,7 @@ public final class DbJobState implements JobState, MutableJobState {
     if (deadline > 0) {
       jobKey.wrapLong(job);
       deadlineKey.wrapLong(deadline);
+      addToIndex(deadlineIndex, deadlineChanges, deadline, job);
       deadlinesColumnFamily.insert(deadlineJobKey, DbNil.INSTANCE);
     }
   }
@@ -533,6 +717,7 @@ public final class DbJobState implements JobState, MutableJobState {
     if (deadline > 0) {
       jobKey.wrapLong(job);
       deadlineKey.wrapLong(deadline);
+      removeFromIndex(deadlineIndex, deadlineChanges, deadline, job);
       deadlinesColumnFamily.deleteIfExists(deadlineJobKey);
     }
   }
@@ -541,6 +726,7 @@ public final class DbJobState implements JobState, MutableJobState {
     if (backoff > 0) {
       jobKey.wrapLong(job);
       backoffKey.wrapLong(backoff);
+      addToIndex(backoffIndex, backoffChanges, backoff, job);
       backoffColumnFamily.insert(backoffJobKey, DbNil.INSTANCE);
     }
   }
@@ -549,10 +735,36 @@ public final class DbJobState implements JobState, MutableJobState {
     if (backoff > 0) {
       jobKey.wrapLong(job);
       backoffKey.wrapLong(backoff);
+      removeFromIndex(backoffIndex, backoffChanges, backoff, job);
       backoffColumnFamily.deleteIfExists(backoffJobKey);
     }
   }
 
+  /**
+   * Records the change to be applied to the index once the transaction is committed. It must be
+   * recorded before the column family is modified, in case the modification commits right away.
+   * Updates are skipped until the index is rebuilt, as a rebuild starts from scratch anyway.
+   */
+  private static void addToIndex(
+      final JobDueDateIndex index,
+      final PendingDueDateChanges changes,
+      final long dueDate,
+      final long job) {
+    if (index.isUsable()) {
+      changes.add(dueDate, job, 0);
+    }
+  }
+
+  private static void removeFromIndex(
+      final JobDueDateIndex index,
+      final PendingDueDateChanges changes,
+      final long dueDate,
+      final long job) {
+    if (index.isUsable()) {
+      changes.remove(dueDate, job);
+    }
+  }
+
   private List<String> getAuthorizedTenantIds(final Map<String, Object> authorizations) {
     return (List<String>) authorizations.get(Authorization.AUTHORIZED_TENANTS);
   }
@@ -21,6 +21,8 @@ import java.util.function.Consumer;
 
 public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
+  private static final int DUE_TIMERS_BATCH_SIZE = 64;
+
   private final ColumnFamily<DbCompositeKey<DbForeignKey<DbLong>, DbLong>, TimerInstance>
       timerInstanceColumnFamily;
   private final TimerInstance timerInstance;
@@ -35,10 +37,26 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
   private final DbCompositeKey<DbLong, DbCompositeKey<DbForeignKey<DbLong>, DbLong>>
       dueDateCompositeKey;
 
+  private final TimerDueDateWheel dueDateWheel;
+  private final PendingDueDateChanges dueDateChanges;
+  private final long[] dueDates = new long[DUE_TIMERS_BATCH_SIZE];
+  private final long[] dueTimerKeys = new long[DUE_TIMERS_BATCH_SIZE];
+  private final long[] dueElementInstanceKeys = new long[DUE_TIMERS_BATCH_SIZE];
+
   private long nextDueDate;
 
   public DbTimerInstanceState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+    this(zeebeDb, transactionContext, new TimerDueDateWheel());
+  }
+
+  public DbTimerInstanceState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final TimerDueDateWheel dueDateWheel) {
+    this.dueDateWheel = dueDateWheel;
+    dueDateChanges = new PendingDueDateChanges(dueDateWheel::apply);
+    transactionContext.addTransactionListener(dueDateChanges);
     timerInstance = new TimerInstance();
     timerKey = new DbLong();
     elementInstanceKey =
@@ -69,6 +87,11 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
     timerInstanceColumnFamily.insert(elementAndTimerKey, timer);
 
+    // the change must be recorded before the due date is written, in case it's committed right away
+    if (dueDateWheel.isUsable()) {
+      dueDateChanges.add(timer.getDueDate(), timer.getKey(), timer.getElementInstanceKey());
+    }
+
     dueDate.wrapLong(timer.getDueDate());
     dueDateColumnFamily.insert(dueDateCompositeKey, DbNil.INSTANCE);
   }
@@ -79,6 +102,10 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
     timerKey.wrapLong(timer.getKey());
     timerInstanceColumnFamily.deleteExisting(elementAndTimerKey);
 
+    if (dueDateWheel.isUsable()) {
+      dueDateChanges.remove(timer.getDueDate(), timer.getKey());
+    }
+
     dueDate.wrapLong(timer.getDueDate());
     dueDateColumnFamily.deleteExisting(dueDateCompositeKey);
   }
@@ -90,8 +117,27 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
     timerInstanceColumnFamily.update(elementAndTimerKey, timer);
   }
 
+  @Override
+  public void rebuildDueDateWheel() {
+    dueDateChanges.clear();
+    dueDateWheel.beginRebuild();
+    dueDateColumnFamily.forEach(
+        (key, nil) -> {
+          final var elementAndTimerKey = key.second();
+          dueDateWheel.add(
+              key.first().getValue(),
+              elementAndTimerKey.second().getValue(),
+              elementAndTimerKey.first().inner().getValue());
+        });
+    dueDateWheel.endRebuild();
+  }
+
   @Override
   public long processTimersWithDueDateBefore(final long timestamp, final TimerVisitor consumer) {
+    if (dueDateWheel.isUsable()) {
+      return processDueTimersOfWheel(timestamp, consumer);
+    }
+
     nextDueDate = -1L;
 
     dueDateColumnFamily.whileTrue(
@@ -141,4 +187,39 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
     return timerInstanceColumnFamily.get(elementAndTimerKey);
   }
+
+  /**
+   * Like {@link #processTimersWithDueDateBefore(long, TimerVisitor)}, but only reads the due timers
+   * of the in-memory wheel from the column family.
+   */
+  private long processDueTimersOfWheel(final long timestamp, final TimerVisitor consumer) {
+    long startDueDate = Long.MIN_VALUE;
+    long startTimerKey = Long.MIN_VALUE;
+    int count;
+    do {
+      count =
+          dueDateWheel.copyDueTimers(
+              timestamp,
+              startDueDate,
+              startTimerKey,
+              dueDates,
+              dueTimerKeys,
+              dueElementInstanceKeys);
+
+      for (int i = 0; i < count; i++) {
+        final var timerInstance = get(dueElementInstanceKeys[i], dueTimerKeys[i]);
+        // the timer may be removed concurrently, or not be committed yet
+        if (timerInstance != null && !consumer.visit(timerInstance)) {
+          return dueDates[i];
+        }
+      }
+
+      if (count > 0) {
+        startDueDate = dueDates[count - 1];
+        startTimerKey = dueTimerKeys[count - 1] + 1;
+      }
+    } while (count == DUE_TIMERS_BATCH_SIZE);
+
+    return dueDateWheel.nextDueDateAfter(timestamp);
+  }
 }
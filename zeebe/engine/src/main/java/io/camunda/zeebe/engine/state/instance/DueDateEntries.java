@@ -0,0 +1,289 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A set of (due date, key) entries, sorted by due date and then by key, which can optionally carry
+ * a value per entry. The entries are stored in primitive arrays, split into chunks of a bounded
+ * size to keep insertions and removals cheap even for millions of entries.
+ *
+ * <p>This class is not thread safe; it is the building block of the in-memory due date indexes,
+ * which take care of the synchronization.
+ */
+final class DueDateEntries {
+
+  private static final int CHUNK_CAPACITY = 512;
+
+  private final List<Chunk> chunks = new ArrayList<>();
+  private final boolean withValues;
+
+  DueDateEntries(final boolean withValues) {
+    this.withValues = withValues;
+  }
+
+  boolean isEmpty() {
+    return chunks.isEmpty();
+  }
+
+  int size() {
+    int size = 0;
+    for (final var chunk : chunks) {
+      size += chunk.size;
+    }
+    return size;
+  }
+
+  void clear() {
+    chunks.clear();
+  }
+
+  /**
+   * Adds the given entry, unless an entry with the same due date and key exists already.
+   *
+   * @return true if the entry was added
+   */
+  boolean add(final long dueDate, final long key, final long value) {
+    if (chunks.isEmpty()) {
+      final var chunk = new Chunk(withValues);
+      chunk.insert(0, dueDate, key, value);
+      chunks.add(chunk);
+      return true;
+    }
+
+    int chunkIndex = findChunk(dueDate, key);
+    if (chunkIndex == chunks.size()) {
+      chunkIndex--;
+    }
+
+    Chunk chunk = chunks.get(chunkIndex);
+    int position = chunk.lowerBound(dueDate, key);
+    if (position < chunk.size && chunk.isAt(position, dueDate, key)) {
+      return false;
+    }
+
+    if (chunk.size == CHUNK_CAPACITY) {
+      final var upperHalf = chunk.splitUpperHalf();
+      chunks.add(chunkIndex + 1, upperHalf);
+      if (position > chunk.size) {
+        chunk = upperHalf;
+        position -= CHUNK_CAPACITY - upperHalf.size;
+      }
+    }
+
+    chunk.insert(position, dueDate, key, value);
+    return true;
+  }
+
+  /**
+   * @return true if the entry existed and was removed
+   */
+  boolean remove(final long dueDate, final long key) {
+    final int chunkIndex = findChunk(dueDate, key);
+    if (chunkIndex == chunks.size()) {
+      return false;
+    }
+
+    final var chunk = chunks.get(chunkIndex);
+    final int position = chunk.lowerBound(dueDate, key);
+    if (position < chunk.size && chunk.isAt(position, dueDate, key)) {
+      chunk.remove(position);
+      if (chunk.size == 0) {
+        chunks.remove(chunkIndex);
+      }
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Copies the entries which are due before the given timestamp into the given arrays, starting at
+   * the given entry (inclusive), in order. The values are only copied if an array is given.
+   *
+   * @return the number of copied entries; if it's equal to the length of the arrays, there may be
+   *     more due entries to copy
+   */
+  int copyEntries(
+      final long startDueDate,
+      final long startKey,
+      final long dueBefore,
+      final long[] dueDates,
+      final long[] keys,
+      final long[] values) {
+    int count = 0;
+    int position = -1;
+    for (int chunkIndex = findChunk(startDueDate, startKey);
+        chunkIndex < chunks.size() && count < dueDates.length;
+        chunkIndex++) {
+      final var chunk = chunks.get(chunkIndex);
+      position = position < 0 ? chunk.lowerBound(startDueDate, startKey) : 0;
+
+      for (; position < chunk.size && count < dueDates.length; position++) {
+        if (chunk.dueDates[position] >= dueBefore) {
+          return count;
+        }
+        dueDates[count] = chunk.dueDates[position];
+        keys[count] = chunk.keys[position];
+        if (values != null) {
+          values[count] = chunk.values[position];
+        }
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * @return the earliest due date, or -1 if there are no entries
+   */
+  long firstDueDate() {
+    return chunks.isEmpty() ? -1 : chunks.get(0).dueDates[0];
+  }
+
+  /**
+   * @return the earliest due date which is after the given timestamp, or -1 if there is none
+   */
+  long nextDueDateAfter(final long timestamp) {
+    final int chunkIndex = findChunk(timestamp, Long.MAX_VALUE);
+    if (chunkIndex == chunks.size()) {
+      return -1;
+    }
+
+    final var chunk = chunks.get(chunkIndex);
+    final int position = chunk.lowerBound(timestamp, Long.MAX_VALUE);
+    if (position < chunk.size && chunk.dueDates[position] > timestamp) {
+      return chunk.dueDates[position];
+    }
+    return chunkIndex + 1 < chunks.size() ? chunks.get(chunkIndex + 1).dueDates[0] : -1;
+  }
+
+  /**
+   * Removes all entries which are due at or before the given due date, and passes them to the given
+   * consumer in order. The consumer must not modify this instance.
+   */
+  void drainUpTo(final long maxDueDate, final EntryConsumer consumer) {
+    while (!chunks.isEmpty()) {
+      final var chunk = chunks.get(0);
+      int drained = 0;
+      while (drained < chunk.size && chunk.dueDates[drained] <= maxDueDate) {
+        consumer.accept(
+            chunk.dueDates[drained], chunk.keys[drained], withValues ? chunk.values[drained] : 0);
+        drained++;
+      }
+
+      if (drained < chunk.size) {
+        chunk.removeFirst(drained);
+        return;
+      }
+      chunks.remove(0);
+    }
+  }
+
+  /** Returns the index of the first chunk whose last entry is not less than the given entry. */
+  private int findChunk(final long dueDate, final long key) {
+    int low = 0;
+    int high = chunks.size();
+    while (low < high) {
+      final int middle = (low + high) >>> 1;
+      final var chunk = chunks.get(middle);
+      final int last = chunk.size - 1;
+      if (compare(chunk.dueDates[last], chunk.keys[last], dueDate, key) < 0) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  private static int compare(
+      final long dueDate, final long key, final long otherDueDate, final long otherKey) {
+    final int result = Long.compare(dueDate, otherDueDate);
+    return result != 0 ? result : Long.compare(key, otherKey);
+  }
+
+  @FunctionalInterface
+  interface EntryConsumer {
+    void accept(long dueDate, long key, long value);
+  }
+
+  private static final class Chunk {
+    private final long[] dueDates = new long[CHUNK_CAPACITY];
+    private final long[] keys = new long[CHUNK_CAPACITY];
+    private final long[] values;
+    private int size;
+
+    private Chunk(final boolean withValues) {
+      values = withValues ? new long[CHUNK_CAPACITY] : null;
+    }
+
+    /** Returns the position of the first entry which is not less than the given entry. */
+    private int lowerBound(final long dueDate, final long key) {
+      int low = 0;
+      int high = size;
+      while (low < high) {
+        final int middle = (low + high) >>> 1;
+        if (compare(dueDates[middle], keys[middle], dueDate, key) < 0) {
+          low = middle + 1;
+        } else {
+          high = middle;
+        }
+      }
+      return low;
+    }
+
+    private boolean isAt(final int position, final long dueDate, final long key) {
+      return dueDates[position] == dueDate && keys[position] == key;
+    }
+
+    private void insert(final int position, final long dueDate, final long key, final long value) {
+      System.arraycopy(dueDates, position, dueDates, position + 1, size - position);
+      System.arraycopy(keys, position, keys, position + 1, size - position);
+      dueDates[position] = dueDate;
+      keys[position] = key;
+      if (values != null) {
+        System.arraycopy(values, position, values, position + 1, size - position);
+        values[position] = value;
+      }
+      size++;
+    }
+
+    private void remove(final int position) {
+      System.arraycopy(dueDates, position + 1, dueDates, position, size - position - 1);
+      System.arraycopy(keys, position + 1, keys, position, size - position - 1);
+      if (values != null) {
+        System.arraycopy(values, position + 1, values, position, size - position - 1);
+      }
+      size--;
+    }
+
+    private void removeFirst(final int count) {
+      System.arraycopy(dueDates, count, dueDates, 0, size - count);
+      System.arraycopy(keys, count, keys, 0, size - count);
+      if (values != null) {
+        System.arraycopy(values, count, values, 0, size - count);
+      }
+      size -= count;
+    }
+
+    private Chunk splitUpperHalf() {
+      final var upperHalf = new Chunk(values != null);
+      final int lowerSize = size / 2;
+      upperHalf.size = size - lowerSize;
+      System.arraycopy(dueDates, lowerSize, upperHalf.dueDates, 0, upperHalf.size);
+      System.arraycopy(keys, lowerSize, upperHalf.keys, 0, upperHalf.size);
+      if (values != null) {
+        System.arraycopy(values, lowerSize, upperHalf.values, 0, upperHalf.size);
+      }
+      size = lowerSize;
+      return upperHalf;
+    }
+  }
+}
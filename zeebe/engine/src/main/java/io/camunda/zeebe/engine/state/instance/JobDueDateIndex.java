@@ -0,0 +1,95 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+/**
+ * An in-memory index of (due date, job key) entries, sorted by due date and then by job key. It
+ * mirrors a persisted column family of {@link DbJobState} (e.g. the job deadlines), such that due
+ * entries can be found without iterating over the column family.
+ *
+ * <p>The entries are stored in primitive arrays, see {@link DueDateEntries}.
+ *
+ * <p>This class is thread safe. It's intended use is that one thread is adding and removing entries
+ * while another thread is reading the due entries via {@link #copyEntries(long, long, long, long[],
+ * long[])}. The changes of a transaction are only applied once it's committed, see {@link
+ * PendingDueDateChanges}, so an entry may still be present for a short time after the column family
+ * entry was removed; the due entries must therefore still be verified against the column family by
+ * the reader.
+ *
+ * <p>The index is only usable after it was rebuilt from the column family, see {@link #isUsable()}.
+ * Until then, updates are ignored and readers should fall back to the column family.
+ */
+public final class JobDueDateIndex {
+
+  private final DueDateEntries entries = new DueDateEntries(false);
+  private volatile boolean usable;
+
+  /**
+   * @return true if the index reflects the column family, false if it was not rebuilt yet or is
+   *     currently being rebuilt
+   */
+  public boolean isUsable() {
+    return usable;
+  }
+
+  /** Discards all entries, and marks the index as unusable until {@link #endRebuild()}. */
+  synchronized void beginRebuild() {
+    usable = false;
+    entries.clear();
+  }
+
+  synchronized void endRebuild() {
+    usable = true;
+  }
+
+  synchronized void add(final long dueDate, final long key) {
+    entries.add(dueDate, key, 0);
+  }
+
+  synchronized void remove(final long dueDate, final long key) {
+    entries.remove(dueDate, key);
+  }
+
+  /** Applies the changes of a committed transaction at once. */
+  synchronized void apply(final PendingDueDateChanges changes) {
+    for (int i = 0; i < changes.size(); i++) {
+      if (changes.isAdded(i)) {
+        entries.add(changes.dueDate(i), changes.key(i), 0);
+      } else {
+        entries.remove(changes.dueDate(i), changes.key(i));
+      }
+    }
+  }
+
+  /**
+   * Copies the entries which are due before the given timestamp into the given arrays, starting at
+   * the given entry (inclusive), in order.
+   *
+   * @return the number of copied entries; if it's equal to the length of the arrays, there may be
+   *     more due entries to copy
+   */
+  public synchronized int copyEntries(
+      final long startDueDate,
+      final long startKey,
+      final long dueBefore,
+      final long[] dueDates,
+      final long[] keys) {
+    return entries.copyEntries(startDueDate, startKey, dueBefore, dueDates, keys, null);
+  }
+
+  /**
+   * @return the earliest due date which is after the given timestamp, or -1 if there is none
+   */
+  public synchronized long nextDueDateAfter(final long timestamp) {
+    return entries.nextDueDateAfter(timestamp);
+  }
+
+  synchronized int size() {
+    return entries.size();
+  }
+}
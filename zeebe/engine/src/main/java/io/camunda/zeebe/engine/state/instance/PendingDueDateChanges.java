@@ -0,0 +1,105 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import io.camunda.zeebe.db.TransactionListener;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * The changes to an in-memory due date index (e.g. {@link JobDueDateIndex}) which were made by the
+ * current transaction. They are only applied to the index once the transaction is committed, and
+ * are discarded if it's rolled back, such that the index never contains changes which were rolled
+ * back.
+ *
+ * <p>The changes are kept in primitive arrays which are reused between transactions. This class is
+ * not thread safe; it's only used by the thread which modifies the state.
+ */
+final class PendingDueDateChanges implements TransactionListener {
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private final Consumer<PendingDueDateChanges> applier;
+
+  private boolean[] added = new boolean[INITIAL_CAPACITY];
+  private long[] dueDates = new long[INITIAL_CAPACITY];
+  private long[] keys = new long[INITIAL_CAPACITY];
+  private long[] values = new long[INITIAL_CAPACITY];
+  private int size;
+
+  /**
+   * @param applier applies all pending changes to the index at once, in order, see {@link #size()}
+   */
+  PendingDueDateChanges(final Consumer<PendingDueDateChanges> applier) {
+    this.applier = applier;
+  }
+
+  void add(final long dueDate, final long key, final long value) {
+    append(true, dueDate, key, value);
+  }
+
+  void remove(final long dueDate, final long key) {
+    append(false, dueDate, key, 0);
+  }
+
+  void clear() {
+    size = 0;
+  }
+
+  int size() {
+    return size;
+  }
+
+  /**
+   * @return true if the change at the given index adds an entry, false if it removes one
+   */
+  boolean isAdded(final int index) {
+    return added[index];
+  }
+
+  long dueDate(final int index) {
+    return dueDates[index];
+  }
+
+  long key(final int index) {
+    return keys[index];
+  }
+
+  long value(final int index) {
+    return values[index];
+  }
+
+  @Override
+  public void onCommit() {
+    if (size > 0) {
+      applier.accept(this);
+      size = 0;
+    }
+  }
+
+  @Override
+  public void onRollback() {
+    size = 0;
+  }
+
+  private void append(final boolean isAdded, final long dueDate, final long key, final long value) {
+    if (size == dueDates.length) {
+      final int capacity = size * 2;
+      added = Arrays.copyOf(added, capacity);
+      dueDates = Arrays.copyOf(dueDates, capacity);
+      keys = Arrays.copyOf(keys, capacity);
+      values = Arrays.copyOf(values, capacity);
+    }
+
+    added[size] = isAdded;
+    dueDates[size] = dueDate;
+    keys[size] = key;
+    values[size] = value;
+    size++;
+  }
+}
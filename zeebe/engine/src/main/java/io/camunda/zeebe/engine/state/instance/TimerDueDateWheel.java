@@ -0,0 +1,234 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import io.camunda.zeebe.engine.state.instance.DueDateEntries.EntryConsumer;
+
+/**
+ * A hierarchical timing wheel of the timer due dates of a partition. It mirrors the timer due date
+ * column family of {@link DbTimerInstanceState}, such that the due timers can be found without
+ * iterating over the column family.
+ *
+ * <p>The wheel advances in ticks of {@link #TICK_MILLIS}. Each level has {@link #SLOTS} slots, and
+ * a slot of a level spans all slots of the level below. A timer is placed in the lowest level which
+ * covers its due date, and is moved down a level whenever the wheel advances to its slot. Once the
+ * tick of its due date is reached, it's moved to the expired timers, from which the due timers are
+ * read. Timers which are due too far in the future for the highest level are kept aside, until they
+ * are covered by the wheel.
+ *
+ * <p>The entries of each slot are kept sorted by due date, such that the due timers are read in
+ * order, and timers can be removed without knowing in which slot they are currently placed.
+ *
+ * <p>This class is thread safe. It's intended use is that the processing thread is adding and
+ * removing timers, while another thread is reading the due timers via {@link #copyDueTimers(long,
+ * long, long, long[], long[], long[])}. The changes of a transaction are only applied once it's
+ * committed, see {@link PendingDueDateChanges}, so a timer may still be present for a short time
+ * after its due date was removed from the column family; the due timers must therefore still be
+ * verified against the column family by the reader.
+ *
+ * <p>The wheel is only usable after it was rebuilt from the column family, see {@link #isUsable()}.
+ * Until then, updates should be skipped and readers should fall back to the column family.
+ */
+public final class TimerDueDateWheel {
+
+  static final long TICK_MILLIS = 100;
+  static final int SLOTS = 64;
+
+  private static final int SLOT_BITS = Integer.numberOfTrailingZeros(SLOTS);
+  private static final int SLOT_MASK = SLOTS - 1;
+  private static final int LEVELS = 6;
+
+  private final DueDateEntries[][] levels = new DueDateEntries[LEVELS][SLOTS];
+  private final DueDateEntries expired = new DueDateEntries(true);
+  private final DueDateEntries overflow = new DueDateEntries(true);
+  private final EntryConsumer placeEntry = this::place;
+  private long currentTick;
+  private volatile boolean usable;
+
+  public TimerDueDateWheel() {
+    for (final var slots : levels) {
+      for (int slot = 0; slot < SLOTS; slot++) {
+        slots[slot] = new DueDateEntries(true);
+      }
+    }
+  }
+
+  /**
+   * @return true if the wheel reflects the column family, false if it was not rebuilt yet or is
+   *     currently being rebuilt
+   */
+  public boolean isUsable() {
+    return usable;
+  }
+
+  /** Discards all timers, and marks the wheel as unusable until {@link #endRebuild()}. */
+  synchronized void beginRebuild() {
+    usable = false;
+    for (final var slots : levels) {
+      for (final var slot : slots) {
+        slot.clear();
+      }
+    }
+    expired.clear();
+    overflow.clear();
+  }
+
+  synchronized void endRebuild() {
+    usable = true;
+  }
+
+  synchronized void add(final long dueDate, final long timerKey, final long elementInstanceKey) {
+    place(dueDate, timerKey, elementInstanceKey);
+  }
+
+  synchronized void remove(final long dueDate, final long timerKey) {
+    removeTimer(dueDate, timerKey);
+  }
+
+  /** Applies the changes of a committed transaction at once. */
+  synchronized void apply(final PendingDueDateChanges changes) {
+    for (int i = 0; i < changes.size(); i++) {
+      if (changes.isAdded(i)) {
+        place(changes.dueDate(i), changes.key(i), changes.value(i));
+      } else {
+        removeTimer(changes.dueDate(i), changes.key(i));
+      }
+    }
+  }
+
+  /**
+   * Advances the wheel to the given timestamp, and copies the timers which are due at or before it
+   * into the given arrays, starting at the given timer (inclusive), in order of their due dates.
+   *
+   * @return the number of copied timers; if it's equal to the length of the arrays, there may be
+   *     more due timers to copy
+   */
+  public synchronized int copyDueTimers(
+      final long timestamp,
+      final long startDueDate,
+      final long startTimerKey,
+      final long[] dueDates,
+      final long[] timerKeys,
+      final long[] elementInstanceKeys) {
+    advanceTo(timestamp);
+    return expired.copyEntries(
+        startDueDate, startTimerKey, timestamp + 1, dueDates, timerKeys, elementInstanceKeys);
+  }
+
+  /**
+   * @return the earliest due date which is after the given timestamp, or -1 if there is none
+   */
+  public synchronized long nextDueDateAfter(final long timestamp) {
+    advanceTo(timestamp);
+    final long nextExpired = expired.nextDueDateAfter(timestamp);
+    if (nextExpired != -1) {
+      // all timers in the wheel are due after the expired ones
+      return nextExpired;
+    }
+
+    long nextDueDate = overflow.firstDueDate();
+    for (int level = 0; level < LEVELS; level++) {
+      final long currentUnit = currentTick >> (level * SLOT_BITS);
+      for (long unit = currentUnit + 1; unit < currentUnit + SLOTS; unit++) {
+        final var slot = levels[level][(int) (unit & SLOT_MASK)];
+        if (!slot.isEmpty()) {
+          final long firstDueDate = slot.firstDueDate();
+          if (nextDueDate == -1 || firstDueDate < nextDueDate) {
+            nextDueDate = firstDueDate;
+          }
+          break;
+        }
+      }
+    }
+    return nextDueDate;
+  }
+
+  synchronized int size() {
+    int size = expired.size() + overflow.size();
+    for (final var slots : levels) {
+      for (final var slot : slots) {
+        size += slot.size();
+      }
+    }
+    return size;
+  }
+
+  /**
+   * Moves the timers of all slots which are passed when advancing to the given timestamp down the
+   * wheel. The lowest levels are advanced first, such that the moved timers are never moved twice.
+   */
+  private void advanceTo(final long timestamp) {
+    final long tick = tickOf(timestamp);
+    if (tick <= currentTick) {
+      return;
+    }
+
+    final long previousTick = currentTick;
+    currentTick = tick;
+
+    for (int level = 0; level < LEVELS; level++) {
+      final int shift = level * SLOT_BITS;
+      final long previousUnit = previousTick >> shift;
+      final long passedUnits = Math.min((tick >> shift) - previousUnit, SLOTS);
+      if (passedUnits == 0) {
+        break;
+      }
+
+      for (long unit = previousUnit + 1; unit <= previousUnit + passedUnits; unit++) {
+        levels[level][(int) (unit & SLOT_MASK)].drainUpTo(Long.MAX_VALUE, placeEntry);
+      }
+    }
+
+    final int highestShift = (LEVELS - 1) * SLOT_BITS;
+    final long coveredTicks = ((tick >> highestShift) + SLOTS) << highestShift;
+    final long maxCoveredDueDate =
+        coveredTicks > Long.MAX_VALUE / TICK_MILLIS
+            ? Long.MAX_VALUE
+            : coveredTicks * TICK_MILLIS - 1;
+    overflow.drainUpTo(maxCoveredDueDate, placeEntry);
+  }
+
+  private void place(final long dueDate, final long timerKey, final long elementInstanceKey) {
+    final long tick = tickOf(dueDate);
+    if (tick <= currentTick) {
+      expired.add(dueDate, timerKey, elementInstanceKey);
+      return;
+    }
+
+    for (int level = 0; level < LEVELS; level++) {
+      final int shift = level * SLOT_BITS;
+      if ((tick >> shift) - (currentTick >> shift) < SLOTS) {
+        slotOf(level, tick).add(dueDate, timerKey, elementInstanceKey);
+        return;
+      }
+    }
+    overflow.add(dueDate, timerKey, elementInstanceKey);
+  }
+
+  private void removeTimer(final long dueDate, final long timerKey) {
+    if (expired.remove(dueDate, timerKey)) {
+      return;
+    }
+
+    final long tick = tickOf(dueDate);
+    for (int level = 0; level < LEVELS; level++) {
+      if (slotOf(level, tick).remove(dueDate, timerKey)) {
+        return;
+      }
+    }
+    overflow.remove(dueDate, timerKey);
+  }
+
+  private DueDateEntries slotOf(final int level, final long tick) {
+    return levels[level][(int) ((tick >> (level * SLOT_BITS)) & SLOT_MASK)];
+  }
+
+  private static long tickOf(final long timestamp) {
+    return Math.floorDiv(timestamp, TICK_MILLIS);
+  }
+}
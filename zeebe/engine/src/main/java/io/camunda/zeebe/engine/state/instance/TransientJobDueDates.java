@@ -0,0 +1,20 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+/**
+ * The in-memory indexes of the job deadlines and backoffs of a partition. They are shared between
+ * the {@link DbJobState} used for processing, which keeps them up to date, and the ones used by
+ * scheduled tasks, which look up the due jobs.
+ */
+public record TransientJobDueDates(JobDueDateIndex deadlines, JobDueDateIndex backoffs) {
+
+  public TransientJobDueDates() {
+    this(new JobDueDateIndex(), new JobDueDateIndex());
+  }
+}
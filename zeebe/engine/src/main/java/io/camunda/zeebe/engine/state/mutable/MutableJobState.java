@@ -47,4 +47,11 @@ public interface MutableJobState extends JobState {
   void migrate(long key, JobRecord record);
 
   void restoreBackoff();
+
+  /**
+   * Rebuilds the in-memory indexes of the job deadlines and backoffs from the persisted state. Must
+   * be called once the state is recovered; afterwards, the indexes are updated whenever a
+   * transaction which modified the deadlines or backoffs is committed.
+   */
+  void rebuildDueDateIndexes();
 }
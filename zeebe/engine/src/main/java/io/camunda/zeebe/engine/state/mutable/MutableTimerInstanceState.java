@@ -17,4 +17,11 @@ public interface MutableTimerInstanceState extends TimerInstanceState {
   void remove(TimerInstance timer);
 
   void update(TimerInstance timer);
+
+  /**
+   * Rebuilds the in-memory timing wheel of the timer due dates from the persisted state. Must be
+   * called once the state is recovered; afterwards, the wheel is updated whenever a transaction
+   * which modified the timers is committed.
+   */
+  void rebuildDueDateWheel();
 }
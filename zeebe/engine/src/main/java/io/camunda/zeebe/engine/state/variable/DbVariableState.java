@@ -20,6 +20,7 @@ import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.BooleanSupplier;
@@ -32,6 +33,8 @@ import org.agrona.collections.ObjectHashSet;
 import org.agrona.concurrent.UnsafeBuffer;
 
 public class DbVariableState implements MutableVariableState {
+  private static final Comparator<DbCompositeKey<DbLong, DbString>> STORED_VARIABLE_NAME_ORDER =
+      DbVariableState::compareStoredVariableNames;
 
   private final MsgPackWriter writer = new MsgPackWriter();
   private final ExpandableArrayBuffer documentResultBuffer = new ExpandableArrayBuffer();
@@ -55,6 +58,10 @@ public class DbVariableState implements MutableVariableState {
   // collecting variables
   private final ObjectHashSet<DirectBuffer> collectedVariables = new ObjectHashSet<>();
   private final ObjectHashSet<DirectBuffer> variablesToCollect = new ObjectHashSet<>();
+  // (scope key, variable name) keys to look up a set of variables of the same scope at once
+  private final DbLong lookupScopeKey = new DbLong();
+  private final List<DbCompositeKey<DbLong, DbString>> lookupKeyPool = new ArrayList<>();
+  private final List<DbCompositeKey<DbLong, DbString>> lookupKeys = new ArrayList<>();
 
   public DbVariableState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
@@ -232,16 +239,11 @@ public class DbVariableState implements MutableVariableState {
 
     writer.reserveMapHeader();
 
-    visitVariables(
-        scopeKey,
-        name -> variablesToCollect.contains(name.getBuffer()),
-        (name, value) -> {
-          writer.writeString(name.getBuffer());
-          writer.writeRaw(value.getValue());
-
-          variablesToCollect.remove(name.getBuffer());
-        },
-        variablesToCollect::isEmpty);
+    long currentScope = scopeKey;
+    do {
+      collectVariablesLocal(currentScope);
+      currentScope = getParentScopeKey(currentScope);
+    } while (!variablesToCollect.isEmpty() && currentScope >= 0);
 
     writer.writeReservedMapHeader(0, names.size() - variablesToCollect.size());
 
@@ -316,6 +318,69 @@ public class DbVariableState implements MutableVariableState {
     return variablesColumnFamily.get(scopeKeyVariableNameKey);
   }
 
+  /**
+   * Writes the variables of the given scope which are still to be collected, and removes them from
+   * {@link #variablesToCollect}. All of them are looked up at once, instead of iterating over all
+   * variables of the scope.
+   *
+   * <p>The keys are sorted in the order in which they are stored, so that the variables are written
+   * in the same order as when iterating over the scope, rather than in the iteration order of
+   * {@link #variablesToCollect}.
+   */
+  private void collectVariablesLocal(final long scopeKey) {
+    lookupScopeKey.wrapLong(scopeKey);
+    lookupKeys.clear();
+    for (final DirectBuffer name : variablesToCollect) {
+      final var lookupKey = nextLookupKey(lookupKeys.size());
+      lookupKey.second().wrapBuffer(name);
+      lookupKeys.add(lookupKey);
+    }
+    lookupKeys.sort(STORED_VARIABLE_NAME_ORDER);
+
+    variablesColumnFamily.multiGet(
+        lookupKeys,
+        (key, variable) -> {
+          final DirectBuffer name = key.second().getBuffer();
+          writer.writeString(name);
+          writer.writeRaw(variable.getValue());
+
+          variablesToCollect.remove(name);
+        });
+  }
+
+  /**
+   * Compares two variable names of the same scope like RocksDB compares their keys: a {@link
+   * DbString} is stored with a big-endian length prefix, followed by its bytes which are compared
+   * as unsigned values.
+   */
+  private static int compareStoredVariableNames(
+      final DbCompositeKey<DbLong, DbString> first, final DbCompositeKey<DbLong, DbString> second) {
+    final DirectBuffer firstName = first.second().getBuffer();
+    final DirectBuffer secondName = second.second().getBuffer();
+
+    final int lengthComparison = Integer.compare(firstName.capacity(), secondName.capacity());
+    if (lengthComparison != 0) {
+      return lengthComparison;
+    }
+
+    for (int i = 0; i < firstName.capacity(); i++) {
+      final int byteComparison =
+          Integer.compare(
+              Byte.toUnsignedInt(firstName.getByte(i)), Byte.toUnsignedInt(secondName.getByte(i)));
+      if (byteComparison != 0) {
+        return byteComparison;
+      }
+    }
+    return 0;
+  }
+
+  private DbCompositeKey<DbLong, DbString> nextLookupKey(final int index) {
+    if (index == lookupKeyPool.size()) {
+      lookupKeyPool.add(new DbCompositeKey<>(lookupScopeKey, new DbString()));
+    }
+    return lookupKeyPool.get(index);
+  }
+
   /**
    * Like {@link #visitVariablesLocal(long, Predicate, BiConsumer, BooleanSupplier)} but walks up
    * the scope hierarchy.
@@ -0,0 +1,184 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class JobDueDateIndexTest {
+
+  private final JobDueDateIndex index = new JobDueDateIndex();
+
+  @BeforeEach
+  void beforeEach() {
+    index.beginRebuild();
+    index.endRebuild();
+  }
+
+  @Test
+  void shouldNotBeUsableWhileRebuilding() {
+    // given
+    final var newIndex = new JobDueDateIndex();
+    assertThat(newIndex.isUsable()).isFalse();
+
+    // when
+    newIndex.beginRebuild();
+
+    // then
+    assertThat(newIndex.isUsable()).isFalse();
+    newIndex.endRebuild();
+    assertThat(newIndex.isUsable()).isTrue();
+  }
+
+  @Test
+  void shouldCopyDueEntriesInOrder() {
+    // given
+    index.add(30, 1);
+    index.add(10, 2);
+    index.add(20, 4);
+    index.add(20, 3);
+
+    // when
+    final var entries = copyEntries(Long.MIN_VALUE, Long.MIN_VALUE, 30, 10);
+
+    // then
+    assertThat(entries).containsExactly(entry(10, 2), entry(20, 3), entry(20, 4));
+  }
+
+  @Test
+  void shouldCopyEntriesFromStartEntry() {
+    // given
+    index.add(10, 1);
+    index.add(20, 2);
+    index.add(20, 3);
+
+    // when
+    final var entries = copyEntries(20, 3, 100, 10);
+
+    // then
+    assertThat(entries).containsExactly(entry(20, 3));
+  }
+
+  @Test
+  void shouldCopyAtMostArrayLength() {
+    // given
+    index.add(10, 1);
+    index.add(20, 2);
+    index.add(30, 3);
+
+    // when
+    final var entries = copyEntries(Long.MIN_VALUE, Long.MIN_VALUE, 100, 2);
+
+    // then
+    assertThat(entries).containsExactly(entry(10, 1), entry(20, 2));
+  }
+
+  @Test
+  void shouldNotAddDuplicates() {
+    // when
+    index.add(10, 1);
+    index.add(10, 1);
+
+    // then
+    assertThat(index.size()).isOne();
+  }
+
+  @Test
+  void shouldRemoveEntries() {
+    // given
+    index.add(10, 1);
+    index.add(20, 2);
+
+    // when
+    index.remove(10, 1);
+    index.remove(20, 3);
+
+    // then
+    assertThat(copyEntries(Long.MIN_VALUE, Long.MIN_VALUE, 100, 10)).containsExactly(entry(20, 2));
+  }
+
+  @Test
+  void shouldReturnNextDueDate() {
+    // given
+    index.add(10, 1);
+    index.add(20, 2);
+
+    // when - then
+    assertThat(index.nextDueDateAfter(5)).isEqualTo(10);
+    assertThat(index.nextDueDateAfter(10)).isEqualTo(20);
+    assertThat(index.nextDueDateAfter(20)).isEqualTo(-1);
+  }
+
+  @Test
+  void shouldDiscardEntriesOnRebuild() {
+    // given
+    index.add(10, 1);
+
+    // when
+    index.beginRebuild();
+    index.endRebuild();
+
+    // then
+    assertThat(index.size()).isZero();
+  }
+
+  @Test
+  void shouldKeepOrderOfManyEntries() {
+    // given
+    final var random = new Random(42);
+    final var expected = new TreeSet<Entry>();
+    for (int i = 0; i < 10_000; i++) {
+      final var entry = entry(random.nextInt(1_000), random.nextInt(100));
+      expected.add(entry);
+      index.add(entry.dueDate(), entry.key());
+    }
+    for (int i = 0; i < 5_000; i++) {
+      final var entry = entry(random.nextInt(1_000), random.nextInt(100));
+      expected.remove(entry);
+      index.remove(entry.dueDate(), entry.key());
+    }
+
+    // when
+    final var entries = copyEntries(Long.MIN_VALUE, Long.MIN_VALUE, Long.MAX_VALUE, 20_000);
+
+    // then
+    assertThat(entries).containsExactlyElementsOf(expected);
+    assertThat(index.size()).isEqualTo(expected.size());
+  }
+
+  private List<Entry> copyEntries(
+      final long startDueDate, final long startKey, final long dueBefore, final int limit) {
+    final var dueDates = new long[limit];
+    final var keys = new long[limit];
+    final int count = index.copyEntries(startDueDate, startKey, dueBefore, dueDates, keys);
+
+    final var entries = new ArrayList<Entry>();
+    for (int i = 0; i < count; i++) {
+      entries.add(entry(dueDates[i], keys[i]));
+    }
+    return entries;
+  }
+
+  private static Entry entry(final long dueDate, final long key) {
+    return new Entry(dueDate, key);
+  }
+
+  private record Entry(long dueDate, long key) implements Comparable<Entry> {
+    @Override
+    public int compareTo(final Entry other) {
+      final int result = Long.compare(dueDate, other.dueDate);
+      return result != 0 ? result : Long.compare(key, other.key);
+    }
+  }
+}
@@ -34,11 +34,18 @@ import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
 
+@RunWith(Parameterized.class)
 public final class JobStateTest {
 
   @Rule public final ProcessingStateRule stateRule = new ProcessingStateRule();
 
+  @Parameter public boolean useDueDateIndexes;
+
   private MutableJobState jobState;
   private MutableProcessingState processingState;
 
@@ -46,6 +53,14 @@ public final class JobStateTest {
   public void setUp() {
     processingState = stateRule.getProcessingState();
     jobState = processingState.getJobState();
+    if (useDueDateIndexes) {
+      jobState.rebuildDueDateIndexes();
+    }
+  }
+
+  @Parameters(name = "useDueDateIndexes: {0}")
+  public static Object[] parameters() {
+    return new Object[] {false, true};
   }
 
   @Test
@@ -420,6 +435,44 @@ public final class JobStateTest {
     assertListedAsBackOff(key, jobRecord.getRecurringTime() + 1);
   }
 
+  @Test
+  public void shouldListJobAsTimedOutIfCompletionWasRolledBack() throws Exception {
+    // given
+    final long key = 1L;
+    final JobRecord jobRecord = newJobRecord();
+    createAndActivateJobRecord(key, jobRecord);
+    final var transaction = stateRule.getTransactionContext().getCurrentTransaction();
+    transaction.run(() -> jobState.complete(key, jobRecord));
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertJobState(key, State.ACTIVATED);
+    assertListedAsTimedOut(key, jobRecord.getDeadline() + 1);
+  }
+
+  @Test
+  public void shouldNotListBackOffOfRolledBackTransaction() throws Exception {
+    // given
+    final long key = 1L;
+    final JobRecord jobRecord =
+        newJobRecord().setRetries(1).setRetryBackoff(100).setRecurringTime(100);
+    createAndActivateJobRecord(key, jobRecord);
+    final var transaction = stateRule.getTransactionContext().getCurrentTransaction();
+    transaction.run(() -> jobState.fail(key, jobRecord));
+    transaction.rollback();
+
+    // when - the rolled back command is retried, resulting in a different backoff
+    jobState.fail(key, jobRecord.setRecurringTime(200));
+
+    // then
+    final long nextBackOff = jobState.findBackedOffJobs(50, (k, record) -> true);
+    assertThat(nextBackOff).isEqualTo(200);
+    refuteListedAsBackOff(key, 150);
+    assertListedAsBackOff(key, 201);
+  }
+
   @Test
   public void shouldRetryProperJobWithRetryBackoff() {
     // given
@@ -0,0 +1,257 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class TimerDueDateWheelTest {
+
+  private static final long NOW = 1_700_000_000_000L;
+
+  private final TimerDueDateWheel wheel = new TimerDueDateWheel();
+
+  @BeforeEach
+  void beforeEach() {
+    wheel.beginRebuild();
+    wheel.endRebuild();
+  }
+
+  @Test
+  void shouldNotBeUsableWhileRebuilding() {
+    // given
+    final var newWheel = new TimerDueDateWheel();
+    assertThat(newWheel.isUsable()).isFalse();
+
+    // when
+    newWheel.beginRebuild();
+
+    // then
+    assertThat(newWheel.isUsable()).isFalse();
+    newWheel.endRebuild();
+    assertThat(newWheel.isUsable()).isTrue();
+  }
+
+  @Test
+  void shouldCopyDueTimersInOrder() {
+    // given
+    wheel.add(NOW + 30, 1, 10);
+    wheel.add(NOW + 10, 2, 20);
+    wheel.add(NOW + 20, 4, 40);
+    wheel.add(NOW + 20, 3, 30);
+
+    // when
+    final var timers = copyDueTimers(NOW + 20, 10);
+
+    // then
+    assertThat(timers)
+        .containsExactly(timer(NOW + 10, 2, 20), timer(NOW + 20, 3, 30), timer(NOW + 20, 4, 40));
+  }
+
+  @Test
+  void shouldOnlyCopyDueTimers() {
+    // given
+    wheel.add(NOW, 1, 10);
+    wheel.add(NOW + 1, 2, 20);
+    wheel.add(NOW + Duration.ofMinutes(1).toMillis(), 3, 30);
+
+    // when
+    final var timers = copyDueTimers(NOW, 10);
+
+    // then
+    assertThat(timers).containsExactly(timer(NOW, 1, 10));
+  }
+
+  @Test
+  void shouldCopyTimersFromStartTimer() {
+    // given
+    wheel.add(NOW + 10, 1, 10);
+    wheel.add(NOW + 20, 2, 20);
+    wheel.add(NOW + 20, 3, 30);
+
+    // when
+    final var dueDates = new long[10];
+    final var timerKeys = new long[10];
+    final var elementInstanceKeys = new long[10];
+    final int count =
+        wheel.copyDueTimers(NOW + 100, NOW + 20, 3, dueDates, timerKeys, elementInstanceKeys);
+
+    // then
+    assertThat(count).isOne();
+    assertThat(timerKeys[0]).isEqualTo(3);
+  }
+
+  @Test
+  void shouldCascadeTimersOfHigherLevels() {
+    // given
+    wheel.copyDueTimers(NOW, Long.MIN_VALUE, Long.MIN_VALUE, new long[1], new long[1], new long[1]);
+    final long inOneHour = NOW + Duration.ofHours(1).toMillis();
+    final long inOneWeek = NOW + Duration.ofDays(7).toMillis();
+    final long inOneYear = NOW + Duration.ofDays(365).toMillis();
+    wheel.add(inOneYear, 3, 30);
+    wheel.add(inOneWeek, 2, 20);
+    wheel.add(inOneHour, 1, 10);
+
+    // when - then
+    assertThat(copyDueTimers(inOneHour - 1, 10)).isEmpty();
+    assertThat(copyDueTimers(inOneHour, 10)).containsExactly(timer(inOneHour, 1, 10));
+    assertThat(copyDueTimers(inOneWeek - 1, 10)).containsExactly(timer(inOneHour, 1, 10));
+    assertThat(copyDueTimers(inOneYear, 10))
+        .containsExactly(timer(inOneHour, 1, 10), timer(inOneWeek, 2, 20), timer(inOneYear, 3, 30));
+  }
+
+  @Test
+  void shouldKeepTimersWhichAreDueFarInTheFuture() {
+    // given
+    wheel.copyDueTimers(NOW, Long.MIN_VALUE, Long.MIN_VALUE, new long[1], new long[1], new long[1]);
+    final long farFuture = NOW + Duration.ofDays(365L * 1_000).toMillis();
+    wheel.add(farFuture, 1, 10);
+    wheel.add(Long.MAX_VALUE, 2, 20);
+
+    // when - then
+    assertThat(wheel.nextDueDateAfter(NOW)).isEqualTo(farFuture);
+    assertThat(copyDueTimers(farFuture, 10)).containsExactly(timer(farFuture, 1, 10));
+    assertThat(wheel.nextDueDateAfter(farFuture)).isEqualTo(Long.MAX_VALUE);
+  }
+
+  @Test
+  void shouldNotCopyTimersWhichAreNotDueIfTheClockGoesBack() {
+    // given
+    wheel.add(NOW - 50, 1, 10);
+    wheel.add(NOW, 2, 20);
+    copyDueTimers(NOW, 10);
+
+    // when
+    final var timers = copyDueTimers(NOW - 50, 10);
+
+    // then
+    assertThat(timers).containsExactly(timer(NOW - 50, 1, 10));
+    assertThat(wheel.nextDueDateAfter(NOW - 50)).isEqualTo(NOW);
+  }
+
+  @Test
+  void shouldRemoveTimers() {
+    // given
+    wheel.copyDueTimers(NOW, Long.MIN_VALUE, Long.MIN_VALUE, new long[1], new long[1], new long[1]);
+    final long inOneDay = NOW + Duration.ofDays(1).toMillis();
+    wheel.add(NOW, 1, 10);
+    wheel.add(NOW + 10, 2, 20);
+    wheel.add(inOneDay, 3, 30);
+    wheel.add(inOneDay, 4, 40);
+
+    // when
+    wheel.remove(NOW, 1);
+    wheel.remove(NOW + 10, 2);
+    wheel.remove(inOneDay, 3);
+    wheel.remove(inOneDay, 5);
+
+    // then
+    assertThat(wheel.size()).isOne();
+    assertThat(copyDueTimers(inOneDay, 10)).containsExactly(timer(inOneDay, 4, 40));
+  }
+
+  @Test
+  void shouldReturnNextDueDate() {
+    // given
+    final long inOneMinute = NOW + Duration.ofMinutes(1).toMillis();
+    final long inOneDay = NOW + Duration.ofDays(1).toMillis();
+    wheel.add(NOW + 10, 1, 10);
+    wheel.add(inOneDay, 3, 30);
+    wheel.add(inOneMinute, 2, 20);
+
+    // when - then
+    assertThat(wheel.nextDueDateAfter(NOW)).isEqualTo(NOW + 10);
+    assertThat(wheel.nextDueDateAfter(NOW + 10)).isEqualTo(inOneMinute);
+    assertThat(wheel.nextDueDateAfter(inOneMinute)).isEqualTo(inOneDay);
+    assertThat(wheel.nextDueDateAfter(inOneDay)).isEqualTo(-1);
+  }
+
+  @Test
+  void shouldDiscardTimersOnRebuild() {
+    // given
+    wheel.add(NOW, 1, 10);
+    wheel.add(NOW + Duration.ofDays(1).toMillis(), 2, 20);
+
+    // when
+    wheel.beginRebuild();
+    wheel.endRebuild();
+
+    // then
+    assertThat(wheel.size()).isZero();
+  }
+
+  @Test
+  void shouldFindAllTimersWhileAdvancing() {
+    // given
+    final var random = new Random(42);
+    final var expected = new TreeSet<Timer>();
+    for (int i = 0; i < 10_000; i++) {
+      final var timer =
+          timer(NOW + random.nextLong(Duration.ofDays(30).toMillis()), random.nextInt(100), i);
+      if (expected.add(timer)) {
+        wheel.add(timer.dueDate(), timer.timerKey(), timer.elementInstanceKey());
+      }
+    }
+    for (final var timer : new ArrayList<>(expected)) {
+      if (random.nextBoolean()) {
+        expected.remove(timer);
+        wheel.remove(timer.dueDate(), timer.timerKey());
+      }
+    }
+
+    // when
+    final var timers = new ArrayList<Timer>();
+    long now = NOW;
+    while (now != -1) {
+      final var dueTimers = copyDueTimers(now, 20_000);
+      dueTimers.forEach(timer -> wheel.remove(timer.dueDate(), timer.timerKey()));
+      timers.addAll(dueTimers);
+      now = wheel.nextDueDateAfter(now);
+    }
+
+    // then
+    assertThat(timers).containsExactlyElementsOf(expected);
+    assertThat(wheel.size()).isZero();
+  }
+
+  private List<Timer> copyDueTimers(final long timestamp, final int limit) {
+    final var dueDates = new long[limit];
+    final var timerKeys = new long[limit];
+    final var elementInstanceKeys = new long[limit];
+    final int count =
+        wheel.copyDueTimers(
+            timestamp, Long.MIN_VALUE, Long.MIN_VALUE, dueDates, timerKeys, elementInstanceKeys);
+
+    final var timers = new ArrayList<Timer>();
+    for (int i = 0; i < count; i++) {
+      timers.add(timer(dueDates[i], timerKeys[i], elementInstanceKeys[i]));
+    }
+    return timers;
+  }
+
+  private static Timer timer(
+      final long dueDate, final long timerKey, final long elementInstanceKey) {
+    return new Timer(dueDate, timerKey, elementInstanceKey);
+  }
+
+  private record Timer(long dueDate, long timerKey, long elementInstanceKey)
+      implements Comparable<Timer> {
+    @Override
+    public int compareTo(final Timer other) {
+      final int result = Long.compare(dueDate, other.dueDate);
+      return result != 0 ? result : Long.compare(timerKey, other.timerKey);
+    }
+  }
+}
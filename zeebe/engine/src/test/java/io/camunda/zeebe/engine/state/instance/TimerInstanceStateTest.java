@@ -20,17 +20,32 @@ import org.assertj.core.api.Assertions;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
 
+@RunWith(Parameterized.class)
 public final class TimerInstanceStateTest {
 
   @Rule public final ProcessingStateRule stateRule = new ProcessingStateRule();
 
+  @Parameter public boolean useDueDateWheel;
+
   private MutableTimerInstanceState state;
 
   @Before
   public void setUp() {
     final MutableProcessingState processingState = stateRule.getProcessingState();
     state = processingState.getTimerState();
+    if (useDueDateWheel) {
+      state.rebuildDueDateWheel();
+    }
+  }
+
+  @Parameters(name = "useDueDateWheel: {0}")
+  public static Object[] parameters() {
+    return new Object[] {false, true};
   }
 
   @Test
@@ -170,6 +185,57 @@ public final class TimerInstanceStateTest {
     assertThat(nextDueDate).isEqualTo(timer1.getDueDate());
   }
 
+  @Test
+  public void shouldFindTimersWithDueDateAfterRebuild() {
+    // given
+    createTimerInstance(1, 1, 1000L);
+    createTimerInstance(2, 2, 2000L);
+
+    // when
+    state.rebuildDueDateWheel();
+
+    // then
+    final List<Long> keys = new ArrayList<>();
+    final long nextDueDate =
+        state.processTimersWithDueDateBefore(1000L, t -> keys.add(t.getElementInstanceKey()));
+    assertThat(keys).containsExactly(1L);
+    assertThat(nextDueDate).isEqualTo(2000L);
+  }
+
+  @Test
+  public void shouldNotFindTimerOfRolledBackTransaction() throws Exception {
+    // given
+    final var transaction = stateRule.getTransactionContext().getCurrentTransaction();
+    transaction.run(() -> createTimerInstance(1, 1, 1500L));
+    transaction.rollback();
+
+    // when - the rolled back command is retried, resulting in a different due date
+    createTimerInstance(1, 1, 2000L);
+
+    // then
+    final List<Long> keys = new ArrayList<>();
+    final long nextDueDate =
+        state.processTimersWithDueDateBefore(1000L, t -> keys.add(t.getElementInstanceKey()));
+    assertThat(keys).isEmpty();
+    assertThat(nextDueDate).isEqualTo(2000L);
+  }
+
+  @Test
+  public void shouldFindTimerIfRemovalWasRolledBack() throws Exception {
+    // given
+    final var timer = createTimerInstance(1, 1, 1000L);
+    final var transaction = stateRule.getTransactionContext().getCurrentTransaction();
+    transaction.run(() -> state.remove(timer));
+
+    // when
+    transaction.rollback();
+
+    // then
+    final List<Long> keys = new ArrayList<>();
+    state.processTimersWithDueDateBefore(1000L, t -> keys.add(t.getElementInstanceKey()));
+    assertThat(keys).containsExactly(1L);
+  }
+
   @Test
   public void shouldListAllTimersByElementInstanceKey() {
     // given
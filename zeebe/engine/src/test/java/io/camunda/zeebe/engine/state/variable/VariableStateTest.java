@@ -26,7 +26,9 @@ import io.camunda.zeebe.engine.util.ProcessingStateRule;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
 import org.agrona.DirectBuffer;
@@ -225,6 +227,32 @@ public final class VariableStateTest {
     assertEquality(variablesDocument, "{'a': 1, 'c': 3}");
   }
 
+  @Test
+  public void shouldCollectVariablesByNameInStoredOrder() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+
+    final List<DirectBuffer> names = new ArrayList<>();
+    for (final String name : List.of("zz", "b", "ä", "a", "ab", "Z", "abc", "ö", "x1", "x0")) {
+      names.add(wrapString(name));
+      setVariableLocal(parent, wrapString(name), asMsgPack("1"));
+    }
+    for (final String name : List.of("y", "ba", "ü", "aa")) {
+      names.add(wrapString(name));
+      setVariableLocal(child, wrapString(name), asMsgPack("2"));
+    }
+    Collections.reverse(names);
+
+    // when
+    final DirectBuffer variablesByName =
+        cloneBuffer(variableState.getVariablesAsDocument(child, names));
+
+    // then - the variables are written in the same order as when collecting all of them
+    final DirectBuffer allVariables = cloneBuffer(variableState.getVariablesAsDocument(child));
+    assertThat(variablesByName).isEqualTo(allVariables);
+  }
+
   @Test
   public void shouldCollectOnlyExistingVariablesByName() {
     // given
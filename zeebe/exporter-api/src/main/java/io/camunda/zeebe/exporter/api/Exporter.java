@@ -73,4 +73,22 @@ public interface Exporter {
    * @param record the record to export
    */
   void export(Record<?> record);
+
+  /**
+   * Called at least once for every batch of records to be exported. A batch is a contiguous run of
+   * records, which is passed at once to avoid dispatching each record separately. By default, each
+   * record of the batch is passed to {@link #export(Record)}, so implementations only need to
+   * override this if they can make use of the whole batch.
+   *
+   * <p>Should the method throw an unexpected {@link RuntimeException}, it will be called again with
+   * the remaining records of the batch, starting with the record which the iterator returned last.
+   * The same error handling rules as for {@link #export(Record)} apply.
+   *
+   * @param batch the records to export
+   */
+  default void exportBatch(final RecordBatch batch) {
+    for (final Record<?> record : batch) {
+      export(record);
+    }
+  }
 }
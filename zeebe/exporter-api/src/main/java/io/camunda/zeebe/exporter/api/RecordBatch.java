@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.exporter.api;
+
+import io.camunda.zeebe.protocol.record.Record;
+
+/**
+ * A contiguous run of records, ordered by position, which is passed to {@link
+ * Exporter#exportBatch(RecordBatch)}. It only contains the records which are accepted by the
+ * exporter's {@link io.camunda.zeebe.exporter.api.context.Context.RecordFilter}.
+ *
+ * <p>The records are decoded lazily, while iterating over the batch. Like the record passed to
+ * {@link Exporter#export(Record)}, each record just wraps an internal buffer, and is only valid
+ * until {@link Exporter#exportBatch(RecordBatch)} returns. If the implementation needs to keep a
+ * record, it has to call {@link Record#toJson()} or {@link Record#clone()}.
+ *
+ * <p>A record is considered to be exported once the iterator moved past it, or once {@link
+ * Exporter#exportBatch(RecordBatch)} returns.
+ */
+public interface RecordBatch extends Iterable<Record<?>> {
+
+  /**
+   * @return the number of records in this batch
+   */
+  int size();
+
+  /**
+   * @return true if this batch contains no records, false otherwise
+   */
+  default boolean isEmpty() {
+    return size() == 0;
+  }
+
+  /**
+   * @return the position of the first record in this batch, or -1 if it is empty
+   */
+  long getFirstPosition();
+
+  /**
+   * @return the position of the last record in this batch, or -1 if it is empty
+   */
+  long getLastPosition();
+}
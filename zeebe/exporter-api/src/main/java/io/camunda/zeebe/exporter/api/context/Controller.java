@@ -58,4 +58,14 @@ public interface Controller {
    * @return the restored metadata, or {@link Optional#empty()} if no metadata exist
    */
   Optional<byte[]> readMetadata();
+
+  /**
+   * Signals to the broker that the exporter can't accept the record it is currently exporting yet,
+   * e.g. because it is still waiting for previously exported records to be acknowledged. The record
+   * is not considered exported, and is passed again to the exporter after a short delay. Unlike an
+   * exception thrown while exporting, this is not treated as an export failure.
+   *
+   * <p>The exporter must return without having exported the record after calling this.
+   */
+  void signalBackpressure();
 }
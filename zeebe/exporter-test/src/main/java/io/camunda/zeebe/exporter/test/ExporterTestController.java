@@ -38,6 +38,7 @@ public final class ExporterTestController implements Controller {
   private static final long UNKNOWN_POSITION = -1;
 
   private final AtomicLong position = new AtomicLong(UNKNOWN_POSITION);
+  private final AtomicLong backpressureSignals = new AtomicLong();
   private final List<ExporterTestScheduledTask> scheduledTasks = new CopyOnWriteArrayList<>();
   private volatile long lastRanAtMs = 0;
 
@@ -79,6 +80,16 @@ public final class ExporterTestController implements Controller {
     return exporterMetadata.get();
   }
 
+  @Override
+  public void signalBackpressure() {
+    backpressureSignals.incrementAndGet();
+  }
+
+  /** Returns how often the exporter signaled backpressure via {@link #signalBackpressure()}. */
+  public long getBackpressureSignals() {
+    return backpressureSignals.get();
+  }
+
   /**
    * Clears the list of scheduled tasks and resets the time of the scheduler to 0. NOTE: this call
    * does not cancel scheduled tasks.
@@ -7,14 +7,19 @@
  */
 package io.camunda.zeebe.exporter;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser.Feature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.annotation.JsonAppend;
 import io.camunda.zeebe.exporter.dto.BulkIndexAction;
 import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.util.VisibleForTesting;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import org.apache.http.entity.ContentProducer;
@@ -22,6 +27,12 @@ import org.apache.http.entity.ContentProducer;
 /**
  * Buffers indexing requests of records. Each bulk operation is serialized before being buffered to
  * avoid having to serialize it again on retry.
+ *
+ * <p>The operations are serialized as nd-json by a single generator straight into one buffer, which
+ * is reused between bulk requests, such that no byte array is allocated per record, and the buffer
+ * can be written as is when flushing. If a bulk request outgrows twice the memory limit, e.g.
+ * because of a single large record, the buffer is dropped when clearing the request, so that the
+ * memory of the largest bulk request isn't kept forever.
  */
 final class BulkIndexRequest implements ContentProducer {
 
@@ -29,15 +40,28 @@ final class BulkIndexRequest implements ContentProducer {
       new ObjectMapper()
           .addMixIn(Record.class, RecordSequenceMixin.class)
           .enable(Feature.ALLOW_SINGLE_QUOTES);
+  private static final ObjectWriter RECORD_WRITER = MAPPER.writer();
 
   // The property of the ES record template to store the sequence of the record.
   private static final String RECORD_SEQUENCE_PROPERTY = "sequence";
 
   private final List<BulkOperation> operations = new ArrayList<>();
+  private final OperationsBuffer buffer = new OperationsBuffer();
+  private final long maxRetainedCapacity;
+  private JsonGenerator generator = newGenerator(buffer);
 
   private BulkIndexAction lastIndexedMetadata;
   private int memoryUsageBytes = 0;
 
+  /**
+   * @param memoryLimit the memory usage at which the bulk request is flushed, see {@link
+   *     ElasticsearchExporterConfiguration.BulkConfiguration#memoryLimit}
+   */
+  BulkIndexRequest(final int memoryLimit) {
+    // the buffer grows by doubling, so a regular bulk request may need up to twice the limit
+    maxRetainedCapacity = Math.max(2L * memoryLimit, OperationsBuffer.INITIAL_CAPACITY);
+  }
+
   /**
    * Indexes the given record for the given bulk action. See
    * https://www.elastic.co/guide/en/elasticsearch/reference/7.17/docs-bulk.html for the types of
@@ -56,31 +80,71 @@ final class BulkIndexRequest implements ContentProducer {
       return;
     }
 
-    final byte[] source;
+    final int operationOffset = buffer.length();
+    final int sourceOffset;
     try {
-      source = serializeRecord(record, recordSequence);
-
+      writeAction(action);
+      buffer.write('\n');
+      sourceOffset = buffer.length();
+      writeSource(record, recordSequence);
+      buffer.write('\n');
     } catch (final IOException e) {
+      // drop the partially serialized operation, such that the buffer contains only complete ones
+      resetGenerator();
+      buffer.truncate(operationOffset);
       throw new ElasticsearchExporterException(
           String.format("Failed to serialize record to JSON for indexing action %s", action), e);
     }
 
-    final BulkOperation command = new BulkOperation(action, source);
-    memoryUsageBytes += command.source().length;
+    // exclude the trailing line ending
+    final var command = new BulkOperation(action, sourceOffset, buffer.length() - sourceOffset - 1);
+    memoryUsageBytes += command.sourceLength();
     lastIndexedMetadata = action;
     operations.add(command);
   }
 
-  private static byte[] serializeRecord(final Record<?> record, final RecordSequence recordSequence)
+  private void writeAction(final BulkIndexAction action) throws IOException {
+    generator.writeStartObject();
+    generator.writeObjectFieldStart("index");
+    generator.writeStringField("_index", action.index());
+    generator.writeStringField("_id", action.id());
+    generator.writeStringField("routing", action.routing());
+    generator.writeEndObject();
+    generator.writeEndObject();
+    generator.flush();
+  }
+
+  private void writeSource(final Record<?> record, final RecordSequence recordSequence)
       throws IOException {
-    return MAPPER
-        .writer()
+    RECORD_WRITER
         // Enhance the serialized record by its sequence number. The sequence number is not a part
         // of the record itself but a special property for Elasticsearch. It can be used to limit
         // the number of records when reading from the index, for example, by using a range query.
         // Read https://github.com/camunda/camunda/issues/10568 for details.
         .withAttribute(RECORD_SEQUENCE_PROPERTY, recordSequence.sequence())
-        .writeValueAsBytes(record);
+        .writeValue(generator, record);
+    generator.flush();
+  }
+
+  private void resetGenerator() {
+    try {
+      generator.close();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    generator = newGenerator(buffer);
+  }
+
+  private static JsonGenerator newGenerator(final OutputStream output) {
+    try {
+      return MAPPER
+          .createGenerator(output)
+          .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+          // the operations are separated by line endings, which are written to the buffer directly
+          .setRootValueSeparator(null);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
   }
 
   /** Returns the number of operations indexed so far. */
@@ -98,9 +162,16 @@ final class BulkIndexRequest implements ContentProducer {
     return operations.isEmpty();
   }
 
-  /** Clears the buffer entirely. */
+  /**
+   * Clears the buffer entirely. The underlying memory is kept for the next bulk request, unless it
+   * outgrew twice the memory limit.
+   */
   void clear() {
     operations.clear();
+    buffer.truncate(0);
+    if (buffer.capacity() > maxRetainedCapacity) {
+      buffer.release();
+    }
     memoryUsageBytes = 0;
     lastIndexedMetadata = null;
   }
@@ -115,22 +186,83 @@ final class BulkIndexRequest implements ContentProducer {
     return Collections.unmodifiableList(operations);
   }
 
+  /** Returns a copy of the serialized source of the given operation. */
+  byte[] source(final BulkOperation operation) {
+    return buffer.copyOf(operation.sourceOffset(), operation.sourceLength());
+  }
+
   /**
    * Writes the JSON serialized entries, separated by a line ending for each, effectively writing
    * nd-json.
    */
   @Override
   public void writeTo(final OutputStream outStream) throws IOException {
-    for (final var operation : operations) {
-      MAPPER.writeValue(outStream, operation.metadata());
-      outStream.write('\n');
-      outStream.write(operation.source());
-      outStream.write('\n');
-    }
+    buffer.writeTo(outStream);
   }
 
-  record BulkOperation(BulkIndexAction metadata, byte[] source) {}
+  record BulkOperation(BulkIndexAction metadata, int sourceOffset, int sourceLength) {}
 
   @JsonAppend(attrs = {@JsonAppend.Attr(value = RECORD_SEQUENCE_PROPERTY)})
   private static final class RecordSequenceMixin {}
+
+  @VisibleForTesting
+  int bufferCapacity() {
+    return buffer.capacity();
+  }
+
+  /**
+   * A growable byte buffer to serialize the operations into. The underlying array is kept when
+   * truncated, such that it can be reused for the next bulk request.
+   */
+  private static final class OperationsBuffer extends OutputStream {
+    private static final int INITIAL_CAPACITY = 64 * 1024;
+
+    private byte[] bytes = new byte[INITIAL_CAPACITY];
+    private int length;
+
+    @Override
+    public void write(final int b) {
+      ensureCapacity(length + 1);
+      bytes[length++] = (byte) b;
+    }
+
+    @Override
+    public void write(final byte[] source, final int offset, final int count) {
+      ensureCapacity(length + count);
+      System.arraycopy(source, offset, bytes, length, count);
+      length += count;
+    }
+
+    int length() {
+      return length;
+    }
+
+    int capacity() {
+      return bytes.length;
+    }
+
+    /** Replaces the underlying array by one of the initial capacity, dropping the content. */
+    void release() {
+      bytes = new byte[INITIAL_CAPACITY];
+      length = 0;
+    }
+
+    void truncate(final int length) {
+      this.length = length;
+    }
+
+    byte[] copyOf(final int offset, final int count) {
+      return Arrays.copyOfRange(bytes, offset, offset + count);
+    }
+
+    void writeTo(final OutputStream outStream) throws IOException {
+      outStream.write(bytes, 0, length);
+    }
+
+    private void ensureCapacity(final int capacity) {
+      if (capacity > bytes.length) {
+        bytes = Arrays.copyOf(bytes, Math.max(capacity, bytes.length * 2));
+      }
+    }
+  }
 }
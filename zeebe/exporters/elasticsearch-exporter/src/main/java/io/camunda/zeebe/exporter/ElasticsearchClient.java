@@ -29,11 +29,16 @@ import io.camunda.zeebe.protocol.record.ValueType;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer.Sample;
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import org.apache.http.entity.EntityTemplate;
 import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseListener;
 import org.elasticsearch.client.RestClient;
 
 class ElasticsearchClient implements AutoCloseable {
@@ -43,7 +48,8 @@ class ElasticsearchClient implements AutoCloseable {
   private final ElasticsearchExporterConfiguration configuration;
   private final TemplateReader templateReader;
   private final RecordIndexRouter indexRouter;
-  private final BulkIndexRequest bulkIndexRequest;
+  private final Deque<BulkIndexRequest> releasedBulkIndexRequests = new ArrayDeque<>();
+  private BulkIndexRequest bulkIndexRequest;
 
   private final ElasticsearchMetrics metrics;
 
@@ -59,7 +65,7 @@ class ElasticsearchClient implements AutoCloseable {
       final ElasticsearchExporterConfiguration configuration, final MeterRegistry meterRegistry) {
     this(
         configuration,
-        new BulkIndexRequest(),
+        new BulkIndexRequest(configuration.bulk.memoryLimit),
         RestClientFactory.of(configuration),
         new RecordIndexRouter(configuration.index),
         new TemplateReader(configuration),
@@ -72,7 +78,7 @@ class ElasticsearchClient implements AutoCloseable {
       final RestClient restClient) {
     this(
         configuration,
-        new BulkIndexRequest(),
+        new BulkIndexRequest(configuration.bulk.memoryLimit),
         restClient,
         new RecordIndexRouter(configuration.index),
         new TemplateReader(configuration),
@@ -139,6 +145,91 @@ class ElasticsearchClient implements AutoCloseable {
         });
   }
 
+  /**
+   * Sends the bulk request to Elastic asynchronously, unless it's currently empty. The records
+   * which are indexed afterwards are collected in a new bulk request.
+   *
+   * <p>The returned bulk request keeps its records until it's released via {@link
+   * #release(InFlightBulkRequest)}, such that it can be resent via {@link
+   * #resend(InFlightBulkRequest)} if it fails.
+   *
+   * @return the in-flight bulk request, or null if there was nothing to flush
+   */
+  public InFlightBulkRequest flushAsync() {
+    if (bulkIndexRequest.isEmpty()) {
+      return null;
+    }
+
+    metrics.recordBulkSize(bulkIndexRequest.size());
+    metrics.recordBulkMemorySize(bulkIndexRequest.memoryUsageBytes());
+
+    final var inFlightBulkRequest =
+        new InFlightBulkRequest(bulkIndexRequest, flushLatencyMeasurement);
+    final var releasedBulkIndexRequest = releasedBulkIndexRequests.poll();
+    bulkIndexRequest =
+        releasedBulkIndexRequest != null
+            ? releasedBulkIndexRequest
+            : new BulkIndexRequest(configuration.bulk.memoryLimit);
+
+    send(inFlightBulkRequest);
+    return inFlightBulkRequest;
+  }
+
+  /** Sends the given bulk request again, after it failed. */
+  public void resend(final InFlightBulkRequest inFlightBulkRequest) {
+    send(inFlightBulkRequest);
+  }
+
+  /**
+   * Releases the given bulk request after it was flushed successfully, such that it can be reused.
+   * Like {@link #flush()}, this completes the flush latency measurement of the bulk request, which
+   * includes the time spent on failed attempts.
+   */
+  public void release(final InFlightBulkRequest inFlightBulkRequest) {
+    metrics.stopFlushLatencyMeasurement(inFlightBulkRequest.flushLatencyMeasurement);
+    inFlightBulkRequest.flushLatencyMeasurement = null;
+
+    final var request = inFlightBulkRequest.request;
+    request.clear();
+    releasedBulkIndexRequests.add(request);
+  }
+
+  private void send(final InFlightBulkRequest inFlightBulkRequest) {
+    final var result = new CompletableFuture<Void>();
+    inFlightBulkRequest.result = result;
+
+    final var flushDurationMeasurement = metrics.startFlushDurationMeasurement();
+    client.performRequestAsync(
+        createBulkRequest(inFlightBulkRequest.request),
+        new ResponseListener() {
+          @Override
+          public void onSuccess(final Response response) {
+            try {
+              final var bulkResponse = readResponse(response, BulkIndexResponse.class);
+              if (bulkResponse.errors()) {
+                throwCollectedBulkError(bulkResponse);
+              }
+
+              metrics.stopFlushDurationMeasurement(flushDurationMeasurement);
+              result.complete(null);
+            } catch (final IOException e) {
+              onFailure(new ElasticsearchExporterException("Failed to flush bulk", e));
+            } catch (final Exception e) {
+              onFailure(e);
+            }
+          }
+
+          @Override
+          public void onFailure(final Exception exception) {
+            metrics.recordFailedFlush();
+            result.completeExceptionally(
+                exception instanceof ElasticsearchExporterException
+                    ? exception
+                    : new ElasticsearchExporterException("Failed to flush bulk", exception));
+          }
+        });
+  }
+
   /**
    * Returns whether the exporter should call {@link #flush()} or not.
    *
@@ -177,12 +268,7 @@ class ElasticsearchClient implements AutoCloseable {
   private void exportBulk() {
     final BulkIndexResponse response;
     try {
-      final var request = new Request("POST", "/_bulk");
-      final var body = new EntityTemplate(bulkIndexRequest);
-      body.setContentType("application/x-ndjson");
-      request.setEntity(body);
-
-      response = sendRequest(request, BulkIndexResponse.class);
+      response = sendRequest(createBulkRequest(bulkIndexRequest), BulkIndexResponse.class);
     } catch (final IOException e) {
       throw new ElasticsearchExporterException("Failed to flush bulk", e);
     }
@@ -192,6 +278,14 @@ class ElasticsearchClient implements AutoCloseable {
     }
   }
 
+  private static Request createBulkRequest(final BulkIndexRequest bulkIndexRequest) {
+    final var request = new Request("POST", "/_bulk");
+    final var body = new EntityTemplate(bulkIndexRequest);
+    body.setContentType("application/x-ndjson");
+    request.setEntity(body);
+    return request;
+  }
+
   private void throwCollectedBulkError(final BulkIndexResponse bulkResponse) {
     final var collectedErrors = new ArrayList<String>();
     bulkResponse.items().stream()
@@ -268,10 +362,37 @@ class ElasticsearchClient implements AutoCloseable {
   }
 
   private <T> T sendRequest(final Request request, final Class<T> responseType) throws IOException {
-    final var response = client.performRequest(request);
+    return readResponse(client.performRequest(request), responseType);
+  }
+
+  private <T> T readResponse(final Response response, final Class<T> responseType)
+      throws IOException {
     // buffer the complete response in memory before parsing it; this will give us a better error
     // message which contains the raw response should the deserialization fail
     final var responseBody = response.getEntity().getContent().readAllBytes();
     return MAPPER.readValue(responseBody, responseType);
   }
+
+  /**
+   * A bulk request which was sent asynchronously. Its result is completed by the HTTP client's
+   * threads, all other methods must be called by the exporter.
+   */
+  static final class InFlightBulkRequest {
+    private final BulkIndexRequest request;
+    private volatile CompletableFuture<Void> result;
+    private Sample flushLatencyMeasurement;
+
+    InFlightBulkRequest(final BulkIndexRequest request, final Sample flushLatencyMeasurement) {
+      this.request = request;
+      this.flushLatencyMeasurement = flushLatencyMeasurement;
+    }
+
+    /**
+     * Returns the result of the last attempt to send the bulk request, which is completed
+     * exceptionally if it failed.
+     */
+    CompletableFuture<Void> result() {
+      return result;
+    }
+  }
 }
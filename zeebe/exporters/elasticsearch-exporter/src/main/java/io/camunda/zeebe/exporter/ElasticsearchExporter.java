@@ -10,19 +10,29 @@ package io.camunda.zeebe.exporter;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.camunda.search.connect.plugin.PluginRepository;
+import io.camunda.zeebe.exporter.ElasticsearchClient.InFlightBulkRequest;
 import io.camunda.zeebe.exporter.ElasticsearchExporterConfiguration.IndexConfiguration;
 import io.camunda.zeebe.exporter.api.Exporter;
 import io.camunda.zeebe.exporter.api.ExporterException;
 import io.camunda.zeebe.exporter.api.context.Context;
 import io.camunda.zeebe.exporter.api.context.Controller;
+import io.camunda.zeebe.exporter.api.context.ScheduledTask;
 import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.util.ExponentialBackoffRetryDelay;
+import io.camunda.zeebe.util.RetryDelayStrategy;
+import io.camunda.zeebe.util.logging.ThrottledLogger;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.io.IOException;
 import java.time.Duration;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import org.slf4j.Logger;
@@ -43,7 +53,12 @@ public class ElasticsearchExporter implements Exporter {
       Pattern.compile(PATTERN_MIN_AGE_FORMAT).asPredicate();
   // by default, the bulk request may not be bigger than 100MB
   private static final int RECOMMENDED_MAX_BULK_MEMORY_LIMIT = 100 * 1024 * 1024;
+  // how often to check for completed bulk requests while flushing asynchronously
+  private static final Duration IN_FLIGHT_BULK_REQUESTS_CHECK_INTERVAL = Duration.ofMillis(100);
+  // the maximum delay between resending a failed bulk request
+  private static final Duration MAX_BULK_RESEND_DELAY = Duration.ofSeconds(10);
   private Logger log = LoggerFactory.getLogger(getClass().getPackageName());
+  private Logger failedFlushLog = log;
   private final ObjectMapper exporterMetadataObjectMapper = new ObjectMapper();
 
   private final ElasticsearchExporterMetadata exporterMetadata =
@@ -56,6 +71,13 @@ public class ElasticsearchExporter implements Exporter {
   private ElasticsearchRecordCounters recordCounters;
   private MeterRegistry registry;
 
+  private final Deque<PendingBulkRequest> pendingBulkRequests = new ArrayDeque<>();
+  private ScheduledTask inFlightBulkRequestsCheck;
+  private ScheduledTask failedBulkRequestResend;
+  private final RetryDelayStrategy bulkResendDelay =
+      new ExponentialBackoffRetryDelay(
+          MAX_BULK_RESEND_DELAY, IN_FLIGHT_BULK_REQUESTS_CHECK_INTERVAL);
+
   private long lastPosition = -1;
   private boolean indexTemplatesCreated;
 
@@ -68,6 +90,8 @@ public class ElasticsearchExporter implements Exporter {
 
     validate(configuration);
     pluginRepository.load(configuration.getInterceptorPlugins());
+    // a failed asynchronous flush is logged at most as often as a failed periodic flush
+    failedFlushLog = new ThrottledLogger(log, Duration.ofSeconds(configuration.bulk.delay));
 
     context.setFilter(new ElasticsearchRecordFilter(configuration));
     indexTemplatesCreated = false;
@@ -95,12 +119,26 @@ public class ElasticsearchExporter implements Exporter {
   public void close() {
 
     try {
-      flush();
-      updateLastExportedPosition();
+      if (isFlushingAsynchronously()) {
+        flushAndAwaitPendingBulkRequests();
+      } else {
+        flush();
+        updateLastExportedPosition();
+      }
     } catch (final Exception e) {
       log.warn("Failed to flush records before closing exporter.", e);
     }
 
+    if (inFlightBulkRequestsCheck != null) {
+      inFlightBulkRequestsCheck.cancel();
+      inFlightBulkRequestsCheck = null;
+    }
+
+    if (failedBulkRequestResend != null) {
+      failedBulkRequestResend.cancel();
+      failedBulkRequestResend = null;
+    }
+
     try {
       client.close();
     } catch (final Exception e) {
@@ -124,6 +162,11 @@ public class ElasticsearchExporter implements Exporter {
       updateRetentionPolicyForExistingIndices();
     }
 
+    if (isFlushingAsynchronously()) {
+      exportWithAsynchronousFlush(record);
+      return;
+    }
+
     final var recordSequence = recordCounters.getNextRecordSequence(record);
     client.index(record, recordSequence);
     lastPosition = record.getPosition();
@@ -142,6 +185,30 @@ public class ElasticsearchExporter implements Exporter {
     }
   }
 
+  private void exportWithAsynchronousFlush(final Record<?> record) {
+    acknowledgeCompletedBulkRequests();
+
+    // The full bulk request is flushed before indexing the record, such that the record can simply
+    // be exported again if there is no capacity to flush it. This is regular backpressure and not a
+    // failure, so the broker passes the record again shortly after, which avoids blocking the actor
+    // until a bulk request completed.
+    if (client.shouldFlush() && !flushAsync()) {
+      controller.signalBackpressure();
+      return;
+    }
+
+    final var recordSequence = recordCounters.getNextRecordSequence(record);
+    client.index(record, recordSequence);
+    lastPosition = record.getPosition();
+    // A failed asynchronous flush is retried by resending the bulk request, and not by exporting
+    // the record again, which is why the record counters can be updated immediately.
+    recordCounters.updateRecordCounters(record, recordSequence);
+
+    if (client.shouldFlush()) {
+      flushAsync();
+    }
+  }
+
   private void validate(final ElasticsearchExporterConfiguration configuration) {
     if (configuration.index.prefix != null && configuration.index.prefix.contains("_")) {
       throw new ExporterException(
@@ -156,6 +223,13 @@ public class ElasticsearchExporter implements Exporter {
           RECOMMENDED_MAX_BULK_MEMORY_LIMIT);
     }
 
+    if (configuration.bulk.maxInFlightRequests < 0) {
+      throw new ExporterException(
+          String.format(
+              "Elasticsearch bulk maxInFlightRequests must be >= 0. Current value: %d",
+              configuration.bulk.maxInFlightRequests));
+    }
+
     final Integer numberOfShards = configuration.index.getNumberOfShards();
     if (numberOfShards != null && numberOfShards < 1) {
       throw new ExporterException(
@@ -200,8 +274,13 @@ public class ElasticsearchExporter implements Exporter {
 
   private void flushAndReschedule() {
     try {
-      flush();
-      updateLastExportedPosition();
+      if (isFlushingAsynchronously()) {
+        acknowledgeCompletedBulkRequests();
+        flushAsync();
+      } else {
+        flush();
+        updateLastExportedPosition();
+      }
     } catch (final Exception e) {
       log.warn("Unexpected exception occurred on periodically flushing bulk, will retry later.", e);
     }
@@ -218,9 +297,162 @@ public class ElasticsearchExporter implements Exporter {
   }
 
   private void updateLastExportedPosition() {
+    controller.updateLastExportedRecordPosition(lastPosition, serializeCurrentExporterMetadata());
+  }
+
+  private byte[] serializeCurrentExporterMetadata() {
     exporterMetadata.setRecordCountersByValueType(recordCounters.getRecordCounters());
-    final var serializeExporterMetadata = serializeExporterMetadata(exporterMetadata);
-    controller.updateLastExportedRecordPosition(lastPosition, serializeExporterMetadata);
+    return serializeExporterMetadata(exporterMetadata);
+  }
+
+  private boolean isFlushingAsynchronously() {
+    return configuration.bulk.maxInFlightRequests > 0;
+  }
+
+  /**
+   * Flushes the current bulk request asynchronously, unless the maximum of in-flight bulk requests
+   * is reached.
+   *
+   * @return true if the bulk request was flushed or was empty, false otherwise
+   */
+  private boolean flushAsync() {
+    if (pendingBulkRequests.size() >= configuration.bulk.maxInFlightRequests) {
+      return false;
+    }
+
+    final var inFlightBulkRequest = client.flushAsync();
+    if (inFlightBulkRequest != null) {
+      pendingBulkRequests.addLast(
+          new PendingBulkRequest(
+              inFlightBulkRequest, lastPosition, serializeCurrentExporterMetadata()));
+      scheduleInFlightBulkRequestsCheck();
+    }
+    return true;
+  }
+
+  /**
+   * Acknowledges the positions of the completed bulk requests, in the order in which they were
+   * flushed. A bulk request is only acknowledged if all bulk requests before it were flushed
+   * successfully. If the oldest bulk request failed, it's resent after an exponential backoff, and
+   * none are acknowledged.
+   */
+  private void acknowledgeCompletedBulkRequests() {
+    while (!pendingBulkRequests.isEmpty()) {
+      final var oldest = pendingBulkRequests.peekFirst();
+      final var result = oldest.request().result();
+      if (!result.isDone()) {
+        return;
+      }
+
+      if (result.isCompletedExceptionally()) {
+        scheduleFailedBulkRequestResend(result.exceptionNow());
+        return;
+      }
+
+      bulkResendDelay.reset();
+      pendingBulkRequests.removeFirst();
+      controller.updateLastExportedRecordPosition(oldest.position(), oldest.metadata());
+      client.release(oldest.request());
+    }
+  }
+
+  private void scheduleFailedBulkRequestResend(final Throwable failure) {
+    if (failedBulkRequestResend != null) {
+      return;
+    }
+
+    final var delay = bulkResendDelay.nextDelay();
+    failedFlushLog.warn(
+        "Failed to flush bulk request asynchronously, will retry in {}.", delay, failure);
+    failedBulkRequestResend =
+        controller.scheduleCancellableTask(delay, this::resendFailedBulkRequest);
+  }
+
+  private void resendFailedBulkRequest() {
+    failedBulkRequestResend = null;
+    final var oldest = pendingBulkRequests.peekFirst();
+    if (oldest == null || !oldest.request().result().isCompletedExceptionally()) {
+      return;
+    }
+
+    try {
+      client.resend(oldest.request());
+    } catch (final Exception e) {
+      failedFlushLog.warn("Unexpected exception occurred on resending bulk request.", e);
+    }
+    scheduleInFlightBulkRequestsCheck();
+  }
+
+  /**
+   * Blocks until the oldest bulk request completed, or the request timeout elapsed. Must only be
+   * used when closing the exporter, as it blocks the exporter's actor.
+   */
+  private void awaitOldestBulkRequest() {
+    final var oldest = pendingBulkRequests.peekFirst();
+    if (oldest == null) {
+      return;
+    }
+
+    try {
+      oldest.request().result().get(configuration.requestTimeoutMs, TimeUnit.MILLISECONDS);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (final ExecutionException | TimeoutException e) {
+      // the failure is handled when acknowledging the completed bulk requests
+    }
+  }
+
+  private void flushAndAwaitPendingBulkRequests() {
+    // if there is no capacity, the current bulk request can only be flushed once the pending ones
+    // are completed
+    final boolean flushed = flushAsync();
+    if (awaitPendingBulkRequests() && !flushed) {
+      flushAsync();
+      awaitPendingBulkRequests();
+    }
+  }
+
+  /**
+   * Waits for all pending bulk requests to complete, and acknowledges them.
+   *
+   * @return true if all were flushed successfully, false if one failed or didn't complete in time
+   */
+  private boolean awaitPendingBulkRequests() {
+    while (!pendingBulkRequests.isEmpty()) {
+      awaitOldestBulkRequest();
+
+      final var result = pendingBulkRequests.peekFirst().request().result();
+      if (!result.isDone() || result.isCompletedExceptionally()) {
+        log.warn(
+            "Failed to flush {} bulk requests before closing exporter.",
+            pendingBulkRequests.size());
+        return false;
+      }
+      acknowledgeCompletedBulkRequests();
+    }
+    return true;
+  }
+
+  private void scheduleInFlightBulkRequestsCheck() {
+    if (inFlightBulkRequestsCheck == null) {
+      inFlightBulkRequestsCheck =
+          controller.scheduleCancellableTask(
+              IN_FLIGHT_BULK_REQUESTS_CHECK_INTERVAL, this::checkInFlightBulkRequests);
+    }
+  }
+
+  private void checkInFlightBulkRequests() {
+    inFlightBulkRequestsCheck = null;
+    try {
+      acknowledgeCompletedBulkRequests();
+    } catch (final Exception e) {
+      log.warn("Unexpected exception occurred on checking in-flight bulk requests.", e);
+    }
+
+    // while a failed bulk request waits to be resent, the resend schedules the next check
+    if (!pendingBulkRequests.isEmpty() && failedBulkRequestResend == null) {
+      scheduleInFlightBulkRequestsCheck();
+    }
   }
 
   private byte[] serializeExporterMetadata(final ElasticsearchExporterMetadata metadata) {
@@ -397,6 +629,12 @@ public class ElasticsearchExporter implements Exporter {
     }
   }
 
+  /**
+   * A bulk request which is flushed asynchronously, with the position and exporter metadata to
+   * acknowledge once it's flushed successfully.
+   */
+  private record PendingBulkRequest(InFlightBulkRequest request, long position, byte[] metadata) {}
+
   private static class ElasticsearchRecordFilter implements Context.RecordFilter {
 
     private final ElasticsearchExporterConfiguration configuration;
@@ -338,6 +338,9 @@ public class ElasticsearchExporterConfiguration {
     public int size = 1_000;
     // memory limit of the bulk in bytes before flush
     public int memoryLimit = 10 * 1024 * 1024;
+    // number of bulk requests which are flushed asynchronously at the same time; if 0, the bulk
+    // requests are flushed synchronously
+    public int maxInFlightRequests = 0;
 
     @Override
     public String toString() {
@@ -348,6 +351,8 @@ public class ElasticsearchExporterConfiguration {
           + size
           + ", memoryLimit="
           + memoryLimit
+          + ", maxInFlightRequests="
+          + maxInFlightRequests
           + '}';
     }
   }
@@ -62,6 +62,14 @@ public class ElasticsearchMetrics {
     flushDuration.record(flushFunction);
   }
 
+  public Timer.Sample startFlushDurationMeasurement() {
+    return Timer.start(meterRegistry);
+  }
+
+  public void stopFlushDurationMeasurement(final Timer.Sample flushDurationSample) {
+    flushDurationSample.stop(flushDuration);
+  }
+
   public void recordBulkSize(final int bulkSize) {
     this.bulkSize.record(bulkSize);
   }
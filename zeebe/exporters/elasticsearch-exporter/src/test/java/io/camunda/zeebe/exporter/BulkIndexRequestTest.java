@@ -39,12 +39,13 @@ final class BulkIndexRequestTest {
       new ObjectMapper().registerModule(new ZeebeProtocolModule());
 
   private static final int PARTITION_ID = 1;
+  private static final int MEMORY_LIMIT = 10 * 1024 * 1024;
 
   private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE =
       new TypeReference<>() {};
 
   private final ProtocolFactory recordFactory = new ProtocolFactory();
-  private final BulkIndexRequest request = new BulkIndexRequest();
+  private final BulkIndexRequest request = new BulkIndexRequest(MEMORY_LIMIT);
 
   @Test
   void shouldReturnMemoryUsageAsLengthOfAllSerializedRecords() throws IOException {
@@ -102,6 +103,44 @@ final class BulkIndexRequestTest {
     assertThat(request.lastIndexedMetadata()).isNull();
   }
 
+  @Test
+  void shouldKeepBufferOnClear() {
+    // given
+    indexRecords(request, 500);
+    final var capacity = request.bufferCapacity();
+
+    // when
+    request.clear();
+
+    // then
+    assertThat(request.bufferCapacity()).isEqualTo(capacity);
+  }
+
+  @Test
+  void shouldReleaseOversizedBufferOnClear() {
+    // given
+    final var smallRequest = new BulkIndexRequest(1024);
+    indexRecords(smallRequest, 500);
+    final var capacity = smallRequest.bufferCapacity();
+
+    // when
+    smallRequest.clear();
+
+    // then
+    assertThat(smallRequest.bufferCapacity()).isLessThan(capacity);
+    assertThat(smallRequest.isEmpty()).isTrue();
+  }
+
+  private void indexRecords(final BulkIndexRequest request, final int count) {
+    final var records = recordFactory.generateRecords().limit(count).toList();
+    for (int i = 0; i < count; i++) {
+      request.index(
+          new BulkIndexAction("index", "id" + i, "routing"),
+          records.get(i),
+          new RecordSequence(PARTITION_ID, i));
+    }
+  }
+
   @Nested
   final class IndexTest {
     @Test
@@ -197,6 +236,34 @@ final class BulkIndexRequestTest {
               Tuple.tuple(actions.get(1), records.get(1)));
     }
 
+    @Test
+    void shouldOnlyWriteOperationsIndexedAfterClear() throws IOException {
+      // given
+      final var records = recordFactory.generateRecords().limit(2).toList();
+      final var actions =
+          List.of(
+              new BulkIndexAction("index", "id", "routing"),
+              new BulkIndexAction("index2", "id2", "routing2"));
+      request.index(actions.get(0), records.get(0), new RecordSequence(PARTITION_ID, 1));
+      request.clear();
+
+      // when
+      request.index(actions.get(1), records.get(1), new RecordSequence(PARTITION_ID, 2));
+      final byte[] serializedBuffer;
+      try (final var output = new ByteArrayOutputStream()) {
+        request.writeTo(output);
+        serializedBuffer = output.toByteArray();
+      }
+
+      // then
+      try (final var input =
+          new BufferedReader(new InputStreamReader(new ByteArrayInputStream(serializedBuffer)))) {
+        assertThat(deserializeOperation(input.readLine().getBytes(), input.readLine().getBytes()))
+            .isEqualTo(Tuple.tuple(actions.get(1), records.get(1)));
+        assertThat(input.readLine()).isNull();
+      }
+    }
+
     @Test
     void shouldIndexRecordWithSequence() {
       // given
@@ -217,7 +284,7 @@ final class BulkIndexRequestTest {
       // then
       assertThat(request.bulkOperations())
           .hasSize(2)
-          .map(operation -> MAPPER.readValue(operation.source(), MAP_TYPE_REFERENCE))
+          .map(operation -> MAPPER.readValue(request.source(operation), MAP_TYPE_REFERENCE))
           .extracting(source -> source.get("sequence"))
           .describedAs("Expect that the records are serialized with the sequences")
           .containsExactly(recordSequences.get(0).sequence(), recordSequences.get(1).sequence());
@@ -225,7 +292,7 @@ final class BulkIndexRequestTest {
 
     private Record<?> deserializeSource(final BulkOperation operation) {
       try {
-        return MAPPER.readValue(operation.source(), new TypeReference<>() {});
+        return MAPPER.readValue(request.source(operation), new TypeReference<>() {});
       } catch (final IOException e) {
         throw new UncheckedIOException(
             String.format("Failed to deserialize operation [%s] source", operation.metadata()), e);
@@ -51,7 +51,7 @@ final class ElasticsearchClientIT {
       new ElasticsearchExporterConfiguration();
   private final TemplateReader templateReader = new TemplateReader(config);
   private final RecordIndexRouter indexRouter = new RecordIndexRouter(config.index);
-  private final BulkIndexRequest bulkRequest = new BulkIndexRequest();
+  private final BulkIndexRequest bulkRequest = new BulkIndexRequest(config.bulk.memoryLimit);
   private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
 
   private TestClient testClient;
@@ -54,7 +54,7 @@ final class ElasticsearchClientTest {
   private final ProtocolFactory factory = new ProtocolFactory();
   private final ElasticsearchExporterConfiguration config =
       new ElasticsearchExporterConfiguration();
-  private final BulkIndexRequest bulkRequest = new BulkIndexRequest();
+  private final BulkIndexRequest bulkRequest = new BulkIndexRequest(config.bulk.memoryLimit);
   private final RecordIndexRouter indexRouter = new RecordIndexRouter(config.index);
   private final TemplateReader templateReader = new TemplateReader(config);
 
@@ -11,6 +11,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -19,11 +20,13 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.camunda.zeebe.exporter.ElasticsearchClient.InFlightBulkRequest;
 import io.camunda.zeebe.exporter.api.ExporterException;
 import io.camunda.zeebe.exporter.api.context.Context.RecordFilter;
 import io.camunda.zeebe.exporter.test.ExporterTestConfiguration;
 import io.camunda.zeebe.exporter.test.ExporterTestContext;
 import io.camunda.zeebe.exporter.test.ExporterTestController;
+import io.camunda.zeebe.exporter.test.ExporterTestScheduledTask;
 import io.camunda.zeebe.protocol.record.ImmutableRecord;
 import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.RecordType;
@@ -31,6 +34,8 @@ import io.camunda.zeebe.protocol.record.ValueType;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -318,9 +323,218 @@ final class ElasticsearchExporterTest {
     }
   }
 
+  @Nested
+  final class AsynchronousFlushTest {
+
+    @BeforeEach
+    void initExporter() {
+      config.bulk.maxInFlightRequests = 2;
+      config.requestTimeoutMs = 1;
+      exporter.configure(context);
+      exporter.open(controller);
+    }
+
+    @Test
+    void shouldFlushAsynchronouslyWhenClientDecides() {
+      // given
+      when(client.shouldFlush()).thenReturn(false, false, false, true);
+      when(client.flushAsync()).thenReturn(inFlightBulkRequest(new CompletableFuture<>()));
+
+      // when
+      exporter.export(newRecord(10L));
+      exporter.export(newRecord(11L));
+
+      // then
+      verify(client, times(1)).flushAsync();
+      verify(client, never()).flush();
+      assertThat(controller.getPosition()).isEqualTo(-1L);
+    }
+
+    @Test
+    void shouldUpdateLastExportedPositionInOrder() {
+      // given
+      final var firstResult = new CompletableFuture<Void>();
+      final var secondResult = new CompletableFuture<Void>();
+      when(client.shouldFlush()).thenReturn(false, true, false, true, false, false);
+      when(client.flushAsync())
+          .thenReturn(inFlightBulkRequest(firstResult), inFlightBulkRequest(secondResult));
+      exporter.export(newRecord(10L));
+      exporter.export(newRecord(11L));
+
+      // when
+      secondResult.complete(null);
+      controller.runScheduledTasks(Duration.ofSeconds(1));
+
+      // then
+      assertThat(controller.getPosition()).isEqualTo(-1L);
+
+      // when
+      firstResult.complete(null);
+      controller.runScheduledTasks(Duration.ofSeconds(1));
+
+      // then
+      assertThat(controller.getPosition()).isEqualTo(11L);
+      verify(client, times(2)).release(any());
+    }
+
+    @Test
+    void shouldNotAcknowledgeBulkRequestsAfterFailedOne() {
+      // given - two bulk requests in flight, of which the first fails and the second succeeds
+      final var firstResult =
+          new AtomicReference<CompletableFuture<Void>>(
+              CompletableFuture.failedFuture(new ElasticsearchExporterException("failed")));
+      final var firstBulkRequest = mock(InFlightBulkRequest.class);
+      when(firstBulkRequest.result()).thenAnswer(invocation -> firstResult.get());
+      final var secondBulkRequest = inFlightBulkRequest(CompletableFuture.completedFuture(null));
+      when(client.shouldFlush()).thenReturn(false, true, false, true, false, false);
+      when(client.flushAsync()).thenReturn(firstBulkRequest, secondBulkRequest);
+      doAnswer(
+              invocation -> {
+                firstResult.set(CompletableFuture.completedFuture(null));
+                return null;
+              })
+          .when(client)
+          .resend(firstBulkRequest);
+      exporter.export(newRecord(10L));
+      exporter.export(newRecord(11L));
+
+      // when - the completed bulk requests are acknowledged before indexing the next record
+      exporter.export(newRecord(12L));
+
+      // then - the second bulk request is not acknowledged before the first one
+      assertThat(controller.getPosition()).isEqualTo(-1L);
+      verify(client, never()).release(any());
+
+      // when - the first bulk request is resent successfully
+      controller.runScheduledTasks(Duration.ofMillis(200));
+      controller.runScheduledTasks(Duration.ofMillis(200));
+
+      // then
+      verify(client).resend(firstBulkRequest);
+      verify(client, never()).resend(secondBulkRequest);
+      assertThat(controller.getPosition()).isEqualTo(11L);
+      verify(client).release(firstBulkRequest);
+      verify(client).release(secondBulkRequest);
+    }
+
+    @Test
+    void shouldResendFailedBulkRequest() {
+      // given
+      final var inFlightBulkRequest =
+          inFlightBulkRequest(
+              CompletableFuture.failedFuture(new ElasticsearchExporterException("failed")));
+      when(client.shouldFlush()).thenReturn(true, false);
+      when(client.flushAsync()).thenReturn(inFlightBulkRequest);
+      exporter.export(newRecord(10L));
+      controller.runScheduledTasks(Duration.ofSeconds(1));
+
+      // when
+      controller.runScheduledTasks(Duration.ofSeconds(1));
+
+      // then
+      verify(client).resend(inFlightBulkRequest);
+      assertThat(controller.getPosition()).isEqualTo(-1L);
+    }
+
+    @Test
+    void shouldBackOffResendingFailedBulkRequest() {
+      // given
+      final var inFlightBulkRequest =
+          inFlightBulkRequest(
+              CompletableFuture.failedFuture(new ElasticsearchExporterException("failed")));
+      when(client.shouldFlush()).thenReturn(true, false);
+      when(client.flushAsync()).thenReturn(inFlightBulkRequest);
+      exporter.export(newRecord(10L));
+
+      // when - the failure is noticed
+      controller.runScheduledTasks(Duration.ofSeconds(1));
+      final var firstResend = lastScheduledTask();
+
+      // then - the bulk request is not resent right away
+      verify(client, never()).resend(any());
+
+      // when - the bulk request is resent and fails again
+      controller.runScheduledTasks(Duration.ofSeconds(1));
+      controller.runScheduledTasks(Duration.ofSeconds(1));
+      final var secondResend = lastScheduledTask();
+
+      // then
+      verify(client, times(1)).resend(inFlightBulkRequest);
+      assertThat(secondResend.getDelay()).isGreaterThan(firstResend.getDelay());
+    }
+
+    @Test
+    void shouldNotIndexRecordIfTooManyBulkRequestsAreInFlight() {
+      // given
+      when(client.shouldFlush()).thenReturn(false, true, false, true, true);
+      when(client.flushAsync())
+          .thenReturn(inFlightBulkRequest(new CompletableFuture<>()))
+          .thenReturn(inFlightBulkRequest(new CompletableFuture<>()));
+      exporter.export(newRecord(10L));
+      exporter.export(newRecord(11L));
+
+      // when
+      exporter.export(newRecord(12L));
+
+      // then
+      assertThat(controller.getBackpressureSignals()).isOne();
+      verify(client, times(2)).index(any(), any());
+    }
+
+    @Test
+    void shouldIndexRecordOnceBulkRequestCompleted() {
+      // given
+      final var result = new CompletableFuture<Void>();
+      when(client.shouldFlush()).thenReturn(false, true, false, true, true, true, false);
+      when(client.flushAsync())
+          .thenReturn(inFlightBulkRequest(result))
+          .thenReturn(inFlightBulkRequest(new CompletableFuture<>()))
+          .thenReturn(inFlightBulkRequest(new CompletableFuture<>()));
+      exporter.export(newRecord(10L));
+      exporter.export(newRecord(11L));
+      exporter.export(newRecord(12L));
+
+      // when
+      result.complete(null);
+      exporter.export(newRecord(12L));
+
+      // then
+      assertThat(controller.getBackpressureSignals()).isOne();
+      assertThat(controller.getPosition()).isEqualTo(10L);
+      verify(client, times(3)).index(any(), any());
+    }
+
+    private Record<?> newRecord(final long position) {
+      return ImmutableRecord.builder()
+          .withPosition(position)
+          .withValueType(ValueType.PROCESS_INSTANCE)
+          .build();
+    }
+
+    private ExporterTestScheduledTask lastScheduledTask() {
+      final var scheduledTasks = controller.getScheduledTasks();
+      return scheduledTasks.get(scheduledTasks.size() - 1);
+    }
+
+    private InFlightBulkRequest inFlightBulkRequest(final CompletableFuture<Void> result) {
+      final var inFlightBulkRequest = mock(InFlightBulkRequest.class);
+      when(inFlightBulkRequest.result()).thenReturn(result);
+      return inFlightBulkRequest;
+    }
+  }
+
   @Nested
   final class ValidationTest {
 
+    @Test
+    void shouldForbidNegativeMaxInFlightRequests() {
+      // given
+      config.bulk.maxInFlightRequests = -1;
+
+      // when - then
+      assertThatCode(() -> exporter.configure(context)).isInstanceOf(ExporterException.class);
+    }
+
     @Test
     void shouldNotAllowUnderscoreInIndexPrefix() {
       // given
@@ -0,0 +1,49 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el.impl;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+
+final class ExpressionCacheMetrics {
+
+  private static final String NAMESPACE = "zeebe";
+
+  private static final Counter CACHE_HITS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("feel_expression_cache_hits_total")
+          .help("Number of parsed FEEL expressions which were found in the expression cache")
+          .register();
+
+  private static final Counter CACHE_MISSES =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("feel_expression_cache_misses_total")
+          .help("Number of FEEL expressions which had to be parsed as they were not cached")
+          .register();
+
+  private static final Gauge CACHE_SIZE =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("feel_expression_cache_size")
+          .help("Current number of parsed FEEL expressions in the expression cache")
+          .register();
+
+  void hit() {
+    CACHE_HITS.inc();
+  }
+
+  void miss() {
+    CACHE_MISSES.inc();
+  }
+
+  void setSize(final long size) {
+    CACHE_SIZE.set(size);
+  }
+}
@@ -17,9 +17,11 @@ import org.camunda.feel.syntaxtree.Ref;
 public final class FeelExpression implements Expression {
 
   private final ParsedExpression expression;
+  private final Optional<String> variableName;
 
   public FeelExpression(final ParsedExpression expression) {
     this.expression = expression;
+    variableName = extractVariableName(expression.expression());
   }
 
   @Override
@@ -29,7 +31,7 @@ public final class FeelExpression implements Expression {
 
   @Override
   public Optional<String> getVariableName() {
-    return extractVariableName(expression.expression());
+    return variableName;
   }
 
   @Override
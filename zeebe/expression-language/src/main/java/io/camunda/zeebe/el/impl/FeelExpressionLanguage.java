@@ -42,8 +42,14 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
       new FeelToMessagePackTransformer();
 
   private final FeelEngine feelEngine;
+  private final ParsedExpressionCache expressionCache;
 
   public FeelExpressionLanguage(final FeelEngineClock clock) {
+    this(clock, ParsedExpressionCache.shared());
+  }
+
+  FeelExpressionLanguage(final FeelEngineClock clock, final ParsedExpressionCache expressionCache) {
+    this.expressionCache = expressionCache;
     feelEngine =
         new FeelEngine.Builder()
             .customValueMapper(new MessagePackValueMapper())
@@ -56,6 +62,10 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
   public Expression parseExpression(final String expression) {
     ensureNotNull("expression", expression);
 
+    return expressionCache.getOrParse(expression, this::parseUncachedExpression);
+  }
+
+  private Expression parseUncachedExpression(final String expression) {
     final var expressionMatcher = EXPRESSION_PATTERN.matcher(expression);
 
     if (expressionMatcher.matches()) {
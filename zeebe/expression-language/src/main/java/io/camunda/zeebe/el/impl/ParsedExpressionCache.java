@@ -0,0 +1,66 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.camunda.zeebe.el.Expression;
+import java.util.function.Function;
+
+/**
+ * A bounded cache of parsed expressions, keyed by the raw expression text. Parsing doesn't depend
+ * on the configuration of the FEEL engine and the parsed expressions are immutable, so a single
+ * cache is shared by all instances of the expression language. This way, the same expression is not
+ * parsed again when a process is deployed again, or when it is transformed again after it was
+ * evicted from the process cache.
+ */
+final class ParsedExpressionCache {
+
+  static final int DEFAULT_CAPACITY = 10_000;
+
+  private static final ParsedExpressionCache SHARED =
+      new ParsedExpressionCache(DEFAULT_CAPACITY, new ExpressionCacheMetrics());
+
+  private final Cache<String, Expression> cache;
+  private final ExpressionCacheMetrics metrics;
+
+  ParsedExpressionCache(final long capacity, final ExpressionCacheMetrics metrics) {
+    cache = CacheBuilder.newBuilder().maximumSize(capacity).build();
+    this.metrics = metrics;
+  }
+
+  static ParsedExpressionCache shared() {
+    return SHARED;
+  }
+
+  /**
+   * Returns the cached expression for the given text, or parses and caches it if it is not cached
+   * yet. Invalid expressions are cached as well, since parsing them again yields the same failure.
+   *
+   * @param expression the raw expression text
+   * @param parser the function to parse the expression if it is not cached
+   * @return the parsed expression
+   */
+  Expression getOrParse(final String expression, final Function<String, Expression> parser) {
+    final var cachedExpression = cache.getIfPresent(expression);
+    if (cachedExpression != null) {
+      metrics.hit();
+      return cachedExpression;
+    }
+
+    metrics.miss();
+    final var parsedExpression = parser.apply(expression);
+    cache.put(expression, parsedExpression);
+    metrics.setSize(cache.size());
+    return parsedExpression;
+  }
+
+  long size() {
+    return cache.size();
+  }
+}
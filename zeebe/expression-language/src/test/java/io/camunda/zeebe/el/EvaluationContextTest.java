@@ -8,6 +8,7 @@
 package io.camunda.zeebe.el;
 
 import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static io.camunda.zeebe.test.util.MsgPackUtil.encodeMsgPack;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.camunda.zeebe.el.util.TestFeelEngineClock;
@@ -104,8 +105,104 @@ public class EvaluationContextTest {
     assertThat(evaluationResult.toBuffer()).isEqualTo(variable);
   }
 
+  @Test
+  public void contextVariableEntries() {
+    final var variable = asMsgPack("{\"a\":1, \"b\":\"y\", \"c\":{\"d\":true}}");
+
+    assertThat(evaluateExpressionWithContext("=x.b", variable).getString()).isEqualTo("y");
+    assertThat(evaluateExpressionWithContext("=x.c.d", variable).getBoolean()).isTrue();
+    assertThat(evaluateExpressionWithContext("=x.a + 1", variable).getNumber()).isEqualTo(2L);
+    assertThat(evaluateExpressionWithContext("=x.e", variable).getType())
+        .isEqualTo(ResultType.NULL);
+  }
+
+  @Test
+  public void contextVariableEntriesInAnyOrder() {
+    final var variable = asMsgPack("{\"a\":1, \"b\":2, \"c\":3}");
+
+    final var evaluationResult = evaluateExpressionWithContext("=x.c + x.a + x.b", variable);
+
+    assertThat(evaluationResult.getNumber()).isEqualTo(6L);
+  }
+
+  @Test
+  public void contextVariableKeys() {
+    final var variable = asMsgPack("{\"a\":1, \"b\":2, \"c\":3}");
+
+    final var evaluationResult =
+        evaluateExpressionWithContext("=get entries(x)[key = \"b\"].value[1]", variable);
+
+    assertThat(evaluationResult.getNumber()).isEqualTo(2L);
+  }
+
+  @Test
+  public void largeContextVariable() {
+    final var document = new StringBuilder("{");
+    for (int i = 0; i < 1_000; i++) {
+      document.append("\"key").append(i).append("\":").append(i).append(',');
+    }
+    document.append("\"last\":{\"y\":[1,2,3]}}");
+    final var variable = asMsgPack(document.toString());
+
+    assertThat(evaluateExpressionWithContext("=x.key999", variable).getNumber()).isEqualTo(999L);
+    assertThat(evaluateExpressionWithContext("=x.key0 + x.key500", variable).getNumber())
+        .isEqualTo(500L);
+    assertThat(evaluateExpressionWithContext("=x.last.y[3]", variable).getNumber()).isEqualTo(3L);
+    assertThat(evaluateExpressionWithContext("=x", variable).toBuffer()).isEqualTo(variable);
+  }
+
+  @Test
+  public void contextVariableWithDuplicatedKeys() {
+    final var variable =
+        encodeMsgPack(
+            packer ->
+                packer
+                    .packMapHeader(3)
+                    .packString("a")
+                    .packInt(1)
+                    .packString("b")
+                    .packInt(2)
+                    .packString("a")
+                    .packInt(3));
+
+    assertThat(evaluateExpressionWithContext("=x.a", variable).getNumber()).isEqualTo(3L);
+    assertThat(evaluateExpressionWithContext("=get value(x, \"a\")", variable).getNumber())
+        .isEqualTo(3L);
+    assertThat(evaluateExpressionWithContext("=count(get entries(x))", variable).getNumber())
+        .isEqualTo(2L);
+  }
+
+  @Test
+  public void contextVariableWithNonAsciiKeys() {
+    final var variable = asMsgPack("{\"ä\":1, \"€uro\":2, \"\uD83D\uDE00\":3, \"a\":4}");
+
+    assertThat(evaluateExpressionWithContext("=get value(x, \"ä\")", variable).getNumber())
+        .isEqualTo(1L);
+    assertThat(evaluateExpressionWithContext("=get value(x, \"€uro\")", variable).getNumber())
+        .isEqualTo(2L);
+    assertThat(
+            evaluateExpressionWithContext("=get value(x, \"\uD83D\uDE00\")", variable).getNumber())
+        .isEqualTo(3L);
+    assertThat(evaluateExpressionWithContext("=get value(x, \"€\")", variable).getType())
+        .isEqualTo(ResultType.NULL);
+  }
+
+  @Test
+  public void contextVariableInList() {
+    final var variable = asMsgPack("[{\"y\":1}, {\"y\":2, \"z\":3}]");
+
+    final var evaluationResult = evaluateExpressionWithContext("=x[2].z + x[1].y", variable);
+
+    assertThat(evaluationResult.getNumber()).isEqualTo(4L);
+  }
+
   private EvaluationResult evaluateExpressionWithContext(final DirectBuffer variable) {
-    final var parseExpression = expressionLanguage.parseExpression("=x");
+    return evaluateExpressionWithContext("=x", variable);
+  }
+
+  private EvaluationResult evaluateExpressionWithContext(
+      final String expression, final DirectBuffer variable) {
+    final var parseExpression = expressionLanguage.parseExpression(expression);
     final var evaluationResult =
         expressionLanguage.evaluateExpression(parseExpression, Map.of("x", variable)::get);
 
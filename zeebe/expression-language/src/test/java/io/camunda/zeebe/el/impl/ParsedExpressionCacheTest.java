@@ -0,0 +1,88 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el.impl;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.el.ExpressionLanguage;
+import io.camunda.zeebe.el.util.TestFeelEngineClock;
+import org.junit.Test;
+
+public class ParsedExpressionCacheTest {
+
+  private final ParsedExpressionCache cache =
+      new ParsedExpressionCache(2, new ExpressionCacheMetrics());
+  private final ExpressionLanguage expressionLanguage =
+      new FeelExpressionLanguage(new TestFeelEngineClock(), cache);
+
+  @Test
+  public void shouldReuseParsedExpression() {
+    // given
+    final var expression = expressionLanguage.parseExpression("=x + 1");
+
+    // when
+    final var cachedExpression = expressionLanguage.parseExpression("=x + 1");
+
+    // then
+    assertThat(cachedExpression).isSameAs(expression);
+    assertThat(cache.size()).isOne();
+  }
+
+  @Test
+  public void shouldCacheInvalidExpression() {
+    // given
+    final var expression = expressionLanguage.parseExpression("=x ?! 1");
+
+    // when
+    final var cachedExpression = expressionLanguage.parseExpression("=x ?! 1");
+
+    // then
+    assertThat(cachedExpression.isValid()).isFalse();
+    assertThat(cachedExpression).isSameAs(expression);
+  }
+
+  @Test
+  public void shouldShareCacheBetweenInstances() {
+    // given
+    final var otherExpressionLanguage =
+        new FeelExpressionLanguage(new TestFeelEngineClock(), cache);
+    final var expression = expressionLanguage.parseExpression("=x");
+
+    // when
+    final var cachedExpression = otherExpressionLanguage.parseExpression("=x");
+
+    // then
+    assertThat(cachedExpression).isSameAs(expression);
+  }
+
+  @Test
+  public void shouldEvaluateCachedExpression() {
+    // given
+    expressionLanguage.parseExpression("=x + 1");
+    final var cachedExpression = expressionLanguage.parseExpression("=x + 1");
+
+    // when
+    final var result =
+        expressionLanguage.evaluateExpression(cachedExpression, name -> asMsgPack("2"));
+
+    // then
+    assertThat(result.getNumber()).isEqualTo(3L);
+  }
+
+  @Test
+  public void shouldBoundNumberOfCachedExpressions() {
+    // when
+    expressionLanguage.parseExpression("=a");
+    expressionLanguage.parseExpression("=b");
+    expressionLanguage.parseExpression("=c");
+
+    // then
+    assertThat(cache.size()).isEqualTo(2);
+  }
+}
@@ -11,6 +11,8 @@ import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
 import static io.camunda.zeebe.util.buffer.BufferUtil.cloneBuffer;
 
 import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackType;
+import java.util.LinkedHashSet;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.camunda.feel.context.CustomContext;
@@ -19,17 +21,49 @@ import scala.Option;
 import scala.Tuple2;
 import scala.collection.Iterable;
 import scala.collection.immutable.Map;
+import scala.jdk.javaapi.CollectionConverters;
 
+/**
+ * A FEEL context backed by a MessagePack map. The entries of the map are not read upfront, but only
+ * when the FEEL interpreter first accesses the context. The offsets of the keys and values are then
+ * indexed in a single pass, without reading the values, and a lookup compares the given name with
+ * the keys in place. If a key occurs more than once, its last entry wins, as it would for a map.
+ */
 public class MessagePackContext extends CustomContext {
 
   public final DirectBuffer messagePackMap;
   private final VariableProvider variableProvider;
 
+  /**
+   * Creates a context for the map whose header was just read by the given reader. The reader is
+   * moved to the end of the map.
+   *
+   * @param reader the reader, positioned at the first entry of the map
+   * @param bufferOffset the offset of the map header in the reader's buffer
+   * @param size the number of entries of the map
+   */
   public MessagePackContext(final MsgPackReader reader, final int bufferOffset, final int size) {
-    final var valueSpans = readValueSpans(reader, bufferOffset, size);
+    final var entriesOffset = reader.getOffset() - bufferOffset;
+    reader.skipValues(2L * size);
+
     messagePackMap =
         cloneBuffer(reader.getBuffer(), bufferOffset, reader.getOffset() - bufferOffset);
-    variableProvider = new MessagePackMapVariableProvider(messagePackMap, valueSpans);
+    variableProvider = new MessagePackMapVariableProvider(messagePackMap, entriesOffset, size);
+  }
+
+  /**
+   * Creates a context for a map which spans the given buffer until its end. Since the end of the
+   * map is known, its entries don't need to be skipped.
+   *
+   * @param buffer the buffer containing the map
+   * @param bufferOffset the offset of the map header in the buffer
+   * @param entriesOffset the offset of the first entry, relative to the map header
+   * @param size the number of entries of the map
+   */
+  public MessagePackContext(
+      final DirectBuffer buffer, final int bufferOffset, final int entriesOffset, final int size) {
+    messagePackMap = cloneBuffer(buffer, bufferOffset, buffer.capacity() - bufferOffset);
+    variableProvider = new MessagePackMapVariableProvider(messagePackMap, entriesOffset, size);
   }
 
   @Override
@@ -37,62 +71,171 @@ public class MessagePackContext extends CustomContext {
     return variableProvider;
   }
 
-  private Map<String, Span> readValueSpans(
-      final MsgPackReader reader, final int bufferOffset, final int size) {
-    final var spans = Map.<String, Span>newBuilder();
-    spans.sizeHint(size);
-
-    for (int i = 0; i < size; i++) {
-      final var keyToken = reader.readToken();
-      final var keyBuffer = keyToken.getValueBuffer();
-      final var key = bufferAsString(keyBuffer);
-
-      final var valueOffset = reader.getOffset();
-      reader.skipValue();
-      final var valueLength = reader.getOffset() - valueOffset;
-      spans.addOne(new Tuple2<>(key, new Span(valueOffset - bufferOffset, valueLength)));
-    }
-    return spans.result();
-  }
-
-  record Span(int offset, int length) {}
-
   private static final class MessagePackMapVariableProvider implements VariableProvider {
+    // each indexed entry is stored as: key offset, key length, value offset, value length
+    private static final int ENTRY_FIELDS = 4;
+    // marks keys which are not strings, and can't be looked up by name
+    private static final int NO_KEY = -1;
+
     private final DirectBuffer entries;
     private final DirectBuffer resultView = new UnsafeBuffer();
-    private final Map<String, Span> valueSpans;
+    private final int entriesOffset;
+    private final int size;
+
+    private int[] index;
 
     private MessagePackMapVariableProvider(
-        final DirectBuffer entries, final Map<String, Span> valueSpans) {
+        final DirectBuffer entries, final int entriesOffset, final int size) {
       this.entries = entries;
-      this.valueSpans = valueSpans;
+      this.entriesOffset = entriesOffset;
+      this.size = size;
     }
 
     @Override
     public Option<Object> getVariable(final String name) {
-      return valueSpans
-          .get(name)
-          .map(
-              span -> {
-                resultView.wrap(entries, span.offset(), span.length());
-                return resultView;
-              });
+      indexEntries();
+
+      // search backwards, such that the last entry of a duplicated key wins
+      for (int entry = size - 1; entry >= 0; entry--) {
+        if (hasKey(entry, name)) {
+          return Option.apply(valueOf(entry));
+        }
+      }
+      return Option.empty();
     }
 
     @Override
     public Iterable<String> keys() {
-      return valueSpans.keySet();
+      indexEntries();
+
+      final var keys = new LinkedHashSet<String>(size);
+      for (int entry = 0; entry < size; entry++) {
+        final var keyLength = index[entry * ENTRY_FIELDS + 1];
+        if (keyLength != NO_KEY) {
+          keys.add(bufferAsString(entries, index[entry * ENTRY_FIELDS], keyLength));
+        }
+      }
+      return CollectionConverters.asScala(keys);
     }
 
     @Override
     public Map<String, Object> getVariables() {
+      indexEntries();
+
       final var clonedMap = Map.<String, Object>newBuilder();
-      valueSpans.foreach(
-          entry ->
-              clonedMap.addOne(
-                  new Tuple2<>(
-                      entry._1(), cloneBuffer(entries, entry._2().offset(), entry._2().length()))));
+      clonedMap.sizeHint(size);
+      for (int entry = 0; entry < size; entry++) {
+        final var fieldsOffset = entry * ENTRY_FIELDS;
+        final var keyLength = index[fieldsOffset + 1];
+        if (keyLength != NO_KEY) {
+          final var key = bufferAsString(entries, index[fieldsOffset], keyLength);
+          final var value = cloneBuffer(entries, index[fieldsOffset + 2], index[fieldsOffset + 3]);
+          clonedMap.addOne(new Tuple2<>(key, value));
+        }
+      }
       return clonedMap.result();
     }
+
+    /**
+     * Compares the UTF-8 encoded key of the given entry with the given name, without encoding the
+     * name first.
+     */
+    private boolean hasKey(final int entry, final String name) {
+      final var fieldsOffset = entry * ENTRY_FIELDS;
+      final var keyLength = index[fieldsOffset + 1];
+      // every char is encoded with at least one byte
+      if (keyLength < name.length()) {
+        return false;
+      }
+
+      var offset = index[fieldsOffset];
+      final var keyEnd = offset + keyLength;
+      for (int i = 0; i < name.length(); i++) {
+        final char c = name.charAt(i);
+        final int codePoint;
+        if (Character.isHighSurrogate(c)
+            && i + 1 < name.length()
+            && Character.isLowSurrogate(name.charAt(i + 1))) {
+          codePoint = Character.toCodePoint(c, name.charAt(++i));
+        } else if (Character.isSurrogate(c)) {
+          // an unpaired surrogate can't be encoded, and is replaced the same way String#getBytes
+          // does it
+          codePoint = '?';
+        } else {
+          codePoint = c;
+        }
+
+        offset = matchCodePoint(codePoint, offset, keyEnd);
+        if (offset < 0) {
+          return false;
+        }
+      }
+      return offset == keyEnd;
+    }
+
+    /**
+     * @return the offset after the UTF-8 encoded code point, or -1 if the key doesn't contain it at
+     *     the given offset
+     */
+    private int matchCodePoint(final int codePoint, final int offset, final int keyEnd) {
+      final int length = codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+      if (offset + length > keyEnd) {
+        return -1;
+      } else if (length == 1) {
+        return entries.getByte(offset) == (byte) codePoint ? offset + 1 : -1;
+      }
+
+      // the leading byte marks the length of the sequence, and holds the highest bits
+      final int leadingByte = (0xF00 >> length) & 0xFF | codePoint >> 6 * (length - 1);
+      if (entries.getByte(offset) != (byte) leadingByte) {
+        return -1;
+      }
+      for (int i = 1; i < length; i++) {
+        final int continuationByte = 0x80 | codePoint >> 6 * (length - 1 - i) & 0x3F;
+        if (entries.getByte(offset + i) != (byte) continuationByte) {
+          return -1;
+        }
+      }
+      return offset + length;
+    }
+
+    private DirectBuffer valueOf(final int entry) {
+      final var fieldsOffset = entry * ENTRY_FIELDS;
+      resultView.wrap(entries, index[fieldsOffset + 2], index[fieldsOffset + 3]);
+      return resultView;
+    }
+
+    private void indexEntries() {
+      if (index != null) {
+        return;
+      }
+
+      final var reader = new MsgPackReader();
+      reader.wrap(entries, 0, entries.capacity());
+      reader.skipBytes(entriesOffset);
+      index = new int[size * ENTRY_FIELDS];
+
+      for (int entry = 0; entry < size; entry++) {
+        final var keyToken = reader.readToken();
+        final int keyOffset;
+        final int keyLength;
+        if (keyToken.getType() == MsgPackType.STRING) {
+          keyLength = keyToken.getValueBuffer().capacity();
+          keyOffset = reader.getOffset() - keyLength;
+        } else {
+          keyLength = NO_KEY;
+          keyOffset = NO_KEY;
+        }
+
+        final var valueOffset = reader.getOffset();
+        reader.skipValue();
+
+        final var fieldsOffset = entry * ENTRY_FIELDS;
+        index[fieldsOffset] = keyOffset;
+        index[fieldsOffset + 1] = keyLength;
+        index[fieldsOffset + 2] = valueOffset;
+        index[fieldsOffset + 3] = reader.getOffset() - valueOffset;
+      }
+    }
   }
 }
@@ -12,6 +12,7 @@ import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
 
 import io.camunda.zeebe.msgpack.spec.MsgPackReader;
 import io.camunda.zeebe.msgpack.spec.MsgPackToken;
+import io.camunda.zeebe.msgpack.spec.MsgPackType;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import org.agrona.DirectBuffer;
@@ -73,7 +74,14 @@ public final class MessagePackValueMapper extends JavaValueMapper {
   public Option<Val> toVal(final Object x, final Function1<Object, Val> innerValueMapper) {
     if (x instanceof final DirectBuffer buffer) {
       msgPackReader.wrap(buffer, 0, buffer.capacity());
-      return Option.apply(readNext());
+      final var token = msgPackReader.readToken();
+      if (token.getType() == MsgPackType.MAP) {
+        // the map spans the whole buffer, so its entries don't need to be skipped to find its end
+        final var context =
+            new MessagePackContext(buffer, 0, msgPackReader.getOffset(), token.getSize());
+        return Option.apply(new ValContext(context));
+      }
+      return Option.apply(read(token, 0));
     } else {
       return Option.empty();
     }
@@ -7,7 +7,6 @@
  */
 package io.camunda.zeebe.gateway;
 
-import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsArray;
 import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
 
 import io.camunda.zeebe.gateway.impl.job.JobActivationResponse;
@@ -397,7 +396,7 @@ public final class ResponseMapper {
   }
 
   private static String bufferAsJson(final DirectBuffer customHeaders) {
-    return MsgPackConverter.convertToJson(bufferAsArray(customHeaders));
+    return MsgPackConverter.convertToJson(customHeaders);
   }
 
   static class GrcpJobActivationResult implements JobActivationResult<ActivateJobsResponse> {
@@ -12,14 +12,31 @@ import io.camunda.zeebe.gateway.query.QueryApi;
 import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.protocol.record.ValueType;
 import java.time.Duration;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public final class QueryApiImpl implements QueryApi {
+  private static final int FOLLOWER_TIMEOUT_DIVISOR = 2;
+
   private final BrokerClient client;
+  private final boolean followerReadsEnabled;
+  private final AtomicInteger followerRoundRobin = new AtomicInteger();
 
   public QueryApiImpl(final BrokerClient client) {
+    this(client, false);
+  }
+
+  /**
+   * @param client the client used to send the queries
+   * @param followerReadsEnabled if true, queries are sent to a follower of the partition first, and
+   *     only to the leader if the follower could not answer it, e.g. because its state lags too far
+   *     behind; the follower is given at most half of the query's timeout, and the leader the rest
+   */
+  public QueryApiImpl(final BrokerClient client, final boolean followerReadsEnabled) {
     this.client = client;
+    this.followerReadsEnabled = followerReadsEnabled;
   }
 
   @Override
@@ -44,7 +61,12 @@ public final class QueryApiImpl implements QueryApi {
     final CompletableFuture<String> result = new CompletableFuture<>();
 
     try {
-      sendRequest(key, valueType, timeout, result);
+      final var follower = followerReadsEnabled ? selectFollower(key) : Optional.<Integer>empty();
+      if (follower.isPresent()) {
+        sendRequestToFollower(key, valueType, timeout, follower.get(), result);
+      } else {
+        sendRequest(key, valueType, timeout, result);
+      }
     } catch (final Exception e) {
       result.completeExceptionally(e);
     }
@@ -52,17 +74,45 @@ public final class QueryApiImpl implements QueryApi {
     return result;
   }
 
-  private void sendRequest(
+  private void sendRequestToFollower(
       final long key,
       final ValueType valueType,
       final Duration timeout,
+      final int followerId,
       final CompletableFuture<String> result) {
-    final var request = new BrokerExecuteQuery();
-    final var partitionId = Protocol.decodePartitionId(key);
+    final var request = createRequest(key, valueType);
+    request.setBrokerId(followerId);
 
-    request.setKey(key);
-    request.setPartitionId(partitionId);
-    request.setValueType(valueType);
+    // a follower rejects queries right away if it lags too far behind, but an unresponsive
+    // follower would otherwise use up the whole timeout; only give it part of the timeout, and
+    // leave the rest to the leader, so that the query as a whole still completes within it
+    final long deadline = System.nanoTime() + timeout.toNanos();
+    client
+        .sendRequest(request, timeout.dividedBy(FOLLOWER_TIMEOUT_DIVISOR))
+        .whenComplete(
+            (response, error) -> {
+              if (error == null) {
+                result.complete(response.getResponse());
+                return;
+              }
+
+              // the follower may lag too far behind, or not know the resource yet; the leader
+              // always has the most recent state, so retry there
+              final var remaining = Duration.ofNanos(deadline - System.nanoTime());
+              if (remaining.isNegative() || remaining.isZero()) {
+                result.completeExceptionally(error);
+              } else {
+                sendRequest(key, valueType, remaining, result);
+              }
+            });
+  }
+
+  private void sendRequest(
+      final long key,
+      final ValueType valueType,
+      final Duration timeout,
+      final CompletableFuture<String> result) {
+    final var request = createRequest(key, valueType);
 
     client
         .sendRequestWithRetry(request, timeout)
@@ -75,4 +125,29 @@ public final class QueryApiImpl implements QueryApi {
               }
             });
   }
+
+  private BrokerExecuteQuery createRequest(final long key, final ValueType valueType) {
+    final var request = new BrokerExecuteQuery();
+    final var partitionId = Protocol.decodePartitionId(key);
+
+    request.setKey(key);
+    request.setPartitionId(partitionId);
+    request.setValueType(valueType);
+    return request;
+  }
+
+  private Optional<Integer> selectFollower(final long key) {
+    final var topology = client.getTopologyManager().getTopology();
+    if (topology == null) {
+      return Optional.empty();
+    }
+
+    final var followers = topology.getFollowersForPartition(Protocol.decodePartitionId(key));
+    if (followers == null || followers.isEmpty()) {
+      return Optional.empty();
+    }
+
+    final var index = Math.floorMod(followerRoundRobin.getAndIncrement(), followers.size());
+    return followers.stream().skip(index).findFirst();
+  }
 }
@@ -8,16 +8,23 @@
 package io.camunda.zeebe.gateway.query;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 
 import io.camunda.zeebe.broker.client.api.BrokerErrorException;
 import io.camunda.zeebe.broker.client.api.dto.BrokerError;
 import io.camunda.zeebe.broker.client.api.dto.BrokerErrorResponse;
+import io.camunda.zeebe.broker.client.api.dto.BrokerRequest;
 import io.camunda.zeebe.broker.client.api.dto.BrokerResponse;
+import io.camunda.zeebe.broker.client.impl.BrokerClusterStateImpl;
 import io.camunda.zeebe.gateway.api.util.GatewayTest;
+import io.camunda.zeebe.gateway.query.impl.BrokerExecuteQuery;
 import io.camunda.zeebe.gateway.query.impl.QueryApiImpl;
 import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.protocol.record.ErrorCode;
 import java.time.Duration;
+import java.util.Optional;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
 import org.junit.Test;
@@ -25,6 +32,7 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import org.junit.runners.Parameterized.Parameter;
 import org.junit.runners.Parameterized.Parameters;
+import org.mockito.ArgumentCaptor;
 
 @RunWith(Parameterized.class)
 public final class QueryApiTest extends GatewayTest {
@@ -85,6 +93,88 @@ public final class QueryApiTest extends GatewayTest {
         .isInstanceOf(BrokerErrorException.class);
   }
 
+  @Test
+  public void shouldQueryFollowerIfFollowerReadsEnabled() {
+    // given
+    final var key = Protocol.encodePartitionId(1, 1);
+    final var api = new QueryApiImpl(brokerClient, true);
+    final var timeout = Duration.ofSeconds(5);
+    final var stub = new QueryStub(new BrokerResponse<>("myProcess", 1, 1));
+    stub.registerWith(brokerClient);
+    addFollower(1, 1);
+
+    // when
+    final var result = querier.query(api, key, timeout);
+
+    // then
+    assertThat(result).succeedsWithin(timeout).isEqualTo("myProcess");
+    assertThat(brokerClient.getBrokerRequests())
+        .singleElement()
+        .extracting(BrokerRequest::getBrokerId)
+        .isEqualTo(Optional.of(1));
+  }
+
+  @Test
+  public void shouldFallBackToLeaderIfFollowerCannotAnswer() {
+    // given
+    final var key = Protocol.encodePartitionId(1, 1);
+    final var api = new QueryApiImpl(brokerClient, true);
+    final var timeout = Duration.ofSeconds(5);
+    brokerClient.<BrokerExecuteQuery, BrokerResponse<String>>registerHandler(
+        BrokerExecuteQuery.class,
+        request ->
+            request.getBrokerId().isPresent()
+                ? new BrokerErrorResponse<>(
+                    new BrokerError(ErrorCode.PARTITION_LEADER_MISMATCH, "Follower lags behind"))
+                : new BrokerResponse<>("myProcess", 1, 1));
+    addFollower(1, 1);
+
+    // when
+    final var result = querier.query(api, key, timeout);
+
+    // then
+    assertThat(result).succeedsWithin(timeout).isEqualTo("myProcess");
+    assertThat(brokerClient.getBrokerRequests())
+        .extracting(BrokerRequest::getBrokerId)
+        .containsExactly(Optional.of(1), Optional.empty());
+  }
+
+  @Test
+  public void shouldFallBackToLeaderWithinTimeout() {
+    // given
+    final var key = Protocol.encodePartitionId(1, 1);
+    final var client = spy(brokerClient);
+    final var api = new QueryApiImpl(client, true);
+    final var timeout = Duration.ofSeconds(5);
+    brokerClient.<BrokerExecuteQuery, BrokerResponse<String>>registerHandler(
+        BrokerExecuteQuery.class,
+        request ->
+            request.getBrokerId().isPresent()
+                ? new BrokerErrorResponse<>(
+                    new BrokerError(ErrorCode.PARTITION_LEADER_MISMATCH, "Follower lags behind"))
+                : new BrokerResponse<>("myProcess", 1, 1));
+    addFollower(1, 1);
+
+    // when
+    final var result = querier.query(api, key, timeout);
+
+    // then
+    assertThat(result).succeedsWithin(timeout).isEqualTo("myProcess");
+    final var followerTimeout = ArgumentCaptor.forClass(Duration.class);
+    final var leaderTimeout = ArgumentCaptor.forClass(Duration.class);
+    verify(client).sendRequest(any(), followerTimeout.capture());
+    verify(client).sendRequestWithRetry(any(), leaderTimeout.capture());
+    assertThat(followerTimeout.getValue()).isEqualTo(timeout.dividedBy(2));
+    assertThat(leaderTimeout.getValue())
+        .isLessThanOrEqualTo(timeout)
+        .isGreaterThan(timeout.dividedBy(2));
+  }
+
+  private void addFollower(final int partitionId, final int followerId) {
+    final var topology = (BrokerClusterStateImpl) brokerClient.getTopologyManager().getTopology();
+    topology.addPartitionFollower(partitionId, followerId);
+  }
+
   private interface Querier {
     CompletionStage<String> query(final QueryApi api, final long key, final Duration timeout);
   }
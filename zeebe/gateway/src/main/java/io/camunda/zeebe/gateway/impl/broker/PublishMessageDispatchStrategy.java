@@ -42,7 +42,7 @@ public final class PublishMessageDispatchStrategy implements RequestDispatchStra
 
   public int fromRoutingState(final RoutingState routingState) {
     return switch (routingState.messageCorrelation()) {
-      case HashMod(final int partitionCount) ->
+      case HashMod(int partitionCount) ->
           getSubscriptionPartitionId(wrapString(correlationKey), partitionCount);
     };
   }
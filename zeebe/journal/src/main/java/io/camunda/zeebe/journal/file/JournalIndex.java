@@ -89,4 +89,29 @@ interface JournalIndex {
    * @return true if this index likely have been already indexed. false if otherwise.
    */
   boolean hasIndexed(long index);
+
+  /**
+   * Adds an entry which was indexed before, e.g. when restoring the index from disk. Unlike {@link
+   * #index(JournalRecord, int)}, the entry is added regardless of the density.
+   *
+   * @param index the index of the record
+   * @param asqn the asqn of the record, or {@link SegmentedJournal#ASQN_IGNORE} if it has none
+   * @param position the position of the record within its segment
+   */
+  void restore(long index, long asqn, int position);
+
+  /**
+   * Visits all indexed entries between the given indexes (inclusive), in ascending order.
+   *
+   * @param fromIndex the lowest index to visit
+   * @param toIndex the highest index to visit
+   * @param visitor called with the index, the position and the asqn of each entry; the asqn is
+   *     {@link SegmentedJournal#ASQN_IGNORE} if the entry has none
+   */
+  void forEach(long fromIndex, long toIndex, EntryVisitor visitor);
+
+  @FunctionalInterface
+  interface EntryVisitor {
+    void visit(long index, int position, long asqn);
+  }
 }
@@ -21,6 +21,7 @@ import static com.google.common.base.Preconditions.checkState;
 
 import com.google.common.collect.Sets;
 import io.camunda.zeebe.journal.JournalException;
+import io.camunda.zeebe.journal.file.SegmentIndexFile.SealedSegment;
 import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.io.UncheckedIOException;
@@ -28,7 +29,9 @@ import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.MappedByteBuffer;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import org.agrona.IoUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,6 +47,7 @@ final class Segment implements AutoCloseable, FlushableSegment {
   private static final Logger LOG = LoggerFactory.getLogger(Segment.class);
 
   private final SegmentFile file;
+  private final SegmentIndexFile indexFile;
   private final SegmentDescriptor descriptor;
   private final JournalIndex index;
   private final SegmentWriter writer;
@@ -55,6 +59,9 @@ final class Segment implements AutoCloseable, FlushableSegment {
   private volatile boolean open = true;
   // This need to be volatile because both the writer and the readers access it concurrently
   private volatile boolean markedForDeletion = false;
+  private volatile DeletedFileHandler deletedFileHandler = Files::deleteIfExists;
+  // the index file is written asynchronously once the segment is sealed, off the append path
+  private volatile CompletableFuture<Void> indexFileWrite = CompletableFuture.completedFuture(null);
 
   Segment(
       final SegmentFile file,
@@ -64,6 +71,7 @@ final class Segment implements AutoCloseable, FlushableSegment {
       final JournalIndex index,
       final JournalMetrics metrics) {
     this.file = file;
+    indexFile = new SegmentIndexFile(file.file().toPath());
     this.descriptor = descriptor;
     this.buffer = buffer;
     this.index = index;
@@ -226,6 +234,7 @@ final class Segment implements AutoCloseable, FlushableSegment {
   /** Closes the segment. */
   @Override
   public void close() {
+    awaitIndexFileWrite();
     open = false;
     readers.forEach(SegmentReader::close);
     IoUtil.unmap(buffer);
@@ -233,7 +242,25 @@ final class Segment implements AutoCloseable, FlushableSegment {
 
   /** Deletes the segment. */
   void delete() {
+    softDelete(Files::deleteIfExists);
+  }
+
+  /**
+   * Deletes the segment, but instead of deleting the file itself, passes it to the given handler
+   * once no reader refers to the segment anymore. The file is then already renamed, such that it's
+   * not seen as a segment anymore.
+   *
+   * @param deletedFileHandler handles the file once it's safe to delete, e.g. to recycle it
+   */
+  void delete(final DeletedFileHandler deletedFileHandler) {
+    softDelete(deletedFileHandler);
+  }
+
+  private void softDelete(final DeletedFileHandler deletedFileHandler) {
+    this.deletedFileHandler = deletedFileHandler;
     open = false;
+    awaitIndexFileWrite();
+    indexFile.delete();
     markForDeletion();
     if (readers.isEmpty()) {
       safeDelete();
@@ -249,7 +276,7 @@ final class Segment implements AutoCloseable, FlushableSegment {
     }
     try {
       IoUtil.unmap(buffer);
-      Files.deleteIfExists(file.getFileMarkedForDeletion());
+      deletedFileHandler.handle(file.getFileMarkedForDeletion());
     } catch (final IOException e) {
       LOG.warn(
           "Could not delete segment {}. File to delete {}. This can lead to increased disk usage.",
@@ -284,11 +311,55 @@ final class Segment implements AutoCloseable, FlushableSegment {
     descriptor.updateIfCurrentVersion(buffer);
   }
 
+  /**
+   * Persists the index entries of this segment, such that they can be restored when the journal is
+   * opened again. Must only be called once the segment is sealed, i.e. nothing is written to it
+   * anymore.
+   *
+   * <p>The entries are copied from the index right away, but the file is written asynchronously, as
+   * flushing it and its directory would otherwise block the append which rolled over to the next
+   * segment. The write is awaited before the segment is truncated, deleted or closed.
+   */
+  void persistIndex() {
+    final var lastEntry = writer.getLastEntry();
+    if (lastEntry == null) {
+      return;
+    }
+
+    final var contents =
+        indexFile.encode(
+            new SealedSegment(
+                index(), lastEntry.index(), writer.getLastEntryPosition(), lastEntry.checksum()),
+            index);
+    indexFileWrite = CompletableFuture.runAsync(() -> writeIndexFile(contents));
+  }
+
+  private void writeIndexFile(final ByteBuffer contents) {
+    try {
+      indexFile.write(contents);
+    } catch (final JournalException e) {
+      LOG.warn("Failed to persist the index of segment {}, it will be rebuilt on demand", this, e);
+    }
+  }
+
+  private void awaitIndexFileWrite() {
+    indexFileWrite.join();
+  }
+
   void resetLastEntryInDescriptor() {
+    // the segment is written again, so its persisted index is not valid anymore
+    awaitIndexFileWrite();
+    indexFile.delete();
     descriptor.setLastIndex(0);
     descriptor.setLastPosition(0);
     descriptor.updateIfCurrentVersion(buffer);
     // flush immediately to prevent inconsistencies between descriptor and actual last written entry
     buffer.force(0, descriptor.length());
   }
+
+  /** Handles the file of a deleted segment, once it's safe to do so. */
+  @FunctionalInterface
+  interface DeletedFileHandler {
+    void handle(Path file) throws IOException;
+  }
 }
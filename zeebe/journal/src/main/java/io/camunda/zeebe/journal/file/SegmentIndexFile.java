@@ -0,0 +1,267 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.JournalException;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32C;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persists the index entries of a sealed segment next to the segment file, such that the index can
+ * be restored when the journal is opened again, instead of being rebuilt by reading the segment.
+ *
+ * <p>The file consists of a header with the version, the first and last index of the segment, the
+ * position and checksum of its last entry and the number of entries, followed by the entries
+ * (index, position, asqn), and a CRC32C checksum of everything before it. It's only restored if the
+ * checksum matches and the header matches the segment as it is on disk, so a stale or partially
+ * written file is ignored; e.g. one left over from a segment which was truncated and written again
+ * before a crash.
+ */
+final class SegmentIndexFile {
+
+  private static final Logger LOG = LoggerFactory.getLogger(SegmentIndexFile.class);
+  private static final ByteOrder ENDIANNESS = ByteOrder.LITTLE_ENDIAN;
+  private static final String EXTENSION = ".idx";
+  private static final String TEMPORARY_EXTENSION = ".idx.tmp";
+
+  private static final int VERSION = 2;
+  private static final int LAST_INDEX_OFFSET = Integer.BYTES + Long.BYTES;
+  private static final int LAST_POSITION_OFFSET = LAST_INDEX_OFFSET + Long.BYTES;
+  private static final int LAST_CHECKSUM_OFFSET = LAST_POSITION_OFFSET + Integer.BYTES;
+  private static final int COUNT_OFFSET = LAST_CHECKSUM_OFFSET + Long.BYTES;
+  private static final int HEADER_LENGTH = COUNT_OFFSET + Integer.BYTES;
+  private static final int ENTRY_LENGTH = Long.BYTES + Integer.BYTES + Long.BYTES;
+  private static final int CHECKSUM_LENGTH = Long.BYTES;
+
+  private final Path path;
+
+  SegmentIndexFile(final Path segmentFile) {
+    path = segmentFile.resolveSibling(segmentFile.getFileName() + EXTENSION);
+  }
+
+  Path path() {
+    return path;
+  }
+
+  /**
+   * @return true if the given file is an index file, or a temporary one, of the given journal
+   */
+  static boolean isIndexFile(final String journalName, final String fileName) {
+    return isIndexFile(journalName, fileName, EXTENSION)
+        || isIndexFile(journalName, fileName, TEMPORARY_EXTENSION);
+  }
+
+  /**
+   * @return true if the given index file is a temporary one, or if its segment does not exist
+   */
+  static boolean isOrphaned(final Path indexFile) {
+    final var fileName = indexFile.getFileName().toString();
+    if (fileName.endsWith(TEMPORARY_EXTENSION)) {
+      return true;
+    }
+
+    final var segmentFileName = fileName.substring(0, fileName.length() - EXTENSION.length());
+    return !Files.exists(indexFile.resolveSibling(segmentFileName));
+  }
+
+  private static boolean isIndexFile(
+      final String journalName, final String fileName, final String extension) {
+    return fileName.endsWith(extension)
+        && SegmentFile.isSegmentFile(
+            journalName, fileName.substring(0, fileName.length() - extension.length()));
+  }
+
+  /**
+   * Writes the entries of the given index which belong to the given segment. See {@link
+   * #encode(SealedSegment, JournalIndex)} and {@link #write(ByteBuffer)}.
+   */
+  void write(final SealedSegment segment, final JournalIndex index) {
+    write(encode(segment, index));
+  }
+
+  /**
+   * Encodes the entries of the given index which belong to the given segment. This only reads the
+   * index, so the encoded contents can be written later, e.g. asynchronously, even if the index is
+   * modified in the meantime.
+   */
+  ByteBuffer encode(final SealedSegment segment, final JournalIndex index) {
+    final var entries = new Entries();
+    index.forEach(segment.firstIndex(), segment.lastIndex(), entries::add);
+
+    final var buffer =
+        ByteBuffer.allocate(HEADER_LENGTH + entries.count * ENTRY_LENGTH + CHECKSUM_LENGTH)
+            .order(ENDIANNESS);
+    buffer
+        .putInt(VERSION)
+        .putLong(segment.firstIndex())
+        .putLong(segment.lastIndex())
+        .putInt(segment.lastPosition())
+        .putLong(segment.lastChecksum())
+        .putInt(entries.count);
+    for (int i = 0; i < entries.count; i++) {
+      buffer.putLong(entries.indexes[i]).putInt(entries.positions[i]).putLong(entries.asqns[i]);
+    }
+    buffer.putLong(checksum(buffer, buffer.position()));
+    return buffer.flip();
+  }
+
+  /**
+   * Writes the given encoded contents. They are written to a temporary file first, which is then
+   * moved, so that an existing file is never partially overwritten. Both the file and the directory
+   * are flushed, so that the file never refers to a segment which was changed afterwards, even
+   * after a crash.
+   */
+  void write(final ByteBuffer contents) {
+    final var buffer = contents.duplicate();
+    final var temporaryPath = path.resolveSibling(path.getFileName() + TEMPORARY_EXTENSION);
+    try (final var channel =
+        FileChannel.open(
+            temporaryPath,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      channel.force(true);
+    } catch (final IOException e) {
+      throw new JournalException(
+          String.format("Failed to write index file %s", path.getFileName()), e);
+    }
+
+    try {
+      FileUtil.flushDirectory(path.getParent());
+      Files.move(temporaryPath, path, StandardCopyOption.ATOMIC_MOVE);
+      FileUtil.flushDirectory(path.getParent());
+    } catch (final IOException e) {
+      throw new JournalException(
+          String.format("Failed to move index file %s", path.getFileName()), e);
+    }
+  }
+
+  /**
+   * Restores the entries of the index file into the given index, if it is valid for the given
+   * segment.
+   *
+   * @return true if the entries were restored, false if there is no valid index file
+   */
+  boolean restore(final SealedSegment segment, final JournalIndex index) {
+    final ByteBuffer buffer;
+    try {
+      buffer = ByteBuffer.wrap(Files.readAllBytes(path)).order(ENDIANNESS);
+    } catch (final NoSuchFileException e) {
+      return false;
+    } catch (final IOException e) {
+      LOG.warn("Failed to read index file {}, the segment will be indexed on demand", path, e);
+      return false;
+    }
+
+    if (!isValid(buffer, segment)) {
+      LOG.debug("Ignoring index file {}, as it does not match the segment {}", path, segment);
+      return false;
+    }
+
+    final int count = buffer.getInt(COUNT_OFFSET);
+    buffer.position(HEADER_LENGTH);
+    for (int i = 0; i < count; i++) {
+      final long entryIndex = buffer.getLong();
+      final int position = buffer.getInt();
+      final long asqn = buffer.getLong();
+      index.restore(entryIndex, asqn, position);
+    }
+
+    return true;
+  }
+
+  /**
+   * Deletes the file, and flushes the directory, such that the deletion is durable before the
+   * segment is changed.
+   */
+  void delete() {
+    try {
+      if (Files.deleteIfExists(path)) {
+        FileUtil.flushDirectory(path.getParent());
+      }
+    } catch (final IOException e) {
+      LOG.warn("Failed to delete index file {}", path, e);
+    }
+  }
+
+  private boolean isValid(final ByteBuffer buffer, final SealedSegment segment) {
+    final int length = buffer.limit();
+    if (length < HEADER_LENGTH + CHECKSUM_LENGTH) {
+      return false;
+    }
+
+    final int count = buffer.getInt(COUNT_OFFSET);
+    return buffer.getInt(0) == VERSION
+        && buffer.getLong(Integer.BYTES) == segment.firstIndex()
+        && buffer.getLong(LAST_INDEX_OFFSET) == segment.lastIndex()
+        && buffer.getInt(LAST_POSITION_OFFSET) == segment.lastPosition()
+        && buffer.getLong(LAST_CHECKSUM_OFFSET) == segment.lastChecksum()
+        && count >= 0
+        && length == HEADER_LENGTH + count * ENTRY_LENGTH + CHECKSUM_LENGTH
+        && buffer.getLong(length - CHECKSUM_LENGTH) == checksum(buffer, length - CHECKSUM_LENGTH);
+  }
+
+  private static long checksum(final ByteBuffer buffer, final int length) {
+    final var crc = new CRC32C();
+    crc.update(buffer.duplicate().position(0).limit(length));
+    return crc.getValue();
+  }
+
+  /**
+   * Identifies the contents of a sealed segment, which its index file must match.
+   *
+   * @param firstIndex the index of the first entry of the segment
+   * @param lastIndex the index of the last entry of the segment
+   * @param lastPosition the position of the last entry within the segment
+   * @param lastChecksum the checksum of the last entry
+   */
+  record SealedSegment(long firstIndex, long lastIndex, int lastPosition, long lastChecksum) {}
+
+  private static final class Entries {
+    private long[] indexes = new long[64];
+    private int[] positions = new int[64];
+    private long[] asqns = new long[64];
+    private int count;
+
+    private void add(final long index, final int position, final long asqn) {
+      if (count == indexes.length) {
+        indexes = Arrays.copyOf(indexes, count * 2);
+        positions = Arrays.copyOf(positions, count * 2);
+        asqns = Arrays.copyOf(asqns, count * 2);
+      }
+
+      indexes[count] = index;
+      positions[count] = position;
+      asqns[count] = asqn;
+      count++;
+    }
+  }
+}
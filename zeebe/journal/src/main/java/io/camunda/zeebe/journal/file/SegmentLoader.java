@@ -9,6 +9,8 @@ package io.camunda.zeebe.journal.file;
 
 import io.camunda.zeebe.journal.CorruptedJournalException;
 import io.camunda.zeebe.journal.JournalException;
+import io.camunda.zeebe.journal.file.SegmentIndexFile.SealedSegment;
+import io.camunda.zeebe.journal.record.SBESerializer;
 import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -21,6 +23,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import org.agrona.IoUtil;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -112,6 +115,51 @@ final class SegmentLoader {
         journalIndex);
   }
 
+  /**
+   * Reuses the file of a deleted segment for a new, uninitialized segment, which avoids allocating
+   * a new file. The old descriptor and the first entry are invalidated before the file is renamed,
+   * such that the file can't be mistaken for a written segment, even after a crash.
+   *
+   * <p>If the file doesn't match the expected segment size, it's deleted and a new file is created
+   * instead.
+   */
+  UninitializedSegment recycleSegment(
+      final Path recycledFile,
+      final Path segmentFile,
+      final SegmentDescriptor descriptor,
+      final JournalIndex journalIndex) {
+    final MappedByteBuffer mappedSegment;
+
+    try {
+      if (Files.size(recycledFile) != descriptor.maxSegmentSize()) {
+        LOGGER.debug(
+            "Cannot recycle file {} as its size does not match the segment size {}, deleting it",
+            recycledFile,
+            descriptor.maxSegmentSize());
+        Files.delete(recycledFile);
+        return createUninitializedSegment(segmentFile, descriptor, journalIndex);
+      }
+
+      invalidateRecycledFile(recycledFile);
+      moveRecycledFile(recycledFile, segmentFile);
+
+      try (final var channel =
+          FileChannel.open(segmentFile, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+        mappedSegment = mapSegment(channel, descriptor.maxSegmentSize());
+      }
+    } catch (final IOException e) {
+      throw new JournalException(
+          String.format("Failed to recycle file %s as segment %s", recycledFile, segmentFile), e);
+    }
+
+    return new UninitializedSegment(
+        new SegmentFile(segmentFile.toFile()),
+        descriptor.id(),
+        descriptor.maxSegmentSize(),
+        mappedSegment,
+        journalIndex);
+  }
+
   Segment loadExistingSegment(
       final Path segmentFile, final long lastWrittenAsqn, final JournalIndex journalIndex) {
     try (final var channel =
@@ -127,7 +175,22 @@ final class SegmentLoader {
         mappedSegment = mapSegment(channel, descriptor.maxSegmentSize());
       }
 
-      return loadSegment(segmentFile, mappedSegment, descriptor, lastWrittenAsqn, journalIndex);
+      // the last entry is only set in the descriptor once the segment is sealed, which is when its
+      // index is persisted; restoring it avoids reading the whole segment again to index it
+      final boolean restored =
+          descriptor.lastPosition() > 0
+              && restoreIndex(segmentFile, mappedSegment, descriptor, journalIndex);
+
+      final var segment =
+          loadSegment(segmentFile, mappedSegment, descriptor, lastWrittenAsqn, journalIndex);
+      if (restored && segment.lastIndex() < descriptor.lastIndex()) {
+        // the writer found a corrupted entry and truncated the segment, so the restored index
+        // refers to entries which do not exist anymore
+        journalIndex.deleteAfter(segment.lastIndex());
+        new SegmentIndexFile(segmentFile).delete();
+      }
+
+      return segment;
     } catch (final IOException e) {
       throw new JournalException(
           String.format("Failed to load existing segment %s", segmentFile), e);
@@ -135,6 +198,39 @@ final class SegmentLoader {
   }
 
   /* ---- Internal methods ------ */
+  private boolean restoreIndex(
+      final Path segmentFile,
+      final ByteBuffer buffer,
+      final SegmentDescriptor descriptor,
+      final JournalIndex journalIndex) {
+    final long lastChecksum;
+    try {
+      final var lastEntry =
+          buffer.duplicate().order(ENDIANNESS).position(descriptor.lastPosition());
+      if (!FrameUtil.hasValidVersion(lastEntry)) {
+        return false;
+      }
+
+      FrameUtil.readVersion(lastEntry);
+      lastChecksum =
+          new SBESerializer().readMetadata(new UnsafeBuffer(lastEntry.slice()), 0).checksum();
+    } catch (final RuntimeException e) {
+      // the segment is read again by its writer, which handles a corrupted last entry
+      LOGGER.debug(
+          "Failed to read the last entry of segment {}, its index will be rebuilt", segmentFile, e);
+      return false;
+    }
+
+    return new SegmentIndexFile(segmentFile)
+        .restore(
+            new SealedSegment(
+                descriptor.index(),
+                descriptor.lastIndex(),
+                descriptor.lastPosition(),
+                lastChecksum),
+            journalIndex);
+  }
+
   private Segment loadSegment(
       final Path file,
       final MappedByteBuffer buffer,
@@ -167,6 +263,31 @@ final class SegmentLoader {
     }
   }
 
+  private void invalidateRecycledFile(final Path recycledFile) throws IOException {
+    try (final var channel = FileChannel.open(recycledFile, StandardOpenOption.WRITE)) {
+      final var zeros =
+          ByteBuffer.allocate(SegmentDescriptor.getEncodingLength() + FrameUtil.getLength());
+      while (zeros.hasRemaining()) {
+        channel.write(zeros, zeros.position());
+      }
+      channel.force(false);
+    }
+  }
+
+  private void moveRecycledFile(final Path recycledFile, final Path segmentFile)
+      throws IOException {
+    try {
+      FileUtil.moveDurably(recycledFile, segmentFile);
+    } catch (final FileAlreadyExistsException e) {
+      LOGGER.warn(
+          "Failed to recycle segment {}: an unused file already existed, and will be replaced",
+          segmentFile,
+          e);
+      Files.delete(segmentFile);
+      FileUtil.moveDurably(recycledFile, segmentFile);
+    }
+  }
+
   private MappedByteBuffer mapNewSegment(final Path segmentPath, final SegmentDescriptor descriptor)
       throws IOException {
     final var maxSegmentSize = descriptor.maxSegmentSize();
@@ -100,6 +100,10 @@ final class SegmentWriter {
     return lastEntryPosition;
   }
 
+  JournalRecord getLastEntry() {
+    return lastEntry;
+  }
+
   long getNextIndex() {
     if (lastEntry != null) {
       return lastEntry.index() + 1;
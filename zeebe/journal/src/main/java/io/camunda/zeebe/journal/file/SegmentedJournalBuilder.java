@@ -32,6 +32,8 @@ public class SegmentedJournalBuilder {
   private static final long DEFAULT_MIN_FREE_DISK_SPACE = 1024L * 1024 * 1024;
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final int DEFAULT_PREPARED_SEGMENT_COUNT = 1;
+  private static final boolean DEFAULT_RECYCLE_SEGMENT_FILES = false;
 
   // impossible value to make it clear it's unset
   private static final int DEFAULT_PARTITION_ID = -1;
@@ -43,6 +45,8 @@ public class SegmentedJournalBuilder {
   private long freeDiskSpace = DEFAULT_MIN_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private int preparedSegmentCount = DEFAULT_PREPARED_SEGMENT_COUNT;
+  private boolean recycleSegmentFiles = DEFAULT_RECYCLE_SEGMENT_FILES;
   private int partitionId = DEFAULT_PARTITION_ID;
 
   private JournalMetaStore journalMetaStore;
@@ -140,6 +144,33 @@ public class SegmentedJournalBuilder {
     return this;
   }
 
+  /**
+   * Sets how many segments are created ahead of time in the background, such that rolling over to a
+   * new segment does not have to wait for its file to be allocated. Defaults to 1.
+   *
+   * @param preparedSegmentCount the number of segments to prepare
+   * @return this builder for chaining
+   * @throws IllegalArgumentException if the {@code preparedSegmentCount} is not positive
+   */
+  public SegmentedJournalBuilder withPreparedSegmentCount(final int preparedSegmentCount) {
+    checkArgument(preparedSegmentCount > 0, "preparedSegmentCount must be positive");
+    this.preparedSegmentCount = preparedSegmentCount;
+    return this;
+  }
+
+  /**
+   * Sets whether the files of compacted segments are reused for new segments, instead of being
+   * deleted. A recycled file is already allocated, so it does not need to be pre-allocated again
+   * (see {@link #withPreallocateSegmentFiles(boolean)}). Defaults to false.
+   *
+   * @param recycleSegmentFiles true to recycle segment files, false otherwise
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withRecycleSegmentFiles(final boolean recycleSegmentFiles) {
+    this.recycleSegmentFiles = recycleSegmentFiles;
+    return this;
+  }
+
   /**
    * The ID of the partition on which this journal resides. This is used primarily for
    * observability, e.g. in {@link JournalMetrics}.
@@ -175,7 +206,9 @@ public class SegmentedJournalBuilder {
             name,
             segmentLoader,
             journalMetrics,
-            journalMetaStore);
+            journalMetaStore,
+            preparedSegmentCount,
+            recycleSegmentFiles);
     final var segmentsFlusher = new SegmentsFlusher(journalMetaStore);
 
     return new SegmentedJournal(journalIndex, segmentsManager, journalMetrics, segmentsFlusher);
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.journal.file;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import io.camunda.zeebe.journal.CorruptedJournalException;
@@ -19,18 +20,22 @@ import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
+import java.util.Queue;
 import java.util.SortedMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentSkipListMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -46,7 +51,9 @@ final class SegmentsManager implements AutoCloseable {
   private static final Logger THROTTLED_LOG = new ThrottledLogger(LOG, Duration.ofSeconds(5));
 
   private final NavigableMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
-  private CompletableFuture<UninitializedSegment> nextSegment = null;
+  private final Deque<PreparedSegment> preparedSegments = new ArrayDeque<>();
+  private final Queue<Path> recycledFiles = new ConcurrentLinkedQueue<>();
+  private long lastPreparedSegmentId;
 
   private final JournalMetrics journalMetrics;
   private final JournalIndex journalIndex;
@@ -55,6 +62,8 @@ final class SegmentsManager implements AutoCloseable {
   private final SegmentLoader segmentLoader;
   private final String name;
   private final JournalMetaStore metaStore;
+  private final int preparedSegmentCount;
+  private final boolean recycleSegmentFiles;
 
   private volatile Segment currentSegment;
 
@@ -66,6 +75,38 @@ final class SegmentsManager implements AutoCloseable {
       final SegmentLoader segmentLoader,
       final JournalMetrics journalMetrics,
       final JournalMetaStore metaStore) {
+    this(
+        journalIndex,
+        maxSegmentSize,
+        directory,
+        name,
+        segmentLoader,
+        journalMetrics,
+        metaStore,
+        1,
+        false);
+  }
+
+  /**
+   * @param preparedSegmentCount the number of segments which are created ahead of time, such that
+   *     rolling over to a new segment does not have to wait for its file to be allocated
+   * @param recycleSegmentFiles if true, the files of compacted segments are reused for the prepared
+   *     segments instead of being deleted
+   */
+  SegmentsManager(
+      final JournalIndex journalIndex,
+      final int maxSegmentSize,
+      final File directory,
+      final String name,
+      final SegmentLoader segmentLoader,
+      final JournalMetrics journalMetrics,
+      final JournalMetaStore metaStore,
+      final int preparedSegmentCount,
+      final boolean recycleSegmentFiles) {
+    checkArgument(
+        preparedSegmentCount > 0,
+        "preparedSegmentCount must be greater than 0, but was %s",
+        preparedSegmentCount);
     this.name = checkNotNull(name, "name cannot be null");
     this.journalIndex = journalIndex;
     this.maxSegmentSize = maxSegmentSize;
@@ -73,6 +114,8 @@ final class SegmentsManager implements AutoCloseable {
     this.segmentLoader = segmentLoader;
     this.journalMetrics = journalMetrics;
     this.metaStore = metaStore;
+    this.preparedSegmentCount = preparedSegmentCount;
+    this.recycleSegmentFiles = recycleSegmentFiles;
   }
 
   @Override
@@ -85,15 +128,15 @@ final class SegmentsManager implements AutoCloseable {
               segment.close();
             });
 
-    if (nextSegment != null) {
+    for (final var preparedSegment : preparedSegments) {
       try {
-        nextSegment.join();
+        preparedSegment.segment().join();
       } catch (final Exception e) {
         LOG.warn(
             "Next segment preparation failed during close, ignoring and proceeding to close", e);
       }
-      nextSegment = null;
     }
+    preparedSegments.clear();
 
     currentSegment = null;
   }
@@ -123,25 +166,31 @@ final class SegmentsManager implements AutoCloseable {
     final Segment lastSegment = getLastSegment();
     final var lastWrittenAsqn = lastSegment != null ? lastSegment.lastAsqn() : INITIAL_ASQN;
     final var nextSegmentIndex = currentSegment.lastIndex() + 1;
+    final var preparedSegment = preparedSegments.poll();
     final SegmentDescriptor descriptor =
         SegmentDescriptor.builder()
-            .withId(lastSegment != null ? lastSegment.descriptor().id() + 1 : 1)
+            .withId(
+                preparedSegment != null
+                    ? preparedSegment.id()
+                    : lastSegment != null ? lastSegment.descriptor().id() + 1 : 1)
             .withIndex(nextSegmentIndex)
             .withMaxSegmentSize(maxSegmentSize)
             .build();
-    if (nextSegment != null) {
+    if (preparedSegment != null) {
       try {
         currentSegment =
-            nextSegment.join().initializeForUse(nextSegmentIndex, lastWrittenAsqn, journalMetrics);
+            preparedSegment
+                .segment()
+                .join()
+                .initializeForUse(nextSegmentIndex, lastWrittenAsqn, journalMetrics);
       } catch (final CompletionException e) {
         LOG.error("Failed to acquire next segment, retrying synchronously now.", e);
-        nextSegment = null;
         currentSegment = createSegment(descriptor, lastWrittenAsqn);
       }
     } else {
       currentSegment = createSegment(descriptor, lastWrittenAsqn);
     }
-    prepareNextSegment();
+    prepareNextSegments();
 
     segments.put(descriptor.index(), currentSegment);
     journalMetrics.incSegmentCount();
@@ -197,7 +246,11 @@ final class SegmentsManager implements AutoCloseable {
         compactSegments.size());
     for (final Segment segment : compactSegments.values()) {
       LOG.trace("{} - Deleting segment: {}", name, segment);
-      segment.delete();
+      if (recycleSegmentFiles) {
+        segment.delete(this::recycleSegmentFile);
+      } else {
+        segment.delete();
+      }
       journalMetrics.decSegmentCount();
     }
 
@@ -314,16 +367,39 @@ final class SegmentsManager implements AutoCloseable {
     // node was stopped. It is safe to delete it now since there are no readers opened for these
     // segments.
     deleteDeferredFiles();
+    deleteOrphanedIndexFiles();
   }
 
-  private void prepareNextSegment() {
-    final var descriptor =
-        SegmentDescriptor.builder()
-            .withId(currentSegment.id() + 1)
-            .withIndex(INITIAL_INDEX)
-            .withMaxSegmentSize(maxSegmentSize)
-            .build();
-    nextSegment = CompletableFuture.supplyAsync(() -> createUninitializedSegment(descriptor));
+  /** Prepares new segments asynchronously, until there are as many as configured. */
+  private void prepareNextSegments() {
+    while (preparedSegments.size() < preparedSegmentCount) {
+      final var descriptor =
+          SegmentDescriptor.builder()
+              .withId(Math.max(lastPreparedSegmentId, currentSegment.id()) + 1)
+              .withIndex(INITIAL_INDEX)
+              .withMaxSegmentSize(maxSegmentSize)
+              .build();
+      lastPreparedSegmentId = descriptor.id();
+      preparedSegments.add(
+          new PreparedSegment(
+              descriptor.id(),
+              CompletableFuture.supplyAsync(() -> createUninitializedSegment(descriptor))));
+    }
+  }
+
+  /**
+   * Keeps the file of a deleted segment, such that it can be reused for the next prepared segment.
+   * At most as many files as there are prepared segments are kept; any other file is deleted.
+   *
+   * <p>NOTE: this is called once the segment is not read anymore, which may be from any thread.
+   */
+  private void recycleSegmentFile(final Path deletedFile) throws IOException {
+    if (recycledFiles.size() < preparedSegmentCount) {
+      LOG.trace("{} - Keeping file {} to be recycled", name, deletedFile);
+      recycledFiles.add(deletedFile);
+    } else {
+      Files.deleteIfExists(deletedFile);
+    }
   }
 
   Collection<Segment> getTailSegments(final long index) {
@@ -337,6 +413,12 @@ final class SegmentsManager implements AutoCloseable {
 
   private UninitializedSegment createUninitializedSegment(final SegmentDescriptor descriptor) {
     final var segmentFile = SegmentFile.createSegmentFile(name, directory, descriptor.id());
+    final var recycledFile = recycledFiles.poll();
+    if (recycledFile != null) {
+      return segmentLoader.recycleSegment(
+          recycledFile, segmentFile.toPath(), descriptor, journalIndex);
+    }
+
     return segmentLoader.createUninitializedSegment(segmentFile.toPath(), descriptor, journalIndex);
   }
 
@@ -429,6 +511,13 @@ final class SegmentsManager implements AutoCloseable {
     }
 
     deleteUnflushedSegments(files, failedIndex, lastFlushedIndex);
+
+    // the deleted segments may have restored their persisted index already
+    if (segments.isEmpty()) {
+      journalIndex.clear();
+    } else {
+      journalIndex.deleteAfter(segments.get(segments.size() - 1).lastIndex());
+    }
     return true;
   }
 
@@ -444,6 +533,7 @@ final class SegmentsManager implements AutoCloseable {
       final File file = files.get(i);
       try {
         Files.delete(file.toPath());
+        new SegmentIndexFile(file.toPath()).delete();
       } catch (final IOException e) {
         throw new JournalException(
             String.format(
@@ -484,6 +574,30 @@ final class SegmentsManager implements AutoCloseable {
     }
   }
 
+  /**
+   * Deletes index files whose segment does not exist anymore, e.g. because the node stopped before
+   * deleting them together with their segment, as well as temporary index files which were never
+   * completed.
+   */
+  private void deleteOrphanedIndexFiles() {
+    try (final DirectoryStream<Path> indexFiles =
+        Files.newDirectoryStream(
+            directory.toPath(),
+            path -> SegmentIndexFile.isIndexFile(name, path.getFileName().toString()))) {
+      for (final Path indexFile : indexFiles) {
+        if (SegmentIndexFile.isOrphaned(indexFile)) {
+          LOG.debug("{} - Deleting orphaned index file {}", name, indexFile);
+          Files.deleteIfExists(indexFile);
+        }
+      }
+    } catch (final IOException e) {
+      LOG.warn(
+          "Could not delete orphaned index files in {}. This can result in unnecessary disk usage.",
+          directory.toPath(),
+          e);
+    }
+  }
+
   private void deleteDeferredFile(final Path segmentFileToDelete) {
     try {
       Files.deleteIfExists(segmentFileToDelete);
@@ -494,4 +608,6 @@ final class SegmentsManager implements AutoCloseable {
           e);
     }
   }
+
+  private record PreparedSegment(long id, CompletableFuture<UninitializedSegment> segment) {}
 }
@@ -16,19 +16,28 @@
 package io.camunda.zeebe.journal.file;
 
 import io.camunda.zeebe.journal.JournalRecord;
-import java.util.Map;
-import java.util.concurrent.ConcurrentNavigableMap;
-import java.util.concurrent.ConcurrentSkipListMap;
 
+/**
+ * Indexes every n-th record of the journal, where n is the density. The indexed entries are kept in
+ * sorted primitive arrays, which are searched with a binary search, to avoid boxing and a node per
+ * entry.
+ *
+ * <p>Lookups are lock-free. Modifications are serialized, since records are indexed by the writer
+ * as well as by readers which seek through segments that weren't indexed yet. Entries are only ever
+ * written past the published size of a table; any other modification (inserting out of order,
+ * truncating, compacting) copies the entries into a new table, which is then published. That way a
+ * concurrent lookup always sees a consistent table, even if it is not the latest one.
+ */
 final class SparseJournalIndex implements JournalIndex {
 
+  private static final int INITIAL_CAPACITY = 64;
+
   private final int density;
-  private final ConcurrentNavigableMap<Long, Integer> indexToPosition =
-      new ConcurrentSkipListMap<>();
-  private final ConcurrentNavigableMap<Long, Long> asqnToIndex = new ConcurrentSkipListMap<>();
-  // This is added to make deleteAfter and deleteUntil easier.
-  // TODO: Check if this can be improved. https://github.com/zeebe-io/zeebe/issues/6220
-  private final ConcurrentNavigableMap<Long, Long> indexToAsqn = new ConcurrentSkipListMap<>();
+  // maps the index to the position of the record within its segment
+  private volatile Table positions = new Table(INITIAL_CAPACITY);
+  // maps the index to the asqn of the record; only contains records with an asqn, which increases
+  // with the index, so the table is sorted by both
+  private volatile Table asqns = new Table(INITIAL_CAPACITY);
 
   SparseJournalIndex(final int density) {
     this.density = density;
@@ -38,19 +47,49 @@ final class SparseJournalIndex implements JournalIndex {
   public void index(final JournalRecord indexedEntry, final int position) {
     final long index = indexedEntry.index();
     if (index % density == 0) {
-      indexToPosition.put(index, position);
-      final long asqn = indexedEntry.asqn();
-      if (asqn != SegmentedJournal.ASQN_IGNORE) {
-        asqnToIndex.put(asqn, index);
-        indexToAsqn.put(index, asqn);
+      restore(index, indexedEntry.asqn(), position);
+    }
+  }
+
+  @Override
+  public synchronized void restore(final long index, final long asqn, final int position) {
+    positions = positions.put(index, position);
+    if (asqn != SegmentedJournal.ASQN_IGNORE) {
+      asqns = asqns.put(index, asqn);
+    }
+  }
+
+  @Override
+  public void forEach(final long fromIndex, final long toIndex, final EntryVisitor visitor) {
+    final Table positionTable = positions;
+    final Table asqnTable = asqns;
+    final int positionsSize = positionTable.size;
+    final int asqnsSize = asqnTable.size;
+
+    int asqnSlot = Math.max(0, floorSlot(asqnTable.keys, asqnsSize, fromIndex));
+    for (int slot = floorSlot(positionTable.keys, positionsSize, fromIndex - 1) + 1;
+        slot < positionsSize && positionTable.keys[slot] <= toIndex;
+        slot++) {
+      final long index = positionTable.keys[slot];
+      // both tables are sorted by index, so the asqn slot only moves forward
+      while (asqnSlot < asqnsSize && asqnTable.keys[asqnSlot] < index) {
+        asqnSlot++;
       }
+
+      final long asqn =
+          asqnSlot < asqnsSize && asqnTable.keys[asqnSlot] == index
+              ? asqnTable.values[asqnSlot]
+              : SegmentedJournal.ASQN_IGNORE;
+      visitor.visit(index, (int) positionTable.values[slot], asqn);
     }
   }
 
   @Override
   public IndexInfo lookup(final long index) {
-    final Map.Entry<Long, Integer> entry = indexToPosition.floorEntry(index);
-    return entry != null ? new IndexInfo(entry.getKey(), entry.getValue()) : null;
+    final Table table = positions;
+    final int size = table.size;
+    final int slot = floorSlot(table.keys, size, index);
+    return slot >= 0 ? new IndexInfo(table.keys[slot], (int) table.values[slot]) : null;
   }
 
   @Override
@@ -60,46 +99,45 @@ final class SparseJournalIndex implements JournalIndex {
 
   @Override
   public Long lookupAsqn(final long asqn, final long indexUpperBound) {
-    final Map.Entry<Long, Long> entry = asqnToIndex.floorEntry(asqn);
-    if (entry != null) {
-      if (entry.getValue() <= indexUpperBound) {
-        return entry.getValue();
-      } else {
-        return indexToAsqn.floorKey(indexUpperBound);
-      }
+    final Table table = asqns;
+    final int size = table.size;
+    final int slot = floorSlot(table.values, size, asqn);
+    if (slot < 0) {
+      return null;
+    }
+
+    final long index = table.keys[slot];
+    if (index <= indexUpperBound) {
+      return index;
     }
-    return null;
+
+    final int boundSlot = floorSlot(table.keys, size, indexUpperBound);
+    return boundSlot >= 0 ? table.keys[boundSlot] : null;
   }
 
   @Override
-  public void deleteAfter(final long index) {
-    indexToPosition.tailMap(index, false).clear();
-    final var asqnEntryToDelete = indexToAsqn.ceilingEntry(index);
-    if (asqnEntryToDelete != null) {
-      final var asqnToDelete = asqnEntryToDelete.getValue();
-      indexToAsqn.tailMap(index, false).clear();
-      final boolean include = asqnEntryToDelete.getKey() > index;
-      asqnToIndex.tailMap(asqnToDelete, include).clear();
-    }
+  public synchronized void deleteAfter(final long index) {
+    positions = positions.truncateAfter(index);
+    asqns = asqns.truncateAfter(index);
   }
 
   @Override
-  public void deleteUntil(final long index) {
-    indexToPosition.headMap(index, false).clear();
-
-    final var asqnEntryToDelete = indexToAsqn.floorEntry(index);
-    if (asqnEntryToDelete != null) {
-      final var asqnToDelete = asqnEntryToDelete.getValue();
-      indexToAsqn.headMap(index, false).clear();
-      asqnToIndex.headMap(asqnToDelete, false).clear();
+  public synchronized void deleteUntil(final long index) {
+    positions = positions.truncateBefore(index);
+
+    // keeps the last entry with an asqn at or before the index, such that asqns between it and the
+    // index can still be looked up
+    final Table asqnTable = asqns;
+    final int slot = floorSlot(asqnTable.keys, asqnTable.size, index);
+    if (slot >= 0) {
+      asqns = asqnTable.truncateBefore(asqnTable.keys[slot]);
     }
   }
 
   @Override
-  public void clear() {
-    indexToPosition.clear();
-    indexToAsqn.clear();
-    asqnToIndex.clear();
+  public synchronized void clear() {
+    positions = new Table(INITIAL_CAPACITY);
+    asqns = new Table(INITIAL_CAPACITY);
   }
 
   @Override
@@ -111,4 +149,128 @@ final class SparseJournalIndex implements JournalIndex {
       return indexInfo.index() > index - density;
     }
   }
+
+  /**
+   * Returns the slot of the greatest element which is less than or equal to the given key, or -1 if
+   * there is none. The first {@code size} elements of the array must be sorted.
+   */
+  private static int floorSlot(final long[] array, final int size, final long key) {
+    int low = 0;
+    int high = size - 1;
+
+    while (low <= high) {
+      final int mid = (low + high) >>> 1;
+      final long midKey = array[mid];
+      if (midKey < key) {
+        low = mid + 1;
+      } else if (midKey > key) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+
+    return high;
+  }
+
+  /**
+   * Sorted keys with their values. Only the first {@link #size} entries are valid; entries before
+   * it are never modified, which allows lookups without locking. All modifications must be
+   * serialized by the caller.
+   */
+  private static final class Table {
+    private final long[] keys;
+    private final long[] values;
+    private volatile int size;
+
+    private Table(final int capacity) {
+      this(new long[capacity], new long[capacity], 0);
+    }
+
+    private Table(final long[] keys, final long[] values, final int size) {
+      this.keys = keys;
+      this.values = values;
+      this.size = size;
+    }
+
+    /**
+     * Adds or replaces the entry for the given key.
+     *
+     * @return this table if the entry could be appended in place, otherwise a new table
+     */
+    private Table put(final long key, final long value) {
+      final int currentSize = size;
+      if (currentSize == 0 || keys[currentSize - 1] < key) {
+        if (currentSize < keys.length) {
+          keys[currentSize] = key;
+          values[currentSize] = value;
+          // publishes the entry to concurrent lookups
+          size = currentSize + 1;
+          return this;
+        }
+
+        final Table grown = copy(0, currentSize, currentSize * 2);
+        grown.keys[currentSize] = key;
+        grown.values[currentSize] = value;
+        grown.size = currentSize + 1;
+        return grown;
+      }
+
+      final int slot = floorSlot(keys, currentSize, key);
+      if (slot >= 0 && keys[slot] == key) {
+        if (values[slot] == value) {
+          return this;
+        }
+
+        final Table replaced = copy(0, currentSize, keys.length);
+        replaced.values[slot] = value;
+        return replaced;
+      }
+
+      // the key is inserted after the floor slot
+      final int insertSlot = slot + 1;
+      final int capacity = currentSize < keys.length ? keys.length : currentSize * 2;
+      final Table inserted = new Table(new long[capacity], new long[capacity], currentSize + 1);
+      System.arraycopy(keys, 0, inserted.keys, 0, insertSlot);
+      System.arraycopy(values, 0, inserted.values, 0, insertSlot);
+      inserted.keys[insertSlot] = key;
+      inserted.values[insertSlot] = value;
+      System.arraycopy(keys, insertSlot, inserted.keys, insertSlot + 1, currentSize - insertSlot);
+      System.arraycopy(
+          values, insertSlot, inserted.values, insertSlot + 1, currentSize - insertSlot);
+      return inserted;
+    }
+
+    /** Removes all entries with a greater key than the given key. */
+    private Table truncateAfter(final long key) {
+      final int currentSize = size;
+      final int newSize = floorSlot(keys, currentSize, key) + 1;
+      if (newSize == currentSize) {
+        return this;
+      }
+
+      // the slots after the new size may be written again, so concurrent lookups which still use
+      // this table must not see them change
+      return copy(0, newSize, keys.length);
+    }
+
+    /** Removes all entries with a lower key than the given key. */
+    private Table truncateBefore(final long key) {
+      final int currentSize = size;
+      final int firstSlot = floorSlot(keys, currentSize, key - 1) + 1;
+      if (firstSlot == 0) {
+        return this;
+      }
+
+      final int newSize = currentSize - firstSlot;
+      return copy(firstSlot, newSize, Math.max(INITIAL_CAPACITY, newSize * 2));
+    }
+
+    private Table copy(final int from, final int length, final int capacity) {
+      final Table copy = new Table(new long[capacity], new long[capacity], length);
+      System.arraycopy(keys, from, copy.keys, 0, length);
+      System.arraycopy(values, from, copy.values, 0, length);
+      return copy;
+    }
+  }
 }
@@ -0,0 +1,160 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static io.camunda.zeebe.journal.file.SparseJournalIndexTest.asJournalRecord;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.journal.file.SegmentIndexFile.SealedSegment;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class SegmentIndexFileTest {
+
+  private static final SealedSegment SEGMENT = new SealedSegment(5, 9, 72, 1234);
+
+  private @TempDir Path directory;
+  private SegmentIndexFile indexFile;
+  private final JournalIndex index = new SparseJournalIndex(2);
+
+  @BeforeEach
+  void setUp() {
+    indexFile = new SegmentIndexFile(directory.resolve("journal-2.log"));
+    for (int i = 1; i <= 10; i++) {
+      index.index(asJournalRecord(i, i % 4 == 0 ? SegmentedJournal.ASQN_IGNORE : i * 10L), i * 8);
+    }
+  }
+
+  @Test
+  void shouldRestoreEntriesOfSegment() {
+    // given
+    indexFile.write(SEGMENT, index);
+    final JournalIndex restoredIndex = new SparseJournalIndex(2);
+
+    // when
+    final boolean restored = indexFile.restore(SEGMENT, restoredIndex);
+
+    // then
+    assertThat(restored).isTrue();
+    assertThat(restoredIndex.lookup(5)).isNull();
+    assertThat(restoredIndex.lookup(7)).isEqualTo(new IndexInfo(6, 48));
+    assertThat(restoredIndex.lookup(10)).isEqualTo(new IndexInfo(8, 64));
+    assertThat(restoredIndex.lookupAsqn(100)).isEqualTo(6);
+  }
+
+  @Test
+  void shouldNotRestoreIfSegmentDoesNotMatch() {
+    // given
+    indexFile.write(SEGMENT, index);
+    final JournalIndex restoredIndex = new SparseJournalIndex(2);
+
+    // when
+    final boolean restored = indexFile.restore(new SealedSegment(5, 8, 64, 1234), restoredIndex);
+
+    // then
+    assertThat(restored).isFalse();
+    assertThat(restoredIndex.lookup(10)).isNull();
+  }
+
+  @Test
+  void shouldNotRestoreIfLastEntryPositionDoesNotMatch() {
+    // given
+    indexFile.write(SEGMENT, index);
+    final JournalIndex restoredIndex = new SparseJournalIndex(2);
+
+    // when
+    final boolean restored = indexFile.restore(new SealedSegment(5, 9, 80, 1234), restoredIndex);
+
+    // then
+    assertThat(restored).isFalse();
+    assertThat(restoredIndex.lookup(10)).isNull();
+  }
+
+  @Test
+  void shouldNotRestoreIfLastEntryChecksumDoesNotMatch() {
+    // given
+    indexFile.write(SEGMENT, index);
+    final JournalIndex restoredIndex = new SparseJournalIndex(2);
+
+    // when
+    final boolean restored = indexFile.restore(new SealedSegment(5, 9, 72, 4321), restoredIndex);
+
+    // then
+    assertThat(restored).isFalse();
+    assertThat(restoredIndex.lookup(10)).isNull();
+  }
+
+  @Test
+  void shouldNotRestoreCorruptedFile() throws IOException {
+    // given
+    indexFile.write(SEGMENT, index);
+    final byte[] content = Files.readAllBytes(indexFile.path());
+    content[content.length / 2] ^= 1;
+    Files.write(indexFile.path(), content);
+    final JournalIndex restoredIndex = new SparseJournalIndex(2);
+
+    // when
+    final boolean restored = indexFile.restore(SEGMENT, restoredIndex);
+
+    // then
+    assertThat(restored).isFalse();
+    assertThat(restoredIndex.lookup(10)).isNull();
+  }
+
+  @Test
+  void shouldNotRestoreMissingFile() {
+    // when
+    final boolean restored = indexFile.restore(SEGMENT, new SparseJournalIndex(2));
+
+    // then
+    assertThat(restored).isFalse();
+  }
+
+  @Test
+  void shouldDetectOrphanedFiles() throws IOException {
+    // given
+    indexFile.write(SEGMENT, index);
+    final var temporaryFile = directory.resolve("journal-2.log.idx.tmp");
+    Files.createFile(temporaryFile);
+
+    // when - then
+    assertThat(SegmentIndexFile.isIndexFile("journal", "journal-2.log.idx")).isTrue();
+    assertThat(SegmentIndexFile.isIndexFile("journal", "journal-2.log.idx.tmp")).isTrue();
+    assertThat(SegmentIndexFile.isIndexFile("journal", "journal-2.log")).isFalse();
+    assertThat(SegmentIndexFile.isOrphaned(indexFile.path())).isTrue();
+    assertThat(SegmentIndexFile.isOrphaned(temporaryFile)).isTrue();
+
+    Files.createFile(directory.resolve("journal-2.log"));
+    assertThat(SegmentIndexFile.isOrphaned(indexFile.path())).isFalse();
+    assertThat(SegmentIndexFile.isOrphaned(temporaryFile)).isTrue();
+  }
+
+  @Test
+  void shouldDeleteFile() {
+    // given
+    indexFile.write(SEGMENT, index);
+
+    // when
+    indexFile.delete();
+
+    // then
+    assertThat(indexFile.path()).doesNotExist();
+  }
+}
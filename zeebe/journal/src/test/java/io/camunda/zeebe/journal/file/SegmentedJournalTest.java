@@ -30,7 +30,9 @@ import io.camunda.zeebe.journal.util.PosixPathAssert;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.buffer.DirectBufferWriter;
 import java.io.File;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.ArrayList;
@@ -410,7 +412,7 @@ class SegmentedJournalTest {
   }
 
   @Test
-  void shouldNotUpdateIndexMappingsAfterRestartIfLastPositionIsInDescriptor() {
+  void shouldRestoreIndexMappingsOfSealedSegmentsAfterRestart() {
     // given
     final int entriesPerSegment = 2;
     journal = openJournal(entriesPerSegment);
@@ -426,11 +428,104 @@ class SegmentedJournalTest {
     // then
     final JournalIndex indexAfterRestart = journal.getJournalIndex();
 
+    assertThat(indexAfterRestart.lookup(firstIndex))
+        .isEqualTo(indexBeforeRestart.lookup(firstIndex));
+    assertThat(indexAfterRestart.lookup(thirdIndex))
+        .isEqualTo(indexBeforeRestart.lookup(thirdIndex));
+  }
+
+  @Test
+  void shouldNotUpdateIndexMappingsAfterRestartIfLastPositionIsInDescriptor() throws IOException {
+    // given
+    final int entriesPerSegment = 2;
+    journal = openJournal(entriesPerSegment);
+    final var firstIndex = journal.append(1, journalFactory.entry()).index();
+    journal.append(2, journalFactory.entry()).index();
+    final var thirdIndex = journal.append(3, journalFactory.entry()).index();
+    final JournalIndex indexBeforeRestart = journal.getJournalIndex();
+    journal.close();
+
+    // when - the persisted index of the sealed segment is gone
+    try (final var files = Files.walk(directory)) {
+      for (final var indexFile :
+          files.filter(file -> file.getFileName().toString().endsWith(".idx")).toList()) {
+        Files.delete(indexFile);
+      }
+    }
+    journal = openJournal(entriesPerSegment);
+
+    // then
+    final JournalIndex indexAfterRestart = journal.getJournalIndex();
+
     assertThat(indexAfterRestart.lookup(firstIndex)).isNull();
     assertThat(indexAfterRestart.lookup(thirdIndex))
         .isEqualTo(indexBeforeRestart.lookup(thirdIndex));
   }
 
+  @Test
+  void shouldNotRestoreIndexMappingsOfTruncatedSegment() {
+    // given
+    final int entriesPerSegment = 2;
+    journal = openJournal(entriesPerSegment);
+    final var firstIndex = journal.append(1, journalFactory.entry()).index();
+    final var secondIndex = journal.append(2, journalFactory.entry()).index();
+    journal.append(3, journalFactory.entry());
+
+    // when
+    journal.deleteAfter(firstIndex);
+    journal.close();
+    journal = openJournal(entriesPerSegment);
+
+    // then
+    assertThat(journal.getLastIndex()).isEqualTo(firstIndex);
+    assertThat(journal.getJournalIndex().lookup(secondIndex).index()).isEqualTo(firstIndex);
+  }
+
+  @Test
+  void shouldNotRestoreStaleIndexMappingsOfRewrittenSegment() throws IOException {
+    // given - a sealed segment with a persisted index
+    final int entriesPerSegment = 2;
+    journal = openJournal(entriesPerSegment);
+    final var firstIndex = journal.append(1, journalFactory.entry()).index();
+    journal.append(2, journalFactory.entry());
+    journal.append(3, journalFactory.entry());
+    // the index file is written asynchronously, and awaited when the journal is closed
+    journal.close();
+    journal = openJournal(entriesPerSegment);
+    final var indexFile = directory.resolve("data/journal-1.log.idx");
+    final var staleIndexFile = Files.readAllBytes(indexFile);
+
+    // when - the segment is rewritten, but the old index file is left over after a crash
+    journal.deleteAfter(firstIndex);
+    journal.append(4, journalFactory.entry());
+    journal.append(5, journalFactory.entry());
+    journal.append(6, journalFactory.entry());
+    journal.close();
+    Files.write(indexFile, staleIndexFile);
+    journal = openJournal(entriesPerSegment);
+
+    // then - the stale mappings of the segment are not restored
+    assertThat(journal.getJournalIndex().lookupAsqn(2)).isNull();
+  }
+
+  @Test
+  void shouldDeleteOrphanedIndexFilesOnLoad() throws IOException {
+    // given
+    journal = openJournal(2);
+    journal.close();
+    final var orphanedIndexFile = directory.resolve("data/journal-9.log.idx");
+    final var temporaryIndexFile = directory.resolve("data/journal-1.log.idx.tmp");
+    Files.createFile(orphanedIndexFile);
+    Files.createFile(temporaryIndexFile);
+
+    // when
+    journal = openJournal(2);
+
+    // then
+    assertThat(orphanedIndexFile).doesNotExist();
+    assertThat(temporaryIndexFile).doesNotExist();
+  }
+
   @Test
   void shouldContinueAppendAfterDetectingPartiallyWrittenDescriptor() throws Exception {
     // given
@@ -182,6 +182,27 @@ class SegmentsManagerTest {
     assertThatNoException().isThrownBy(() -> segments.open());
   }
 
+  @Test
+  void shouldDropRestoredIndexOfCorruptedUnflushedSegments() throws Exception {
+    // given - sealed segments with a persisted index, none of which are flushed
+    final var journal = openJournal();
+    final var indexInFirstSegment = journal.append(1, journalFactory.entry()).index();
+    journal.append(2, journalFactory.entry()).index();
+    final var firstSegmentFile = journal.getFirstSegment().file().file();
+    journal.close();
+    journalFactory.metaStore().storeLastFlushedIndex(0);
+
+    LogCorrupter.corruptRecord(firstSegmentFile, indexInFirstSegment);
+
+    // when
+    try (final var reopenedJournal = openJournal()) {
+      // then
+      assertThat(reopenedJournal.isEmpty()).isTrue();
+      assertThat(reopenedJournal.getJournalIndex().lookup(indexInFirstSegment)).isNull();
+      assertThat(directory.resolve("data").resolve("journal-1.log.idx")).doesNotExist();
+    }
+  }
+
   @Test
   void shouldHandlePartiallyWrittenDescriptor() throws Exception {
     // given
@@ -293,6 +314,65 @@ class SegmentsManagerTest {
     }
   }
 
+  @Test
+  void shouldPrepareConfiguredNumberOfSegments() {
+    // given
+    segments = journalFactory.segmentsManager(directory, journalFactory.segmentLoader(), 3, false);
+
+    // when - rolling over to the second segment
+    try (final var journal = journalFactory.journal(segments)) {
+      journal.append(1, journalFactory.entry());
+      journal.append(2, journalFactory.entry());
+    }
+
+    // then - closing waits for the prepared segments
+    final File logDirectory = directory.resolve("data").toFile();
+    assertThat(logDirectory.listFiles(file -> SegmentFile.isSegmentFile(JOURNAL_NAME, file)))
+        .extracting(file -> SegmentFile.getSegmentIdFromPath(file.getName()))
+        .containsExactlyInAnyOrder(1, 2, 3, 4, 5);
+  }
+
+  @Test
+  void shouldRecycleFilesOfCompactedSegments() {
+    // given
+    final var loader = Mockito.spy(journalFactory.segmentLoader());
+    segments = journalFactory.segmentsManager(directory, loader, 1, true);
+    final var journal = journalFactory.journal(segments);
+    journal.append(1, journalFactory.entry());
+    journal.append(2, journalFactory.entry());
+    journal.append(3, journalFactory.entry());
+
+    // when
+    journal.deleteUntil(3);
+    journal.append(4, journalFactory.entry());
+    journal.close();
+
+    // then
+    final var dataDirectory = directory.resolve("data");
+    Mockito.verify(loader)
+        .recycleSegment(
+            Mockito.argThat(
+                file ->
+                    SegmentFile.isDeletedSegmentFile(JOURNAL_NAME, file.getFileName().toString())),
+            Mockito.eq(dataDirectory.resolve("journal-5.log")),
+            Mockito.any(),
+            Mockito.any());
+    assertThat(dataDirectory.toFile())
+        .isDirectoryNotContaining(
+            file -> SegmentFile.isDeletedSegmentFile(JOURNAL_NAME, file.getName()));
+
+    segments = journalFactory.segmentsManager(directory);
+    try (final var reopened = journalFactory.journal(segments);
+        final var reader = reopened.openReader()) {
+      assertThat(reopened.getFirstIndex()).isEqualTo(3);
+      assertThat(reopened.getLastIndex()).isEqualTo(4);
+      assertThat(reader.seek(3)).isEqualTo(3);
+      assertThat(reader.next().asqn()).isEqualTo(3);
+      assertThat(reader.next().asqn()).isEqualTo(4);
+      assertThat(reader.hasNext()).isFalse();
+    }
+  }
+
   private SegmentedJournal openJournal() {
     return journalFactory.journal(journalFactory.segmentsManager(directory));
   }
@@ -218,6 +218,58 @@ class SparseJournalIndexTest {
     assertNull(index.lookupAsqn(80));
   }
 
+  @Test
+  void shouldLookupAsqnBeforeCompactedIndex() {
+    // given - every 5 index is added
+    final JournalIndex index = new SparseJournalIndex(5);
+    index.index(asJournalRecord(5, 50), 10);
+    index.index(asJournalRecord(10, 100), 20);
+
+    // when
+    index.deleteUntil(7);
+
+    // then
+    assertNull(index.lookup(7));
+    assertEquals(5, index.lookupAsqn(60));
+    assertEquals(10, index.lookupAsqn(100));
+  }
+
+  @Test
+  void shouldIndexOutOfOrder() {
+    // given - every 5 index is added
+    final JournalIndex index = new SparseJournalIndex(5);
+    index.index(asJournalRecord(5, 50), 10);
+    index.index(asJournalRecord(15, 150), 30);
+
+    // when - e.g. a reader indexes a segment which wasn't indexed before
+    index.index(asJournalRecord(10, 100), 20);
+
+    // then
+    assertEquals(10, index.lookup(14).index());
+    assertEquals(20, index.lookup(14).position());
+    assertEquals(15, index.lookup(15).index());
+    assertEquals(10, index.lookupAsqn(140));
+    assertEquals(10, index.lookupAsqn(150, 14));
+  }
+
+  @Test
+  void shouldFindIndexesBeyondInitialCapacity() {
+    // given - every index is added
+    final JournalIndex index = new SparseJournalIndex(1);
+
+    // when
+    for (int i = 1; i <= 1_000; i++) {
+      index.index(asJournalRecord(i, i * 10L), i * 2);
+    }
+
+    // then
+    for (int i = 1; i <= 1_000; i++) {
+      assertEquals(i, index.lookup(i).index());
+      assertEquals(i * 2, index.lookup(i).position());
+      assertEquals(i, index.lookupAsqn(i * 10L + 5));
+    }
+  }
+
   @Test
   void shouldFindAsqnWithInBound() {
     // given - every 2nd index is added
@@ -113,6 +113,23 @@ final class TestJournalFactory {
         metaStore);
   }
 
+  SegmentsManager segmentsManager(
+      final Path directory,
+      final SegmentLoader loader,
+      final int preparedSegmentCount,
+      final boolean recycleSegmentFiles) {
+    return new SegmentsManager(
+        index,
+        maxSegmentSize(),
+        directory.resolve("data").toFile(),
+        "journal",
+        loader,
+        metrics,
+        metaStore,
+        preparedSegmentCount,
+        recycleSegmentFiles);
+  }
+
   SegmentedJournal journal(final SegmentsManager segments) {
     final var segmentsFlusher = new SegmentsFlusher(metaStore);
     return new SegmentedJournal(index, segments, metrics, segmentsFlusher);
@@ -12,16 +12,28 @@ import io.camunda.zeebe.msgpack.property.UndeclaredProperty;
 import io.camunda.zeebe.msgpack.spec.MsgPackReader;
 import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import org.agrona.DirectBuffer;
 
 public class ObjectValue extends BaseValue {
+  private static final int NO_PROPERTY = -1;
+
   private final List<BaseProperty<? extends BaseValue>> declaredProperties;
   private final List<UndeclaredProperty> undeclaredProperties = new ArrayList<>(0);
   private final List<UndeclaredProperty> recycledProperties = new ArrayList<>(0);
 
   private final StringValue decodedKey = new StringValue();
 
+  // an open addressing hash table from the hash of a key to the index of the declared property, so
+  // that a decoded key doesn't need to be compared to all declared keys; it is built on the first
+  // read after a property was declared
+  private int[] propertyIndexByKeyHash;
+  // whether the declared property at the same index can be resolved by its key, i.e. it is the
+  // first property declared with that key; built together with the hash table
+  private boolean[] resolvableProperties;
+
   /**
    * Creates a new ObjectValue
    *
@@ -34,6 +46,7 @@ public class ObjectValue extends BaseValue {
 
   public ObjectValue declareProperty(final BaseProperty<? extends BaseValue> prop) {
     declaredProperties.add(prop);
+    propertyIndexByKeyHash = null;
     return this;
   }
 
@@ -100,17 +113,7 @@ public class ObjectValue extends BaseValue {
     for (int i = 0; i < mapSize; ++i) {
       decodedKey.read(reader);
 
-      BaseProperty<? extends BaseValue> prop = null;
-
-      for (int k = 0; k < declaredProperties.size(); ++k) {
-        final BaseProperty<?> declaredProperty = declaredProperties.get(k);
-        final StringValue declaredKey = declaredProperty.getKey();
-
-        if (declaredKey.equals(decodedKey)) {
-          prop = declaredProperty;
-          break;
-        }
-      }
+      BaseProperty<? extends BaseValue> prop = findDeclaredProperty(decodedKey, i);
 
       if (prop == null) {
         prop = newUndeclaredProperty(decodedKey);
@@ -133,6 +136,76 @@ public class ObjectValue extends BaseValue {
     }
   }
 
+  private BaseProperty<? extends BaseValue> findDeclaredProperty(
+      final StringValue key, final int position) {
+    if (propertyIndexByKeyHash == null) {
+      indexDeclaredProperties();
+    }
+
+    // the properties are usually written in the order they are declared
+    if (position < declaredProperties.size() && resolvableProperties[position]) {
+      final BaseProperty<? extends BaseValue> expectedProperty = declaredProperties.get(position);
+      if (expectedProperty.getKey().equals(key)) {
+        return expectedProperty;
+      }
+    }
+
+    final int mask = propertyIndexByKeyHash.length - 1;
+    for (int slot = hashKey(key) & mask; ; slot = (slot + 1) & mask) {
+      final int propertyIndex = propertyIndexByKeyHash[slot];
+      if (propertyIndex == NO_PROPERTY) {
+        return null;
+      }
+
+      final BaseProperty<? extends BaseValue> declaredProperty =
+          declaredProperties.get(propertyIndex);
+      if (declaredProperty.getKey().equals(key)) {
+        return declaredProperty;
+      }
+    }
+  }
+
+  private void indexDeclaredProperties() {
+    // keep the table at most half full, so that a lookup only needs to probe a few slots
+    final int capacity = Integer.highestOneBit(Math.max(1, declaredProperties.size()) * 2) * 2;
+    final int mask = capacity - 1;
+    final int[] index = new int[capacity];
+    final boolean[] resolvable = new boolean[declaredProperties.size()];
+    Arrays.fill(index, NO_PROPERTY);
+
+    for (int p = 0; p < declaredProperties.size(); p++) {
+      final StringValue key = declaredProperties.get(p).getKey();
+
+      int slot = hashKey(key) & mask;
+      while (index[slot] != NO_PROPERTY) {
+        if (declaredProperties.get(index[slot]).getKey().equals(key)) {
+          // a key declared twice resolves to the first declared property
+          break;
+        }
+        slot = (slot + 1) & mask;
+      }
+
+      if (index[slot] == NO_PROPERTY) {
+        index[slot] = p;
+        resolvable[p] = true;
+      }
+    }
+
+    propertyIndexByKeyHash = index;
+    resolvableProperties = resolvable;
+  }
+
+  private static int hashKey(final StringValue key) {
+    final DirectBuffer bytes = key.getValue();
+    final int length = key.getLength();
+
+    int hash = length;
+    for (int i = 0; i < length; i++) {
+      hash = 31 * hash + bytes.getByte(i);
+    }
+    return hash ^ (hash >>> 16);
+  }
+
   @Override
   public int getEncodedLength() {
     final int size = declaredProperties.size() + undeclaredProperties.size();
@@ -15,6 +15,7 @@ import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.assertj.core.api.Assertions.entry;
 
 import io.camunda.zeebe.msgpack.POJO.POJOEnum;
+import io.camunda.zeebe.msgpack.property.LongProperty;
 import java.util.Map;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
@@ -141,6 +142,92 @@ public final class ObjectMappingTest {
     assertThat(pojo.nestedObject().getLong()).isEqualTo(123123L);
   }
 
+  @Test
+  public void shouldDeserializePOJOWithPropertiesInAnyOrder() {
+    // given
+    final POJO pojo = new POJO();
+
+    final DirectBuffer buffer =
+        encodeMsgPack(
+            (w) -> {
+              w.writeMapHeader(8);
+
+              w.writeString(wrapString("objectProp"));
+              w.writeRaw(MSGPACK_BUF1);
+
+              w.writeString(wrapString("intProp"));
+              w.writeInteger(123L);
+
+              w.writeString(wrapString("undeclaredProp"));
+              w.writeInteger(1L);
+
+              w.writeString(wrapString("longProp"));
+              w.writeInteger(88888L);
+
+              w.writeString(wrapString("packedProp"));
+              w.writeRaw(MSGPACK_BUF1);
+
+              w.writeString(wrapString("stringProp"));
+              w.writeString(BUF2);
+
+              w.writeString(wrapString("binaryProp"));
+              w.writeBinary(BUF1);
+
+              w.writeString(wrapString("enumProp"));
+              w.writeString(wrapString(POJOEnum.BAR.toString()));
+            });
+
+    // when
+    pojo.wrap(buffer);
+
+    // then
+    assertThat(pojo.getEnum()).isEqualByComparingTo(POJOEnum.BAR);
+    assertThat(pojo.getLong()).isEqualTo(88888L);
+    assertThat(pojo.getInt()).isEqualTo(123);
+    assertThatBuffer(pojo.getPacked()).hasBytes(MSGPACK_BUF1);
+    assertThatBuffer(pojo.getBinary()).hasBytes(BUF1);
+    assertThatBuffer(pojo.getString()).hasBytes(BUF2);
+    assertThat(pojo.nestedObject().getLong()).isEqualTo(123123L);
+    assertThat(pojo.getLength()).isEqualTo(buffer.capacity());
+  }
+
+  @Test
+  public void shouldResolveDuplicatedKeyToFirstDeclaredProperty() {
+    // given
+    final LongProperty firstProperty = new LongProperty("duplicated", -1L);
+    final LongProperty otherProperty = new LongProperty("other", -1L);
+    final LongProperty secondProperty = new LongProperty("duplicated", -1L);
+    final UnpackedObject object = new UnpackedObject(3);
+    object
+        .declareProperty(firstProperty)
+        .declareProperty(otherProperty)
+        .declareProperty(secondProperty);
+
+    // the duplicated key is at the position of the second declaration
+    final DirectBuffer buffer =
+        encodeMsgPack(
+            (w) -> {
+              w.writeMapHeader(3);
+
+              w.writeString(wrapString("other"));
+              w.writeInteger(1L);
+
+              w.writeString(wrapString("undeclared"));
+              w.writeInteger(2L);
+
+              w.writeString(wrapString("duplicated"));
+              w.writeInteger(3L);
+            });
+
+    // when
+    object.wrap(buffer);
+
+    // then
+    assertThat(firstProperty.getValue()).isEqualTo(3L);
+    assertThat(otherProperty.getValue()).isEqualTo(1L);
+    assertThat(secondProperty.getValue()).isEqualTo(-1L);
+  }
+
   @Test
   public void shouldNotDeserializePOJOWithWrongValueType() {
     // given
@@ -32,6 +32,8 @@ import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.msgpack.jackson.dataformat.MessagePackFactory;
 
 public final class MsgPackConverter {
@@ -43,6 +45,7 @@ public final class MsgPackConverter {
           .maxNestingDepth(Integer.MAX_VALUE)
           .build();
   private static final JsonEncoding JSON_ENCODING = JsonEncoding.UTF8;
+  private static final int JSON_INITIAL_CAPACITY = 64;
   private static final Charset JSON_CHARSET = StandardCharsets.UTF_8;
   private static final TypeReference<HashMap<String, Object>> OBJECT_MAP_TYPE_REFERENCE =
       new TypeReference<>() {};
@@ -71,6 +74,9 @@ public final class MsgPackConverter {
           .configure(Feature.ALLOW_SINGLE_QUOTES, true)
           .setStreamReadConstraints(JSON_STREAM_CONSTRAINTS);
   private static final ObjectMapper JSON_OBJECT_MAPPER = new ObjectMapper(JSON_FACTORY);
+  // a transcoder is not thread-safe, but reuses its buffers between calls
+  private static final ThreadLocal<MsgPackJsonTranscoder> JSON_TRANSCODER =
+      ThreadLocal.withInitial(MsgPackJsonTranscoder::new);
 
   // prevent instantiation
   private MsgPackConverter() {}
@@ -104,33 +110,26 @@ public final class MsgPackConverter {
   ////////////////////////////////////////////////////////////////////////////////////////////////
 
   public static String convertToJson(final DirectBuffer buffer) {
-    return convertToJson(BufferUtil.bufferAsArray(buffer));
+    try {
+      return JSON_TRANSCODER.get().transcodeToString(buffer);
+    } catch (final Exception e) {
+      throw new RuntimeException("Failed to convert MessagePack to JSON", e);
+    }
   }
 
   public static String convertToJson(final byte[] msgPack) {
-    return convertToJson(new ByteArrayInputStream(msgPack));
-  }
-
-  private static String convertToJson(final InputStream msgPackInputStream) {
-    final byte[] jsonBytes = convertToJsonBytes(msgPackInputStream);
-    return new String(jsonBytes, JSON_CHARSET);
+    return convertToJson(new UnsafeBuffer(msgPack));
   }
 
   public static InputStream convertToJsonInputStream(final byte[] msgPack) {
-    final byte[] jsonBytes = convertToJsonBytes(msgPack);
-    return new ByteArrayInputStream(jsonBytes);
-  }
-
-  private static byte[] convertToJsonBytes(final byte[] msgPack) {
-    final InputStream inputStream = new ByteArrayInputStream(msgPack);
-    return convertToJsonBytes(inputStream);
-  }
-
-  private static byte[] convertToJsonBytes(final InputStream msgPackInputStream) {
-    try (final ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-      convert(msgPackInputStream, outputStream, MESSAGE_PACK_FACTORY, JSON_FACTORY);
+    try {
+      // the stream outlives this call, so the JSON is written to a buffer of its own, and the
+      // stream reads it in place; the JSON is usually larger than the MessagePack value
+      final var json =
+          new ExpandableArrayBuffer(Math.max(JSON_INITIAL_CAPACITY, msgPack.length * 2));
+      final int length = JSON_TRANSCODER.get().transcode(new UnsafeBuffer(msgPack), json, 0);
 
-      return outputStream.toByteArray();
+      return new ByteArrayInputStream(json.byteArray(), 0, length);
     } catch (final Exception e) {
       throw new RuntimeException("Failed to convert MessagePack to JSON", e);
     }
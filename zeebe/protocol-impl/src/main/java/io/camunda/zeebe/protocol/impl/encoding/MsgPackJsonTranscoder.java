@@ -0,0 +1,265 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.protocol.impl.encoding;
+
+import io.camunda.zeebe.msgpack.spec.MsgPackCodes;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackToken;
+import io.camunda.zeebe.util.VisibleForTesting;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.MutableDirectBuffer;
+
+/**
+ * Transcodes a MessagePack value directly into UTF-8 encoded JSON, without building an intermediate
+ * object tree or strings. The output is the same as converting the value with Jackson, i.e. as
+ * {@link MsgPackConverter#convertToJson(DirectBuffer)} did before: no whitespace, binary values as
+ * base64 strings and non-finite floats as quoted strings.
+ *
+ * <p>An instance reuses its reader and output buffer between calls, and is not thread-safe. If a
+ * document outgrows {@link #MAX_RETAINED_CAPACITY}, the output buffer is dropped afterwards, so
+ * that a long-lived instance doesn't keep the memory of the largest document it ever transcoded.
+ */
+public final class MsgPackJsonTranscoder {
+  private static final int INITIAL_CAPACITY = 256;
+  @VisibleForTesting static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+  private static final byte[] HEX_DIGITS = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] FALSE = "false".getBytes(StandardCharsets.US_ASCII);
+
+  private final MsgPackReader reader = new MsgPackReader();
+  private ExpandableArrayBuffer outputBuffer = new ExpandableArrayBuffer(INITIAL_CAPACITY);
+
+  private MutableDirectBuffer output;
+  private int position;
+
+  /**
+   * Transcodes the MessagePack value into the given buffer. If the buffer is not expandable, it
+   * must be large enough to hold the JSON document.
+   *
+   * @param msgPack the buffer containing the MessagePack value
+   * @param json the buffer to write the JSON document to
+   * @param jsonOffset the offset to write the JSON document at
+   * @return the length of the JSON document in bytes
+   */
+  public int transcode(
+      final DirectBuffer msgPack, final MutableDirectBuffer json, final int jsonOffset) {
+    reader.wrap(msgPack, 0, msgPack.capacity());
+    output = json;
+    position = jsonOffset;
+
+    try {
+      writeValue();
+      return position - jsonOffset;
+    } finally {
+      output = null;
+    }
+  }
+
+  /**
+   * Transcodes the MessagePack value and writes the JSON document to the given stream.
+   *
+   * @param msgPack the buffer containing the MessagePack value
+   * @param json the stream to write the UTF-8 encoded JSON document to
+   */
+  public void transcode(final DirectBuffer msgPack, final OutputStream json) throws IOException {
+    try {
+      final int length = transcode(msgPack, outputBuffer, 0);
+      json.write(outputBuffer.byteArray(), 0, length);
+    } finally {
+      releaseOversizedOutputBuffer();
+    }
+  }
+
+  /**
+   * @param msgPack the buffer containing the MessagePack value
+   * @return the JSON document
+   */
+  public String transcodeToString(final DirectBuffer msgPack) {
+    try {
+      final int length = transcode(msgPack, outputBuffer, 0);
+      return outputBuffer.getStringWithoutLengthUtf8(0, length);
+    } finally {
+      releaseOversizedOutputBuffer();
+    }
+  }
+
+  @VisibleForTesting
+  int getOutputBufferCapacity() {
+    return outputBuffer.capacity();
+  }
+
+  private void releaseOversizedOutputBuffer() {
+    if (outputBuffer.capacity() > MAX_RETAINED_CAPACITY) {
+      outputBuffer = new ExpandableArrayBuffer(INITIAL_CAPACITY);
+    }
+  }
+
+  private void writeValue() {
+    final var buffer = reader.getBuffer();
+    final var offset = reader.getOffset();
+
+    if (buffer.getByte(offset) == MsgPackCodes.UINT64) {
+      // the reader rejects unsigned values beyond the range of a long
+      final var value = buffer.getLong(offset + 1, ByteOrder.BIG_ENDIAN);
+      reader.skipValue();
+      writeAscii(Long.toUnsignedString(value));
+      return;
+    }
+
+    final MsgPackToken token = reader.readToken();
+    switch (token.getType()) {
+      case NIL -> writeBytes(NULL);
+      case BOOLEAN -> writeBytes(token.getBooleanValue() ? TRUE : FALSE);
+      case INTEGER -> writeLong(token.getIntegerValue());
+      case FLOAT -> writeDouble(token.getFloatValue());
+      case STRING -> writeString(token.getValueBuffer());
+      case BINARY -> writeBinary(token.getValueBuffer());
+      case ARRAY -> writeArray(token.getSize());
+      case MAP -> writeMap(token.getSize());
+      default ->
+          throw new IllegalStateException(
+              String.format("Expected a MessagePack value, but found '%s'", token.getType()));
+    }
+  }
+
+  private void writeArray(final int size) {
+    writeByte('[');
+    for (int i = 0; i < size; i++) {
+      if (i > 0) {
+        writeByte(',');
+      }
+      writeValue();
+    }
+    writeByte(']');
+  }
+
+  private void writeMap(final int size) {
+    writeByte('{');
+    for (int i = 0; i < size; i++) {
+      if (i > 0) {
+        writeByte(',');
+      }
+      writeKey();
+      writeByte(':');
+      writeValue();
+    }
+    writeByte('}');
+  }
+
+  private void writeKey() {
+    final MsgPackToken token = reader.readToken();
+    switch (token.getType()) {
+      case STRING -> writeString(token.getValueBuffer());
+      case INTEGER -> {
+        writeByte('"');
+        writeLong(token.getIntegerValue());
+        writeByte('"');
+      }
+      default ->
+          throw new IllegalStateException(
+              String.format(
+                  "Expected a MessagePack map key of type string, but found '%s'",
+                  token.getType()));
+    }
+  }
+
+  private void writeString(final DirectBuffer value) {
+    writeByte('"');
+    for (int i = 0; i < value.capacity(); i++) {
+      final byte b = value.getByte(i);
+      if (b == '"' || b == '\\') {
+        writeByte('\\');
+        writeByte(b);
+      } else if (b >= 0 && b < 0x20) {
+        writeControlCharacter(b);
+      } else if ((b & 0xF8) == 0xF0 && i + 3 < value.capacity()) {
+        // like Jackson, characters outside the BMP are written as escaped surrogate pairs
+        final int codePoint =
+            (b & 0x07) << 18
+                | (value.getByte(i + 1) & 0x3F) << 12
+                | (value.getByte(i + 2) & 0x3F) << 6
+                | (value.getByte(i + 3) & 0x3F);
+        writeEscapedChar(Character.highSurrogate(codePoint));
+        writeEscapedChar(Character.lowSurrogate(codePoint));
+        i += 3;
+      } else {
+        // printable ASCII and the other multi-byte UTF-8 sequences are copied as they are
+        writeByte(b);
+      }
+    }
+    writeByte('"');
+  }
+
+  private void writeControlCharacter(final byte b) {
+    writeByte('\\');
+    switch (b) {
+      case '\b' -> writeByte('b');
+      case '\t' -> writeByte('t');
+      case '\n' -> writeByte('n');
+      case '\f' -> writeByte('f');
+      case '\r' -> writeByte('r');
+      default -> writeHexEscape(b);
+    }
+  }
+
+  private void writeEscapedChar(final char c) {
+    writeByte('\\');
+    writeHexEscape(c);
+  }
+
+  private void writeHexEscape(final int c) {
+    writeByte('u');
+    writeByte(HEX_DIGITS[(c >> 12) & 0xF]);
+    writeByte(HEX_DIGITS[(c >> 8) & 0xF]);
+    writeByte(HEX_DIGITS[(c >> 4) & 0xF]);
+    writeByte(HEX_DIGITS[c & 0xF]);
+  }
+
+  private void writeBinary(final DirectBuffer value) {
+    final var bytes = new byte[value.capacity()];
+    value.getBytes(0, bytes);
+
+    writeByte('"');
+    writeBytes(Base64.getEncoder().encode(bytes));
+    writeByte('"');
+  }
+
+  private void writeLong(final long value) {
+    position += output.putLongAscii(position, value);
+  }
+
+  private void writeDouble(final double value) {
+    if (Double.isFinite(value)) {
+      writeAscii(Double.toString(value));
+    } else {
+      writeByte('"');
+      writeAscii(Double.toString(value));
+      writeByte('"');
+    }
+  }
+
+  private void writeAscii(final String value) {
+    position += output.putStringWithoutLengthAscii(position, value);
+  }
+
+  private void writeBytes(final byte[] bytes) {
+    output.putBytes(position, bytes);
+    position += bytes.length;
+  }
+
+  private void writeByte(final int b) {
+    output.putByte(position++, (byte) b);
+  }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.protocol.impl.encoding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.databind.MappingJsonFactory;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+
+final class MsgPackJsonTranscoderTest {
+
+  private final MsgPackJsonTranscoder transcoder = new MsgPackJsonTranscoder();
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("jsonDocuments")
+  void shouldTranscodeLikeJackson(final String json) throws Exception {
+    // given
+    final var msgPack = new UnsafeBuffer(MsgPackConverter.convertToMsgPack(json));
+
+    // when
+    final var transcoded = transcoder.transcodeToString(msgPack);
+
+    // then
+    assertThat(transcoded).isEqualTo(convertWithJackson(msgPack));
+  }
+
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("msgPackDocuments")
+  void shouldTranscodeValuesWithoutJsonRepresentationLikeJackson(
+      final String description, final DirectBuffer msgPack) throws Exception {
+    // when
+    final var transcoded = transcoder.transcodeToString(msgPack);
+
+    // then
+    assertThat(transcoded).isEqualTo(convertWithJackson(msgPack));
+  }
+
+  @Test
+  void shouldTranscodeIntoBuffer() {
+    // given
+    final var msgPack = new UnsafeBuffer(MsgPackConverter.convertToMsgPack("{\"a\":[1,true]}"));
+    final var json = new ExpandableArrayBuffer(4);
+
+    // when
+    final var length = transcoder.transcode(msgPack, json, 2);
+
+    // then
+    assertThat(json.getStringWithoutLengthUtf8(2, length)).isEqualTo("{\"a\":[1,true]}");
+  }
+
+  @Test
+  void shouldTranscodeIntoStream() throws Exception {
+    // given
+    final var msgPack = new UnsafeBuffer(MsgPackConverter.convertToMsgPack("{\"a\":\"ü\"}"));
+    final var json = new ByteArrayOutputStream();
+
+    // when
+    transcoder.transcode(msgPack, json);
+
+    // then
+    assertThat(json.toString(StandardCharsets.UTF_8)).isEqualTo("{\"a\":\"ü\"}");
+  }
+
+  @Test
+  void shouldReuseTranscoder() {
+    // given
+    final var large = new UnsafeBuffer(MsgPackConverter.convertToMsgPack("{\"a\":\"bcdefgh\"}"));
+    final var small = new UnsafeBuffer(MsgPackConverter.convertToMsgPack("{\"a\":1}"));
+
+    // when
+    transcoder.transcodeToString(large);
+    final var transcoded = transcoder.transcodeToString(small);
+
+    // then
+    assertThat(transcoded).isEqualTo("{\"a\":1}");
+  }
+
+  @Test
+  void shouldNotRetainOversizedOutputBuffer() {
+    // given
+    final var value = "a".repeat(MsgPackJsonTranscoder.MAX_RETAINED_CAPACITY);
+    final var large =
+        new UnsafeBuffer(MsgPackConverter.convertToMsgPack("{\"a\":\"" + value + "\"}"));
+    final var small = new UnsafeBuffer(MsgPackConverter.convertToMsgPack("{\"a\":1}"));
+
+    // when
+    final var transcodedLarge = transcoder.transcodeToString(large);
+    final var capacityAfterLarge = transcoder.getOutputBufferCapacity();
+    final var transcodedSmall = transcoder.transcodeToString(small);
+
+    // then
+    assertThat(transcodedLarge).isEqualTo("{\"a\":\"" + value + "\"}");
+    assertThat(capacityAfterLarge).isLessThanOrEqualTo(MsgPackJsonTranscoder.MAX_RETAINED_CAPACITY);
+    assertThat(transcodedSmall).isEqualTo("{\"a\":1}");
+  }
+
+  @Test
+  void shouldConvertToIndependentJsonStreams() throws Exception {
+    // given
+    final var first = MsgPackConverter.convertToMsgPack("{\"a\":\"bcdefgh\"}");
+    final var second = MsgPackConverter.convertToMsgPack("{\"a\":1}");
+
+    // when
+    final var firstJson = MsgPackConverter.convertToJsonInputStream(first);
+    final var secondJson = MsgPackConverter.convertToJsonInputStream(second);
+
+    // then
+    assertThat(new String(firstJson.readAllBytes(), StandardCharsets.UTF_8))
+        .isEqualTo("{\"a\":\"bcdefgh\"}");
+    assertThat(new String(secondJson.readAllBytes(), StandardCharsets.UTF_8))
+        .isEqualTo("{\"a\":1}");
+  }
+
+  @Test
+  void shouldFailOnEmptyDocument() {
+    // when - then
+    assertThatThrownBy(() -> MsgPackConverter.convertToJson(new UnsafeBuffer(new byte[0])))
+        .hasMessage("Failed to convert MessagePack to JSON");
+  }
+
+  private static Stream<String> jsonDocuments() {
+    return Stream.of(
+        "{}",
+        "[]",
+        "null",
+        "\"foo\"",
+        "123",
+        "{\"a\":1,\"b\":-1,\"c\":2147483648,\"d\":-9223372036854775808}",
+        "{\"a\":18446744073709551615}",
+        "{\"a\":1.5,\"b\":-0.1,\"c\":1.0E300,\"d\":4.9E-324}",
+        "{\"a\":true,\"b\":false,\"c\":null}",
+        "{\"a\":\"\\\"quoted\\\" \\\\ back/slash\"}",
+        "{\"a\":\"\\b\\f\\n\\r\\t\\u0000\\u001f\\u007f\"}",
+        "{\"a\":\"ümläut € 😀\"}",
+        "{\"a\":{\"b\":{\"c\":[1,[2,[3,{\"d\":[]}]]]}}}",
+        "[{\"a\":1},{\"b\":\"2\"},[null]]");
+  }
+
+  private static Stream<Arguments> msgPackDocuments() {
+    return Stream.of(
+        Arguments.of("binary", encode(w -> w.writeBinary(BufferUtil.wrapString("binary\0")))),
+        Arguments.of("float32", encode(w -> w.writeRaw(floatRaw(0.1f)))),
+        Arguments.of("NaN", encode(w -> w.writeFloat(Double.NaN))),
+        Arguments.of("Infinity", encode(w -> w.writeFloat(Double.NEGATIVE_INFINITY))),
+        Arguments.of(
+            "integer key",
+            encode(
+                w -> {
+                  w.writeMapHeader(1);
+                  w.writeInteger(7);
+                  w.writeString(BufferUtil.wrapString("seven"));
+                })));
+  }
+
+  private static DirectBuffer floatRaw(final float value) {
+    final var buffer = new UnsafeBuffer(new byte[5]);
+    buffer.putByte(0, (byte) 0xca);
+    buffer.putFloat(1, value, java.nio.ByteOrder.BIG_ENDIAN);
+    return buffer;
+  }
+
+  private static DirectBuffer encode(final Consumer<MsgPackWriter> writer) {
+    final var buffer = new ExpandableArrayBuffer();
+    final var msgPackWriter = new MsgPackWriter().wrap(buffer, 0);
+    writer.accept(msgPackWriter);
+    return new UnsafeBuffer(buffer, 0, msgPackWriter.getOffset());
+  }
+
+  private static String convertWithJackson(final DirectBuffer msgPack) throws Exception {
+    final var output = new ByteArrayOutputStream();
+    try (final var parser =
+            new MessagePackFactory().createParser(BufferUtil.bufferAsArray(msgPack));
+        final var generator = new MappingJsonFactory().createGenerator(output, JsonEncoding.UTF8)) {
+      parser.nextToken();
+      generator.copyCurrentStructure(parser);
+    }
+    return output.toString(StandardCharsets.UTF_8);
+  }
+}
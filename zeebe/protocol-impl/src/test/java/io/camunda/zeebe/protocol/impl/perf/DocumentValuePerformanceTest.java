@@ -0,0 +1,153 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.protocol.impl.perf;
+
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.msgpack.value.DocumentValue;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.collections.ObjectHashSet;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+
+/**
+ * Measures overwriting and merging {@link DocumentValue}s, for variable documents of different
+ * sizes. The update document overwrites every other variable of the original document.
+ *
+ * <p>Documents are not merged by the msgpack modules themselves: the engine indexes the update
+ * document and applies it variable by variable to the scope's state. {@link #measureMerge()}
+ * therefore measures the codec part of a merge, i.e. indexing both documents and encoding the
+ * merged document, where the variables of the update document replace those of the original one.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class DocumentValuePerformanceTest {
+
+  @Param({"SMALL", "MEDIUM", "LARGE"})
+  private VariablesPayload payload;
+
+  private final MsgPackReader reader = new MsgPackReader();
+  private final MsgPackWriter writer = new MsgPackWriter();
+  private final ExpandableArrayBuffer writeBuffer = new ExpandableArrayBuffer();
+  private final DocumentValue documentValue = new DocumentValue();
+  private final ObjectHashSet<DirectBuffer> updatedNames = new ObjectHashSet<>();
+  private final UnsafeBuffer nameView = new UnsafeBuffer();
+  private DirectBuffer document;
+  private DirectBuffer update;
+
+  @Setup
+  public void setup() {
+    document = payload.newDocument();
+    update = newUpdate(payload.variableCount());
+
+    reader.wrap(update, 0, update.capacity());
+    final int variables = reader.readMapHeader();
+    for (int i = 0; i < variables; i++) {
+      final int nameLength = reader.readStringLength();
+      updatedNames.add(new UnsafeBuffer(update, reader.getOffset(), nameLength));
+      reader.skipBytes(nameLength);
+      reader.skipValue();
+    }
+
+    documentValue.wrap(document);
+  }
+
+  /** Replaces the document with the update, and encodes it, as when setting a record property. */
+  @Benchmark
+  public int measureOverwrite() {
+    documentValue.wrap(update);
+    writer.wrap(writeBuffer, 0);
+    documentValue.write(writer);
+    return writer.getOffset();
+  }
+
+  @Benchmark
+  public DocumentValue measureMerge() {
+    writer.wrap(writeBuffer, 0);
+    writer.reserveMapHeader();
+    int mergedVariables = 0;
+
+    reader.wrap(document, 0, document.capacity());
+    final int variables = reader.readMapHeader();
+    for (int i = 0; i < variables; i++) {
+      final int entryOffset = reader.getOffset();
+      final int nameLength = reader.readStringLength();
+      nameView.wrap(document, reader.getOffset(), nameLength);
+      reader.skipBytes(nameLength);
+      reader.skipValue();
+
+      if (!updatedNames.contains(nameView)) {
+        writer.writeRaw(document, entryOffset, reader.getOffset() - entryOffset);
+        mergedVariables++;
+      }
+    }
+
+    reader.wrap(update, 0, update.capacity());
+    mergedVariables += reader.readMapHeader();
+    writer.writeRaw(update, reader.getOffset(), update.capacity() - reader.getOffset());
+    writer.writeReservedMapHeader(0, mergedVariables);
+
+    documentValue.wrap(writeBuffer, 0, writer.getOffset());
+    return documentValue;
+  }
+
+  @JMHTest("measureMerge")
+  void shouldMergeWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured with JMH 1.37 on JDK 21 on a single vCPU Intel
+    // Xeon VM with 5 GB of memory, which scored ~36,900 ops/s
+    // when running this test on a different machine, you're likely to have a different score
+    final var referenceScore = 36_000;
+
+    // when
+    final var assertResult =
+        testCase
+            .withOptions(
+                options ->
+                    options
+                        .param("payload", VariablesPayload.MEDIUM.name())
+                        .addProfiler(GCProfiler.class))
+            .run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  private static DirectBuffer newUpdate(final int variableCount) {
+    final var buffer = new ExpandableArrayBuffer();
+    final var updateWriter = new MsgPackWriter().wrap(buffer, 0);
+
+    updateWriter.writeMapHeader((variableCount + 1) / 2);
+    for (int i = 0; i < variableCount; i += 2) {
+      updateWriter.writeString(BufferUtil.wrapString("variable" + i));
+      updateWriter.writeInteger(i);
+    }
+
+    return new UnsafeBuffer(buffer, 0, updateWriter.getOffset());
+  }
+}
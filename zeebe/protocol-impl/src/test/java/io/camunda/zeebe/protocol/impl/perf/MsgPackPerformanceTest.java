@@ -0,0 +1,121 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.protocol.impl.perf;
+
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackType;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+
+/**
+ * Measures the primitives of {@link MsgPackReader} and {@link MsgPackWriter}, which all msgpack
+ * encoded records and variable documents go through, for variable documents of different sizes.
+ *
+ * <p>Running the benchmarks with the {@link GCProfiler} (e.g. {@code -prof gc}) additionally
+ * reports the allocation rate per operation; none of these operations should allocate.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class MsgPackPerformanceTest {
+  private static final DirectBuffer KEY = BufferUtil.wrapString("variable");
+  private static final DirectBuffer VALUE = BufferUtil.wrapString("value");
+
+  @Param({"SMALL", "MEDIUM", "LARGE"})
+  private VariablesPayload payload;
+
+  private final MsgPackReader reader = new MsgPackReader();
+  private final MsgPackWriter writer = new MsgPackWriter();
+  private final ExpandableArrayBuffer writeBuffer = new ExpandableArrayBuffer();
+  private DirectBuffer document;
+
+  @Setup
+  public void setup() {
+    document = payload.newDocument();
+  }
+
+  @Benchmark
+  public void measureReadTokens(final Blackhole blackhole) {
+    reader.wrap(document, 0, document.capacity());
+    while (reader.hasNext()) {
+      final var token = reader.readToken();
+      if (token.getType() == MsgPackType.STRING) {
+        blackhole.consume(token.getValueBuffer());
+      } else {
+        blackhole.consume(token.getType());
+      }
+    }
+  }
+
+  @Benchmark
+  public int measureSkipDocument() {
+    reader.wrap(document, 0, document.capacity());
+    reader.skipValue();
+    return reader.getOffset();
+  }
+
+  @Benchmark
+  public int measureWriteEntries() {
+    final var entries = payload.variableCount();
+    writer.wrap(writeBuffer, 0);
+    writer.writeMapHeader(entries);
+    for (int i = 0; i < entries; i++) {
+      writer.writeString(KEY);
+      switch (i % 4) {
+        case 0 -> writer.writeString(VALUE);
+        case 1 -> writer.writeInteger(i);
+        case 2 -> writer.writeBoolean(true);
+        default -> writer.writeFloat(i);
+      }
+    }
+    return writer.getOffset();
+  }
+
+  @JMHTest("measureReadTokens")
+  void shouldReadTokensWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured with JMH 1.37 on JDK 21 on a single vCPU Intel
+    // Xeon VM with 5 GB of memory, which scored ~20,600 and ~30,300 ops/s in two runs
+    // when running this test on a different machine, you're likely to have a different score
+    final var referenceScore = 20_000;
+
+    // when
+    final var assertResult =
+        testCase
+            .withOptions(
+                options ->
+                    options
+                        .param("payload", VariablesPayload.MEDIUM.name())
+                        .addProfiler(GCProfiler.class))
+            .run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+}
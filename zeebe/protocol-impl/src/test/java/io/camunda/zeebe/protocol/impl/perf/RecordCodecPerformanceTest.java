@@ -0,0 +1,216 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.protocol.impl.perf;
+
+import io.camunda.zeebe.msgpack.UnpackedObject;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
+import io.camunda.zeebe.protocol.impl.record.value.variable.VariableDocumentRecord;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.protocol.record.value.BpmnEventType;
+import io.camunda.zeebe.protocol.record.value.VariableDocumentUpdateSemantic;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+
+/**
+ * Measures decoding and encoding of records, i.e. {@link
+ * io.camunda.zeebe.msgpack.value.ObjectValue} read, write, {@code getEncodedLength} and {@code
+ * writeJSON}, for the record shapes which are written most often, and for variable documents of
+ * different sizes.
+ *
+ * <p>The process instance record doesn't contain variables, so it ignores the payload, and is only
+ * measured as a baseline for records with many small properties.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class RecordCodecPerformanceTest {
+
+  @Param({"JOB", "VARIABLE_DOCUMENT", "PROCESS_INSTANCE"})
+  private RecordShape recordShape;
+
+  @Param({"SMALL", "MEDIUM", "LARGE"})
+  private VariablesPayload payload;
+
+  private final StringBuilder jsonBuilder = new StringBuilder();
+  private DirectBuffer variables;
+  private UnpackedObject record;
+  private UnpackedObject decodedRecord;
+  private UnpackedObject updatedRecord;
+  private DirectBuffer encodedRecord;
+  private MutableDirectBuffer writeBuffer;
+
+  @Setup
+  public void setup() {
+    variables = payload.newDocument();
+    record = recordShape.newRecord(variables);
+    decodedRecord = recordShape.newEmptyRecord();
+    updatedRecord = recordShape.newRecord(variables);
+
+    final var length = record.getLength();
+    writeBuffer = new UnsafeBuffer(new byte[length]);
+    record.write(writeBuffer, 0);
+    encodedRecord = new UnsafeBuffer(writeBuffer, 0, length);
+  }
+
+  @Benchmark
+  public UnpackedObject measureRead() {
+    decodedRecord.wrap(encodedRecord);
+    return decodedRecord;
+  }
+
+  @Benchmark
+  public MutableDirectBuffer measureWrite() {
+    record.write(writeBuffer, 0);
+    return writeBuffer;
+  }
+
+  @Benchmark
+  public int measureGetEncodedLength() {
+    return record.getLength();
+  }
+
+  @Benchmark
+  public int measureWriteJson() {
+    jsonBuilder.setLength(0);
+    record.writeJSON(jsonBuilder);
+    return jsonBuilder.length();
+  }
+
+  /** Replaces the variable document of the record, which validates the new document. */
+  @Benchmark
+  public UnpackedObject measureSetVariables() {
+    recordShape.setVariables(updatedRecord, variables);
+    return updatedRecord;
+  }
+
+  @JMHTest("measureRead")
+  void shouldReadJobWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score, as measured with JMH 1.37 on JDK 21 on a single vCPU Intel
+    // Xeon VM with 5 GB of memory, which scored ~920,000 and ~705,000 ops/s in two runs
+    // when running this test on a different machine, you're likely to have a different score
+    final var referenceScore = 700_000;
+
+    // when
+    final var assertResult =
+        testCase
+            .withOptions(
+                options ->
+                    options
+                        .param("recordShape", RecordShape.JOB.name())
+                        .param("payload", VariablesPayload.SMALL.name())
+                        .addProfiler(GCProfiler.class))
+            .run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  public enum RecordShape {
+    JOB(JobRecord::new) {
+      @Override
+      UnpackedObject newRecord(final DirectBuffer variables) {
+        return new JobRecord()
+            .setType("payment-service")
+            .setWorker("payment-worker-1")
+            .setRetries(3)
+            .setDeadline(1_700_000_000_000L)
+            .setTimeout(300_000L)
+            .setCustomHeaders(
+                BufferUtil.wrapArray(new byte[] {(byte) 0x81, (byte) 0xa1, 'k', (byte) 0xa1, 'v'}))
+            .setBpmnProcessId("order-process")
+            .setProcessDefinitionVersion(12)
+            .setProcessDefinitionKey(2251799813685249L)
+            .setProcessInstanceKey(2251799813685251L)
+            .setElementId("charge-payment")
+            .setElementInstanceKey(2251799813685260L)
+            .setTenantId("<default>")
+            .setVariables(variables);
+      }
+
+      @Override
+      void setVariables(final UnpackedObject record, final DirectBuffer variables) {
+        ((JobRecord) record).setVariables(variables);
+      }
+    },
+
+    VARIABLE_DOCUMENT(VariableDocumentRecord::new) {
+      @Override
+      UnpackedObject newRecord(final DirectBuffer variables) {
+        return new VariableDocumentRecord()
+            .setScopeKey(2251799813685251L)
+            .setUpdateSemantics(VariableDocumentUpdateSemantic.PROPAGATE)
+            .setVariables(variables);
+      }
+
+      @Override
+      void setVariables(final UnpackedObject record, final DirectBuffer variables) {
+        ((VariableDocumentRecord) record).setVariables(variables);
+      }
+    },
+
+    PROCESS_INSTANCE(ProcessInstanceRecord::new) {
+      @Override
+      UnpackedObject newRecord(final DirectBuffer variables) {
+        return new ProcessInstanceRecord()
+            .setBpmnProcessId("order-process")
+            .setVersion(12)
+            .setProcessDefinitionKey(2251799813685249L)
+            .setProcessInstanceKey(2251799813685251L)
+            .setElementId("charge-payment")
+            .setFlowScopeKey(2251799813685251L)
+            .setBpmnElementType(BpmnElementType.SERVICE_TASK)
+            .setBpmnEventType(BpmnEventType.UNSPECIFIED)
+            .setParentProcessInstanceKey(-1L)
+            .setParentElementInstanceKey(-1L)
+            .setTenantId("<default>");
+      }
+
+      @Override
+      void setVariables(final UnpackedObject record, final DirectBuffer variables) {
+        // the record has no variables
+      }
+    };
+
+    private final Supplier<UnpackedObject> emptyRecordFactory;
+
+    RecordShape(final Supplier<UnpackedObject> emptyRecordFactory) {
+      this.emptyRecordFactory = emptyRecordFactory;
+    }
+
+    UnpackedObject newEmptyRecord() {
+      return emptyRecordFactory.get();
+    }
+
+    abstract UnpackedObject newRecord(DirectBuffer variables);
+
+    abstract void setVariables(UnpackedObject record, DirectBuffer variables);
+  }
+}
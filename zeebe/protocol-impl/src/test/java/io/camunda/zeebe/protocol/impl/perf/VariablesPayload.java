@@ -0,0 +1,73 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.protocol.impl.perf;
+
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Variable documents of different sizes, as they are passed to jobs or set on a scope. Each
+ * variable is one of a handful of value shapes (strings, numbers, booleans, nested objects and
+ * arrays), so that all code paths of the codecs are exercised.
+ */
+public enum VariablesPayload {
+  /** A handful of variables, ~200 bytes */
+  SMALL(8),
+  /** A typical business object, ~20 KB */
+  MEDIUM(800),
+  /** A very large document, ~2 MB */
+  LARGE(80_000);
+
+  private final int variableCount;
+
+  VariablesPayload(final int variableCount) {
+    this.variableCount = variableCount;
+  }
+
+  public int variableCount() {
+    return variableCount;
+  }
+
+  /** Returns a new msgpack encoded document with {@link #variableCount()} variables. */
+  public DirectBuffer newDocument() {
+    final var buffer = new ExpandableArrayBuffer();
+    final var writer = new MsgPackWriter().wrap(buffer, 0);
+
+    writer.writeMapHeader(variableCount);
+    for (int i = 0; i < variableCount; i++) {
+      writer.writeString(BufferUtil.wrapString("variable" + i));
+      writeValue(writer, i);
+    }
+
+    return new UnsafeBuffer(buffer, 0, writer.getOffset());
+  }
+
+  private static void writeValue(final MsgPackWriter writer, final int index) {
+    switch (index % 5) {
+      case 0 -> writer.writeString(BufferUtil.wrapString("value-" + index));
+      case 1 -> writer.writeInteger(index * 31L);
+      case 2 -> writer.writeBoolean(index % 2 == 0);
+      case 3 -> {
+        writer.writeMapHeader(2);
+        writer.writeString(BufferUtil.wrapString("id"));
+        writer.writeInteger(index);
+        writer.writeString(BufferUtil.wrapString("amount"));
+        writer.writeFloat(index / 3.0);
+      }
+      default -> {
+        writer.writeArrayHeader(3);
+        writer.writeString(BufferUtil.wrapString("a"));
+        writer.writeString(BufferUtil.wrapString("b"));
+        writer.writeNil();
+      }
+    }
+  }
+}
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.snapshots;
 
 import io.camunda.zeebe.scheduler.future.ActorFuture;
+import java.util.Map;
 
 /**
  * A received volatile snapshot, which consist of several {@link SnapshotChunk}'s. It can be
@@ -30,4 +31,15 @@ public interface ReceivedSnapshot extends PersistableSnapshot {
    * @param chunk the {@link SnapshotChunk} which should be applied
    */
   ActorFuture<Void> apply(SnapshotChunk chunk);
+
+  /**
+   * Takes the given chunks from an existing snapshot, instead of receiving them. This is used when
+   * the sender excluded chunks which are unchanged since the given snapshot. Chunks which are
+   * reused are ignored when they are applied afterwards. In case the snapshot doesn't contain a
+   * chunk with the expected checksum, the future is completed with a SnapshotWriteException.
+   *
+   * @param snapshot the snapshot which contains the chunks
+   * @param chunkChecksums the names of the chunks to reuse, with their expected checksums
+   */
+  ActorFuture<Void> reuse(PersistedSnapshot snapshot, Map<String, Long> chunkChecksums);
 }
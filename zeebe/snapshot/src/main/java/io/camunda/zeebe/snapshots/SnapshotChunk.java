@@ -7,6 +7,8 @@
  */
 package io.camunda.zeebe.snapshots;
 
+import java.nio.ByteBuffer;
+
 /** A chunk of an already persisted Snapshot. */
 public interface SnapshotChunk {
 
@@ -35,6 +37,18 @@ public interface SnapshotChunk {
    */
   byte[] getContent();
 
+  /**
+   * Returns the content of the current chunk as a buffer, from its position up to its limit.
+   * Implementations should avoid copying the content, so prefer this over {@link #getContent()}
+   * when the content is only read once, e.g. written to a file. The returned buffer must not be
+   * modified.
+   *
+   * @return the content of the current chunk, possibly backed by the chunk's own memory
+   */
+  default ByteBuffer getContentBuffer() {
+    return ByteBuffer.wrap(getContent());
+  }
+
   /**
    * @return the index of the part of the chunk contents.
    */
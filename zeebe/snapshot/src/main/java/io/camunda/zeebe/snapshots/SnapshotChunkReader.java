@@ -9,11 +9,16 @@ package io.camunda.zeebe.snapshots;
 
 import io.camunda.zeebe.util.CloseableSilently;
 import java.nio.ByteBuffer;
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.Set;
 
 /**
  * Represents a snapshot chunk reader, which means it is used to chunk an {@link PersistedSnapshot}
  * and read it from it's persisted storage.
+ *
+ * <p>A chunk returned by {@link #next()} may share its content's memory with the reader, so it must
+ * be consumed before the next chunk is read. Use {@link SnapshotChunk#getContent()} to keep a copy.
  */
 public interface SnapshotChunkReader extends Iterator<SnapshotChunk>, CloseableSilently {
 
@@ -41,4 +46,15 @@ public interface SnapshotChunkReader extends Iterator<SnapshotChunk>, CloseableS
    * @param maximumChunkSize
    */
   void setMaximumChunkSize(final int maximumChunkSize);
+
+  /**
+   * Excludes the chunks with the given names, such that they are not returned anymore, e.g. because
+   * the receiver already holds them. Chunks which were already returned, even partially, are not
+   * excluded, and neither is the last remaining chunk, such that the snapshot can still be
+   * completed.
+   *
+   * @param chunkNames the names of the chunks to exclude
+   * @return the names of the chunks which were excluded
+   */
+  Set<String> exclude(Collection<String> chunkNames);
 }
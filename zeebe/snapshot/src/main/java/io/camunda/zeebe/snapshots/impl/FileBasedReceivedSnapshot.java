@@ -18,10 +18,18 @@ import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.zip.CRC32C;
+import java.util.zip.Checksum;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,6 +43,8 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
   private final FileBasedSnapshotStoreImpl snapshotStore;
 
   private final FileBasedSnapshotId snapshotId;
+  private final Set<String> reusedChunks = new HashSet<>();
+  private final Map<String, Checksum> fileChecksums = new HashMap<>();
   private int expectedTotalCount;
   private FileBasedSnapshotMetadata metadata;
   private ByteBuffer metadataBuffer;
@@ -85,6 +95,12 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
       return;
     }
 
+    if (reusedChunks.contains(chunkName)) {
+      LOGGER.trace(
+          "Ignore snapshot chunk {} of snapshot {}, because it was reused", chunkName, snapshotId);
+      return;
+    }
+
     checkChunkChecksumIsValid(snapshotChunk, snapshotId, chunkName);
 
     final var tmpSnapshotDirectory = directory;
@@ -103,8 +119,7 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     if (checksumCollection == null) {
       checksumCollection = new SfvChecksumImpl();
     }
-    checksumCollection.updateFromBytes(
-        snapshotFile.getFileName().toString(), snapshotChunk.getContent());
+    updateChecksum(snapshotChunk, snapshotFile);
 
     if (snapshotChunk.getChunkName().equals(FileBasedSnapshotStoreImpl.METADATA_FILE_NAME)) {
       try {
@@ -115,24 +130,127 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     }
   }
 
+  @Override
+  public ActorFuture<Void> reuse(
+      final PersistedSnapshot snapshot, final Map<String, Long> chunkChecksums) {
+    return actor.call(
+        () -> {
+          reuseInternal(snapshot, chunkChecksums);
+          return null;
+        });
+  }
+
+  private void reuseInternal(
+      final PersistedSnapshot snapshot, final Map<String, Long> chunkChecksums)
+      throws SnapshotWriteException {
+    final var availableChecksums = snapshot.getChecksums().getChecksums();
+    try {
+      FileUtil.ensureDirectoryExists(directory);
+    } catch (final IOException e) {
+      throw new SnapshotWriteException(
+          String.format("Failed to ensure that directory %s exists.", directory), e);
+    }
+
+    if (checksumCollection == null) {
+      checksumCollection = new SfvChecksumImpl();
+    }
+
+    for (final var chunk : chunkChecksums.entrySet()) {
+      final var chunkName = chunk.getKey();
+      if (reusedChunks.contains(chunkName)) {
+        continue;
+      }
+
+      final var expectedChecksum = chunk.getValue();
+      final var actualChecksum = availableChecksums.get(chunkName);
+      if (!expectedChecksum.equals(actualChecksum)) {
+        throw new SnapshotWriteException(
+            String.format(
+                "Expected to reuse chunk %s with checksum %d from snapshot %s, but its checksum is %d",
+                chunkName, expectedChecksum, snapshot.getId(), actualChecksum));
+      }
+
+      final var snapshotFile = directory.resolve(chunkName);
+      linkReusedChunk(snapshot.getPath().resolve(chunkName), snapshotFile);
+      fileChecksums.remove(chunkName);
+      checksumCollection.updateFromChecksum(snapshotFile, expectedChecksum);
+      reusedChunks.add(chunkName);
+
+      if (chunkName.equals(FileBasedSnapshotStoreImpl.METADATA_FILE_NAME)) {
+        readReusedMetadata(snapshotFile);
+      }
+    }
+
+    LOGGER.debug(
+        "Reused {} chunks of snapshot {} for snapshot {}",
+        chunkChecksums.size(),
+        snapshot.getId(),
+        snapshotId);
+  }
+
+  private void linkReusedChunk(final Path source, final Path target) throws SnapshotWriteException {
+    try {
+      // the chunk may have been partially received before
+      Files.deleteIfExists(target);
+      try {
+        // files of a snapshot are immutable, so they can be shared between snapshots
+        Files.createLink(target, source);
+      } catch (final UnsupportedOperationException | FileSystemException e) {
+        LOGGER.debug("Failed to link {} to {}, copying it instead", source, target, e);
+        Files.copy(source, target);
+      }
+    } catch (final IOException e) {
+      throw new SnapshotWriteException(
+          String.format("Failed to reuse snapshot chunk %s as %s", source, target), e);
+    }
+  }
+
+  private void readReusedMetadata(final Path metadataFile) throws SnapshotWriteException {
+    try {
+      metadata = FileBasedSnapshotMetadata.decode(Files.readAllBytes(metadataFile));
+    } catch (final IOException e) {
+      throw new SnapshotWriteException("Cannot decode snapshot metadata", e);
+    }
+  }
+
   private void collectMetadata(final SnapshotChunk chunk) throws IOException {
     if (metadataBuffer == null) {
       metadataBuffer = ByteBuffer.allocate(Math.toIntExact(chunk.getTotalFileSize()));
     }
 
-    metadataBuffer.put(Math.toIntExact(chunk.getFileBlockPosition()), chunk.getContent());
-    writtenMetadataBytes += chunk.getContent().length;
+    final var content = chunk.getContentBuffer();
+    metadataBuffer.put(
+        Math.toIntExact(chunk.getFileBlockPosition()),
+        content,
+        content.position(),
+        content.remaining());
+    writtenMetadataBytes += content.remaining();
 
     if (writtenMetadataBytes == chunk.getTotalFileSize()) {
       metadata = FileBasedSnapshotMetadata.decode(metadataBuffer.array());
     }
   }
 
+  /**
+   * Updates the checksum of the file the chunk belongs to, such that files which are split into
+   * multiple chunks don't have to be read again on persist. Chunks of a file are received in order.
+   */
+  private void updateChecksum(final SnapshotChunk snapshotChunk, final Path snapshotFile) {
+    final var fileName = snapshotFile.getFileName().toString();
+    if (snapshotChunk.getFileBlockPosition() == 0) {
+      fileChecksums.put(fileName, new CRC32C());
+    }
+
+    final var fileChecksum = fileChecksums.computeIfAbsent(fileName, ignored -> new CRC32C());
+    fileChecksum.update(snapshotChunk.getContentBuffer());
+    checksumCollection.updateFromChecksum(snapshotFile, fileChecksum.getValue());
+  }
+
   private void checkChunkChecksumIsValid(
       final SnapshotChunk snapshotChunk, final String snapshotId, final String chunkName)
       throws SnapshotWriteException {
     final long expectedChecksum = snapshotChunk.getChecksum();
-    final long actualChecksum = SnapshotChunkUtil.createChecksum(snapshotChunk.getContent());
+    final long actualChecksum = SnapshotChunkUtil.createChecksum(snapshotChunk.getContentBuffer());
 
     if (expectedChecksum != actualChecksum) {
       throw new SnapshotWriteException(
@@ -176,13 +294,15 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
 
     try (final var channel =
         FileChannel.open(snapshotFile, StandardOpenOption.WRITE, StandardOpenOption.CREATE)) {
-      final ByteBuffer buffer = ByteBuffer.wrap(snapshotChunk.getContent());
+      final ByteBuffer buffer = snapshotChunk.getContentBuffer();
+      final int start = buffer.position();
+      final int end = buffer.limit();
 
       while (buffer.hasRemaining()) {
-        final int newLimit = Math.min(buffer.capacity(), buffer.position() + BLOCK_SIZE);
-        channel.position(snapshotChunk.getFileBlockPosition() + buffer.position());
+        final int newLimit = Math.min(end, buffer.position() + BLOCK_SIZE);
+        channel.position(snapshotChunk.getFileBlockPosition() + buffer.position() - start);
         channel.write(buffer.limit(newLimit));
-        buffer.limit(buffer.capacity());
+        buffer.limit(end);
       }
 
       channel.force(true);
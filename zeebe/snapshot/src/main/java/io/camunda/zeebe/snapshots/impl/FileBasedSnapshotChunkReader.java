@@ -9,19 +9,27 @@ package io.camunda.zeebe.snapshots.impl;
 
 import io.camunda.zeebe.snapshots.SnapshotChunk;
 import io.camunda.zeebe.snapshots.SnapshotChunkReader;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.NavigableSet;
+import java.util.Set;
 import java.util.TreeSet;
 
 /**
  * Implements a chunk reader where each chunk is a single file in a root directory. Chunks are then
  * ordered lexicographically, and the files are assumed to be immutable, i.e. no more are added to
  * the directory once this is created.
+ *
+ * <p>The content of a chunk is read into a direct buffer which is reused for the next chunk, so it
+ * is only valid until {@link #next()} is called again.
  */
 public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   private final Path directory;
@@ -32,6 +40,8 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   private final int totalCount;
   private final String snapshotID;
   private long maximumChunkSize;
+  // the content of the current chunk; grows to fit the largest chunk, and is reused afterwards
+  private ByteBuffer chunkBuffer;
 
   public FileBasedSnapshotChunkReader(final Path directory) throws IOException {
     this(directory, Long.MAX_VALUE);
@@ -89,6 +99,30 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
     this.maximumChunkSize = maximumChunkSize;
   }
 
+  @Override
+  public Set<String> exclude(final Collection<String> chunkNames) {
+    final Set<String> excluded = new HashSet<>();
+    // a chunk which was partially read already has to be completed
+    final var partiallyRead = offset > 0 ? chunksView.first() : null;
+
+    for (final var chunkName : chunkNames) {
+      if (chunksView.size() == 1) {
+        break;
+      }
+
+      if (partiallyRead != null && CharSequence.compare(partiallyRead, chunkName) == 0) {
+        continue;
+      }
+
+      if (chunksView.remove(chunkName)) {
+        chunks.remove(chunkName);
+        excluded.add(chunkName);
+      }
+    }
+
+    return excluded;
+  }
+
   @Override
   public void close() {
     chunks.clear();
@@ -107,10 +141,8 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
 
     try (final var file = new RandomAccessFile(filePath, "r")) {
       final var fileLength = file.length();
-      final var bytesToRead = Math.min(maximumChunkSize, fileLength - offset);
-      final byte[] buffer = new byte[(int) bytesToRead];
-      file.seek(offset);
-      file.readFully(buffer);
+      final var bytesToRead = Math.toIntExact(Math.min(maximumChunkSize, fileLength - offset));
+      final var content = readChunk(file.getChannel(), offset, bytesToRead);
 
       final var fileBlockPosition = offset;
       offset += bytesToRead;
@@ -120,9 +152,27 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
       }
 
       return SnapshotChunkUtil.createSnapshotChunkFromFileChunk(
-          snapshotID, totalCount, fileName, buffer, fileBlockPosition, fileLength);
+          snapshotID, totalCount, fileName, content, fileBlockPosition, fileLength);
     } catch (final IOException e) {
       throw new UncheckedIOException(e);
     }
   }
+
+  private ByteBuffer readChunk(final FileChannel channel, final long position, final int length)
+      throws IOException {
+    if (chunkBuffer == null || chunkBuffer.capacity() < length) {
+      chunkBuffer = ByteBuffer.allocateDirect(length);
+    }
+
+    chunkBuffer.clear().limit(length);
+    while (chunkBuffer.hasRemaining()) {
+      if (channel.read(chunkBuffer, position + chunkBuffer.position()) < 0) {
+        throw new EOFException(
+            "Expected to read %d bytes at position %d, but reached the end of the file"
+                .formatted(length, position));
+      }
+    }
+
+    return chunkBuffer.flip().asReadOnlyBuffer();
+  }
 }
@@ -85,7 +85,9 @@ public final class FileBasedTransientSnapshot implements TransientSnapshot {
                       directory)));
 
         } else {
-          checksum = SnapshotChecksum.calculateWithProvidedChecksums(directory, checksumProvider);
+          try (final var ignoredChecksumTimer = snapshotMetrics.startChecksumTimer()) {
+            checksum = SnapshotChecksum.calculateWithProvidedChecksums(directory, checksumProvider);
+          }
 
           snapshot = null;
           isValid = true;
@@ -83,7 +83,11 @@ public final class SfvChecksumImpl implements MutableChecksumsSFV {
   @Override
   public void updateFromFile(final Path filePath) throws IOException {
     final String fileName = filePath.getFileName().toString();
+    checksums.put(fileName, checksumOf(filePath));
+  }
 
+  /** Computes the CRC32C checksum of the given file's content. */
+  static long checksumOf(final Path filePath) throws IOException {
     final Checksum checksum = new CRC32C();
     final ByteBuffer readBuffer = ByteBuffer.allocate(IoUtil.BLOCK_SIZE);
     try (final FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
@@ -94,7 +98,7 @@ public final class SfvChecksumImpl implements MutableChecksumsSFV {
         readBuffer.clear();
       }
     }
-    checksums.put(fileName, checksum.getValue());
+    return checksum.getValue();
   }
 
   @Override
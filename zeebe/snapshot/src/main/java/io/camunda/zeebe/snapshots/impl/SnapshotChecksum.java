@@ -18,7 +18,15 @@ import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 final class SnapshotChecksum {
 
@@ -49,22 +57,70 @@ final class SnapshotChecksum {
   private static MutableChecksumsSFV createChecksumForSnapshot(
       final Path snapshotDirectory, final CRC32CChecksumProvider provider) throws IOException {
 
+    final List<Path> files;
     try (final var fileStream =
         Files.list(snapshotDirectory).filter(SnapshotChecksum::isNotMetadataFile).sorted()) {
-      final SfvChecksumImpl sfvChecksum = new SfvChecksumImpl();
-      final Map<String, Long> fullFileChecksums = provider.getSnapshotChecksums(snapshotDirectory);
-      fileStream.forEachOrdered(path -> updateChecksum(sfvChecksum, fullFileChecksums, path));
-
-      // While persisting transient snapshot, the checksum of metadata file is added at the end.
-      // Hence when we recalculate the checksum, we must follow the same order. Otherwise base on
-      // the file name, the sorted file list will have a differnt order and thus result in a
-      // different checksum.
-      final var metadataFile =
-          snapshotDirectory.resolve(FileBasedSnapshotStoreImpl.METADATA_FILE_NAME);
-      if (metadataFile.toFile().exists()) {
-        sfvChecksum.updateFromFile(metadataFile);
+      files = fileStream.toList();
+    }
+
+    final SfvChecksumImpl sfvChecksum = new SfvChecksumImpl();
+    final Map<String, Long> fullFileChecksums = provider.getSnapshotChecksums(snapshotDirectory);
+    final var pendingChecksums = new ArrayList<PendingChecksum>();
+    for (final var file : files) {
+      final var providedChecksum = fullFileChecksums.get(file.getFileName().toString());
+      if (providedChecksum != null) {
+        sfvChecksum.updateFromChecksum(file, providedChecksum);
+      } else {
+        pendingChecksums.add(new PendingChecksum(file, computeChecksum(file)));
       }
-      return sfvChecksum;
+    }
+
+    for (final var pending : pendingChecksums) {
+      sfvChecksum.updateFromChecksum(pending.file(), awaitChecksum(pending));
+    }
+
+    // While persisting transient snapshot, the checksum of metadata file is added at the end.
+    // Hence when we recalculate the checksum, we must follow the same order. Otherwise base on
+    // the file name, the sorted file list will have a differnt order and thus result in a
+    // different checksum.
+    final var metadataFile =
+        snapshotDirectory.resolve(FileBasedSnapshotStoreImpl.METADATA_FILE_NAME);
+    if (metadataFile.toFile().exists()) {
+      sfvChecksum.updateFromFile(metadataFile);
+    }
+    return sfvChecksum;
+  }
+
+  /**
+   * Computes the checksum of the given file on the shared checksum pool. If the pool is saturated,
+   * the checksum is computed on the calling thread instead, which bounds the amount of queued work
+   * per snapshot.
+   */
+  private static CompletableFuture<Long> computeChecksum(final Path file) {
+    try {
+      return CompletableFuture.supplyAsync(() -> checksumOf(file), ChecksumPool.EXECUTOR);
+    } catch (final RejectedExecutionException e) {
+      return CompletableFuture.supplyAsync(() -> checksumOf(file), Runnable::run);
+    }
+  }
+
+  private static long checksumOf(final Path file) {
+    try {
+      return SfvChecksumImpl.checksumOf(file);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static long awaitChecksum(final PendingChecksum pending) throws IOException {
+    try {
+      return pending.checksum().join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof final UncheckedIOException ioException) {
+        throw ioException.getCause();
+      }
+
+      throw e;
     }
   }
 
@@ -87,19 +143,27 @@ final class SnapshotChecksum {
     }
   }
 
-  private static void updateChecksum(
-      final MutableChecksumsSFV checksum,
-      final Map<String, Long> fullFileChecksums,
-      final Path file) {
-    final String fileName = file.getFileName().toString();
-    if (fullFileChecksums.containsKey(fileName)) {
-      checksum.updateFromChecksum(file, fullFileChecksums.get(fileName));
-    } else {
-      try {
-        checksum.updateFromFile(file);
-      } catch (final IOException e) {
-        throw new UncheckedIOException(e);
-      }
+  private record PendingChecksum(Path file, CompletableFuture<Long> checksum) {}
+
+  /**
+   * A small, bounded pool shared by all partitions, to compute the checksums of independent
+   * snapshot files in parallel. Its threads are daemons, as it's only used for short-lived tasks.
+   */
+  private static final class ChecksumPool {
+    private static final int THREAD_COUNT =
+        Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+    private static final int MAX_QUEUED_TASKS = 1024;
+    private static final ThreadPoolExecutor EXECUTOR =
+        new ThreadPoolExecutor(
+            THREAD_COUNT,
+            THREAD_COUNT,
+            30,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(MAX_QUEUED_TASKS),
+            Thread.ofPlatform().name("zb-snapshot-checksum-", 0).daemon().factory());
+
+    static {
+      EXECUTOR.allowCoreThreadTimeOut(true);
     }
   }
 }
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.snapshots.impl;
 
 import io.camunda.zeebe.snapshots.SnapshotChunk;
+import java.nio.ByteBuffer;
 import java.util.zip.CRC32C;
 import java.util.zip.Checksum;
 
@@ -21,6 +22,12 @@ final class SnapshotChunkUtil {
     return checksum.getValue();
   }
 
+  static long createChecksum(final ByteBuffer content) {
+    final Checksum checksum = newChecksum();
+    checksum.update(content.duplicate());
+    return checksum.getValue();
+  }
+
   static Checksum newChecksum() {
     return new CRC32C();
   }
@@ -29,7 +36,7 @@ final class SnapshotChunkUtil {
       final String snapshotId,
       final int totalCount,
       final String fileName,
-      final byte[] fileData,
+      final ByteBuffer fileData,
       final long fileBlockPosition,
       final long totalFileSize) {
 
@@ -42,7 +49,7 @@ final class SnapshotChunkUtil {
     private final String snapshotId;
     private final int totalCount;
     private final String chunkName;
-    private final byte[] content;
+    private final ByteBuffer content;
     private final long checksum;
     private final long fileBlockPosition;
     private final long totalFileSize;
@@ -52,7 +59,7 @@ final class SnapshotChunkUtil {
         final int totalCount,
         final String chunkName,
         final long checksum,
-        final byte[] content,
+        final ByteBuffer content,
         final long fileBlockPosition,
         final long totalFileSize) {
       this.snapshotId = snapshotId;
@@ -86,7 +93,14 @@ final class SnapshotChunkUtil {
 
     @Override
     public byte[] getContent() {
-      return content;
+      final var bytes = new byte[content.remaining()];
+      content.get(content.position(), bytes);
+      return bytes;
+    }
+
+    @Override
+    public ByteBuffer getContentBuffer() {
+      return content.duplicate();
     }
 
     @Override
@@ -53,6 +53,13 @@ public final class SnapshotMetrics {
           .name("snapshot_persist_duration")
           .help("Approximate duration of snapshot persist operation")
           .register();
+  private static final Histogram SNAPSHOT_CHECKSUM_DURATION =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_LABEL_NAME)
+          .name("snapshot_checksum_duration")
+          .help("Approximate duration of computing the checksums of a taken snapshot")
+          .register();
   private static final Histogram SNAPSHOT_FILE_SIZE =
       Histogram.build()
           .namespace(NAMESPACE)
@@ -63,6 +70,7 @@ public final class SnapshotMetrics {
           .register();
 
   private final Histogram.Child snapshotPersistDuration;
+  private final Histogram.Child snapshotChecksumDuration;
   private final Histogram.Child snapshotFileSize;
   private final Histogram.Child snapshotDuration;
   private final Gauge.Child snapshotChunkCount;
@@ -72,6 +80,7 @@ public final class SnapshotMetrics {
   public SnapshotMetrics(final String partitionId) {
     snapshotDuration = SNAPSHOT_DURATION.labels(partitionId);
     snapshotPersistDuration = SNAPSHOT_PERSIST_DURATION.labels(partitionId);
+    snapshotChecksumDuration = SNAPSHOT_CHECKSUM_DURATION.labels(partitionId);
     snapshotFileSize = SNAPSHOT_FILE_SIZE.labels(partitionId);
     snapshotChunkCount = SNAPSHOT_CHUNK_COUNT.labels(partitionId);
     snapshotSize = SNAPSHOT_SIZE.labels(partitionId);
@@ -101,4 +110,8 @@ public final class SnapshotMetrics {
   Timer startPersistTimer() {
     return snapshotPersistDuration.startTimer();
   }
+
+  Timer startChecksumTimer() {
+    return snapshotChecksumDuration.startTimer();
+  }
 }
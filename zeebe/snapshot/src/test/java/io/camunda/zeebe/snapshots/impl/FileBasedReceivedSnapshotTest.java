@@ -26,6 +26,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import org.assertj.core.api.Assertions;
@@ -348,6 +349,77 @@ public class FileBasedReceivedSnapshotTest {
     }
   }
 
+  @Test
+  public void shouldReuseChunksOfExistingSnapshot() {
+    // given
+    final var previousSnapshot = receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    final var snapshotToSend = takePersistedSnapshot(2L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(snapshotToSend.getId()).join();
+
+    // when
+    try (final var snapshotChunkReader = snapshotToSend.newChunkReader()) {
+      receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      snapshotChunkReader.exclude(List.of("file2"));
+      receivedSnapshot
+          .reuse(
+              previousSnapshot,
+              Map.of("file2", snapshotToSend.getChecksums().getChecksums().get("file2")))
+          .join();
+
+      while (snapshotChunkReader.hasNext()) {
+        receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      }
+    }
+    final var persistedSnapshot = receivedSnapshot.persist().join();
+
+    // then
+    assertThat(persistedSnapshot.getChecksums().sameChecksums(snapshotToSend.getChecksums()))
+        .as("the persisted snapshot has the same checksums as the sent snapshot")
+        .isTrue();
+    assertThat(previousSnapshot.getPath())
+        .as("the previous snapshot is deleted, while the reused chunk is kept")
+        .doesNotExist();
+    assertThat(persistedSnapshot.getPath().resolve("file2"))
+        .hasContent(SNAPSHOT_FILE_CONTENTS.get("file2"));
+  }
+
+  @Test
+  public void shouldNotReuseChunkWithDifferentChecksum() {
+    // given
+    final var previousSnapshot = receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    final var snapshotToSend = takePersistedSnapshot(2L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(snapshotToSend.getId()).join();
+
+    // when
+    final var reused = receivedSnapshot.reuse(previousSnapshot, Map.of("file2", 0L));
+
+    // then
+    assertThatThrownBy(reused::join).hasCauseInstanceOf(SnapshotWriteException.class);
+  }
+
+  @Test
+  public void shouldComputeChecksumsOfFilesSplitIntoMultipleChunks() {
+    // given
+    final var persistedSnapshot = takePersistedSnapshot(1L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
+
+    // when
+    try (final var snapshotChunkReader = persistedSnapshot.newChunkReader()) {
+      snapshotChunkReader.setMaximumChunkSize(2);
+      while (snapshotChunkReader.hasNext()) {
+        receivedSnapshot.apply(snapshotChunkReader.next()).join();
+      }
+    }
+    final var receivedPersistedSnapshot = receivedSnapshot.persist().join();
+
+    // then
+    assertThat(receivedPersistedSnapshot.getChecksums().getChecksums())
+        .isEqualTo(persistedSnapshot.getChecksums().getChecksums());
+  }
+
   private ReceivedSnapshot receiveSnapshot(final PersistedSnapshot persistedSnapshot) {
     final var receivedSnapshot =
         receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
@@ -9,9 +9,11 @@ package io.camunda.zeebe.snapshots.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.snapshots.SnapshotChunk;
+import io.camunda.zeebe.snapshots.SnapshotChunkWrapper;
 import io.camunda.zeebe.util.FileUtil;
 import java.io.FileNotFoundException;
 import java.io.IOException;
@@ -114,7 +116,7 @@ public final class FileBasedSnapshotChunkReaderTest {
     try (final var snapshotChunkReader = newReader()) {
       while (snapshotChunkReader.hasNext()) {
         snapshotChunkIds.add(snapshotChunkReader.nextId());
-        snapshotChunks.add(snapshotChunkReader.next());
+        snapshotChunks.add(copyOf(snapshotChunkReader.next()));
       }
     }
 
@@ -292,14 +294,14 @@ public final class FileBasedSnapshotChunkReaderTest {
 
     // when
     while (snapshotChunkReader.hasNext()) {
-      snapshotChunks.add(snapshotChunkReader.next());
+      snapshotChunks.add(copyOf(snapshotChunkReader.next()));
     }
 
     snapshotChunkReader.seek(firstId);
     final var snapshotChunksAfterSeek = new ArrayList<SnapshotChunk>();
 
     while (snapshotChunkReader.hasNext()) {
-      snapshotChunksAfterSeek.add(snapshotChunkReader.next());
+      snapshotChunksAfterSeek.add(copyOf(snapshotChunkReader.next()));
     }
 
     assertThat(
@@ -321,7 +323,7 @@ public final class FileBasedSnapshotChunkReaderTest {
 
     // when
     snapshotChunkReader.seek(buffer);
-    final var chunkFromFirstSeek = snapshotChunkReader.next();
+    final var chunkFromFirstSeek = copyOf(snapshotChunkReader.next());
 
     snapshotChunkReader.seek(buffer);
     final var chunkFromSecondSeek = snapshotChunkReader.next();
@@ -332,16 +334,95 @@ public final class FileBasedSnapshotChunkReaderTest {
     assertThat(chunkFromFirstSeek.getChecksum()).isEqualTo(chunkFromSecondSeek.getChecksum());
   }
 
+  @Test
+  public void shouldProvideContentAsBuffer() throws IOException {
+    // given
+    final var snapshotChunkReader = newReader(3);
+
+    // when - then
+    while (snapshotChunkReader.hasNext()) {
+      final var chunk = snapshotChunkReader.next();
+      assertThat(chunk.getContentBuffer()).isEqualTo(ByteBuffer.wrap(chunk.getContent()));
+    }
+  }
+
+  @Test
+  public void shouldKeepCopiedContentWhenReadingNextChunk() throws IOException {
+    // given
+    final var snapshotChunkReader = newReader();
+    final var firstChunk = snapshotChunkReader.next();
+    final var firstContent = firstChunk.getContent();
+
+    // when
+    snapshotChunkReader.next();
+
+    // then
+    assertThat(new String(firstContent, StandardCharsets.UTF_8)).isEqualTo("this");
+  }
+
+  @Test
+  public void shouldExcludeChunks() throws IOException {
+    // given
+    final var snapshotChunkReader = newReader();
+    snapshotChunkReader.next();
+
+    // when
+    final var excluded = snapshotChunkReader.exclude(List.of("file1", "file2"));
+
+    // then - already returned chunks are not excluded
+    assertThat(excluded).containsExactly("file2");
+    snapshotChunkReader.seek(asByteBuffer("file2__0"));
+    assertThat(getAllChunks(snapshotChunkReader))
+        .extracting(SnapshotChunk::getChunkName, SnapshotChunk::getTotalCount)
+        .containsExactly(tuple("file3", 3));
+  }
+
+  @Test
+  public void shouldNotExcludePartiallyReadChunk() throws IOException {
+    // given
+    final var snapshotChunkReader = newReader(3);
+    snapshotChunkReader.next();
+
+    // when
+    final var excluded = snapshotChunkReader.exclude(List.of("file1", "file2"));
+
+    // then
+    assertThat(excluded).containsExactly("file2");
+    assertThat(getAllChunks(snapshotChunkReader))
+        .extracting(SnapshotChunk::getChunkName)
+        .containsExactly("file1", "file3", "file3", "file3");
+  }
+
+  @Test
+  public void shouldNotExcludeLastRemainingChunk() throws IOException {
+    // given
+    final var snapshotChunkReader = newReader();
+    snapshotChunkReader.next();
+    snapshotChunkReader.next();
+
+    // when
+    final var excluded = snapshotChunkReader.exclude(List.of("file3"));
+
+    // then
+    assertThat(excluded).isEmpty();
+    assertThat(snapshotChunkReader.next().getChunkName()).isEqualTo("file3");
+  }
+
   private List<SnapshotChunk> getAllChunks(final FileBasedSnapshotChunkReader reader) {
     final var snapshotChunks = new ArrayList<SnapshotChunk>();
 
     while (reader.hasNext()) {
-      snapshotChunks.add(reader.next());
+      snapshotChunks.add(copyOf(reader.next()));
     }
 
     return snapshotChunks;
   }
 
+  // the reader reuses the content's memory for the next chunk
+  private SnapshotChunk copyOf(final SnapshotChunk chunk) {
+    return SnapshotChunkWrapper.withContents(chunk, chunk.getContent());
+  }
+
   private ByteBuffer asByteBuffer(final String string) {
     return ByteBuffer.wrap(string.getBytes()).order(Protocol.ENDIANNESS);
   }
@@ -189,6 +189,26 @@ public final class SnapshotChecksumTest {
     assertThat(actual.getChecksums().get("file")).isEqualTo(expected);
   }
 
+  @Test
+  void shouldCalculateChecksumsOfManyFiles() throws IOException {
+    // given
+    final var largeSnapshot = createTempDir("many");
+    for (int i = 0; i < 32; i++) {
+      createChunk(largeSnapshot, "file" + i);
+    }
+
+    // when
+    final var actual = SnapshotChecksum.calculate(largeSnapshot);
+
+    // then
+    assertThat(actual.getChecksums()).hasSize(32);
+    for (int i = 0; i < 32; i++) {
+      final Checksum checksum = new CRC32C();
+      checksum.update(("file" + i).getBytes());
+      assertThat(actual.getChecksums()).containsEntry("file" + i, checksum.getValue());
+    }
+  }
+
   @Test
   void shouldAddChecksumOfMetadataAtTheEnd() throws IOException {
     // given
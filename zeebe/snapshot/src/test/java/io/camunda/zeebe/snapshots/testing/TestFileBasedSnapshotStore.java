@@ -111,10 +111,19 @@ public class TestFileBasedSnapshotStore implements ReceivableSnapshotStore {
             .boxed()
             .map(i -> "chunk-" + i)
             .collect(Collectors.toMap(k -> k, v -> String.valueOf(random.nextLong())));
+    newSnapshot(index, term, index, chunks);
+  }
+
+  /**
+   * Takes a snapshot which consists of the given chunks, mapping the file names to their contents.
+   * Snapshots taken with the same position have the same metadata.
+   */
+  public PersistedSnapshot newSnapshot(
+      final long index, final long term, final long position, final Map<String, String> chunks) {
     final var transientSnapshot =
-        snapshotStore.newTransientSnapshot(index, term, index, index).get();
+        snapshotStore.newTransientSnapshot(index, term, position, position).get();
     transientSnapshot.take(p -> writeSnapshot(p, chunks)).join();
-    transientSnapshot.persist().join();
+    return transientSnapshot.persist().join();
   }
 
   private boolean writeSnapshot(final Path path, final Map<String, String> chunks) {
@@ -76,7 +76,7 @@ public interface StreamClock extends InstantSource {
      * Otherwise, offsets the clock by the given duration, overwriting any previous modification.
      */
     default void stackOffset(final Duration additionalOffset) {
-      if (currentModification() instanceof Modification.Offset(final var initialOffset)) {
+      if (currentModification() instanceof Modification.Offset(var initialOffset)) {
         applyModification(Modification.offsetBy(initialOffset.plus(additionalOffset)));
       } else {
         offsetBy(additionalOffset);
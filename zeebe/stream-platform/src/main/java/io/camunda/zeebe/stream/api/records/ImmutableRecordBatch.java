@@ -25,4 +25,9 @@ public interface ImmutableRecordBatch extends Iterable<RecordBatchEntry> {
   }
 
   List<LogAppendEntry> entries();
+
+  /**
+   * @return the summed up length of all records in the batch, in bytes
+   */
+  int getBatchSize();
 }
@@ -0,0 +1,115 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import java.time.Duration;
+
+/**
+ * The limit of commands which are processed in a single batch by the {@link
+ * ProcessingStateMachine}.
+ *
+ * <p>A fixed limit always allows the configured maximum. An adaptive limit is adjusted after every
+ * committed batch, between 1 and the configured maximum:
+ *
+ * <ul>
+ *   <li>If the batch latency exceeded the target latency, the limit is decreased proportionally,
+ *       but at most halved.
+ *   <li>If the limit was reached, the batch latency was below the target, and a batch of twice the
+ *       size could still be written, the limit is increased by an eighth.
+ * </ul>
+ *
+ * The batch latency is the time from starting to process a batch until its state changes are
+ * committed. It covers processing the commands, handing the records to the log stream writer and
+ * committing the transaction, but not appending the records to the log, which completes
+ * asynchronously.
+ *
+ * <p>If more records are ready to be processed, throughput is more important than the latency of a
+ * single request, which is why twice the target latency is tolerated then. Only whether there is a
+ * next record is known, not how many are ready.
+ *
+ * <p>If a batch exceeds the maximum batch size which can be written, the limit is decreased to the
+ * number of commands which could be processed before.
+ */
+final class CommandBatchLimit {
+
+  private static final int MIN_LIMIT = 1;
+  private static final int MORE_RECORDS_READY_LATENCY_FACTOR = 2;
+  private static final int GROWTH_DIVISOR = 8;
+
+  private final int maxLimit;
+  private final long targetLatencyNanos;
+  private int limit;
+
+  private CommandBatchLimit(final int maxLimit, final long targetLatencyNanos) {
+    this.maxLimit = maxLimit;
+    this.targetLatencyNanos = targetLatencyNanos;
+    limit = maxLimit;
+  }
+
+  static CommandBatchLimit fixed(final int maxLimit) {
+    return new CommandBatchLimit(maxLimit, -1);
+  }
+
+  static CommandBatchLimit adaptive(final int maxLimit, final Duration targetLatency) {
+    if (!targetLatency.isPositive()) {
+      throw new IllegalArgumentException(
+          "Expected target latency of adaptive batching to be positive, but was " + targetLatency);
+    }
+    return new CommandBatchLimit(maxLimit, targetLatency.toNanos());
+  }
+
+  int get() {
+    return limit;
+  }
+
+  boolean isAdaptive() {
+    return targetLatencyNanos > 0;
+  }
+
+  /**
+   * Adjusts an adaptive limit after a batch was committed.
+   *
+   * @param processedCommands the number of commands which were processed in the batch
+   * @param batchLatencyNanos the time from starting to process the batch until its state changes
+   *     were committed
+   * @param canWriteLargerBatch true if a batch of twice the size could still be written
+   * @param hasMoreRecordsReady true if there is at least one more record to process
+   */
+  void onBatchCommitted(
+      final int processedCommands,
+      final long batchLatencyNanos,
+      final boolean canWriteLargerBatch,
+      final boolean hasMoreRecordsReady) {
+    if (!isAdaptive()) {
+      return;
+    }
+
+    final long tolerableLatencyNanos =
+        hasMoreRecordsReady
+            ? targetLatencyNanos * MORE_RECORDS_READY_LATENCY_FACTOR
+            : targetLatencyNanos;
+    if (batchLatencyNanos > tolerableLatencyNanos) {
+      final int proportionalLimit = (int) (limit * tolerableLatencyNanos / batchLatencyNanos);
+      limit = Math.max(MIN_LIMIT, Math.max(limit / 2, proportionalLimit));
+    } else if (processedCommands >= limit && canWriteLargerBatch) {
+      limit = Math.min(maxLimit, limit + Math.max(1, limit / GROWTH_DIVISOR));
+    }
+  }
+
+  /**
+   * Decreases an adaptive limit after a batch exceeded the maximum batch size.
+   *
+   * @param processedCommands the number of commands which were processed before the batch size was
+   *     exceeded
+   */
+  void onBatchSizeExceeded(final int processedCommands) {
+    if (isAdaptive()) {
+      limit = Math.max(MIN_LIMIT, Math.min(limit, processedCommands));
+    }
+  }
+}
@@ -39,8 +39,8 @@ public final class ControllableStreamClockImpl implements StreamClock.Controllab
   public Instant instant() {
     return switch (modification) {
       case None() -> source.instant();
-      case Offset(final var offset) -> source.instant().plus(offset);
-      case Pin(final var pinnedAt) -> pinnedAt;
+      case Offset(var offset) -> source.instant().plus(offset);
+      case Pin(var pinnedAt) -> pinnedAt;
     };
   }
 
@@ -48,8 +48,8 @@ public final class ControllableStreamClockImpl implements StreamClock.Controllab
   public long millis() {
     return switch (modification) {
       case None() -> source.millis();
-      case Pin(final var at) -> at.toEpochMilli();
-      case Offset(final var offset) -> source.millis() + offset.toMillis();
+      case Pin(var at) -> at.toEpochMilli();
+      case Offset(var offset) -> source.millis() + offset.toMillis();
     };
   }
 
@@ -159,8 +159,11 @@ public final class ProcessingStateMachine {
   private RecordProcessor currentProcessor;
   private final LogStreamWriter logStreamWriter;
   private boolean inProcessing;
-  private final int maxCommandsInBatch;
+  private final CommandBatchLimit commandBatchLimit;
   private int processedCommandsCount;
+  private int batchCommandsCount;
+  private int batchWriteSize;
+  private long batchStartNanos;
   private final ProcessingMetrics processingMetrics;
   private final ScheduledCommandCache scheduledCommandCache;
   private volatile ErrorHandlingPhase errorHandlingPhase = ErrorHandlingPhase.NO_ERROR;
@@ -181,7 +184,11 @@ public final class ProcessingStateMachine {
     transactionContext = context.getTransactionContext();
     abortCondition = context.getAbortCondition();
     lastProcessedPositionState = context.getLastProcessedPositionState();
-    maxCommandsInBatch = context.getMaxCommandsInBatch();
+    commandBatchLimit =
+        context.isEnableAdaptiveBatching()
+            ? CommandBatchLimit.adaptive(
+                context.getMaxCommandsInBatch(), context.getAdaptiveBatchingTargetLatency())
+            : CommandBatchLimit.fixed(context.getMaxCommandsInBatch());
 
     writeRetryStrategy = new AbortableRetryStrategy(actor);
     sideEffectsRetryStrategy = new AbortableRetryStrategy(actor);
@@ -196,6 +203,7 @@ public final class ProcessingStateMachine {
     streamProcessorListener = context.getStreamProcessorListener();
 
     processingMetrics = new ProcessingMetrics(Integer.toString(partitionId));
+    processingMetrics.setBatchLimit(commandBatchLimit.get());
 
     processingFilter =
         new MetadataEventFilter(
@@ -281,10 +289,14 @@ public final class ProcessingStateMachine {
       typedCommand.wrap(loggedEvent, metadata, value);
 
       zeebeDbTransaction = transactionContext.getCurrentTransaction();
+      batchStartNanos = System.nanoTime();
       try (final var timer = processingMetrics.startBatchProcessingDurationTimer()) {
         zeebeDbTransaction.run(() -> batchProcessing(typedCommand));
         processingMetrics.observeCommandCount(processedCommandsCount);
       }
+      batchCommandsCount = processedCommandsCount;
+      batchWriteSize = currentProcessingResult.getRecordBatch().getBatchSize();
+      processingMetrics.observeWriteSize(batchWriteSize);
 
       finalizeCommandProcessing();
       writeRecords();
@@ -304,9 +316,11 @@ public final class ProcessingStateMachine {
         LOG.warn(
             WARN_MESSAGE_BATCH_PROCESSING_RETRY,
             processedCommandsCount,
-            maxCommandsInBatch,
+            commandBatchLimit.get(),
             exceededBatchRecordSizeException);
         processingMetrics.countRetry();
+        commandBatchLimit.onBatchSizeExceeded(processedCommandsCount);
+        processingMetrics.setBatchLimit(commandBatchLimit.get());
         onError(exceededBatchRecordSizeException, () -> processCommand(loggedEvent));
       } else {
         onError(
@@ -355,7 +369,7 @@ public final class ProcessingStateMachine {
     // We know that we can process until the last processed commands count, which is why we set it
     // as our processing batch limit, in order to handle the commands afterwards as own batch.
     final var currentProcessingBatchLimit =
-        processedCommandsCount > 0 ? processedCommandsCount : maxCommandsInBatch;
+        processedCommandsCount > 0 ? processedCommandsCount : commandBatchLimit.get();
     processedCommandsCount = 0;
     pendingWrites = new ArrayList<>();
     pendingResponses = Collections.newSetFromMap(new IdentityHashMap<>(2));
@@ -567,6 +581,8 @@ public final class ProcessingStateMachine {
 
   private void errorHandlingInTransaction(final Throwable processingException) throws Exception {
     startErrorLoop(typedCommand.hasRequestMetadata());
+    // the batch was not processed as a whole, so it tells nothing about the batch limit
+    batchCommandsCount = 0;
     zeebeDbTransaction = transactionContext.getCurrentTransaction();
     zeebeDbTransaction.run(
         () -> {
@@ -666,11 +682,30 @@ public final class ProcessingStateMachine {
                 });
           } else {
             scheduledCommandCache.remove(metadata.getIntent(), currentRecord.getKey());
+            adjustCommandBatchLimit();
             executeSideEffects();
           }
         });
   }
 
+  private void adjustCommandBatchLimit() {
+    if (batchCommandsCount == 0) {
+      return;
+    }
+
+    // the records are only handed to the log stream writer, so this doesn't include appending them
+    final long batchLatencyNanos = System.nanoTime() - batchStartNanos;
+    processingMetrics.observeBatchLatency(batchLatencyNanos);
+    if (commandBatchLimit.isAdaptive()) {
+      final boolean canWriteLargerBatch =
+          logStreamWriter.canWriteEvents(pendingWrites.size() * 2, batchWriteSize * 2);
+      commandBatchLimit.onBatchCommitted(
+          batchCommandsCount, batchLatencyNanos, canWriteLargerBatch, logStreamReader.hasNext());
+      processingMetrics.setBatchLimit(commandBatchLimit.get());
+    }
+    batchCommandsCount = 0;
+  }
+
   private void executeSideEffects() {
     final ActorFuture<Boolean> retryFuture =
         sideEffectsRetryStrategy.runWithRetry(
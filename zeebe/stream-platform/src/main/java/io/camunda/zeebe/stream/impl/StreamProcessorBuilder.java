@@ -147,6 +147,12 @@ public final class StreamProcessorBuilder {
           "Batch processing limit must be >= 1 but was %s"
               .formatted(streamProcessorContext.getMaxCommandsInBatch()));
     }
+    if (streamProcessorContext.isEnableAdaptiveBatching()
+        && !streamProcessorContext.getAdaptiveBatchingTargetLatency().isPositive()) {
+      throw new IllegalArgumentException(
+          "Adaptive batching target latency must be positive but was %s"
+              .formatted(streamProcessorContext.getAdaptiveBatchingTargetLatency()));
+    }
   }
 
   public StreamProcessorBuilder maxCommandsInBatch(final int maxCommandsInBatch) {
@@ -154,6 +160,21 @@ public final class StreamProcessorBuilder {
     return this;
   }
 
+  /**
+   * Enables adapting the number of commands processed in a batch to the observed batch latency, see
+   * {@link #setAdaptiveBatchingTargetLatency(Duration)}. The limit is then bounded by {@link
+   * #maxCommandsInBatch(int)}.
+   */
+  public StreamProcessorBuilder setEnableAdaptiveBatching(final boolean enabled) {
+    streamProcessorContext.setEnableAdaptiveBatching(enabled);
+    return this;
+  }
+
+  public StreamProcessorBuilder setAdaptiveBatchingTargetLatency(final Duration targetLatency) {
+    streamProcessorContext.setAdaptiveBatchingTargetLatency(targetLatency);
+    return this;
+  }
+
   public StreamProcessorBuilder setEnableAsyncScheduledTasks(final boolean enabled) {
     streamProcessorContext.setEnableAsyncScheduledTasks(enabled);
     return this;
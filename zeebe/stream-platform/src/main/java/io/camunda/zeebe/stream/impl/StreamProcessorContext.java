@@ -30,6 +30,7 @@ import java.util.function.BooleanSupplier;
 public final class StreamProcessorContext implements ReadonlyStreamProcessorContext {
 
   public static final int DEFAULT_MAX_COMMANDS_IN_BATCH = 100;
+  public static final Duration DEFAULT_ADAPTIVE_BATCHING_TARGET_LATENCY = Duration.ofMillis(25);
   private static final StreamProcessorListener NOOP_LISTENER = processedCommand -> {};
   private ActorControl actor;
   private LogStream logStream;
@@ -52,6 +53,8 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
   private volatile StreamProcessor.Phase phase = Phase.INITIAL;
   private KeyGeneratorControls keyGeneratorControls;
   private int maxCommandsInBatch = DEFAULT_MAX_COMMANDS_IN_BATCH;
+  private boolean enableAdaptiveBatching = false;
+  private Duration adaptiveBatchingTargetLatency = DEFAULT_ADAPTIVE_BATCHING_TARGET_LATENCY;
   private boolean enableAsyncScheduledTasks = true;
   private EventFilter processingFilter = e -> true;
   private ControllableStreamClock clock;
@@ -223,6 +226,24 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
     return maxCommandsInBatch;
   }
 
+  public boolean isEnableAdaptiveBatching() {
+    return enableAdaptiveBatching;
+  }
+
+  public StreamProcessorContext setEnableAdaptiveBatching(final boolean enabled) {
+    enableAdaptiveBatching = enabled;
+    return this;
+  }
+
+  public Duration getAdaptiveBatchingTargetLatency() {
+    return adaptiveBatchingTargetLatency;
+  }
+
+  public StreamProcessorContext setAdaptiveBatchingTargetLatency(final Duration targetLatency) {
+    adaptiveBatchingTargetLatency = targetLatency;
+    return this;
+  }
+
   public StreamProcessorContext setEnableAsyncScheduledTasks(final boolean enabled) {
     enableAsyncScheduledTasks = enabled;
     return this;
@@ -10,9 +10,11 @@ package io.camunda.zeebe.stream.impl.metrics;
 import io.camunda.zeebe.stream.impl.ProcessingStateMachine.ErrorHandlingPhase;
 import io.prometheus.client.Counter;
 import io.prometheus.client.Enumeration;
+import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
 import io.prometheus.client.Histogram.Child;
 import io.prometheus.client.Histogram.Timer;
+import java.util.concurrent.TimeUnit;
 
 public class ProcessingMetrics {
 
@@ -32,7 +34,36 @@ public class ProcessingMetrics {
           .namespace(NAMESPACE)
           .name("stream_processor_batch_processing_commands")
           .help("Records the distribution of commands in a batch over time")
-          .buckets(1, 2, 4, 8, 16, 32, 64, 128)
+          .buckets(1, 2, 4, 8, 16, 32, 64, 128, 256, 512, 1024)
+          .labelNames(LABEL_NAME_PARTITION)
+          .register();
+
+  private static final Histogram BATCH_PROCESSING_WRITE_SIZE =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_batch_processing_write_size")
+          .help("Records the distribution of the size of the records written by a batch (in bytes)")
+          .exponentialBuckets(1024, 4, 8)
+          .labelNames(LABEL_NAME_PARTITION)
+          .register();
+
+  private static final Histogram BATCH_PROCESSING_LATENCY =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_batch_processing_latency")
+          .help(
+              "Time from starting to process a batch until its records are handed to the log stream"
+                  + " writer and its state changes are committed, excluding the append of the"
+                  + " records to the log (in seconds)")
+          .buckets(.0001, .001, .01, 0.1, .250, 0.5, 1, 2)
+          .labelNames(LABEL_NAME_PARTITION)
+          .register();
+
+  private static final Gauge BATCH_PROCESSING_LIMIT =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_batch_processing_limit")
+          .help("The current limit of commands which are processed in a batch")
           .labelNames(LABEL_NAME_PARTITION)
           .register();
 
@@ -65,6 +96,9 @@ public class ProcessingMetrics {
 
   private final Child batchProcessingDuration;
   private final Child batchProcessingCommands;
+  private final Child batchProcessingWriteSize;
+  private final Child batchProcessingLatency;
+  private final Gauge.Child batchProcessingLimit;
   private final Counter.Child batchProcessingRetries;
   private final Child batchProcessingPostCommitTasks;
   private final Enumeration.Child errorHandlingPhase;
@@ -72,6 +106,9 @@ public class ProcessingMetrics {
   public ProcessingMetrics(final String partitionIdLabel) {
     batchProcessingDuration = BATCH_PROCESSING_DURATION.labels(partitionIdLabel);
     batchProcessingCommands = BATCH_PROCESSING_COMMANDS.labels(partitionIdLabel);
+    batchProcessingWriteSize = BATCH_PROCESSING_WRITE_SIZE.labels(partitionIdLabel);
+    batchProcessingLatency = BATCH_PROCESSING_LATENCY.labels(partitionIdLabel);
+    batchProcessingLimit = BATCH_PROCESSING_LIMIT.labels(partitionIdLabel);
     batchProcessingRetries = BATCH_PROCESSING_RETRIES.labels(partitionIdLabel);
     batchProcessingPostCommitTasks = BATCH_PROCESSING_POST_COMMIT_TASKS.labels(partitionIdLabel);
     errorHandlingPhase = ERROR_HANDLING_PHASE.labels(partitionIdLabel);
@@ -85,6 +122,18 @@ public class ProcessingMetrics {
     batchProcessingCommands.observe(commandCount);
   }
 
+  public void observeWriteSize(final int writeSize) {
+    batchProcessingWriteSize.observe(writeSize);
+  }
+
+  public void observeBatchLatency(final long latencyNanos) {
+    batchProcessingLatency.observe(latencyNanos / (double) TimeUnit.SECONDS.toNanos(1));
+  }
+
+  public void setBatchLimit(final int batchLimit) {
+    batchProcessingLimit.set(batchLimit);
+  }
+
   public void countRetry() {
     batchProcessingRetries.inc();
   }
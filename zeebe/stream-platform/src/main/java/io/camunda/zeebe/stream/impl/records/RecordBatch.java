@@ -62,6 +62,7 @@ public final class RecordBatch implements MutableRecordBatch {
     return recordBatchSizePredicate.test(recordBatchEntries.size() + 1, batchSize + recordLength);
   }
 
+  @Override
   public int getBatchSize() {
     return batchSize;
   }
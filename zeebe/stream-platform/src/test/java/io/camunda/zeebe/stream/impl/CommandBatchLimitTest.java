@@ -0,0 +1,163 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+final class CommandBatchLimitTest {
+
+  private static final Duration TARGET_LATENCY = Duration.ofMillis(10);
+  private static final long FAST = Duration.ofMillis(1).toNanos();
+  private static final long SLOW = Duration.ofMillis(40).toNanos();
+
+  @Test
+  void shouldNotAdaptFixedLimit() {
+    // given
+    final var limit = CommandBatchLimit.fixed(100);
+
+    // when
+    limit.onBatchCommitted(100, SLOW, true, false);
+    limit.onBatchSizeExceeded(10);
+
+    // then
+    assertThat(limit.isAdaptive()).isFalse();
+    assertThat(limit.get()).isEqualTo(100);
+  }
+
+  @Test
+  void shouldStartAtMaxLimit() {
+    // when
+    final var limit = CommandBatchLimit.adaptive(100, TARGET_LATENCY);
+
+    // then
+    assertThat(limit.get()).isEqualTo(100);
+  }
+
+  @Test
+  void shouldDecreaseLimitProportionallyToLatency() {
+    // given
+    final var limit = CommandBatchLimit.adaptive(100, TARGET_LATENCY);
+
+    // when
+    limit.onBatchCommitted(100, Duration.ofMillis(15).toNanos(), true, false);
+
+    // then
+    assertThat(limit.get()).isEqualTo(66);
+  }
+
+  @Test
+  void shouldAtMostHalveLimit() {
+    // given
+    final var limit = CommandBatchLimit.adaptive(100, TARGET_LATENCY);
+
+    // when
+    limit.onBatchCommitted(100, SLOW, true, false);
+
+    // then
+    assertThat(limit.get()).isEqualTo(50);
+  }
+
+  @Test
+  void shouldNotDecreaseLimitBelowOne() {
+    // given
+    final var limit = CommandBatchLimit.adaptive(100, TARGET_LATENCY);
+
+    // when
+    for (int i = 0; i < 10; i++) {
+      limit.onBatchCommitted(limit.get(), SLOW, true, false);
+    }
+
+    // then
+    assertThat(limit.get()).isOne();
+  }
+
+  @Test
+  void shouldTolerateHigherLatencyIfMoreRecordsAreReady() {
+    // given
+    final var limit = CommandBatchLimit.adaptive(100, TARGET_LATENCY);
+
+    // when
+    limit.onBatchCommitted(100, Duration.ofMillis(15).toNanos(), true, true);
+
+    // then
+    assertThat(limit.get()).isEqualTo(100);
+  }
+
+  @Test
+  void shouldIncreaseLimitIfReachedWithLowLatency() {
+    // given
+    final var limit = CommandBatchLimit.adaptive(100, TARGET_LATENCY);
+    limit.onBatchCommitted(100, SLOW, true, false);
+
+    // when
+    limit.onBatchCommitted(50, FAST, true, false);
+
+    // then
+    assertThat(limit.get()).isEqualTo(56);
+  }
+
+  @Test
+  void shouldNotIncreaseLimitIfNotReached() {
+    // given
+    final var limit = CommandBatchLimit.adaptive(100, TARGET_LATENCY);
+    limit.onBatchCommitted(100, SLOW, true, false);
+
+    // when
+    limit.onBatchCommitted(10, FAST, true, false);
+
+    // then
+    assertThat(limit.get()).isEqualTo(50);
+  }
+
+  @Test
+  void shouldNotIncreaseLimitIfLargerBatchCannotBeWritten() {
+    // given
+    final var limit = CommandBatchLimit.adaptive(100, TARGET_LATENCY);
+    limit.onBatchCommitted(100, SLOW, true, false);
+
+    // when
+    limit.onBatchCommitted(50, FAST, false, false);
+
+    // then
+    assertThat(limit.get()).isEqualTo(50);
+  }
+
+  @Test
+  void shouldNotIncreaseLimitAboveMax() {
+    // given
+    final var limit = CommandBatchLimit.adaptive(100, TARGET_LATENCY);
+
+    // when
+    limit.onBatchCommitted(100, FAST, true, true);
+
+    // then
+    assertThat(limit.get()).isEqualTo(100);
+  }
+
+  @Test
+  void shouldDecreaseLimitIfBatchSizeExceeded() {
+    // given
+    final var limit = CommandBatchLimit.adaptive(100, TARGET_LATENCY);
+
+    // when
+    limit.onBatchSizeExceeded(30);
+
+    // then
+    assertThat(limit.get()).isEqualTo(30);
+  }
+
+  @Test
+  void shouldRejectNonPositiveTargetLatency() {
+    assertThatThrownBy(() -> CommandBatchLimit.adaptive(100, Duration.ZERO))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.db;
 
+import java.util.Collection;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -44,6 +45,20 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
    */
   ValueType get(KeyType key);
 
+  /**
+   * Looks up the values of all given keys at once, which is considerably cheaper than calling
+   * {@link #get(DbKey)} for each key. Uncommitted writes of the current transaction are taken into
+   * account, same as for {@link #get(DbKey)}.
+   *
+   * <p>The given visitor is called for each key which was found, in the order of the given
+   * collection; keys which don't exist are skipped. The visitor receives the key instance from the
+   * given collection, while the value instance is reused between calls and should not be stored.
+   *
+   * @param keys the keys to look up
+   * @param visitor the visitor which accepts the found key-value pairs
+   */
+  void multiGet(Collection<KeyType> keys, BiConsumer<KeyType, ValueType> visitor);
+
   /**
    * Visits the values, which are stored in the column family. The ordering depends on the key.
    *
@@ -34,4 +34,12 @@ public interface TransactionContext {
    * @return the transaction object
    */
   ZeebeDbTransaction getCurrentTransaction();
+
+  /**
+   * Adds a listener which is notified whenever a transaction of this context is committed or rolled
+   * back, see {@link TransactionListener}.
+   *
+   * @param listener the listener to add
+   */
+  void addTransactionListener(TransactionListener listener);
 }
@@ -0,0 +1,30 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db;
+
+/**
+ * Is notified when the transactions of a {@link TransactionContext} are committed or rolled back.
+ * This allows to keep transient state, which mirrors the persisted state, in sync with it: changes
+ * to the transient state can be buffered while the transaction is open, and only be applied once
+ * it's committed.
+ *
+ * <p>The listener is called on the thread which commits or rolls back the transaction, and must not
+ * throw.
+ */
+public interface TransactionListener {
+
+  /** Called after the current transaction was committed. */
+  void onCommit();
+
+  /**
+   * Called after the current transaction was rolled back, i.e. all of its changes were discarded.
+   * Note that a transaction may also be rolled back after it was committed, which doesn't discard
+   * anything.
+   */
+  void onRollback();
+}
@@ -42,6 +42,7 @@ public final class RocksDbConfiguration {
   public static final boolean DEFAULT_SST_PARTITIONING_ENABLED = true;
 
   public static final int DEFAULT_IO_RATE_BYTES_PER_SECOND = 0;
+  public static final long DEFAULT_READ_CACHE_SIZE = 0;
 
   private Properties columnFamilyOptions = new Properties();
   private boolean statisticsEnabled = DEFAULT_STATISTICS_ENABLED;
@@ -72,6 +73,13 @@ public final class RocksDbConfiguration {
    */
   private int ioRateBytesPerSecond = DEFAULT_IO_RATE_BYTES_PER_SECOND;
 
+  /**
+   * The maximum size in bytes of the values which are cached on the heap per read cached column
+   * family and transaction context, see {@link ZeebeRocksDbFactory}. The cache is bypassed when the
+   * value is 0 (the default) or less.
+   */
+  private long readCacheSize = DEFAULT_READ_CACHE_SIZE;
+
   public RocksDbConfiguration() {}
 
   public Properties getColumnFamilyOptions() {
@@ -155,4 +163,13 @@ public final class RocksDbConfiguration {
     this.sstPartitioningEnabled = sstPartitioningEnabled;
     return this;
   }
+
+  public long getReadCacheSize() {
+    return readCacheSize;
+  }
+
+  public RocksDbConfiguration setReadCacheSize(final long readCacheSize) {
+    this.readCacheSize = readCacheSize;
+    return this;
+  }
 }
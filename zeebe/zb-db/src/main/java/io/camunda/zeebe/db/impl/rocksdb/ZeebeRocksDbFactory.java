@@ -21,6 +21,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.function.Predicate;
 import org.agrona.CloseHelper;
 import org.rocksdb.BlockBasedTableConfig;
 import org.rocksdb.BloomFilter;
@@ -52,14 +53,29 @@ public final class ZeebeRocksDbFactory<
   private final RocksDbConfiguration rocksDbConfiguration;
   private final ConsistencyChecksSettings consistencyChecksSettings;
   private final AccessMetricsConfiguration metrics;
+  private final Predicate<ColumnFamilyType> readCachedColumnFamilies;
 
   public ZeebeRocksDbFactory(
       final RocksDbConfiguration rocksDbConfiguration,
       final ConsistencyChecksSettings consistencyChecksSettings,
       final AccessMetricsConfiguration metricsConfiguration) {
+    this(rocksDbConfiguration, consistencyChecksSettings, metricsConfiguration, ignored -> false);
+  }
+
+  /**
+   * @param readCachedColumnFamilies the column families whose values may be cached on the heap per
+   *     transaction context; the cache is only used if {@link
+   *     RocksDbConfiguration#getReadCacheSize()} is greater than 0
+   */
+  public ZeebeRocksDbFactory(
+      final RocksDbConfiguration rocksDbConfiguration,
+      final ConsistencyChecksSettings consistencyChecksSettings,
+      final AccessMetricsConfiguration metricsConfiguration,
+      final Predicate<ColumnFamilyType> readCachedColumnFamilies) {
     this.rocksDbConfiguration = Objects.requireNonNull(rocksDbConfiguration);
     this.consistencyChecksSettings = Objects.requireNonNull(consistencyChecksSettings);
     metrics = metricsConfiguration;
+    this.readCachedColumnFamilies = Objects.requireNonNull(readCachedColumnFamilies);
   }
 
   @Override
@@ -72,7 +88,8 @@ public final class ZeebeRocksDbFactory<
           closeables,
           rocksDbConfiguration,
           consistencyChecksSettings,
-          metrics);
+          metrics,
+          readCachedColumnFamilies);
     } catch (final RocksDBException e) {
       CloseHelper.quietCloseAll(closeables);
       throw new IllegalStateException("Unexpected error occurred trying to open the database", e);
@@ -0,0 +1,236 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded read cache for the values of a single column family, as seen by a single {@link
+ * ZeebeTransaction}. Keys and values are the raw bytes as they are stored in RocksDB, i.e. the key
+ * includes the column family prefix.
+ *
+ * <p>The committed values are bounded by their size in bytes rather than by their count, as the
+ * values of the cached column families (e.g. variables) vary widely in size. The size of an entry
+ * is the length of its key and value, plus an estimate of the heap overhead of the entry itself.
+ * Values which are larger than the whole capacity are never cached.
+ *
+ * <p>Writes of the current transaction are kept apart from the committed values, and are only
+ * merged into them once the transaction is committed; on rollback they are simply discarded.
+ * Deletes are tracked as well, such that a read in the same transaction never returns a stale
+ * committed value. Since the uncommitted writes must always shadow the committed values, they are
+ * not bounded; the size of a transaction already bounds them.
+ *
+ * <p>A transaction is bound to a single transaction context, which may be used to write the same
+ * column family as other contexts of the same database. To detect this, all caches of a column
+ * family share a version, which is incremented whenever a transaction which modified the column
+ * family is committed. A cache which is not up to date with that version drops its committed values
+ * before it is used again.
+ */
+final class ColumnFamilyReadCache {
+
+  /** Marks a key as deleted in the current transaction; compared by identity only. */
+  private static final byte[] DELETED = new byte[0];
+
+  /**
+   * Estimated heap overhead of a committed entry besides its key and value bytes: the map entry,
+   * the {@link CacheKey}, and the headers of both byte arrays.
+   */
+  static final int ENTRY_OVERHEAD = 112;
+
+  private final CacheKey lookupKey = new CacheKey();
+  private final Map<CacheKey, byte[]> uncommitted = new HashMap<>();
+  // access ordered, such that iterating over it starts with the least recently used entry
+  private final LinkedHashMap<CacheKey, byte[]> committed = new LinkedHashMap<>(16, 0.75f, true);
+  private final long capacity;
+  private final AtomicLong sharedVersion;
+  private long version;
+  private long committedSize;
+
+  /**
+   * @param capacity the maximum size of the committed values in bytes, including the overhead of
+   *     their entries
+   */
+  ColumnFamilyReadCache(final long capacity, final AtomicLong sharedVersion) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException(
+          "Expected read cache capacity to be greater than 0, but was " + capacity);
+    }
+
+    this.capacity = capacity;
+    this.sharedVersion = sharedVersion;
+    version = sharedVersion.get();
+  }
+
+  /**
+   * Returns the cached value for the given key. If the key was deleted in the current transaction,
+   * a marker is returned instead, see {@link #isDeleted(byte[])}.
+   *
+   * @return the cached value, or null if the value must be read from the database
+   */
+  byte[] get(final byte[] key, final int keyLength) {
+    lookupKey.wrap(key, keyLength);
+    final byte[] value = uncommitted.get(lookupKey);
+    if (value != null) {
+      return value;
+    }
+
+    ensureUpToDate();
+    return committed.get(lookupKey);
+  }
+
+  static boolean isDeleted(final byte[] cachedValue) {
+    return cachedValue == DELETED;
+  }
+
+  /**
+   * Caches a value which was read from the database. Must only be called after {@link #get(byte[],
+   * int)} returned null for the same key, as the value then cannot stem from an uncommitted write.
+   */
+  void cacheCommitted(final byte[] key, final int keyLength, final byte[] value) {
+    if (value != null) {
+      putCommitted(CacheKey.copyOf(key, keyLength), value);
+    }
+  }
+
+  void put(final byte[] key, final int keyLength, final byte[] value, final int valueLength) {
+    uncommitted.put(CacheKey.copyOf(key, keyLength), Arrays.copyOf(value, valueLength));
+  }
+
+  void delete(final byte[] key, final int keyLength) {
+    uncommitted.put(CacheKey.copyOf(key, keyLength), DELETED);
+  }
+
+  /** Merges the writes of the transaction into the committed values; call after the commit. */
+  void commit() {
+    if (uncommitted.isEmpty()) {
+      return;
+    }
+
+    if (sharedVersion.compareAndSet(version, version + 1)) {
+      version++;
+    } else {
+      clearCommitted();
+      version = sharedVersion.incrementAndGet();
+    }
+
+    for (final var write : uncommitted.entrySet()) {
+      if (write.getValue() == DELETED) {
+        removeCommitted(write.getKey());
+      } else {
+        putCommitted(write.getKey(), write.getValue());
+      }
+    }
+    uncommitted.clear();
+  }
+
+  void rollback() {
+    uncommitted.clear();
+  }
+
+  private void ensureUpToDate() {
+    final long currentVersion = sharedVersion.get();
+    if (currentVersion != version) {
+      clearCommitted();
+      version = currentVersion;
+    }
+  }
+
+  /** Returns the size of the committed values in bytes, including the overhead of their entries. */
+  long committedSize() {
+    return committedSize;
+  }
+
+  private void putCommitted(final CacheKey key, final byte[] value) {
+    removeCommitted(key);
+
+    final long entrySize = entrySize(key, value);
+    if (entrySize > capacity) {
+      return;
+    }
+
+    committed.put(key, value);
+    committedSize += entrySize;
+    evictLeastRecentlyUsed();
+  }
+
+  private void removeCommitted(final CacheKey key) {
+    final byte[] previousValue = committed.remove(key);
+    if (previousValue != null) {
+      committedSize -= entrySize(key, previousValue);
+    }
+  }
+
+  private void evictLeastRecentlyUsed() {
+    final var entries = committed.entrySet().iterator();
+    while (committedSize > capacity && entries.hasNext()) {
+      final Entry<CacheKey, byte[]> eldest = entries.next();
+      committedSize -= entrySize(eldest.getKey(), eldest.getValue());
+      entries.remove();
+    }
+  }
+
+  private void clearCommitted() {
+    committed.clear();
+    committedSize = 0;
+  }
+
+  private static long entrySize(final CacheKey key, final byte[] value) {
+    return ENTRY_OVERHEAD + key.length + value.length;
+  }
+
+  /**
+   * The key of a cache entry. The cache owns the keys it stores, while the lookup key is reused to
+   * wrap the key buffer of the column family without copying it.
+   */
+  private static final class CacheKey {
+    private byte[] bytes;
+    private int length;
+    private int hash;
+
+    static CacheKey copyOf(final byte[] key, final int keyLength) {
+      final var cacheKey = new CacheKey();
+      cacheKey.wrap(Arrays.copyOf(key, keyLength), keyLength);
+      return cacheKey;
+    }
+
+    void wrap(final byte[] bytes, final int length) {
+      this.bytes = bytes;
+      this.length = length;
+      hash = hash(bytes, length);
+    }
+
+    private static int hash(final byte[] bytes, final int length) {
+      int result = 1;
+      for (int i = 0; i < length; i++) {
+        result = 31 * result + bytes[i];
+      }
+      return result;
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof final CacheKey other)) {
+        return false;
+      }
+      return hash == other.hash && Arrays.equals(bytes, 0, length, other.bytes, 0, other.length);
+    }
+  }
+}
@@ -19,12 +19,17 @@ import io.camunda.zeebe.db.KeyValuePairVisitor;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbInconsistentException;
 import io.camunda.zeebe.protocol.EnumValue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import org.agrona.DirectBuffer;
+import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksIterator;
 
@@ -56,6 +61,15 @@ class TransactionalColumnFamily<
   private final ColumnFamilyContext columnFamilyContext;
   private final ForeignKeyChecker foreignKeyChecker;
   private final ColumnFamilyMetrics metrics;
+  private final long readCacheCapacity;
+  private final AtomicLong readCacheVersion;
+  private ColumnFamilyReadCache readCache;
+
+  // reused by multiGet, as RocksDB expects exactly sized keys and one handle per key
+  private final List<byte[]> multiGetKeys = new ArrayList<>();
+  private final List<ColumnFamilyHandle> multiGetHandles = new ArrayList<>();
+  private byte[][] multiGetKeyBuffers = new byte[0][];
+  private int[] multiGetMissingIndexes = new int[0];
 
   TransactionalColumnFamily(
       final ZeebeTransactionDb<ColumnFamilyNames> transactionDb,
@@ -64,7 +78,9 @@ class TransactionalColumnFamily<
       final TransactionContext context,
       final KeyType keyInstance,
       final ValueType valueInstance,
-      final ColumnFamilyMetrics metrics) {
+      final ColumnFamilyMetrics metrics,
+      final long readCacheCapacity,
+      final AtomicLong readCacheVersion) {
     this.transactionDb = transactionDb;
     this.consistencyChecksSettings = consistencyChecksSettings;
     this.columnFamily = columnFamily;
@@ -72,6 +88,8 @@ class TransactionalColumnFamily<
     this.keyInstance = keyInstance;
     this.valueInstance = valueInstance;
     this.metrics = metrics;
+    this.readCacheCapacity = readCacheCapacity;
+    this.readCacheVersion = readCacheVersion;
     columnFamilyContext = new ColumnFamilyContext(columnFamily.getValue());
     foreignKeyChecker = new ForeignKeyChecker(transactionDb, consistencyChecksSettings);
   }
@@ -86,12 +104,7 @@ class TransactionalColumnFamily<
 
             assertKeyDoesNotExist(transaction);
             assertForeignKeysExist(transaction, key, value);
-            transaction.put(
-                transactionDb.getDefaultNativeHandle(),
-                columnFamilyContext.getKeyBufferArray(),
-                columnFamilyContext.getKeyLength(),
-                columnFamilyContext.getValueBufferArray(),
-                value.getLength());
+            put(transaction, value);
           });
     }
   }
@@ -105,12 +118,7 @@ class TransactionalColumnFamily<
             columnFamilyContext.writeValue(value);
             assertKeyExists(transaction);
             assertForeignKeysExist(transaction, key, value);
-            transaction.put(
-                transactionDb.getDefaultNativeHandle(),
-                columnFamilyContext.getKeyBufferArray(),
-                columnFamilyContext.getKeyLength(),
-                columnFamilyContext.getValueBufferArray(),
-                value.getLength());
+            put(transaction, value);
           });
     }
   }
@@ -123,12 +131,7 @@ class TransactionalColumnFamily<
             columnFamilyContext.writeKey(key);
             columnFamilyContext.writeValue(value);
             assertForeignKeysExist(transaction, key, value);
-            transaction.put(
-                transactionDb.getDefaultNativeHandle(),
-                columnFamilyContext.getKeyBufferArray(),
-                columnFamilyContext.getKeyLength(),
-                columnFamilyContext.getValueBufferArray(),
-                value.getLength());
+            put(transaction, value);
           });
     }
   }
@@ -139,13 +142,7 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            final byte[] value =
-                transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
-                    transactionDb.getReadOptionsNativeHandle(),
-                    columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
-            columnFamilyContext.wrapValueView(value);
+            columnFamilyContext.wrapValueView(getValue(transaction));
           });
       final var valueBuffer = columnFamilyContext.getValueView();
       if (valueBuffer != null) {
@@ -156,6 +153,29 @@ class TransactionalColumnFamily<
     }
   }
 
+  @Override
+  public void multiGet(
+      final Collection<KeyType> keys, final BiConsumer<KeyType, ValueType> visitor) {
+    if (keys.isEmpty()) {
+      return;
+    }
+
+    final byte[][] values = new byte[keys.size()][];
+    try (final var timer = metrics.measureGetLatency()) {
+      ensureInOpenTransaction(transaction -> multiGetValues(transaction, keys, values));
+    }
+
+    int index = 0;
+    for (final KeyType key : keys) {
+      final byte[] value = values[index++];
+      if (value != null) {
+        columnFamilyContext.wrapValueView(value);
+        valueInstance.wrap(columnFamilyContext.getValueView(), 0, value.length);
+        visitor.accept(key, valueInstance);
+      }
+    }
+  }
+
   @Override
   public void forEach(final Consumer<ValueType> consumer) {
     ensureInOpenTransaction(
@@ -225,10 +245,7 @@ class TransactionalColumnFamily<
           transaction -> {
             columnFamilyContext.writeKey(key);
             assertKeyExists(transaction);
-            transaction.delete(
-                transactionDb.getDefaultNativeHandle(),
-                columnFamilyContext.getKeyBufferArray(),
-                columnFamilyContext.getKeyLength());
+            delete(transaction);
           });
     }
   }
@@ -239,10 +256,7 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            transaction.delete(
-                transactionDb.getDefaultNativeHandle(),
-                columnFamilyContext.getKeyBufferArray(),
-                columnFamilyContext.getKeyLength());
+            delete(transaction);
           });
     }
   }
@@ -253,13 +267,7 @@ class TransactionalColumnFamily<
       ensureInOpenTransaction(
           transaction -> {
             columnFamilyContext.writeKey(key);
-            final byte[] value =
-                transaction.get(
-                    transactionDb.getDefaultNativeHandle(),
-                    transactionDb.getReadOptionsNativeHandle(),
-                    columnFamilyContext.getKeyBufferArray(),
-                    columnFamilyContext.getKeyLength());
-            columnFamilyContext.wrapValueView(value);
+            columnFamilyContext.wrapValueView(getValue(transaction));
           });
       return !columnFamilyContext.isValueViewEmpty();
     }
@@ -306,12 +314,7 @@ class TransactionalColumnFamily<
     if (!consistencyChecksSettings.enablePreconditions()) {
       return;
     }
-    final var value =
-        transaction.get(
-            transactionDb.getDefaultNativeHandle(),
-            transactionDb.getReadOptionsNativeHandle(),
-            columnFamilyContext.getKeyBufferArray(),
-            columnFamilyContext.getKeyLength());
+    final var value = getValue(transaction);
     if (value != null) {
       throw new ZeebeDbInconsistentException(
           "Key " + keyInstance + " in ColumnFamily " + columnFamily + " already exists");
@@ -322,16 +325,163 @@ class TransactionalColumnFamily<
     if (!consistencyChecksSettings.enablePreconditions()) {
       return;
     }
-    final var value =
+    final var value = getValue(transaction);
+    if (value == null) {
+      throw new ZeebeDbInconsistentException(
+          "Key " + keyInstance + " in ColumnFamily " + columnFamily + " does not exist");
+    }
+  }
+
+  /**
+   * Writes the current key and the given value, which must already be written into the column
+   * family context.
+   */
+  private void put(final ZeebeTransaction transaction, final ValueType value) throws Exception {
+    transaction.put(
+        transactionDb.getDefaultNativeHandle(),
+        columnFamilyContext.getKeyBufferArray(),
+        columnFamilyContext.getKeyLength(),
+        columnFamilyContext.getValueBufferArray(),
+        value.getLength());
+
+    final var cache = readCache(transaction);
+    if (cache != null) {
+      cache.put(
+          columnFamilyContext.getKeyBufferArray(),
+          columnFamilyContext.getKeyLength(),
+          columnFamilyContext.getValueBufferArray(),
+          value.getLength());
+    }
+  }
+
+  /**
+   * Returns the value of the current key in the column family context, or null if there is none. If
+   * a read cache is enabled, it is looked up first.
+   */
+  private byte[] getValue(final ZeebeTransaction transaction) throws Exception {
+    final var cache = readCache(transaction);
+    if (cache != null) {
+      final byte[] cachedValue =
+          cache.get(columnFamilyContext.getKeyBufferArray(), columnFamilyContext.getKeyLength());
+      if (cachedValue != null) {
+        return ColumnFamilyReadCache.isDeleted(cachedValue) ? null : cachedValue;
+      }
+    }
+
+    final byte[] value =
         transaction.get(
             transactionDb.getDefaultNativeHandle(),
             transactionDb.getReadOptionsNativeHandle(),
             columnFamilyContext.getKeyBufferArray(),
             columnFamilyContext.getKeyLength());
-    if (value == null) {
-      throw new ZeebeDbInconsistentException(
-          "Key " + keyInstance + " in ColumnFamily " + columnFamily + " does not exist");
+    if (cache != null) {
+      cache.cacheCommitted(
+          columnFamilyContext.getKeyBufferArray(), columnFamilyContext.getKeyLength(), value);
+    }
+    return value;
+  }
+
+  /**
+   * Fills the given values with the values of the given keys, in the same order. Values which are
+   * found in the read cache are taken from there, all others are looked up in a single batch.
+   */
+  private void multiGetValues(
+      final ZeebeTransaction transaction, final Collection<KeyType> keys, final byte[][] values)
+      throws Exception {
+    final var cache = readCache(transaction);
+    ensureMultiGetCapacity(keys.size());
+    multiGetKeys.clear();
+
+    int index = 0;
+    for (final KeyType key : keys) {
+      columnFamilyContext.writeKey(key);
+      final byte[] keyBytes = columnFamilyContext.getKeyBufferArray();
+      final int keyLength = columnFamilyContext.getKeyLength();
+      final byte[] cachedValue = cache != null ? cache.get(keyBytes, keyLength) : null;
+
+      if (cachedValue == null) {
+        multiGetMissingIndexes[multiGetKeys.size()] = index;
+        multiGetKeys.add(copyToKeyBuffer(multiGetKeys.size(), keyBytes, keyLength));
+      } else if (!ColumnFamilyReadCache.isDeleted(cachedValue)) {
+        values[index] = cachedValue;
+      }
+      index++;
+    }
+
+    final int missingCount = multiGetKeys.size();
+    if (missingCount == 0) {
+      return;
+    }
+
+    while (multiGetHandles.size() < missingCount) {
+      multiGetHandles.add(transactionDb.getDefaultHandle());
+    }
+    while (multiGetHandles.size() > missingCount) {
+      multiGetHandles.removeLast();
+    }
+
+    final List<byte[]> lookedUpValues =
+        transaction.multiGet(transactionDb.getDefaultReadOptions(), multiGetHandles, multiGetKeys);
+    for (int i = 0; i < missingCount; i++) {
+      final byte[] value = lookedUpValues.get(i);
+      values[multiGetMissingIndexes[i]] = value;
+      if (cache != null) {
+        final byte[] lookupKey = multiGetKeys.get(i);
+        cache.cacheCommitted(lookupKey, lookupKey.length, value);
+      }
+    }
+  }
+
+  private void ensureMultiGetCapacity(final int keyCount) {
+    if (multiGetMissingIndexes.length < keyCount) {
+      multiGetMissingIndexes = new int[keyCount];
+      multiGetKeyBuffers = Arrays.copyOf(multiGetKeyBuffers, keyCount);
+    }
+  }
+
+  /**
+   * Copies the key into the reused buffer of the given slot, which is only replaced if its length
+   * doesn't match; most column families have keys of a fixed length.
+   */
+  private byte[] copyToKeyBuffer(final int slot, final byte[] key, final int keyLength) {
+    byte[] buffer = multiGetKeyBuffers[slot];
+    if (buffer == null || buffer.length != keyLength) {
+      buffer = new byte[keyLength];
+      multiGetKeyBuffers[slot] = buffer;
+    }
+    System.arraycopy(key, 0, buffer, 0, keyLength);
+    return buffer;
+  }
+
+  /** Deletes the current key in the column family context. */
+  private void delete(final ZeebeTransaction transaction) throws Exception {
+    transaction.delete(
+        transactionDb.getDefaultNativeHandle(),
+        columnFamilyContext.getKeyBufferArray(),
+        columnFamilyContext.getKeyLength());
+
+    final var cache = readCache(transaction);
+    if (cache != null) {
+      cache.delete(columnFamilyContext.getKeyBufferArray(), columnFamilyContext.getKeyLength());
+    }
+  }
+
+  /**
+   * Returns the read cache of this column family if one is enabled, otherwise null. The cache is
+   * owned by the transaction, which is the same for the whole lifetime of the context.
+   */
+  private ColumnFamilyReadCache readCache(final ZeebeTransaction transaction) {
+    if (readCacheVersion == null) {
+      return null;
+    }
+
+    if (readCache == null) {
+      readCache =
+          transaction.readCache(
+              columnFamily.getValue(),
+              ignored -> new ColumnFamilyReadCache(readCacheCapacity, readCacheVersion));
     }
+    return readCache;
   }
 
   /**
@@ -9,10 +9,15 @@ package io.camunda.zeebe.db.impl.rocksdb.transaction;
 
 import static io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.isRocksDbExceptionRecoverable;
 
+import io.camunda.zeebe.db.TransactionListener;
 import io.camunda.zeebe.db.TransactionOperation;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
 import org.agrona.LangUtil;
+import org.agrona.collections.Int2ObjectHashMap;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDBException;
@@ -23,6 +28,8 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
   private final long nativeHandle;
   private final TransactionRenovator transactionRenovator;
+  private final Int2ObjectHashMap<ColumnFamilyReadCache> readCaches = new Int2ObjectHashMap<>();
+  private final List<TransactionListener> listeners = new ArrayList<>();
 
   private boolean inCurrentTransaction;
   private Transaction transaction;
@@ -90,10 +97,37 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     }
   }
 
+  /**
+   * Looks up all given keys in a single batch, taking the uncommitted writes of this transaction
+   * into account.
+   *
+   * @return the values in the same order as the keys, where missing keys map to null
+   */
+  public List<byte[]> multiGet(
+      final ReadOptions readOptions,
+      final List<ColumnFamilyHandle> columnFamilyHandles,
+      final List<byte[]> keys)
+      throws RocksDBException {
+    return transaction.multiGetAsList(readOptions, columnFamilyHandles, keys);
+  }
+
   public RocksIterator newIterator(final ReadOptions options, final ColumnFamilyHandle handle) {
     return transaction.getIterator(options, handle);
   }
 
+  /**
+   * Returns the read cache of the given column family, which lives as long as this transaction
+   * object and follows its commits and rollbacks.
+   */
+  ColumnFamilyReadCache readCache(
+      final int columnFamily, final IntFunction<ColumnFamilyReadCache> cacheFactory) {
+    return readCaches.computeIfAbsent(columnFamily, cacheFactory);
+  }
+
+  void addListener(final TransactionListener listener) {
+    listeners.add(listener);
+  }
+
   void resetTransaction() {
     transaction = transactionRenovator.renewTransaction(transaction);
     inCurrentTransaction = true;
@@ -145,11 +179,15 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
   void commitInternal() throws RocksDBException {
     inCurrentTransaction = false;
     transaction.commit();
+    readCaches.values().forEach(ColumnFamilyReadCache::commit);
+    listeners.forEach(TransactionListener::onCommit);
   }
 
   void rollbackInternal() throws RocksDBException {
     inCurrentTransaction = false;
+    readCaches.values().forEach(ColumnFamilyReadCache::rollback);
     transaction.rollback();
+    listeners.forEach(TransactionListener::onRollback);
   }
 
   @Override
@@ -27,6 +27,9 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
 import org.rocksdb.Checkpoint;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
@@ -54,6 +57,10 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
   private final long defaultNativeHandle;
   private final ConsistencyChecksSettings consistencyChecksSettings;
   private final AccessMetricsConfiguration accessMetricsConfiguration;
+  private final Predicate<ColumnFamilyNames> readCachedColumnFamilies;
+  private final long readCacheSize;
+  private final ConcurrentHashMap<ColumnFamilyNames, AtomicLong> readCacheVersions =
+      new ConcurrentHashMap<>();
 
   protected ZeebeTransactionDb(
       final ColumnFamilyHandle defaultHandle,
@@ -61,13 +68,16 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
       final List<AutoCloseable> closables,
       final RocksDbConfiguration rocksDbConfiguration,
       final ConsistencyChecksSettings consistencyChecksSettings,
-      final AccessMetricsConfiguration accessMetricsConfiguration) {
+      final AccessMetricsConfiguration accessMetricsConfiguration,
+      final Predicate<ColumnFamilyNames> readCachedColumnFamilies) {
     this.defaultHandle = defaultHandle;
     defaultNativeHandle = getNativeHandle(defaultHandle);
     this.optimisticTransactionDB = optimisticTransactionDB;
     this.closables = closables;
     this.consistencyChecksSettings = consistencyChecksSettings;
     this.accessMetricsConfiguration = accessMetricsConfiguration;
+    this.readCachedColumnFamilies = readCachedColumnFamilies;
+    readCacheSize = rocksDbConfiguration.getReadCacheSize();
 
     prefixReadOptions =
         new ReadOptions()
@@ -91,7 +101,8 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
           final List<AutoCloseable> closables,
           final RocksDbConfiguration rocksDbConfiguration,
           final ConsistencyChecksSettings consistencyChecksSettings,
-          final AccessMetricsConfiguration metrics)
+          final AccessMetricsConfiguration metrics,
+          final Predicate<ColumnFamilyNames> readCachedColumnFamilies)
           throws RocksDBException {
     final var cfDescriptors =
         Arrays.asList( // todo: could consider using List.of
@@ -116,7 +127,8 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
         closables,
         rocksDbConfiguration,
         consistencyChecksSettings,
-        metrics);
+        metrics,
+        readCachedColumnFamilies);
   }
 
   static long getNativeHandle(final RocksObject object) {
@@ -132,6 +144,10 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
     return prefixReadOptions;
   }
 
+  protected ReadOptions getDefaultReadOptions() {
+    return defaultReadOptions;
+  }
+
   protected ColumnFamilyHandle getDefaultHandle() {
     return defaultHandle;
   }
@@ -158,6 +174,10 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
               new FineGrainedColumnFamilyMetrics(
                   accessMetricsConfiguration.partitionId(), columnFamily);
         };
+    final var readCacheVersion =
+        readCacheSize > 0 && readCachedColumnFamilies.test(columnFamily)
+            ? readCacheVersions.computeIfAbsent(columnFamily, ignored -> new AtomicLong())
+            : null;
     return new TransactionalColumnFamily<>(
         this,
         consistencyChecksSettings,
@@ -165,7 +185,9 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<? extends EnumVal
         context,
         keyInstance,
         valueInstance,
-        metrics);
+        metrics,
+        readCacheSize,
+        readCacheVersion);
   }
 
   @Override
@@ -16,7 +16,9 @@ import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.db.ZeebeDbInconsistentException;
 import java.io.File;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -124,6 +126,63 @@ public final class ColumnFamilyTest {
     assertThat(longValue.getValue()).isEqualTo(12345);
   }
 
+  @Test
+  public void shouldMultiGetValuesInGivenOrder() {
+    // given
+    upsertKeyValuePair(1, 10);
+    upsertKeyValuePair(2, 20);
+    upsertKeyValuePair(3, 30);
+    final var keys = List.of(newKey(3), newKey(4), newKey(1));
+
+    // when
+    final List<DbLong> visitedKeys = new ArrayList<>();
+    final List<Long> visitedValues = new ArrayList<>();
+    columnFamily.multiGet(
+        keys,
+        (key, value) -> {
+          visitedKeys.add(key);
+          visitedValues.add(value.getValue());
+        });
+
+    // then
+    assertThat(visitedKeys).containsExactly(keys.get(0), keys.get(2));
+    assertThat(visitedValues).containsExactly(30L, 10L);
+  }
+
+  @Test
+  public void shouldMultiGetNoValuesForMissingKeys() {
+    // given
+    upsertKeyValuePair(1, 10);
+
+    // when
+    final List<DbLong> visitedKeys = new ArrayList<>();
+    columnFamily.multiGet(List.of(newKey(2), newKey(3)), (key, value) -> visitedKeys.add(key));
+
+    // then
+    assertThat(visitedKeys).isEmpty();
+  }
+
+  @Test
+  public void shouldMultiGetRepeatedlyWithDifferentNumberOfKeys() {
+    // given
+    upsertKeyValuePair(1, 10);
+    upsertKeyValuePair(2, 20);
+    upsertKeyValuePair(3, 30);
+    final Map<Long, Long> visited = new LinkedHashMap<>();
+    columnFamily.multiGet(
+        List.of(newKey(1), newKey(2), newKey(3)),
+        (key, value) -> visited.put(key.getValue(), value.getValue()));
+    visited.clear();
+
+    // when
+    columnFamily.multiGet(
+        List.of(newKey(3), newKey(1)),
+        (key, value) -> visited.put(key.getValue(), value.getValue()));
+
+    // then
+    assertThat(visited).containsExactly(Map.entry(3L, 30L), Map.entry(1L, 10L));
+  }
+
   @Test
   public void shouldCheckForExistence() {
     // given
@@ -466,6 +525,12 @@ public final class ColumnFamilyTest {
         .hasMessageContaining("Foreign key");
   }
 
+  private static DbLong newKey(final long value) {
+    final var key = new DbLong();
+    key.wrapLong(value);
+    return key;
+  }
+
   private void upsertKeyValuePair(final int key, final int value) {
     this.key.wrapLong(key);
     this.value.wrapLong(value);
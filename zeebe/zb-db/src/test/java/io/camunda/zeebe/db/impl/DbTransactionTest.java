@@ -12,12 +12,15 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.TransactionListener;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbFactory;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
 import io.camunda.zeebe.protocol.EnumValue;
 import java.io.File;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
 import org.junit.Before;
@@ -92,6 +95,69 @@ public final class DbTransactionTest {
     assertThat(threeColumnFamily.exists(threeKey)).isTrue();
   }
 
+  @Test
+  public void shouldMultiGetUncommittedValues() {
+    // given
+    oneKey.wrapLong(2);
+    oneValue.wrapLong(20);
+    oneColumnFamily.insert(oneKey, oneValue);
+
+    final var firstKey = new DbLong();
+    firstKey.wrapLong(1);
+    final var secondKey = new DbLong();
+    secondKey.wrapLong(2);
+    final Map<Long, Long> visited = new HashMap<>();
+
+    // when
+    transactionContext.runInTransaction(
+        () -> {
+          oneKey.wrapLong(1);
+          oneValue.wrapLong(10);
+          oneColumnFamily.insert(oneKey, oneValue);
+          oneColumnFamily.deleteExisting(secondKey);
+
+          oneColumnFamily.multiGet(
+              List.of(firstKey, secondKey),
+              (key, value) -> visited.put(key.getValue(), value.getValue()));
+        });
+
+    // then
+    assertThat(visited).containsExactly(Map.entry(1L, 10L));
+  }
+
+  @Test
+  public void shouldNotifyListenerOnCommitAndRollback() throws Exception {
+    // given
+    final List<String> notifications = new ArrayList<>();
+    transactionContext.addTransactionListener(
+        new TransactionListener() {
+          @Override
+          public void onCommit() {
+            notifications.add("commit");
+          }
+
+          @Override
+          public void onRollback() {
+            notifications.add("rollback");
+          }
+        });
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+
+    // when
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> oneColumnFamily.insert(oneKey, oneValue));
+    transaction.rollback();
+
+    final ZeebeDbTransaction retriedTransaction = transactionContext.getCurrentTransaction();
+    retriedTransaction.run(() -> oneColumnFamily.insert(oneKey, oneValue));
+    retriedTransaction.commit();
+
+    // then
+    assertThat(notifications).containsExactly("rollback", "commit");
+    assertThat(oneColumnFamily.exists(oneKey)).isTrue();
+  }
+
   @Test
   public void shouldStartNewTransaction() throws Exception {
     // given
@@ -0,0 +1,276 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.perf;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.DbKey;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbCompositeKey;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.db.impl.DbTenantAwareKey;
+import io.camunda.zeebe.db.impl.DbTenantAwareKey.PlacementType;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.DefaultZeebeDbFactory;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.IoUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the throughput of the most common {@link ColumnFamily} operations over a {@link
+ * io.camunda.zeebe.db.impl.rocksdb.transaction.ZeebeTransactionDb}, for the key shapes commonly
+ * used by the engine, and for different state sizes.
+ *
+ * <p>Running the benchmarks with the {@link GCProfiler} (e.g. {@code -prof gc}) additionally
+ * reports the allocation rate per operation, see {@link #shouldGetWithinExpectedDeviation}.
+ *
+ * <p>The state is pre-filled with {@code stateSize} entries, whose keys are derived from a
+ * sequential index. By default, only small and medium states are measured; a large state of 50M
+ * entries takes several minutes to fill and a few GB of disk, so it has to be requested explicitly
+ * when running the benchmarks manually, e.g. {@code -p stateSize=50000000}. The composite key shape
+ * groups {@link #GROUP_SIZE} entries under the same prefix, while the tenant aware key shape
+ * spreads entries over a handful of tenants; iterating benchmarks visit at most {@link
+ * #ITERATION_LIMIT} entries.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx4g", "-Xms4g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Benchmark)
+public class ColumnFamilyPerformanceTest {
+  private static final Logger LOG = LoggerFactory.getLogger(ColumnFamilyPerformanceTest.class);
+  private static final int GROUP_SIZE = 10;
+  private static final int ITERATION_LIMIT = 100;
+  private static final int FILL_BATCH_SIZE = 10_000;
+  private static final DirectBuffer[] GROUP_MEMBERS = buffers("element-", GROUP_SIZE);
+  private static final DirectBuffer[] TENANTS = buffers("tenant-", 10);
+
+  @Param({"10000", "1000000"})
+  private long stateSize;
+
+  @Param({"LONG", "COMPOSITE", "TENANT_AWARE"})
+  private KeyShape keyShape;
+
+  private Path dbDirectory;
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private TransactionContext transactionContext;
+  private BenchmarkKey key;
+  private DbString value;
+  private ColumnFamily<DbKey, DbString> columnFamily;
+  private long nextInsertedIndex;
+
+  @Setup
+  public void setup() throws Exception {
+    dbDirectory = Files.createTempDirectory("zb-db-perf");
+    zeebeDb =
+        DefaultZeebeDbFactory.<DefaultColumnFamily>getDefaultFactory()
+            .createDb(dbDirectory.toFile());
+    transactionContext = zeebeDb.createContext();
+    key = keyShape.newKey();
+    value = new DbString();
+    value.wrapString("value");
+    columnFamily =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, transactionContext, key.dbKey(), value);
+
+    LOG.info("Filling column family with {} {} keys, please hold the line...", stateSize, keyShape);
+    for (long batchStart = 0; batchStart < stateSize; batchStart += FILL_BATCH_SIZE) {
+      final var start = batchStart;
+      final var end = Math.min(stateSize, batchStart + FILL_BATCH_SIZE);
+      transactionContext.runInTransaction(
+          () -> {
+            for (long index = start; index < end; index++) {
+              key.wrapIndex(index);
+              columnFamily.insert(key.dbKey(), value);
+            }
+          });
+    }
+    nextInsertedIndex = stateSize;
+    LOG.info("Filled column family with {} keys", stateSize);
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    IoUtil.delete(dbDirectory.toFile(), true);
+  }
+
+  @Benchmark
+  public void measureInsert() {
+    key.wrapIndex(nextInsertedIndex++);
+    columnFamily.insert(key.dbKey(), value);
+  }
+
+  @Benchmark
+  public void measureUpsert() {
+    key.wrapIndex(randomExistingIndex());
+    columnFamily.upsert(key.dbKey(), value);
+  }
+
+  @Benchmark
+  public DbString measureGet() {
+    key.wrapIndex(randomExistingIndex());
+    return columnFamily.get(key.dbKey());
+  }
+
+  @Benchmark
+  public void measureWhileEqualPrefix(final Blackhole blackhole) {
+    key.wrapIndex(randomExistingIndex());
+    final var visited = new int[1];
+    columnFamily.whileEqualPrefix(
+        key.prefix(),
+        (k, v) -> {
+          blackhole.consume(v);
+          return ++visited[0] < ITERATION_LIMIT;
+        });
+  }
+
+  @Benchmark
+  public void measureWhileTrue(final Blackhole blackhole) {
+    key.wrapIndex(randomExistingIndex());
+    final var visited = new int[1];
+    columnFamily.whileTrue(
+        key.dbKey(),
+        (k, v) -> {
+          blackhole.consume(v);
+          return ++visited[0] < ITERATION_LIMIT;
+        });
+  }
+
+  private long randomExistingIndex() {
+    return ThreadLocalRandom.current().nextLong(stateSize);
+  }
+
+  private static DirectBuffer[] buffers(final String prefix, final int count) {
+    final var buffers = new DirectBuffer[count];
+    for (int i = 0; i < count; i++) {
+      buffers[i] = BufferUtil.wrapString(prefix + i);
+    }
+    return buffers;
+  }
+
+  @JMHTest("measureGet")
+  void shouldGetWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/s score. It was measured with JMH 1.37 on JDK 21 on a single vCPU
+    // Intel Xeon VM with 5 GB of memory, which scored ~263,800 and ~251,300 ops/s in two runs, and
+    // not yet in CI, where the performance tests of all modules run in parallel. Until it's
+    // measured in CI, the reference score is half of the lower local score, such that only a
+    // severe regression fails the test
+    // when running this test on a different machine, you're likely to have a different score
+    final var referenceScore = 125_000;
+
+    // when
+    final var assertResult =
+        testCase
+            .withOptions(
+                options ->
+                    options
+                        .param("stateSize", "10000")
+                        .param("keyShape", KeyShape.LONG.name())
+                        .addProfiler(GCProfiler.class))
+            .run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  public enum KeyShape {
+    LONG {
+      @Override
+      BenchmarkKey newKey() {
+        final var key = new DbLong();
+        return new BenchmarkKey(key, key) {
+          @Override
+          void wrapIndex(final long index) {
+            key.wrapLong(index);
+          }
+        };
+      }
+    },
+    COMPOSITE {
+      @Override
+      BenchmarkKey newKey() {
+        final var first = new DbLong();
+        final var second = new DbString();
+        return new BenchmarkKey(new DbCompositeKey<>(first, second), first) {
+          @Override
+          void wrapIndex(final long index) {
+            first.wrapLong(index / GROUP_SIZE);
+            second.wrapBuffer(GROUP_MEMBERS[(int) (index % GROUP_SIZE)]);
+          }
+        };
+      }
+    },
+    TENANT_AWARE {
+      @Override
+      BenchmarkKey newKey() {
+        final var tenant = new DbString();
+        final var wrapped = new DbLong();
+        final var tenantAwareKey = new DbTenantAwareKey<>(tenant, wrapped, PlacementType.PREFIX);
+        return new BenchmarkKey(tenantAwareKey, tenant) {
+          @Override
+          void wrapIndex(final long index) {
+            tenant.wrapBuffer(TENANTS[(int) (index % TENANTS.length)]);
+            wrapped.wrapLong(index);
+          }
+        };
+      }
+    };
+
+    abstract BenchmarkKey newKey();
+  }
+
+  /**
+   * A mutable key of a given shape, which can be re-pointed to the entry with a given index, and
+   * which exposes the prefix shared by all the entries of the same group.
+   */
+  abstract static class BenchmarkKey {
+    private final DbKey dbKey;
+    private final DbKey prefix;
+
+    BenchmarkKey(final DbKey dbKey, final DbKey prefix) {
+      this.dbKey = dbKey;
+      this.prefix = prefix;
+    }
+
+    abstract void wrapIndex(long index);
+
+    DbKey dbKey() {
+      return dbKey;
+    }
+
+    DbKey prefix() {
+      return prefix;
+    }
+  }
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.db.AccessMetricsConfiguration;
+import io.camunda.zeebe.db.AccessMetricsConfiguration.Kind;
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.ZeebeDbInconsistentException;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class ColumnFamilyReadCacheTest {
+
+  // the size of an entry with a DbLong key, prefixed by the column family, and a DbLong value
+  private static final int ENTRY_SIZE = ColumnFamilyReadCache.ENTRY_OVERHEAD + 3 * Long.BYTES;
+  private static final int CACHE_CAPACITY = 2;
+
+  @TempDir File temporaryFolder;
+
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private TransactionContext transactionContext;
+  private ColumnFamily<DbLong, DbLong> columnFamily;
+  private final DbLong key = new DbLong();
+  private final DbLong value = new DbLong();
+
+  @BeforeEach
+  void beforeEach() {
+    final var factory =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+            new RocksDbConfiguration().setReadCacheSize((long) CACHE_CAPACITY * ENTRY_SIZE),
+            new ConsistencyChecksSettings(true, true),
+            new AccessMetricsConfiguration(Kind.NONE, 1),
+            columnFamily -> true);
+    zeebeDb = factory.createDb(temporaryFolder);
+    transactionContext = zeebeDb.createContext();
+    columnFamily =
+        zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, transactionContext, key, value);
+  }
+
+  @AfterEach
+  void afterEach() throws Exception {
+    zeebeDb.close();
+  }
+
+  @Test
+  void shouldReadOwnWritesInTransaction() {
+    // when
+    transactionContext.runInTransaction(
+        () -> {
+          upsert(columnFamily, 1, 10);
+          upsert(columnFamily, 1, 11);
+
+          // then
+          assertThat(get(columnFamily, 1)).isEqualTo(11L);
+        });
+
+    assertThat(get(columnFamily, 1)).isEqualTo(11L);
+  }
+
+  @Test
+  void shouldDiscardWritesOnRollback() throws Exception {
+    // given
+    upsert(columnFamily, 1, 10);
+    final var transaction = transactionContext.getCurrentTransaction();
+    upsert(columnFamily, 1, 11);
+    upsert(columnFamily, 2, 20);
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(get(columnFamily, 1)).isEqualTo(10L);
+    assertThat(get(columnFamily, 2)).isNull();
+  }
+
+  @Test
+  void shouldNotReturnDeletedValue() {
+    // given
+    upsert(columnFamily, 1, 10);
+
+    // when
+    transactionContext.runInTransaction(
+        () -> {
+          key.wrapLong(1);
+          columnFamily.deleteExisting(key);
+
+          // then
+          assertThat(get(columnFamily, 1)).isNull();
+          assertThat(columnFamily.exists(key)).isFalse();
+        });
+
+    assertThat(get(columnFamily, 1)).isNull();
+  }
+
+  @Test
+  void shouldRestoreDeletedValueOnRollback() throws Exception {
+    // given
+    upsert(columnFamily, 1, 10);
+    final var transaction = transactionContext.getCurrentTransaction();
+    key.wrapLong(1);
+    columnFamily.deleteExisting(key);
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(get(columnFamily, 1)).isEqualTo(10L);
+  }
+
+  @Test
+  void shouldCheckPreconditionsAgainstCachedWrites() {
+    // given
+    upsert(columnFamily, 1, 10);
+
+    // when - then
+    key.wrapLong(1);
+    value.wrapLong(11);
+    assertThatThrownBy(() -> columnFamily.insert(key, value))
+        .isInstanceOf(ZeebeDbInconsistentException.class);
+  }
+
+  @Test
+  void shouldMultiGetCachedWrites() {
+    // given
+    upsert(columnFamily, 1, 10);
+    upsert(columnFamily, 2, 20);
+    final List<DbLong> keys = List.of(newKey(1), newKey(2), newKey(3));
+    final Map<Long, Long> visited = new LinkedHashMap<>();
+
+    // when
+    transactionContext.runInTransaction(
+        () -> {
+          upsert(columnFamily, 3, 30);
+          key.wrapLong(1);
+          columnFamily.deleteExisting(key);
+
+          columnFamily.multiGet(
+              keys, (key, value) -> visited.put(key.getValue(), value.getValue()));
+        });
+
+    // then
+    assertThat(visited).containsExactly(Map.entry(2L, 20L), Map.entry(3L, 30L));
+  }
+
+  @Test
+  void shouldReadWritesOfOtherContexts() {
+    // given
+    final var otherColumnFamily =
+        zeebeDb.createColumnFamily(
+            DefaultColumnFamily.DEFAULT, zeebeDb.createContext(), new DbLong(), new DbLong());
+    upsert(columnFamily, 1, 10);
+    assertThat(get(otherColumnFamily, 1)).isEqualTo(10L);
+
+    // when
+    upsert(columnFamily, 1, 11);
+
+    // then
+    assertThat(get(otherColumnFamily, 1)).isEqualTo(11L);
+  }
+
+  @Test
+  void shouldReadEvictedValues() {
+    // when
+    for (int i = 0; i < CACHE_CAPACITY * 2; i++) {
+      upsert(columnFamily, i, i * 10);
+    }
+
+    // then
+    for (int i = 0; i < CACHE_CAPACITY * 2; i++) {
+      assertThat(get(columnFamily, i)).isEqualTo(i * 10L);
+    }
+  }
+
+  @Test
+  void shouldBoundCommittedValuesBySize() {
+    // given
+    final var cache = new ColumnFamilyReadCache(1024, new AtomicLong());
+    final byte[] key = new byte[16];
+    final byte[] largeValue = new byte[1024];
+    final byte[] smallValue = new byte[100];
+
+    // when
+    for (int i = 0; i < 100; i++) {
+      key[0] = (byte) i;
+      final byte[] value = i % 2 == 0 ? largeValue : smallValue;
+      cache.put(key, key.length, value, value.length);
+      cache.commit();
+      cache.cacheCommitted(key, key.length, i % 3 == 0 ? largeValue : smallValue);
+
+      // then
+      assertThat(cache.committedSize()).isLessThanOrEqualTo(1024);
+    }
+    assertThat(cache.committedSize()).isPositive();
+  }
+
+  @Test
+  void shouldNotCacheValueLargerThanCapacity() {
+    // given
+    final var cache = new ColumnFamilyReadCache(1024, new AtomicLong());
+    final byte[] key = new byte[16];
+
+    // when
+    cache.cacheCommitted(key, key.length, new byte[1024]);
+
+    // then
+    assertThat(cache.get(key, key.length)).isNull();
+    assertThat(cache.committedSize()).isZero();
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedValues() {
+    // given
+    final var cache =
+        new ColumnFamilyReadCache(3 * (ColumnFamilyReadCache.ENTRY_OVERHEAD + 2), new AtomicLong());
+    final byte[][] keys = {{1}, {2}, {3}, {4}};
+    for (int i = 0; i < 3; i++) {
+      cache.cacheCommitted(keys[i], 1, keys[i]);
+    }
+
+    // when
+    cache.get(keys[0], 1);
+    cache.cacheCommitted(keys[3], 1, keys[3]);
+
+    // then
+    assertThat(cache.get(keys[0], 1)).isEqualTo(keys[0]);
+    assertThat(cache.get(keys[1], 1)).isNull();
+    assertThat(cache.get(keys[2], 1)).isEqualTo(keys[2]);
+    assertThat(cache.get(keys[3], 1)).isEqualTo(keys[3]);
+  }
+
+  private void upsert(
+      final ColumnFamily<DbLong, DbLong> columnFamily, final long keyValue, final long longValue) {
+    key.wrapLong(keyValue);
+    value.wrapLong(longValue);
+    columnFamily.upsert(key, value);
+  }
+
+  private static DbLong newKey(final long keyValue) {
+    final var dbKey = new DbLong();
+    dbKey.wrapLong(keyValue);
+    return dbKey;
+  }
+
+  private Long get(final ColumnFamily<DbLong, DbLong> columnFamily, final long keyValue) {
+    final var dbKey = new DbLong();
+    dbKey.wrapLong(keyValue);
+    final var dbValue = columnFamily.get(dbKey);
+    return dbValue == null ? null : dbValue.getValue();
+  }
+}